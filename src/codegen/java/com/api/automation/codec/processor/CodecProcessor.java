@@ -0,0 +1,735 @@
+package com.api.automation.codec.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a streaming codec for every class annotated with {@code @StreamingCodec}
+ * For a model {@code Bill} it writes {@code BillCodec extends ModelCodec<Bill>} in the same package, with a
+ * write method that emits each property through JsonGenerator and a read method that switches on field names
+ * and calls the setters. Properties follow Jackson's rules for the annotations the models use:
+ * <ul>
+ *   <li>fields (superclasses first), named by {@code @JsonProperty}, read/written through Lombok getters and setters;
+ *   explicitly named properties are written after implicitly named ones, as Jackson orders them</li>
+ *   <li>{@code @JsonInclude} on the class or field (ALWAYS, NON_NULL, NON_ABSENT, NON_EMPTY)</li>
+ *   <li>{@code @JsonIgnore} and {@code @JsonIgnoreProperties} (names and ignoreUnknown)</li>
+ *   <li>public getters without a backing field are written, and unknown when read, as Jackson does
+ *   (in source order; Jackson uses reflection order, which the JVM leaves unspecified)</li>
+ *   <li>enums with {@code @JsonValue}/{@code @JsonCreator} are converted directly</li>
+ * </ul>
+ * Nested {@code @StreamingCodec} models and lists of them call each other's codecs; every other type is
+ * handed to Jackson. The generated codecs are listed in META-INF/services/com.api.automation.codec.ModelCodec.
+ * <p>
+ * This class lives in src/codegen/java and is compiled before the main sources (see pom.xml).
+ */
+@SupportedAnnotationTypes(CodecProcessor.STREAMING_CODEC)
+public class CodecProcessor extends AbstractProcessor {
+
+    static final String STREAMING_CODEC = "com.api.automation.codec.StreamingCodec";
+    private static final String MODEL_CODEC = "com.api.automation.codec.ModelCodec";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JSON_IGNORE_PROPERTIES = "com.fasterxml.jackson.annotation.JsonIgnoreProperties";
+    private static final String JSON_VALUE = "com.fasterxml.jackson.annotation.JsonValue";
+    private static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
+
+    private final List<String> generated = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(STREAMING_CODEC);
+        if (annotation != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@StreamingCodec applies to classes only");
+                    continue;
+                }
+                TypeElement model = (TypeElement) element;
+                try {
+                    Model spec = analyze(model);
+                    writeCodec(spec);
+                    generated.add(spec.packageName.isEmpty() ? spec.codecName : spec.packageName + "." + spec.codecName);
+                } catch (UnsupportedModelException e) {
+                    error(e.element, e.getMessage());
+                } catch (IOException e) {
+                    error(model, "Failed to write codec: " + e.getMessage());
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeServiceFile();
+        }
+        return !annotations.isEmpty();
+    }
+
+    // ============ Model analysis ============
+
+    private Model analyze(TypeElement type) {
+        Model model = new Model();
+        model.type = type;
+        model.packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        model.codecName = codecSimpleName(type);
+
+        AnnotationMirror ignoreProperties = annotation(type, JSON_IGNORE_PROPERTIES);
+        if (ignoreProperties != null) {
+            model.ignoreUnknown = Boolean.TRUE.equals(value(ignoreProperties, "ignoreUnknown"));
+            for (Object name : (List<?>) value(ignoreProperties, "value")) {
+                model.skipped.add((String) ((AnnotationValue) name).getValue());
+            }
+        }
+        Include classInclude = include(type, Include.ALWAYS);
+
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement current = type; current != null && !current.getQualifiedName().contentEquals("java.lang.Object");
+             current = superclass(current)) {
+            hierarchy.add(current);
+        }
+        Collections.reverse(hierarchy);
+
+        Set<String> fieldNames = new LinkedHashSet<>();
+        for (TypeElement declaring : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                String javaName = field.getSimpleName().toString();
+                fieldNames.add(javaName);
+                String name = propertyName(field, javaName);
+                if (isIgnored(field)) {
+                    model.skipped.add(name);
+                    continue;
+                }
+                if (model.skipped.contains(name)) {
+                    continue;
+                }
+                Property property = new Property();
+                property.name = name;
+                property.javaName = javaName;
+                property.explicit = hasExplicitName(field);
+                property.type = resolve(field.asType(), field);
+                property.include = include(field, classInclude);
+                String capitalized = Character.toUpperCase(javaName.charAt(0)) + javaName.substring(1);
+                if (field.asType().getKind() == TypeKind.BOOLEAN) {
+                    boolean prefixed = javaName.length() > 2 && javaName.startsWith("is") && Character.isUpperCase(javaName.charAt(2));
+                    property.getter = prefixed ? javaName : "is" + capitalized;
+                    property.setter = "set" + (prefixed ? javaName.substring(2) : capitalized);
+                } else {
+                    property.getter = "get" + capitalized;
+                    property.setter = "set" + capitalized;
+                }
+                model.properties.add(property);
+            }
+        }
+
+        // Public getters with no backing field are serialized by Jackson too
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String javaName = implicitGetterName(method);
+            if (javaName == null || fieldNames.contains(javaName) || isIgnored(method)) {
+                continue;
+            }
+            String name = propertyName(method, javaName);
+            if (model.skipped.contains(name)) {
+                continue;
+            }
+            Property property = new Property();
+            property.name = name;
+            property.javaName = javaName;
+            property.explicit = hasExplicitName(method);
+            property.type = resolve(method.getReturnType(), method);
+            property.include = include(method, classInclude);
+            property.getter = method.getSimpleName().toString();
+            model.properties.add(property);
+        }
+
+        // Jackson re-appends explicitly named properties after the implicitly named ones
+        List<Property> ordered = new ArrayList<>();
+        for (boolean explicit : new boolean[]{false, true}) {
+            for (Property property : model.properties) {
+                if (property.explicit == explicit) {
+                    ordered.add(property);
+                }
+            }
+        }
+        model.properties.clear();
+        model.properties.addAll(ordered);
+        return model;
+    }
+
+    private ValueType resolve(TypeMirror type, Element at) {
+        ValueType valueType = new ValueType();
+        valueType.mirror = type;
+        valueType.source = type.toString();
+        if (type.getKind().isPrimitive()) {
+            valueType.kind = Kind.PRIMITIVE;
+            return valueType;
+        }
+        if (type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.WILDCARD) {
+            throw new UnsupportedModelException(at, "Type variables are not supported by @StreamingCodec: " + type);
+        }
+        valueType.kind = Kind.OTHER;
+        if (type.getKind() != TypeKind.DECLARED) {
+            return valueType;
+        }
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement element = (TypeElement) declared.asElement();
+        switch (element.getQualifiedName().toString()) {
+            case "java.lang.String":
+                valueType.kind = Kind.STRING;
+                return valueType;
+            case "java.lang.Boolean":
+                valueType.kind = Kind.BOOLEAN;
+                return valueType;
+            case "java.lang.Integer":
+                valueType.kind = Kind.INTEGER;
+                return valueType;
+            case "java.lang.Long":
+                valueType.kind = Kind.LONG;
+                return valueType;
+            case "java.lang.Double":
+                valueType.kind = Kind.DOUBLE;
+                return valueType;
+            case "java.lang.Float":
+                valueType.kind = Kind.FLOAT;
+                return valueType;
+            case "java.math.BigDecimal":
+                valueType.kind = Kind.DECIMAL;
+                return valueType;
+            case "java.util.List":
+                if (declared.getTypeArguments().size() == 1) {
+                    ValueType item = resolve(declared.getTypeArguments().get(0), at);
+                    if (item.kind == Kind.STRING || item.kind == Kind.MODEL) {
+                        valueType.kind = Kind.LIST;
+                        valueType.item = item;
+                    }
+                }
+                return valueType;
+            default:
+                break;
+        }
+        if (element.getKind() == ElementKind.ENUM) {
+            for (ExecutableElement method : ElementFilter.methodsIn(element.getEnclosedElements())) {
+                boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+                if (annotation(method, JSON_VALUE) != null && !isStatic && method.getParameters().isEmpty()
+                        && method.getReturnType().toString().equals("java.lang.String")) {
+                    valueType.enumValue = method.getSimpleName().toString();
+                }
+                if (annotation(method, JSON_CREATOR) != null && isStatic && method.getParameters().size() == 1
+                        && method.getParameters().get(0).asType().toString().equals("java.lang.String")) {
+                    valueType.enumCreator = method.getSimpleName().toString();
+                }
+            }
+            if (valueType.enumValue != null) {
+                valueType.kind = Kind.ENUM;
+            }
+            return valueType;
+        }
+        if (annotation(element, STREAMING_CODEC) != null) {
+            valueType.kind = Kind.MODEL;
+            String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+            valueType.codec = (packageName.isEmpty() ? "" : packageName + ".") + codecSimpleName(element);
+        }
+        return valueType;
+    }
+
+    private Include include(Element element, Include fallback) {
+        AnnotationMirror include = annotation(element, JSON_INCLUDE);
+        if (include == null) {
+            return fallback;
+        }
+        String value = ((VariableElement) value(include, "value")).getSimpleName().toString();
+        switch (value) {
+            case "ALWAYS":
+                return Include.ALWAYS;
+            case "NON_NULL":
+            case "NON_ABSENT":
+                return Include.NON_NULL;
+            case "NON_EMPTY":
+                return Include.NON_EMPTY;
+            case "USE_DEFAULTS":
+                return fallback;
+            default:
+                throw new UnsupportedModelException(element, "@JsonInclude(" + value + ") is not supported by @StreamingCodec");
+        }
+    }
+
+    private String propertyName(Element element, String implicitName) {
+        return hasExplicitName(element) ? (String) value(annotation(element, JSON_PROPERTY), "value") : implicitName;
+    }
+
+    private boolean hasExplicitName(Element element) {
+        AnnotationMirror property = annotation(element, JSON_PROPERTY);
+        return property != null && !((String) value(property, "value")).isEmpty();
+    }
+
+    private boolean isIgnored(Element element) {
+        AnnotationMirror ignore = annotation(element, JSON_IGNORE);
+        return ignore != null && Boolean.TRUE.equals(value(ignore, "value"));
+    }
+
+    // Jackson's implicit name for a public getX()/isX() method, null if the method is not a getter
+    private static String implicitGetterName(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC) || !method.getParameters().isEmpty()) {
+            return null;
+        }
+        String name = method.getSimpleName().toString();
+        TypeKind returnKind = method.getReturnType().getKind();
+        String base;
+        if (name.startsWith("get") && name.length() > 3 && returnKind != TypeKind.VOID) {
+            base = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2 && returnKind == TypeKind.BOOLEAN) {
+            base = name.substring(2);
+        } else {
+            return null;
+        }
+        // Lower-case the leading run of capitals: getURL -> url, getFullName -> fullName
+        StringBuilder implicit = new StringBuilder(base);
+        for (int i = 0; i < implicit.length() && Character.isUpperCase(implicit.charAt(i)); i++) {
+            implicit.setCharAt(i, Character.toLowerCase(implicit.charAt(i)));
+        }
+        return implicit.toString();
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private static String codecSimpleName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement;
+             enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name.append("Codec").toString();
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object value(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    // ============ Code generation ============
+
+    private void writeCodec(Model model) throws IOException {
+        String modelName = model.type.getQualifiedName().toString();
+        Source out = new Source();
+        if (!model.packageName.isEmpty()) {
+            out.line("package " + model.packageName + ";").line("");
+        }
+        out.line("import " + MODEL_CODEC + ";")
+                .line("import com.fasterxml.jackson.core.JsonGenerator;")
+                .line("import com.fasterxml.jackson.core.JsonParser;")
+                .line("import com.fasterxml.jackson.core.JsonToken;")
+                .line("import com.fasterxml.jackson.core.io.SerializedString;")
+                .line("import com.fasterxml.jackson.core.type.TypeReference;")
+                .line("import com.fasterxml.jackson.databind.DeserializationContext;")
+                .line("import com.fasterxml.jackson.databind.JavaType;")
+                .line("import com.fasterxml.jackson.databind.SerializerProvider;")
+                .line("import com.fasterxml.jackson.databind.type.TypeFactory;")
+                .line("")
+                .line("import javax.annotation.processing.Generated;")
+                .line("import java.io.IOException;")
+                .line("import java.util.ArrayList;")
+                .line("")
+                .line("/**")
+                .line(" * Streaming codec for {@link " + modelName + "}, generated by @StreamingCodec")
+                .line(" */")
+                .line("@Generated(\"" + getClass().getName() + "\")")
+                .open("public final class " + model.codecName + " extends ModelCodec<" + modelName + ">")
+                .line("")
+                .line("public static final " + model.codecName + " INSTANCE = new " + model.codecName + "();");
+
+        // Field names are encoded once, as Jackson's bean serializers do
+        out.line("");
+        for (Property property : model.properties) {
+            out.line("private static final SerializedString " + nameConstant(property) + " = new SerializedString("
+                    + literal(property.name) + ");");
+        }
+
+        boolean constants = false;
+        for (Property property : model.properties) {
+            if (property.setter != null && needsTypeConstant(property.type)) {
+                if (!constants) {
+                    out.line("");
+                    constants = true;
+                }
+                out.line("private static final JavaType " + constant(property) + " = TypeFactory.defaultInstance()")
+                        .line("        .constructType(new TypeReference<" + property.type.source + ">() { });");
+            }
+        }
+
+        out.line("")
+                .open("public " + model.codecName + "()")
+                .line("super(" + modelName + ".class);")
+                .close()
+                .line("");
+
+        // write()
+        out.line("@Override")
+                .open("public void write(" + modelName + " value, JsonGenerator gen, SerializerProvider provider) throws IOException")
+                .line("gen.writeStartObject(value);");
+        for (Property property : model.properties) {
+            writeProperty(out, property);
+        }
+        out.line("gen.writeEndObject();")
+                .close()
+                .line("");
+
+        // read()
+        out.line("@Override")
+                .open("public " + modelName + " read(JsonParser p, DeserializationContext ctxt) throws IOException")
+                .line(modelName + " bean = new " + modelName + "();")
+                .line("JsonToken token = startObject(p, ctxt);")
+                .open("for (; token == JsonToken.FIELD_NAME; token = p.nextToken())")
+                .line("String name = p.currentName();")
+                .line("token = p.nextToken();")
+                .open("switch (name)");
+        for (Property property : model.properties) {
+            if (property.setter != null) {
+                out.line("case " + literal(property.name) + ":");
+                out.indent();
+                readProperty(out, property);
+                out.line("break;");
+                out.outdent();
+            }
+        }
+        if (!model.ignoreUnknown && !model.skipped.isEmpty()) {
+            for (String skipped : model.skipped) {
+                out.line("case " + literal(skipped) + ":");
+            }
+            out.line("    p.skipChildren();").line("    break;");
+        }
+        out.line("default:")
+                .line(model.ignoreUnknown ? "    p.skipChildren();" : "    unknownProperty(p, ctxt, bean, name);")
+                .close()
+                .close()
+                .line("return bean;")
+                .close()
+                .close();
+
+        String codecName = model.packageName.isEmpty() ? model.codecName : model.packageName + "." + model.codecName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(codecName, model.type).openWriter()) {
+            writer.write(out.toString());
+        }
+    }
+
+    private void writeProperty(Source out, Property property) {
+        ValueType type = property.type;
+        String local = property.javaName + "Value";
+        String name = nameConstant(property);
+        out.line(type.source + " " + local + " = value." + property.getter + "();");
+        if (type.kind == Kind.PRIMITIVE) {
+            writeValue(out, type, name, local);
+            return;
+        }
+        String condition = local + " != null";
+        if (property.include == Include.NON_EMPTY) {
+            if (type.kind == Kind.STRING || type.kind == Kind.LIST) {
+                condition += " && !" + local + ".isEmpty()";
+            } else if (type.kind == Kind.OTHER) {
+                condition += " && !provider.findValueSerializer(" + local + ".getClass()).isEmpty(provider, " + local + ")";
+            }
+        }
+        out.open("if (" + condition + ")");
+        writeValue(out, type, name, local);
+        if (property.include == Include.ALWAYS) {
+            out.outdent().line("} else {").indent().line("gen.writeFieldName(" + name + ");").line("gen.writeNull();");
+        }
+        out.close();
+    }
+
+    private void writeValue(Source out, ValueType type, String name, String local) {
+        switch (type.kind) {
+            case STRING:
+                out.line("gen.writeFieldName(" + name + ");").line("gen.writeString(" + local + ");");
+                break;
+            case BOOLEAN:
+                out.line("gen.writeFieldName(" + name + ");").line("gen.writeBoolean(" + local + ");");
+                break;
+            case INTEGER:
+            case LONG:
+            case DOUBLE:
+            case FLOAT:
+            case DECIMAL:
+                out.line("gen.writeFieldName(" + name + ");").line("gen.writeNumber(" + local + ");");
+                break;
+            case PRIMITIVE:
+                switch (type.source) {
+                    case "boolean":
+                        out.line("gen.writeFieldName(" + name + ");").line("gen.writeBoolean(" + local + ");");
+                        break;
+                    case "int":
+                    case "long":
+                    case "double":
+                    case "float":
+                        out.line("gen.writeFieldName(" + name + ");").line("gen.writeNumber(" + local + ");");
+                        break;
+                    default:
+                        out.line("writeValue(gen, provider, " + name + ".getValue(), " + local + ");");
+                        break;
+                }
+                break;
+            case ENUM:
+                out.line("gen.writeFieldName(" + name + ");").line("gen.writeString(" + local + "." + type.enumValue + "());");
+                break;
+            case MODEL:
+                out.line("gen.writeFieldName(" + name + ");")
+                        .line(type.codec + ".INSTANCE.write(" + local + ", gen, provider);");
+                break;
+            case LIST:
+                out.line("gen.writeFieldName(" + name + ");")
+                        .line("gen.writeStartArray(" + local + ", " + local + ".size());")
+                        .open("for (" + type.item.source + " item : " + local + ")")
+                        .open("if (item == null)")
+                        .line("gen.writeNull();")
+                        .outdent().line("} else {").indent()
+                        .line(type.item.kind == Kind.STRING ? "gen.writeString(item);" : type.item.codec + ".INSTANCE.write(item, gen, provider);")
+                        .close()
+                        .close()
+                        .line("gen.writeEndArray();");
+                break;
+            default:
+                out.line("writeValue(gen, provider, " + name + ".getValue(), " + local + ");");
+                break;
+        }
+    }
+
+    private void readProperty(Source out, Property property) {
+        ValueType type = property.type;
+        String set = "bean." + property.setter + "(";
+        switch (type.kind) {
+            case STRING:
+                out.line(set + "readString(p, ctxt));");
+                break;
+            case BOOLEAN:
+                out.line(set + "readBoolean(p, ctxt));");
+                break;
+            case INTEGER:
+                out.line(set + "readInteger(p, ctxt));");
+                break;
+            case LONG:
+                out.line(set + "readLong(p, ctxt));");
+                break;
+            case DOUBLE:
+                out.line(set + "readDouble(p, ctxt));");
+                break;
+            case FLOAT:
+                out.line(set + "readFloat(p, ctxt));");
+                break;
+            case DECIMAL:
+                out.line(set + "readDecimal(p, ctxt));");
+                break;
+            case PRIMITIVE:
+                if (type.source.equals("int")) {
+                    out.line(set + "token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT")
+                            .line("        ? p.getIntValue() : readPrimitive(p, ctxt, int.class));");
+                } else if (type.source.equals("boolean")) {
+                    out.line(set + "token == JsonToken.VALUE_TRUE")
+                            .line("        || (token != JsonToken.VALUE_FALSE && readPrimitive(p, ctxt, boolean.class)));");
+                } else {
+                    out.line(set + "readPrimitive(p, ctxt, " + type.source + ".class));");
+                }
+                break;
+            case ENUM:
+                if (type.enumCreator != null) {
+                    String enumType = erasure(type);
+                    out.line(set + "readEnum(p, ctxt, " + enumType + "::" + type.enumCreator + ", " + enumType + ".class));");
+                } else {
+                    out.line(set + "readValue(p, ctxt, " + erasure(type) + ".class));");
+                }
+                break;
+            case MODEL:
+                out.line(set + "token == JsonToken.VALUE_NULL ? null : " + type.codec + ".INSTANCE.read(p, ctxt));");
+                break;
+            case LIST:
+                out.open("if (token == JsonToken.START_ARRAY)")
+                        .line("ArrayList<" + type.item.source + "> list = new ArrayList<>();")
+                        .open("while (p.nextToken() != JsonToken.END_ARRAY)")
+                        .line(type.item.kind == Kind.STRING ? "list.add(readString(p, ctxt));"
+                                : "list.add(p.currentToken() == JsonToken.VALUE_NULL ? null : " + type.item.codec + ".INSTANCE.read(p, ctxt));")
+                        .close()
+                        .line(set + "list);")
+                        .outdent().line("} else {").indent()
+                        .line(set + "readValue(p, ctxt, " + constant(property) + "));")
+                        .close();
+                break;
+            default:
+                out.line(set + "readValue(p, ctxt, " + (needsTypeConstant(type) ? constant(property) : erasure(type) + ".class") + "));");
+                break;
+        }
+    }
+
+    private static boolean needsTypeConstant(ValueType type) {
+        return type.kind == Kind.LIST
+                || (type.kind == Kind.OTHER && type.mirror.getKind() == TypeKind.DECLARED
+                && !((DeclaredType) type.mirror).getTypeArguments().isEmpty());
+    }
+
+    private String erasure(ValueType type) {
+        return processingEnv.getTypeUtils().erasure(type.mirror).toString();
+    }
+
+    private static String nameConstant(Property property) {
+        return "NAME_" + property.javaName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private static String constant(Property property) {
+        return "TYPE_" + property.javaName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private void writeServiceFile() {
+        try (Writer writer = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + MODEL_CODEC)
+                .openWriter()) {
+            for (String codec : generated) {
+                writer.write(codec);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write codec service file: " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    // ============ Model description ============
+
+    private enum Include {
+        ALWAYS, NON_NULL, NON_EMPTY
+    }
+
+    private enum Kind {
+        STRING, BOOLEAN, INTEGER, LONG, DOUBLE, FLOAT, DECIMAL, PRIMITIVE, ENUM, MODEL, LIST, OTHER
+    }
+
+    private static class Model {
+        TypeElement type;
+        String packageName;
+        String codecName;
+        boolean ignoreUnknown;
+        final Set<String> skipped = new LinkedHashSet<>();
+        final List<Property> properties = new ArrayList<>();
+    }
+
+    private static class Property {
+        String name;
+        String javaName;
+        String getter;
+        String setter;
+        boolean explicit;
+        ValueType type;
+        Include include;
+    }
+
+    private static class ValueType {
+        Kind kind;
+        TypeMirror mirror;
+        String source;
+        String enumValue;
+        String enumCreator;
+        String codec;
+        ValueType item;
+    }
+
+    private static class UnsupportedModelException extends RuntimeException {
+        private final Element element;
+
+        UnsupportedModelException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+
+    /**
+     * Indented source text
+     */
+    private static class Source {
+        private final StringBuilder text = new StringBuilder();
+        private int depth;
+
+        Source line(String line) {
+            if (!line.isEmpty()) {
+                text.append("    ".repeat(depth));
+            }
+            text.append(line).append('\n');
+            return this;
+        }
+
+        Source open(String header) {
+            line(header + " {");
+            depth++;
+            return this;
+        }
+
+        Source close() {
+            depth--;
+            return line("}");
+        }
+
+        Source indent() {
+            depth++;
+            return this;
+        }
+
+        Source outdent() {
+            depth--;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonFilter;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searching a large /v1/payments array: compiled filters versus Groovy findAll closures
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class ArrayFilterBenchmark {
+
+    private static final String FILTER = "status in ['initiated', 'completed'] && amount.value >= 500 && userId != 'user-3'";
+
+    @Param({"10000"})
+    public int size;
+
+    private JsonDocument document;
+    private JsonPath groovyPath;
+    private JsonFilter filter;
+
+    @Setup
+    public void setUp() {
+        String json = Payloads.paymentPage(size);
+        document = JsonDocument.parse(json);
+        groovyPath = JsonPath.from(json);
+        filter = JsonFilter.compile(FILTER);
+    }
+
+    @Benchmark
+    public List<Object> compiledFindAll() {
+        return document.findAll("data", filter);
+    }
+
+    @Benchmark
+    public List<Object> compiledFindAllParallel() {
+        return document.findAll("data", filter.parallel());
+    }
+
+    @Benchmark
+    public int compiledCount() {
+        return document.count("data", filter);
+    }
+
+    @Benchmark
+    public boolean compiledAnyMatchLast() {
+        return document.anyMatch("data", JsonFilter.eq("id", String.format("pay-%05d", size)));
+    }
+
+    @Benchmark
+    public List<Object> groovyFindAll() {
+        return groovyPath.getList("data.findAll { it.status in ['initiated', 'completed'] && it.amount.value >= 500 && it.userId != 'user-3' }");
+    }
+}
@@ -0,0 +1,60 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.assertions.JsonAssertions;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+
+/**
+ * The same field and full-list checks through Rest Assured's then().body() and through JsonAssertions
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class AssertionBenchmark {
+
+    @Param({"50", "1000"})
+    public int pageSize;
+
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(Payloads.paymentPage(pageSize))
+                .build();
+    }
+
+    @Benchmark
+    public Object restAssuredBody() {
+        return response.then()
+                .statusCode(200)
+                .body("success", equalTo(true))
+                .body("meta.page", equalTo(1))
+                .body("data", hasSize(pageSize))
+                .body("data[0].id", startsWith("pay-"))
+                .body("data.amount.value", everyItem(greaterThan(100f)))
+                .body("data.userId", everyItem(notNullValue()));
+    }
+
+    @Benchmark
+    public Object jsonAssertions() {
+        return JsonAssertions.assertThat(response)
+                .statusCode(200)
+                .isEqualTo("success", true)
+                .isEqualTo("meta.page", 1)
+                .hasSize("data", pageSize)
+                .field("data[0].id", startsWith("pay-"))
+                .allMatch("data", "amount.value > 100 && userId != null")
+                .verify();
+    }
+}
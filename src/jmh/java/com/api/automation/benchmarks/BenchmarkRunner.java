@@ -0,0 +1,47 @@
+package com.api.automation.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the JMH benchmarks and keeps the JSON results for comparison between runs
+ * Results go to target/jmh/results.json, with a timestamped copy in target/jmh/history.
+ * Any arguments are passed through to JMH (benchmark regexps, -f, -wi, -i, ...).
+ */
+public class BenchmarkRunner {
+
+    private static final Path RESULTS_DIR = Paths.get("target", "jmh");
+    private static final Path RESULTS_FILE = RESULTS_DIR.resolve("results.json");
+
+    public static void main(String[] args) throws Exception {
+        Files.createDirectories(RESULTS_DIR.resolve("history"));
+
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        jmhArgs.addAll(List.of("-rf", "json", "-rff", RESULTS_FILE.toString()));
+        try {
+            Main.main(jmhArgs.toArray(new String[0]));
+        } finally {
+            archiveResults();
+        }
+    }
+
+    private static void archiveResults() throws IOException {
+        if (!Files.exists(RESULTS_FILE)) {
+            return;
+        }
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        Path copy = RESULTS_DIR.resolve("history").resolve("results_" + timestamp + ".json");
+        Files.copy(RESULTS_FILE, copy, StandardCopyOption.REPLACE_EXISTING);
+        System.out.println("Benchmark results: " + RESULTS_FILE.toAbsolutePath() + " (copy: " + copy + ")");
+    }
+}
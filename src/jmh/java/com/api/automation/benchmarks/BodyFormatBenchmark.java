@@ -0,0 +1,56 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JavaType;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a bill page as JSON, CBOR and Smile with the same models
+ * Payload sizes are printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class BodyFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public BodyFormat format;
+
+    @Param({"50", "1000"})
+    public int pageSize;
+
+    private List<Bill> bills;
+    private byte[] page;
+    private JavaType pageType;
+
+    @Setup
+    public void setUp() {
+        String json = Payloads.billPage(pageSize);
+        ApiResponse<List<Bill>> response = ApiResponse.fromJsonList(json, Bill.class);
+        bills = response.getData();
+        page = JsonUtils.toBytes(JsonUtils.readTree(json.getBytes(StandardCharsets.UTF_8), BodyFormat.JSON), format);
+        pageType = ApiResponse.listReaderFor(Bill.class).getValueType();
+        System.out.printf("%n%s page of %d bills: %d bytes (JSON %d bytes)%n",
+                format, pageSize, page.length, json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return JsonUtils.toBytes(bills, format);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Bill>> deserialize() {
+        return JsonUtils.fromBytes(page, pageType, format);
+    }
+}
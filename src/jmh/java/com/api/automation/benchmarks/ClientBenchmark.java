@@ -0,0 +1,46 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.auth.AuthHandler;
+import com.api.automation.client.BaseApiClient;
+import io.restassured.RestAssured;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request specification building: client construction and authentication
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class ClientBenchmark {
+
+    @Benchmark
+    public BaseApiClient construct() {
+        return new BaseApiClient();
+    }
+
+    @Benchmark
+    public BaseApiClient constructWithApiKey() {
+        return new BaseApiClient().withAuth(AuthHandler.AuthType.API_KEY);
+    }
+
+    @Benchmark
+    public BaseApiClient constructWithBearer() {
+        return new BaseApiClient().withAuth(AuthHandler.AuthType.BEARER);
+    }
+
+    @Benchmark
+    public RequestSpecification applyAuthApiKey() {
+        return AuthHandler.applyAuth(RestAssured.given(), AuthHandler.AuthType.API_KEY);
+    }
+
+    @Benchmark
+    public RequestSpecification applyAuthBasic() {
+        return AuthHandler.applyAuth(RestAssured.given(), AuthHandler.AuthType.BASIC);
+    }
+}
@@ -0,0 +1,81 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.HarGenerator;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full request round trip against the in-process stub server, with and without the filter chain
+ * The logging filters print to a null stream so console I/O does not dominate the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class FilterChainBenchmark {
+
+    @Param({"none", "logging", "logging+har"})
+    public String filters;
+
+    private StubApiServer server;
+    private String url;
+    private HarGenerator harGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = StubApiServer.start(250);
+        url = server.getBaseUrl() + "/v1/bills?page=1&limit=20";
+
+        PrintStream nullStream = new PrintStream(OutputStream.nullOutputStream());
+        List<Filter> chain = new ArrayList<>();
+        if (filters.startsWith("logging")) {
+            chain.add(new RequestLoggingFilter(LogDetail.ALL, nullStream));
+            chain.add(new ResponseLoggingFilter(LogDetail.ALL, nullStream));
+        }
+        if (filters.endsWith("har")) {
+            harGenerator = new HarGenerator();
+            chain.add(harGenerator);
+        }
+        RestAssured.reset();
+        if (!chain.isEmpty()) {
+            RestAssured.filters(chain);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startCapture() {
+        if (harGenerator != null) {
+            // Each iteration streams into a fresh HAR file
+            harGenerator.enableForTest("filter-chain-benchmark");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (harGenerator != null) {
+            harGenerator.disable();
+        }
+        RestAssured.reset();
+        server.close();
+    }
+
+    @Benchmark
+    public Response getBillsPage() {
+        return new BaseApiClient().get(url);
+    }
+}
@@ -0,0 +1,95 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.Biller;
+import com.api.automation.models.billpay.Payment;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonPathUtils;
+import com.api.automation.utils.JsonUtils;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Model (de)serialization and JSON path extraction on realistic Bill/Payment/Biller payloads
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"50"})
+    public int pageSize;
+
+    private Bill bill;
+    private String billJson;
+    private String billPage;
+    private String paymentPage;
+    private String billerPage;
+
+    @Setup
+    public void setUp() {
+        bill = StubApiServer.bill(42);
+        billJson = JsonUtils.objectToJson(bill);
+        billPage = Payloads.billPage(pageSize);
+        paymentPage = Payloads.paymentPage(pageSize);
+        billerPage = Payloads.billerPage(pageSize);
+    }
+
+    @Benchmark
+    public String objectToJson() {
+        return JsonUtils.objectToJson(bill);
+    }
+
+    @Benchmark
+    public Bill jsonToObject() {
+        return JsonUtils.jsonToObject(billJson, Bill.class);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Bill>> fromJsonListBills() {
+        return ApiResponse.fromJsonList(billPage, Bill.class);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Payment>> fromJsonListPayments() {
+        return ApiResponse.fromJsonList(paymentPage, Payment.class);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Biller>> fromJsonListBillers() {
+        return ApiResponse.fromJsonList(billerPage, Biller.class);
+    }
+
+    @Benchmark
+    public Object jsonPathExtractValue() {
+        return JsonPathUtils.extractValue(billPage, "data[10].amount.value");
+    }
+
+    @Benchmark
+    public Object jsonPathExtractList() {
+        return JsonPathUtils.extractList(billPage, "data.id");
+    }
+
+    @Benchmark
+    public Object jsonPathExtractValues() {
+        return JsonPathUtils.extractValues(billPage, "data[10].id", "data[10].amount.value", "data[10].status", "meta.total");
+    }
+
+    @Benchmark
+    public Object jsonDocumentParseAndGet() {
+        return JsonDocument.parse(billPage).get("data[10].amount.value");
+    }
+
+    @Benchmark
+    public Object groovyJsonPathParseAndGet() {
+        return JsonPath.from(billPage).get("data[10].amount.value");
+    }
+}
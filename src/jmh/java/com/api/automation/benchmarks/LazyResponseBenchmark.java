@@ -0,0 +1,53 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.LazyApiResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pagination and field checks on a bill page: eager ApiResponse binding against the lazy envelope
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class LazyResponseBenchmark {
+
+    @Param({"50", "1000"})
+    public int pageSize;
+
+    private String page;
+
+    @Setup
+    public void setUp() {
+        page = Payloads.billPage(pageSize);
+    }
+
+    @Benchmark
+    public int eagerMeta() {
+        ApiResponse<List<Bill>> response = ApiResponse.fromJsonList(page, Bill.class);
+        return response.getMeta().getTotal() + response.getData().size();
+    }
+
+    @Benchmark
+    public int lazyMeta() {
+        LazyApiResponse<Bill> response = LazyApiResponse.fromJsonList(page, Bill.class);
+        return response.getMeta().getTotal() + response.size();
+    }
+
+    @Benchmark
+    public List<String> eagerIds() {
+        return ApiResponse.fromJsonList(page, Bill.class).getData().stream().map(Bill::getId).toList();
+    }
+
+    @Benchmark
+    public List<String> lazyIds() {
+        return LazyApiResponse.fromJsonList(page, Bill.class).values("id", String.class);
+    }
+}
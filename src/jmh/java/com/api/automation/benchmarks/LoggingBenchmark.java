@@ -0,0 +1,124 @@
+package com.api.automation.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cost to a test thread of one log call, with the previous synchronous file appenders and with the async, per-test routed setup
+ * Both configurations write files only (no console) to a temporary directory, so only the appender pipeline differs.
+ * Several threads log at once, as parallel tests do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog4j2.AsyncQueueFullPolicy=Discard", "-Dlog4j2.DiscardThreshold=INFO"})
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%t] %-5level %logger{36} - %msg%n";
+
+    private static final String SYNC_CONFIG = """
+            <Configuration status="WARN">
+                <Appenders>
+                    <RollingFile name="File" fileName="@DIR@/api-tests.log" filePattern="@DIR@/api-tests-%i.log">
+                        <PatternLayout pattern="@PATTERN@"/>
+                        <SizeBasedTriggeringPolicy size="100MB"/>
+                    </RollingFile>
+                </Appenders>
+                <Loggers>
+                    <Root level="INFO"><AppenderRef ref="File"/></Root>
+                </Loggers>
+            </Configuration>
+            """;
+
+    private static final String ASYNC_CONFIG = """
+            <Configuration status="WARN">
+                <Appenders>
+                    <RollingRandomAccessFile name="File" fileName="@DIR@/api-tests.log" filePattern="@DIR@/api-tests-%i.log"
+                                             immediateFlush="false">
+                        <PatternLayout pattern="@PATTERN@"/>
+                        <SizeBasedTriggeringPolicy size="100MB"/>
+                    </RollingRandomAccessFile>
+                    <Null name="NoTest"/>
+                    <Routing name="Tests">
+                        <Routes pattern="$${ctx:testId}">
+                            <Route key="$${ctx:testId}" ref="NoTest"/>
+                            <Route>
+                                <RandomAccessFile name="Test-${ctx:testId}" fileName="@DIR@/tests/${ctx:testId}.log"
+                                                  append="false" immediateFlush="true">
+                                    <PatternLayout pattern="@PATTERN@"/>
+                                </RandomAccessFile>
+                            </Route>
+                        </Routes>
+                    </Routing>
+                    <Async name="Async" bufferSize="8192">
+                        <AppenderRef ref="File"/>
+                        <AppenderRef ref="Tests"/>
+                    </Async>
+                </Appenders>
+                <Loggers>
+                    <Root level="INFO"><AppenderRef ref="Async"/></Root>
+                </Loggers>
+            </Configuration>
+            """;
+
+    @Param({"sync", "async"})
+    public String pipeline;
+
+    private Logger logger;
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        String config = ("sync".equals(pipeline) ? SYNC_CONFIG : ASYNC_CONFIG)
+                .replace("@DIR@", directory.toString().replace('\\', '/'))
+                .replace("@PATTERN@", PATTERN);
+        Path file = directory.resolve("log4j2-" + pipeline + ".xml");
+        Files.writeString(file, config);
+        Configurator.reconfigure(file.toUri());
+        logger = LoggerFactory.getLogger("com.api.automation.benchmarks.LoggingBenchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // Stops the appenders, so the async queue is drained and files are flushed
+        LogManager.shutdown();
+    }
+
+    /**
+     * Each benchmark thread plays one test, with its own test id in the MDC
+     */
+    @State(Scope.Thread)
+    public static class TestThread {
+        private static final AtomicInteger ids = new AtomicInteger();
+        private int request;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            MDC.put("testId", "LoggingBenchmark.test" + ids.incrementAndGet());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            MDC.remove("testId");
+        }
+    }
+
+    @Benchmark
+    public void logRequest(TestThread thread) {
+        logger.info("GET /v1/bills?page={} -> {} ({} ms)", ++thread.request, 200, 12);
+    }
+}
@@ -0,0 +1,79 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.Payment;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bill and payment pages through reflective Jackson, Jackson with Blackbird accessors, and the generated codecs
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class ModelCodecBenchmark {
+
+    @Param({"reflective", "blackbird", "generated"})
+    public String path;
+
+    @Param({"50", "1000"})
+    public int pageSize;
+
+    private ObjectReader billPageReader;
+    private ObjectReader paymentPageReader;
+    private ObjectWriter billListWriter;
+    private String billPage;
+    private String paymentPage;
+    private List<Bill> bills;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper;
+        switch (path) {
+            case "reflective":
+                mapper = new ObjectMapper();
+                break;
+            case "blackbird":
+                mapper = new ObjectMapper().registerModule(new BlackbirdModule());
+                break;
+            default:
+                mapper = JsonUtils.getObjectMapper();
+                break;
+        }
+        JavaType billPageType = ApiResponse.listReaderFor(Bill.class).getValueType();
+        JavaType paymentPageType = ApiResponse.listReaderFor(Payment.class).getValueType();
+        billPageReader = mapper.readerFor(billPageType);
+        paymentPageReader = mapper.readerFor(paymentPageType);
+        billListWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Bill.class));
+        billPage = Payloads.billPage(pageSize);
+        paymentPage = Payloads.paymentPage(pageSize);
+        bills = ApiResponse.fromJsonList(billPage, Bill.class).getData();
+    }
+
+    @Benchmark
+    public String serializeBills() throws Exception {
+        return billListWriter.writeValueAsString(bills);
+    }
+
+    @Benchmark
+    public Object deserializeBills() throws Exception {
+        return billPageReader.readValue(billPage);
+    }
+
+    @Benchmark
+    public Object deserializePayments() throws Exception {
+        return paymentPageReader.readValue(paymentPage);
+    }
+}
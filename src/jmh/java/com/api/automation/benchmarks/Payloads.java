@@ -0,0 +1,40 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.models.billpay.PaginationMeta;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonUtils;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Realistic JSON payloads shared by the benchmarks
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    /**
+     * A {success, data, meta} list page of generated items
+     */
+    static String page(int size, IntFunction<Object> itemFactory) {
+        List<Object> items = IntStream.rangeClosed(1, size).mapToObj(itemFactory).collect(Collectors.toList());
+        PaginationMeta meta = PaginationMeta.builder().page(1).limit(size).total(size * 10).totalPages(10).hasMore(true).build();
+        return "{\"success\":true,\"data\":" + JsonUtils.objectToJson(items) + ",\"meta\":" + JsonUtils.objectToJson(meta) + "}";
+    }
+
+    static String billPage(int size) {
+        return page(size, StubApiServer::bill);
+    }
+
+    static String paymentPage(int size) {
+        return page(size, StubApiServer::payment);
+    }
+
+    static String billerPage(int size) {
+        return page(size, StubApiServer::biller);
+    }
+}
@@ -0,0 +1,47 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Request body serialization: JSON string re-encoded to bytes (the JSON withBody path, kept as text so
+ * request logs can print it) against direct serialization into the pooled body buffer (the CBOR/Smile path)
+ * Run with {@code -prof gc}; gc.alloc.rate.norm is the bytes allocated per request body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class RequestBodyBenchmark {
+
+    @Param({"1", "500"})
+    public int payments;
+
+    private Object body;
+
+    @Setup
+    public void setUp() {
+        List<Object> items = IntStream.rangeClosed(1, payments).mapToObj(StubApiServer::payment).collect(Collectors.toList());
+        body = payments == 1 ? items.get(0) : items;
+    }
+
+    @Benchmark
+    public byte[] viaString() {
+        return JsonUtils.objectToJson(body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] direct() {
+        return JsonUtils.toBytes(body, BodyFormat.JSON);
+    }
+}
@@ -0,0 +1,54 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.assertions.SchemaRegistry;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schema validation through Rest Assured's per-use matcher versus the compiled SchemaRegistry
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=WARN", "-Dgroovy.indy=false"})
+@State(Scope.Benchmark)
+public class SchemaBenchmark {
+
+    private static final String SCHEMA = "schemas/bill.json";
+
+    @Param({"500"})
+    public int pageSize;
+
+    private String billJson;
+    private JsonNode bill;
+    private JsonNode bills;
+
+    @Setup
+    public void setUp() {
+        billJson = JsonUtils.objectToJson(StubApiServer.bill(42));
+        bill = JsonDocument.parse(billJson).getRoot();
+        bills = JsonDocument.parse(Payloads.billPage(pageSize)).node("data");
+    }
+
+    @Benchmark
+    public boolean restAssuredMatcher() {
+        return JsonSchemaValidator.matchesJsonSchemaInClasspath(SCHEMA).matches(billJson);
+    }
+
+    @Benchmark
+    public boolean registryValidate() {
+        return SchemaRegistry.validate(bill, "classpath:" + SCHEMA).isValid();
+    }
+
+    @Benchmark
+    public boolean registryValidateEach() {
+        return SchemaRegistry.validateEach(bills, "classpath:" + SCHEMA).isValid();
+    }
+}
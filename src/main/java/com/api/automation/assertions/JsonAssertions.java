@@ -0,0 +1,404 @@
+package com.api.automation.assertions;
+
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonFilter;
+import com.api.automation.utils.JsonPathUtils;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.hamcrest.StringDescription;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Soft assertions over a parsed JSON response
+ * Expectations are recorded first and checked together by {@link #verify()}: every path is resolved in a
+ * single pass over the document, all failures are collected, and they are reported in Rest Assured's format:
+ * <pre>
+ * 2 expectations failed.
+ * Expected status code &lt;200&gt; but was &lt;404&gt;.
+ *
+ * JSON path meta.total doesn't match.
+ * Expected: &lt;12&gt;
+ *   Actual: &lt;13&gt;
+ * </pre>
+ *
+ * Example usage:
+ * <pre>
+ * JsonAssertions.assertThat(response)
+ *         .statusCode(200)
+ *         .isEqualTo("success", true)
+ *         .hasSize("data", 20)
+ *         .field("data[0].id", startsWith("bill-"))
+ *         .allMatch("data", "amount.value &gt; 0 &amp;&amp; status != null")
+ *         .verify();
+ * </pre>
+ */
+public class JsonAssertions {
+    private static final int MAX_REPORTED_INDEXES = 10;
+
+    private final Response response;
+    private final String json;
+    private JsonDocument document;
+    private final List<Expectation> expectations = new ArrayList<>();
+    private final Set<String> paths = new LinkedHashSet<>();
+    private Integer expectedStatusCode;
+
+    private JsonAssertions(Response response, String json, JsonDocument document) {
+        this.response = response;
+        this.json = json;
+        this.document = document;
+    }
+
+    public static JsonAssertions assertThat(Response response) {
+        return new JsonAssertions(response, null, null);
+    }
+
+    public static JsonAssertions assertThat(String json) {
+        return new JsonAssertions(null, json, null);
+    }
+
+    public static JsonAssertions assertThat(JsonDocument document) {
+        return new JsonAssertions(null, null, document);
+    }
+
+    /**
+     * Fail fast on an unexpected status code with the message {@code response.then().statusCode(expected)} gives
+     * It bypasses RestAssured's validation, so the request and response are not logged on failure.
+     */
+    public static void assertStatusCode(Response response, int expected) {
+        if (response.getStatusCode() != expected) {
+            throw new AssertionError("1 expectation failed.\n" + statusMessage(expected, response.getStatusCode()));
+        }
+    }
+
+    // ============ Expectations ============
+
+    public JsonAssertions statusCode(int expected) {
+        if (response == null) {
+            throw new IllegalStateException("Status code can only be checked on a Response");
+        }
+        this.expectedStatusCode = expected;
+        return this;
+    }
+
+    /**
+     * Value at a path matches a Hamcrest matcher
+     */
+    public JsonAssertions field(String path, Matcher<?> matcher) {
+        return expect(path, resolved -> {
+            Object actual = resolved.value(path);
+            return matcher.matches(actual) ? null : pathMessage(path, describe(matcher), describeActual(actual));
+        });
+    }
+
+    /**
+     * Value at a path equals the expected value; numbers are compared by value, so 12 equals 12L and 1.5f equals 1.5
+     */
+    public JsonAssertions isEqualTo(String path, Object expected) {
+        Object expectedValue = expected instanceof Enum ? JsonDocument.toJava(JsonUtils.getObjectMapper().valueToTree(expected)) : expected;
+        return expect(path, resolved -> {
+            Object actual = resolved.value(path);
+            return valuesEqual(expectedValue, actual) ? null : pathMessage(path, describe(Matchers.equalTo(expectedValue)), describeActual(actual));
+        });
+    }
+
+    public JsonAssertions isNotNull(String path) {
+        return expect(path, resolved -> resolved.exists(path) ? null : pathMessage(path, "not null", "null"));
+    }
+
+    public JsonAssertions isNull(String path) {
+        return expect(path, resolved -> resolved.exists(path) ? pathMessage(path, "null", describeActual(resolved.value(path))) : null);
+    }
+
+    /**
+     * Array, object or string at a path has the expected size
+     */
+    public JsonAssertions hasSize(String path, int expected) {
+        return expect(path, resolved -> {
+            Integer size = resolved.size(path);
+            return Objects.equals(size, expected) ? null
+                    : pathMessage(path, "a collection with size <" + expected + ">",
+                    size == null ? describeActual(resolved.value(path)) : "size was <" + size + ">");
+        });
+    }
+
+    /**
+     * Value at a path satisfies a predicate
+     */
+    public JsonAssertions satisfies(String path, String description, Predicate<Object> predicate) {
+        return expect(path, resolved -> {
+            Object actual = resolved.value(path);
+            return predicate.test(actual) ? null : pathMessage(path, description, describeActual(actual));
+        });
+    }
+
+    /**
+     * Every element of the array at a path matches a filter expression
+     * Array paths must be natively supported (no closures).
+     *
+     * @see JsonFilter
+     */
+    public JsonAssertions allMatch(String arrayPath, String filter) {
+        return allMatch(arrayPath, JsonFilter.compile(filter));
+    }
+
+    public JsonAssertions allMatch(String arrayPath, JsonFilter filter) {
+        return expect(arrayPath, resolved -> {
+            JsonNode array = resolved.node(arrayPath);
+            if (array == null || !array.isArray()) {
+                return pathMessage(arrayPath, "an array", describeActual(resolved.value(arrayPath)));
+            }
+            List<Integer> failed = new ArrayList<>();
+            int failures = 0;
+            for (int i = 0; i < array.size(); i++) {
+                if (!filter.test(array.get(i))) {
+                    if (failed.size() < MAX_REPORTED_INDEXES) {
+                        failed.add(i);
+                    }
+                    failures++;
+                }
+            }
+            return failures == 0 ? null : pathMessage(arrayPath, "every element matching <" + filter + ">",
+                    failures + " of " + array.size() + " elements did not match, at indexes " + failed
+                            + (failures > failed.size() ? "..." : ""));
+        });
+    }
+
+    public JsonAssertions anyMatch(String arrayPath, String filter) {
+        JsonFilter compiled = JsonFilter.compile(filter);
+        return expect(arrayPath, resolved -> compiled.anyMatch(resolved.node(arrayPath)) ? null
+                : pathMessage(arrayPath, "an element matching <" + compiled + ">", "none of "
+                + describeSize(resolved.node(arrayPath)) + " matched"));
+    }
+
+    public JsonAssertions noneMatch(String arrayPath, String filter) {
+        JsonFilter compiled = JsonFilter.compile(filter);
+        return expect(arrayPath, resolved -> {
+            int matches = compiled.count(resolved.node(arrayPath));
+            return matches == 0 ? null : pathMessage(arrayPath, "no element matching <" + compiled + ">",
+                    matches + " of " + describeSize(resolved.node(arrayPath)) + " matched");
+        });
+    }
+
+    /**
+     * Value at a path validates against a registered schema, e.g. {@code classpath:schemas/bill.json}
+     *
+     * @see SchemaRegistry
+     */
+    public JsonAssertions matchesSchema(String path, String schemaReference) {
+        return expect(path, resolved -> schemaMessage(path, schemaReference,
+                SchemaRegistry.validate(resolved.node(path), schemaReference)));
+    }
+
+    /**
+     * Every element of the array at a path validates against a registered schema
+     */
+    public JsonAssertions eachMatchesSchema(String arrayPath, String schemaReference) {
+        return expect(arrayPath, resolved -> schemaMessage(arrayPath, schemaReference,
+                SchemaRegistry.validateEach(resolved.node(arrayPath), schemaReference)));
+    }
+
+    /**
+     * Every path in the list resolves to a non-null value
+     */
+    public JsonAssertions containsFields(String... requiredPaths) {
+        for (String path : requiredPaths) {
+            isNotNull(path);
+        }
+        return this;
+    }
+
+    // ============ Verification ============
+
+    /**
+     * Check every expectation and return the failure messages without throwing
+     */
+    public List<String> check() {
+        List<String> failures = new ArrayList<>();
+        if (expectedStatusCode != null && response.getStatusCode() != expectedStatusCode) {
+            failures.add(statusMessage(expectedStatusCode, response.getStatusCode()));
+        }
+        if (!expectations.isEmpty()) {
+            Resolved resolved = new Resolved(document(), paths);
+            for (Expectation expectation : expectations) {
+                String failure;
+                try {
+                    failure = expectation.check(resolved);
+                } catch (RuntimeException e) {
+                    failure = pathMessage(expectation.path, "a valid path", e.getClass().getSimpleName() + ": " + e.getMessage());
+                }
+                if (failure != null) {
+                    failures.add(failure);
+                }
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Check every expectation and throw an AssertionError listing all failures
+     */
+    public JsonDocument verify() {
+        List<String> failures = check();
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + (failures.size() == 1 ? " expectation" : " expectations")
+                    + " failed.\n" + String.join("\n", failures));
+        }
+        return document();
+    }
+
+    private JsonAssertions expect(String path, Check check) {
+        paths.add(path);
+        expectations.add(new Expectation(path, check));
+        return this;
+    }
+
+    private JsonDocument document() {
+        if (document == null) {
+            document = response != null ? JsonDocument.from(response) : JsonPathUtils.parse(json);
+        }
+        return document;
+    }
+
+    // ============ Messages ============
+
+    private static String statusMessage(int expected, int actual) {
+        return "Expected status code <" + expected + "> but was <" + actual + ">.\n";
+    }
+
+    private static String pathMessage(String path, String expected, String actual) {
+        return "JSON path " + path + " doesn't match.\nExpected: " + expected + "\n  Actual: " + actual + "\n";
+    }
+
+    /**
+     * Matcher description as Rest Assured prints it: a plain quoted string loses its quotes
+     */
+    private static String describe(Matcher<?> matcher) {
+        String description = StringDescription.toString(matcher);
+        if (description.length() >= 2 && description.startsWith("\"") && description.endsWith("\"")
+                && description.indexOf('"', 1) == description.length() - 1) {
+            return description.substring(1, description.length() - 1);
+        }
+        return description;
+    }
+
+    /**
+     * Actual value as Rest Assured prints it: strings and null as-is, everything else as a Hamcrest value
+     */
+    private static String describeActual(Object actual) {
+        if (actual == null || actual instanceof String) {
+            return String.valueOf(actual);
+        }
+        return new StringDescription().appendValue(actual).toString();
+    }
+
+    private static String schemaMessage(String path, String schemaReference, SchemaRegistry.Result result) {
+        if (result.isValid()) {
+            return null;
+        }
+        List<String> errors = result.getErrors();
+        return pathMessage(path, "to match schema " + schemaReference, errors.size() + " schema error(s): "
+                + String.join("; ", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_INDEXES)))
+                + (errors.size() > MAX_REPORTED_INDEXES ? "; ..." : ""));
+    }
+
+    private static String describeSize(JsonNode array) {
+        return array != null && array.isArray() ? array.size() + " elements" : "<no array>";
+    }
+
+    private static boolean valuesEqual(Object expected, Object actual) {
+        if (expected instanceof Number && actual instanceof Number) {
+            return new BigDecimal(expected.toString()).compareTo(new BigDecimal(actual.toString())) == 0;
+        }
+        if (expected instanceof Collection && actual instanceof List) {
+            return new ArrayList<>((Collection<?>) expected).equals(actual);
+        }
+        return Objects.equals(expected, actual);
+    }
+
+    // ============ Internals ============
+
+    private interface Check {
+        /**
+         * @return a failure message, or null when the expectation holds
+         */
+        String check(Resolved resolved);
+    }
+
+    private static final class Expectation {
+        private final String path;
+        private final Check check;
+
+        Expectation(String path, Check check) {
+            this.path = path;
+            this.check = check;
+        }
+
+        String check(Resolved resolved) {
+            return check.check(resolved);
+        }
+    }
+
+    /**
+     * Paths resolved in one traversal, with Java values converted on demand
+     */
+    private static final class Resolved {
+        private final JsonDocument document;
+        private final Map<String, JsonNode> nodes;
+        private final Map<String, Object> values = new HashMap<>();
+
+        Resolved(JsonDocument document, Collection<String> paths) {
+            this.document = document;
+            this.nodes = document.nodes(paths.toArray(new String[0]));
+        }
+
+        JsonNode node(String path) {
+            return nodes.get(path);
+        }
+
+        Object value(String path) {
+            if (values.containsKey(path)) {
+                return values.get(path);
+            }
+            JsonNode node = nodes.get(path);
+            Object value = node != null ? JsonDocument.toJava(node) : document.get(path);
+            values.put(path, value);
+            return value;
+        }
+
+        boolean exists(String path) {
+            JsonNode node = nodes.get(path);
+            return node != null ? !node.isMissingNode() && !node.isNull() : document.get(path) != null;
+        }
+
+        Integer size(String path) {
+            JsonNode node = nodes.get(path);
+            if (node != null) {
+                if (node.isContainerNode()) {
+                    return node.size();
+                }
+                return node.isTextual() ? node.textValue().length() : null;
+            }
+            Object value = value(path);
+            if (value instanceof Collection) {
+                return ((Collection<?>) value).size();
+            }
+            if (value instanceof Map) {
+                return ((Map<?, ?>) value).size();
+            }
+            return value instanceof String ? ((String) value).length() : null;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.api.automation.assertions;
+
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Registry of compiled JSON schemas
+ * Each schema is loaded and compiled once and cached under its reference:
+ * <ul>
+ *   <li>{@code classpath:schemas/bill.json} - a JSON Schema file on the classpath</li>
+ *   <li>{@code spec:enhanced-swagger.json#User} - a component schema from an OpenAPI/Swagger spec,
+ *   loaded from the file system or the classpath and converted to draft-04</li>
+ * </ul>
+ *
+ * Example usage:
+ * <pre>
+ * SchemaRegistry.Result result = SchemaRegistry.validateEach(response, "data", "classpath:schemas/bill.json");
+ * assertTrue(result.isValid(), result.toString());
+ * </pre>
+ */
+public class SchemaRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(SchemaRegistry.class);
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String SPEC_PREFIX = "spec:";
+    private static final String DRAFT_04 = "http://json-schema.org/draft-04/schema#";
+    private static final int PARALLEL_THRESHOLD = 64;
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private static final Map<String, JsonNode> specs = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled schema for a reference, loading it on first use
+     */
+    public static JsonSchema get(String reference) {
+        JsonSchema schema = schemas.get(reference);
+        if (schema == null) {
+            schema = schemas.computeIfAbsent(reference, ref -> compile(ref, load(ref)));
+        }
+        return schema;
+    }
+
+    /**
+     * Register a schema under a custom reference, replacing any previous one
+     */
+    public static JsonSchema register(String reference, JsonNode schemaNode) {
+        JsonSchema schema = compile(reference, schemaNode);
+        schemas.put(reference, schema);
+        return schema;
+    }
+
+    /**
+     * Convert an OpenAPI component schema into a standalone draft-04 schema
+     * Every component is copied to {@code definitions} and {@code #/components/schemas} references are rewritten,
+     * so references between components keep working.
+     */
+    public static JsonNode fromSpec(String specLocation, String schemaName) {
+        JsonNode spec = specs.computeIfAbsent(specLocation, SchemaRegistry::readSpec);
+        JsonNode components = spec.path("components").path("schemas");
+        if (components.isMissingNode()) {
+            components = spec.path("definitions");
+        }
+        if (!components.has(schemaName)) {
+            throw new IllegalArgumentException("Schema '" + schemaName + "' not found in " + specLocation);
+        }
+        ObjectNode schema = JsonNodeFactory.instance.objectNode();
+        schema.put("$schema", DRAFT_04);
+        schema.set("definitions", toDraft04(components.deepCopy()));
+        schema.put("$ref", "#/definitions/" + schemaName);
+        return schema;
+    }
+
+    public static void clear() {
+        schemas.clear();
+        specs.clear();
+    }
+
+    // ============ Validation ============
+
+    public static Result validate(JsonNode instance, String reference) {
+        JsonSchema schema = get(reference);
+        long start = System.nanoTime();
+        List<String> errors = instance == null || instance.isMissingNode()
+                ? Collections.singletonList("Expected a value but was missing")
+                : errors(schema, instance, "");
+        return new Result(reference, 1, errors, System.nanoTime() - start, -1);
+    }
+
+    /**
+     * Validate a response body against a schema
+     */
+    public static Result validate(Response response, String reference) {
+        JsonSchema schema = get(reference);
+        long start = System.nanoTime();
+        JsonNode body = JsonDocument.from(response).getRoot();
+        List<String> errors = errors(schema, body, "");
+        return log(new Result(reference, 1, errors, System.nanoTime() - start, response.getTime()));
+    }
+
+    /**
+     * Validate every element of an array against a schema, in parallel for large arrays
+     */
+    public static Result validateEach(JsonNode array, String reference) {
+        JsonSchema schema = get(reference);
+        long start = System.nanoTime();
+        if (array == null || !array.isArray()) {
+            return new Result(reference, 0, Collections.singletonList("Expected an array but was " + nodeType(array)),
+                    System.nanoTime() - start, -1);
+        }
+        return new Result(reference, array.size(), validateElements(schema, array), System.nanoTime() - start, -1);
+    }
+
+    /**
+     * Validate every element of the array at a path of a response body, e.g. {@code data} of a list page
+     */
+    public static Result validateEach(Response response, String arrayPath, String reference) {
+        JsonSchema schema = get(reference);
+        long start = System.nanoTime();
+        JsonNode array = JsonDocument.from(response).node(arrayPath);
+        List<String> errors;
+        int count = 0;
+        if (!array.isArray()) {
+            errors = Collections.singletonList("Expected an array at " + arrayPath + " but was " + nodeType(array));
+        } else {
+            count = array.size();
+            errors = validateElements(schema, array);
+        }
+        return log(new Result(reference, count, errors, System.nanoTime() - start, response.getTime()));
+    }
+
+    private static List<String> validateElements(JsonSchema schema, JsonNode array) {
+        IntStream indexes = IntStream.range(0, array.size());
+        if (array.size() >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        return indexes.mapToObj(i -> errors(schema, array.get(i), "[" + i + "]"))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> errors(JsonSchema schema, JsonNode instance, String prefix) {
+        ProcessingReport report;
+        try {
+            report = schema.validate(instance, true);
+        } catch (ProcessingException e) {
+            return Collections.singletonList(prefix + e.getMessage());
+        }
+        if (report.isSuccess()) {
+            return Collections.emptyList();
+        }
+        List<String> errors = new ArrayList<>();
+        for (ProcessingMessage message : report) {
+            JsonNode json = message.asJson();
+            if (!"error".equals(json.path("level").asText()) && !"fatal".equals(json.path("level").asText())) {
+                continue;
+            }
+            String pointer = json.path("instance").path("pointer").asText();
+            errors.add(prefix + (pointer.isEmpty() ? "/" : pointer) + ": " + message.getMessage());
+        }
+        return errors;
+    }
+
+    private static Result log(Result result) {
+        logger.debug("Schema {} checked {} item(s) in {} ms (response took {} ms)",
+                result.getReference(), result.getItemCount(), result.getValidationMillis(), result.getResponseTimeMillis());
+        return result;
+    }
+
+    private static String nodeType(JsonNode node) {
+        return node == null || node.isMissingNode() ? "missing" : node.getNodeType().name().toLowerCase();
+    }
+
+    // ============ Loading ============
+
+    private static JsonSchema compile(String reference, JsonNode schemaNode) {
+        try {
+            JsonSchema schema = factory.getJsonSchema(schemaNode);
+            logger.debug("Compiled JSON schema: {}", reference);
+            return schema;
+        } catch (ProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON schema " + reference + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static JsonNode load(String reference) {
+        if (reference.startsWith(CLASSPATH_PREFIX)) {
+            return readClasspath(reference.substring(CLASSPATH_PREFIX.length()));
+        }
+        if (reference.startsWith(SPEC_PREFIX)) {
+            String spec = reference.substring(SPEC_PREFIX.length());
+            int hash = spec.lastIndexOf('#');
+            if (hash < 0) {
+                throw new IllegalArgumentException("Spec reference needs a schema name after '#': " + reference);
+            }
+            return fromSpec(spec.substring(0, hash), spec.substring(hash + 1));
+        }
+        throw new IllegalArgumentException("Unknown schema reference (expected classpath: or spec:): " + reference);
+    }
+
+    private static JsonNode readSpec(String location) {
+        Path path = Paths.get(location);
+        if (Files.isRegularFile(path)) {
+            try {
+                return JsonUtils.getObjectMapper().readTree(path.toFile());
+            } catch (IOException e) {
+                throw new RuntimeException("Error reading spec: " + location, e);
+            }
+        }
+        return readClasspath(location);
+    }
+
+    private static JsonNode readClasspath(String resource) {
+        String name = resource.startsWith("/") ? resource.substring(1) : resource;
+        ClassLoader loader = Objects.requireNonNullElse(Thread.currentThread().getContextClassLoader(),
+                SchemaRegistry.class.getClassLoader());
+        try (InputStream in = loader.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Schema not found on classpath: " + resource);
+            }
+            return JsonUtils.getObjectMapper().readTree(in);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading schema: " + resource, e);
+        }
+    }
+
+    /**
+     * Rewrite OpenAPI-only constructs: component references and {@code nullable}
+     */
+    private static JsonNode toDraft04(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            JsonNode ref = object.get("$ref");
+            if (ref != null && ref.isTextual()) {
+                object.put("$ref", ref.asText().replace("#/components/schemas/", "#/definitions/"));
+            }
+            JsonNode nullable = object.remove("nullable");
+            if (nullable != null && nullable.asBoolean() && object.path("type").isTextual()) {
+                String type = object.get("type").asText();
+                ArrayNode types = object.putArray("type");
+                types.add(type);
+                types.add("null");
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                toDraft04(fields.next().getValue());
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                toDraft04(element);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Outcome of a validation, with validation time kept apart from the response time
+     */
+    public static class Result {
+        private final String reference;
+        private final int itemCount;
+        private final List<String> errors;
+        private final long validationNanos;
+        private final long responseTimeMillis;
+
+        Result(String reference, int itemCount, List<String> errors, long validationNanos, long responseTimeMillis) {
+            this.reference = reference;
+            this.itemCount = itemCount;
+            this.errors = errors;
+            this.validationNanos = validationNanos;
+            this.responseTimeMillis = responseTimeMillis;
+        }
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        public String getReference() {
+            return reference;
+        }
+
+        public int getItemCount() {
+            return itemCount;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        public long getValidationNanos() {
+            return validationNanos;
+        }
+
+        public double getValidationMillis() {
+            return validationNanos / 1_000_000.0;
+        }
+
+        /**
+         * Time the request took, or -1 when no response was involved
+         */
+        public long getResponseTimeMillis() {
+            return responseTimeMillis;
+        }
+
+        /**
+         * Throw an AssertionError listing the first errors when validation failed
+         */
+        public Result assertValid() {
+            if (!isValid()) {
+                throw new AssertionError(toString());
+            }
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            if (isValid()) {
+                return String.format("%s: %d item(s) valid (validation %.2f ms)", reference, itemCount, getValidationMillis());
+            }
+            List<String> shown = errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS));
+            return String.format("%s: %d schema error(s) in %d item(s)%n%s%s", reference, errors.size(), itemCount,
+                    String.join(System.lineSeparator(), shown),
+                    errors.size() > shown.size() ? System.lineSeparator() + "..." : "");
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.util.Map;
 public class AuthHandler {
     private static final Logger logger = LoggerFactory.getLogger(AuthHandler.class);
     private static final ConfigManager config = ConfigManager.getInstance();
+    public static final String SESSION_COOKIE_NAME = "session_id";
 
     public enum AuthType {
         BEARER,
@@ -179,7 +180,7 @@ public class AuthHandler {
         String sessionId = config.getSessionId();
         if (sessionId != null && !sessionId.isEmpty()) {
             logger.debug("Applying Cookie Session authentication");
-            return requestSpec.cookie("session_id", sessionId);
+            return requestSpec.cookie(SESSION_COOKIE_NAME, sessionId);
         } else {
             logger.warn("Session ID is null or empty");
             return requestSpec;
@@ -192,13 +193,32 @@ public class AuthHandler {
     public static RequestSpecification applyCookieSession(RequestSpecification requestSpec, String sessionId) {
         if (sessionId != null && !sessionId.isEmpty()) {
             logger.debug("Applying custom Cookie Session authentication");
-            return requestSpec.cookie("session_id", sessionId);
+            return requestSpec.cookie(SESSION_COOKIE_NAME, sessionId);
         } else {
             logger.warn("Custom Session ID is null or empty");
             return requestSpec;
         }
     }
 
+    /**
+     * Apply a pooled session's credential (bearer token or session cookie)
+     */
+    public static RequestSpecification applySession(RequestSpecification requestSpec, AuthSession session) {
+        if (session == null) {
+            logger.warn("Session is null, no authentication applied");
+            return requestSpec;
+        }
+        switch (session.getAuthType()) {
+            case COOKIE_SESSION:
+                return applyCookieSession(requestSpec, session.getCredential());
+            case BEARER:
+            case OAUTH2:
+                return applyBearerToken(requestSpec, session.getCredential());
+            default:
+                throw new IllegalArgumentException("Unsupported session auth type: " + session.getAuthType());
+        }
+    }
+
     /**
      * Apply OAuth2 authentication using client credentials flow
      * This retrieves a token using client_id and client_secret
@@ -280,7 +300,7 @@ public class AuthHandler {
             case COOKIE_SESSION:
                 String sessionId = config.getSessionId();
                 if (sessionId != null && !sessionId.isEmpty()) {
-                    headers.put("Cookie", "session_id=" + sessionId);
+                    headers.put("Cookie", SESSION_COOKIE_NAME + "=" + sessionId);
                 }
                 break;
             case OAUTH2:
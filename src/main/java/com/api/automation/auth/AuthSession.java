@@ -0,0 +1,92 @@
+package com.api.automation.auth;
+
+import io.restassured.specification.RequestSpecification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Authenticated session for a single identity
+ * Holds the credential (bearer token or session cookie) obtained at login and its expiry
+ */
+public class AuthSession {
+    private final String identity;
+    private final AuthHandler.AuthType authType;
+    private final String credential;
+    private final Instant expiresAt;
+    private final AtomicLong useCount = new AtomicLong();
+    private volatile boolean invalidated = false;
+
+    public AuthSession(String identity, AuthHandler.AuthType authType, String credential, Instant expiresAt) {
+        if (credential == null || credential.isEmpty()) {
+            throw new IllegalArgumentException("Credential cannot be null or empty for identity: " + identity);
+        }
+        this.identity = identity;
+        this.authType = authType;
+        this.credential = credential;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Create a session that never expires on the client side
+     */
+    public static AuthSession of(String identity, AuthHandler.AuthType authType, String credential) {
+        return new AuthSession(identity, authType, credential, null);
+    }
+
+    /**
+     * Apply this session's credential to the request specification
+     */
+    public RequestSpecification apply(RequestSpecification requestSpec) {
+        useCount.incrementAndGet();
+        return AuthHandler.applySession(requestSpec, this);
+    }
+
+    /**
+     * Check if the session is expired or will expire within the given margin
+     */
+    public boolean isExpiringWithin(Duration margin) {
+        if (invalidated) {
+            return true;
+        }
+        return expiresAt != null && Instant.now().plus(margin).isAfter(expiresAt);
+    }
+
+    /**
+     * Mark the session as no longer usable (e.g. after a 401 response)
+     */
+    public void invalidate() {
+        this.invalidated = true;
+    }
+
+    public boolean isInvalidated() {
+        return invalidated;
+    }
+
+    public String getIdentity() {
+        return identity;
+    }
+
+    public AuthHandler.AuthType getAuthType() {
+        return authType;
+    }
+
+    public String getCredential() {
+        return credential;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public long getUseCount() {
+        return useCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "AuthSession{identity='" + identity + "', authType=" + authType
+                + ", expiresAt=" + expiresAt + ", uses=" + useCount.get() + "}";
+    }
+}
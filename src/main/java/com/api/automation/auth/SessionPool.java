@@ -0,0 +1,476 @@
+package com.api.automation.auth;
+
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.models.billpay.TokenResponse;
+import com.api.automation.services.billpay.AuthService;
+import io.restassured.http.ContentType;
+import io.restassured.http.Cookie;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Pool of pre-authenticated sessions for parallel workloads
+ * Logs in several identities up front and leases one session per worker, so parallel
+ * requests are spread across identities instead of contending on a single server-side session.
+ *
+ * Example usage:
+ * <pre>
+ * SessionPool pool = SessionPool.builder()
+ *         .identities(SessionPool.Identity.parse("client-a:secret-a,client-b:secret-b"))
+ *         .authenticator(SessionPool.oauth2ClientCredentials())
+ *         .build();
+ *
+ * try (SessionPool.Lease lease = pool.lease()) {
+ *     Response response = new BillService().withSession(lease.getSession()).get("/v1/bills");
+ *     if (response.getStatusCode() == 401) {
+ *         lease.invalidate();
+ *     }
+ * }
+ * </pre>
+ */
+public class SessionPool implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SessionPool.class);
+
+    /**
+     * Logs in a single identity and returns its session
+     */
+    @FunctionalInterface
+    public interface Authenticator {
+        AuthSession login(Identity identity) throws Exception;
+    }
+
+    private final Authenticator authenticator;
+    private final Duration renewBefore;
+    private final Duration leaseTimeout;
+    private final LinkedBlockingDeque<AuthSession> idle = new LinkedBlockingDeque<>();
+    private final List<Identity> identities;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder renewals = new LongAdder();
+    private final LongAdder renewalFailures = new LongAdder();
+
+    private SessionPool(Builder builder) {
+        this.authenticator = builder.authenticator;
+        this.renewBefore = builder.renewBefore;
+        this.leaseTimeout = builder.leaseTimeout;
+        this.identities = Collections.unmodifiableList(new ArrayList<>(builder.identities));
+        loginAll(builder.loginParallelism);
+    }
+
+    /**
+     * Create a pool from the auth.pool.* configuration properties
+     */
+    public static SessionPool fromConfig(AuthHandler.AuthType authType) {
+        ConfigManager config = ConfigManager.getInstance();
+        Authenticator authenticator;
+        switch (authType) {
+            case BEARER:
+            case OAUTH2:
+                authenticator = oauth2ClientCredentials();
+                break;
+            case COOKIE_SESSION:
+                authenticator = cookieLogin(config.getSessionPoolLoginUrl());
+                break;
+            default:
+                throw new IllegalArgumentException("Session pooling is not supported for auth type: " + authType);
+        }
+        return builder()
+                .identities(Identity.parse(config.getSessionPoolIdentities()))
+                .authenticator(authenticator)
+                .renewBefore(Duration.ofSeconds(config.getSessionPoolRenewBeforeSeconds()))
+                .leaseTimeout(Duration.ofMillis(config.getSessionPoolLeaseTimeoutMs()))
+                .build();
+    }
+
+    /**
+     * Log in all identities in parallel
+     */
+    private void loginAll(int parallelism) {
+        long start = System.nanoTime();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, identities.size())), r -> {
+            Thread thread = new Thread(r, "session-pool-login-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<CompletableFuture<AuthSession>> logins = new ArrayList<>();
+            for (Identity identity : identities) {
+                logins.add(CompletableFuture.supplyAsync(() -> login(identity), executor)
+                        .exceptionally(e -> {
+                            logger.error("Login failed for identity: {} - {}", identity.getName(), e.getMessage());
+                            return null;
+                        }));
+            }
+            for (CompletableFuture<AuthSession> login : logins) {
+                AuthSession session = login.join();
+                if (session != null) {
+                    idle.offerLast(session);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (idle.isEmpty()) {
+            throw new RuntimeException("Session pool initialization failed: no identity could log in");
+        }
+        logger.info("Session pool initialized with {}/{} sessions in {} ms", idle.size(), identities.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private AuthSession login(Identity identity) {
+        try {
+            AuthSession session = authenticator.login(identity);
+            if (session == null) {
+                throw new IllegalStateException("Authenticator returned no session for identity: " + identity.getName());
+            }
+            logger.debug("Logged in identity: {}", identity.getName());
+            return session;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Login failed for identity: " + identity.getName(), e);
+        }
+    }
+
+    /**
+     * Lease a session, waiting up to the configured lease timeout.
+     * Sessions that are expired, close to expiry or invalidated are renewed before being handed out.
+     */
+    public Lease lease() {
+        if (closed.get()) {
+            throw new IllegalStateException("Session pool is closed");
+        }
+
+        long start = System.nanoTime();
+        AuthSession session;
+        try {
+            session = idle.pollFirst(leaseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a session lease", ie);
+        }
+        long waited = System.nanoTime() - start;
+        leases.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        if (session == null) {
+            throw new IllegalStateException("No session available within " + leaseTimeout.toMillis() + " ms");
+        }
+
+        if (session.isExpiringWithin(renewBefore)) {
+            session = renew(session);
+        }
+        return new Lease(session);
+    }
+
+    /**
+     * Lease a session for the duration of the given operation
+     */
+    public <T> T withSession(Function<AuthSession, T> operation) {
+        try (Lease lease = lease()) {
+            return operation.apply(lease.getSession());
+        }
+    }
+
+    private AuthSession renew(AuthSession expired) {
+        Identity identity = identities.stream()
+                .filter(candidate -> candidate.getName().equals(expired.getIdentity()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown identity: " + expired.getIdentity()));
+        try {
+            AuthSession renewed = login(identity);
+            renewals.increment();
+            logger.info("Renewed session for identity: {}", identity.getName());
+            return renewed;
+        } catch (RuntimeException e) {
+            renewalFailures.increment();
+            // Keep the identity in rotation so a later lease can retry the renewal
+            idle.offerLast(expired);
+            throw new RuntimeException("Session renewal failed for identity: " + identity.getName(), e);
+        }
+    }
+
+    private void release(AuthSession session) {
+        if (closed.get()) {
+            return;
+        }
+        // Returning to the tail rotates leases across identities
+        idle.offerLast(session);
+    }
+
+    /**
+     * Get a snapshot of the pool statistics
+     */
+    public Stats getStats() {
+        return new Stats(identities.size(), idle.size(), leases.sum(), totalWaitNanos.sum(),
+                maxWaitNanos.get(), renewals.sum(), renewalFailures.sum());
+    }
+
+    public int size() {
+        return identities.size();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            logger.info("Closing session pool: {}", getStats());
+            idle.clear();
+        }
+    }
+
+    // ============ Built-in authenticators ============
+
+    /**
+     * Authenticator using the OAuth2 client credentials flow (identity name/secret = client id/secret)
+     */
+    public static Authenticator oauth2ClientCredentials() {
+        return identity -> {
+            TokenResponse token = new AuthService().getTokenAsObject(identity.getName(), identity.getSecret());
+            Instant expiresAt = token.getExpiresIn() != null
+                    ? Instant.now().plusSeconds(token.getExpiresIn())
+                    : null;
+            return new AuthSession(identity.getName(), AuthHandler.AuthType.BEARER, token.getAccessToken(), expiresAt);
+        };
+    }
+
+    /**
+     * Authenticator posting username/password to a login endpoint and keeping the session_id cookie
+     */
+    public static Authenticator cookieLogin(String loginEndpoint) {
+        return identity -> {
+            Response response = new BaseApiClient()
+                    .withContentType(ContentType.URLENC)
+                    .withFormParam("username", identity.getName())
+                    .withFormParam("password", identity.getSecret())
+                    .post(loginEndpoint);
+            Cookie cookie = response.getDetailedCookie(AuthHandler.SESSION_COOKIE_NAME);
+            if (cookie == null || cookie.getValue() == null) {
+                throw new IllegalStateException("Login response for " + identity.getName()
+                        + " did not set cookie: " + AuthHandler.SESSION_COOKIE_NAME
+                        + " (status " + response.getStatusCode() + ")");
+            }
+            Instant expiresAt = null;
+            if (cookie.hasMaxAge()) {
+                expiresAt = Instant.now().plusSeconds(cookie.getMaxAge());
+            } else if (cookie.hasExpiryDate()) {
+                expiresAt = cookie.getExpiryDate().toInstant();
+            }
+            return new AuthSession(identity.getName(), AuthHandler.AuthType.COOKIE_SESSION, cookie.getValue(), expiresAt);
+        };
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Identity (username or client id) and its secret
+     */
+    public static class Identity {
+        private final String name;
+        private final String secret;
+
+        public Identity(String name, String secret) {
+            this.name = name;
+            this.secret = secret;
+        }
+
+        /**
+         * Parse a comma-separated list of name:secret pairs
+         */
+        public static List<Identity> parse(String identities) {
+            List<Identity> result = new ArrayList<>();
+            if (identities == null || identities.isBlank()) {
+                return result;
+            }
+            for (String entry : identities.split(",")) {
+                String trimmed = entry.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                int separator = trimmed.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid identity entry, expected name:secret - " + trimmed);
+                }
+                result.add(new Identity(trimmed.substring(0, separator), trimmed.substring(separator + 1)));
+            }
+            return result;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+    }
+
+    /**
+     * A leased session, returned to the pool when closed
+     */
+    public class Lease implements AutoCloseable {
+        private final AuthSession session;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Lease(AuthSession session) {
+            this.session = session;
+        }
+
+        public AuthSession getSession() {
+            return session;
+        }
+
+        /**
+         * Invalidate the leased session so it is renewed before its next lease
+         */
+        public void invalidate() {
+            session.invalidate();
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(session);
+            }
+        }
+    }
+
+    /**
+     * Point-in-time pool statistics
+     */
+    public static class Stats {
+        private final int identities;
+        private final int idle;
+        private final long leases;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long renewals;
+        private final long renewalFailures;
+
+        Stats(int identities, int idle, long leases, long totalWaitNanos, long maxWaitNanos,
+              long renewals, long renewalFailures) {
+            this.identities = identities;
+            this.idle = idle;
+            this.leases = leases;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.renewals = renewals;
+            this.renewalFailures = renewalFailures;
+        }
+
+        public int getIdentities() {
+            return identities;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public long getLeases() {
+            return leases;
+        }
+
+        public long getTotalWaitNanos() {
+            return totalWaitNanos;
+        }
+
+        public double getAverageWaitMillis() {
+            return leases == 0 ? 0 : totalWaitNanos / (double) leases / 1_000_000d;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1_000_000d;
+        }
+
+        public long getRenewals() {
+            return renewals;
+        }
+
+        public long getRenewalFailures() {
+            return renewalFailures;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("identities=%d, idle=%d, leases=%d, avgWait=%.3f ms, maxWait=%.3f ms, renewals=%d, renewalFailures=%d",
+                    identities, idle, leases, getAverageWaitMillis(), getMaxWaitMillis(), renewals, renewalFailures);
+        }
+    }
+
+    /**
+     * Builder class for fluent pool configuration
+     */
+    public static class Builder {
+        private final List<Identity> identities = new ArrayList<>();
+        private Authenticator authenticator;
+        private Duration renewBefore = Duration.ofSeconds(30);
+        private Duration leaseTimeout = Duration.ofSeconds(30);
+        private int loginParallelism = 8;
+
+        public Builder identities(List<Identity> identities) {
+            this.identities.addAll(identities);
+            return this;
+        }
+
+        public Builder identity(String name, String secret) {
+            this.identities.add(new Identity(name, secret));
+            return this;
+        }
+
+        public Builder authenticator(Authenticator authenticator) {
+            this.authenticator = authenticator;
+            return this;
+        }
+
+        public Builder renewBefore(Duration renewBefore) {
+            this.renewBefore = renewBefore;
+            return this;
+        }
+
+        public Builder leaseTimeout(Duration leaseTimeout) {
+            this.leaseTimeout = leaseTimeout;
+            return this;
+        }
+
+        public Builder loginParallelism(int loginParallelism) {
+            this.loginParallelism = loginParallelism;
+            return this;
+        }
+
+        public SessionPool build() {
+            if (identities.isEmpty()) {
+                throw new IllegalArgumentException("Session pool requires at least one identity");
+            }
+            if (authenticator == null) {
+                throw new IllegalArgumentException("Session pool requires an authenticator");
+            }
+            return new SessionPool(this);
+        }
+    }
+}
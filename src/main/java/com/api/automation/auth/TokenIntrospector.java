@@ -0,0 +1,193 @@
+package com.api.automation.auth;
+
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local token introspection
+ * Decodes JWT claims (exp, nbf, iat, sub, scopes) without calling the API, so token validity
+ * checks only need a network probe for opaque tokens or tokens close to expiry.
+ * The signature is NOT verified - this is only used to skip probes, never to grant access.
+ */
+public class TokenIntrospector {
+    private static final Logger logger = LoggerFactory.getLogger(TokenIntrospector.class);
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<String, TokenInfo> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Local verdict on a token
+     */
+    public enum Status {
+        /** JWT that is valid beyond the safety margin */
+        ACTIVE,
+        /** JWT that is expired or not yet valid */
+        INACTIVE,
+        /** JWT expiring within the safety margin - needs a network check */
+        EXPIRING,
+        /** Token cannot be decoded locally - needs a network check */
+        OPAQUE
+    }
+
+    /**
+     * Decode the token, using the cache for tokens seen before
+     */
+    public static TokenInfo inspect(String token) {
+        if (token == null || token.isEmpty()) {
+            return TokenInfo.OPAQUE;
+        }
+        TokenInfo cached = cache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        TokenInfo info = decode(token);
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+        cache.put(token, info);
+        return info;
+    }
+
+    /**
+     * Evaluate the token locally against the given safety margin
+     */
+    public static Status evaluate(String token, Duration margin) {
+        TokenInfo info = inspect(token);
+        if (info.isOpaque()) {
+            return Status.OPAQUE;
+        }
+        Instant now = Instant.now();
+        if (info.getNotBefore() != null && now.isBefore(info.getNotBefore())) {
+            return Status.INACTIVE;
+        }
+        if (info.getExpiresAt() == null) {
+            return Status.ACTIVE;
+        }
+        if (!now.isBefore(info.getExpiresAt())) {
+            return Status.INACTIVE;
+        }
+        return now.plus(margin).isBefore(info.getExpiresAt()) ? Status.ACTIVE : Status.EXPIRING;
+    }
+
+    /**
+     * Clear the decoded token cache
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    private static TokenInfo decode(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return TokenInfo.OPAQUE;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode claims = JsonUtils.getObjectMapper().readTree(new String(payload, StandardCharsets.UTF_8));
+            if (claims == null || !claims.isObject()) {
+                return TokenInfo.OPAQUE;
+            }
+            return new TokenInfo(false,
+                    text(claims, "sub"),
+                    epochSeconds(claims, "exp"),
+                    epochSeconds(claims, "nbf"),
+                    epochSeconds(claims, "iat"),
+                    scopes(claims));
+        } catch (Exception e) {
+            logger.debug("Token is not a decodable JWT, treating as opaque: {}", e.getMessage());
+            return TokenInfo.OPAQUE;
+        }
+    }
+
+    private static String text(JsonNode claims, String name) {
+        JsonNode node = claims.get(name);
+        return node != null && !node.isNull() ? node.asText() : null;
+    }
+
+    private static Instant epochSeconds(JsonNode claims, String name) {
+        JsonNode node = claims.get(name);
+        return node != null && node.isNumber() ? Instant.ofEpochSecond(node.asLong()) : null;
+    }
+
+    private static Set<String> scopes(JsonNode claims) {
+        Set<String> scopes = new LinkedHashSet<>();
+        for (String name : new String[]{"scope", "scp", "scopes"}) {
+            JsonNode node = claims.get(name);
+            if (node == null || node.isNull()) {
+                continue;
+            }
+            if (node.isArray()) {
+                node.forEach(scope -> scopes.add(scope.asText()));
+            } else {
+                for (String scope : node.asText().split("\\s+")) {
+                    if (!scope.isEmpty()) {
+                        scopes.add(scope);
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableSet(scopes);
+    }
+
+    /**
+     * Decoded token claims
+     */
+    public static class TokenInfo {
+        static final TokenInfo OPAQUE = new TokenInfo(true, null, null, null, null, Collections.emptySet());
+
+        private final boolean opaque;
+        private final String subject;
+        private final Instant expiresAt;
+        private final Instant notBefore;
+        private final Instant issuedAt;
+        private final Set<String> scopes;
+
+        TokenInfo(boolean opaque, String subject, Instant expiresAt, Instant notBefore, Instant issuedAt, Set<String> scopes) {
+            this.opaque = opaque;
+            this.subject = subject;
+            this.expiresAt = expiresAt;
+            this.notBefore = notBefore;
+            this.issuedAt = issuedAt;
+            this.scopes = scopes;
+        }
+
+        public boolean isOpaque() {
+            return opaque;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        public Instant getNotBefore() {
+            return notBefore;
+        }
+
+        public Instant getIssuedAt() {
+            return issuedAt;
+        }
+
+        public Set<String> getScopes() {
+            return scopes;
+        }
+
+        public boolean hasScope(String scope) {
+            return scopes.contains(scope);
+        }
+    }
+}
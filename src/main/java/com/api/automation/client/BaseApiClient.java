@@ -1,10 +1,13 @@
 package com.api.automation.client;
 
 import com.api.automation.auth.AuthHandler;
+import com.api.automation.auth.AuthSession;
 import com.api.automation.config.ConfigManager;
 import com.api.automation.config.RestAssuredConfig;
 import com.api.automation.retry.RetryHandler;
+import com.api.automation.utils.BodyFormat;
 import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.filter.log.LogDetail;
@@ -38,15 +41,20 @@ public class BaseApiClient {
     // Use ThreadLocal to ensure complete isolation between parallel tests
     private final RequestSpecBuilder specBuilder;
     protected RequestSpecification requestSpec;
+    private BodyFormat bodyFormat;
 
     public BaseApiClient() {
         try {
             // Create a completely new request specification builder for isolation
+            this.bodyFormat = BodyFormat.configured();
             this.specBuilder = new RequestSpecBuilder()
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
                 .addHeader("User-Agent", "API-Automation-Framework/1.0")
                 .log(LogDetail.ALL);
+            if (bodyFormat.isBinary()) {
+                this.specBuilder.setContentType(bodyFormat.getMimeType()).setAccept(bodyFormat.getMimeType());
+            } else {
+                this.specBuilder.setContentType(ContentType.JSON).setAccept(ContentType.JSON);
+            }
             
             // Set base URI directly in the specification
             if (config != null) {
@@ -72,6 +80,7 @@ public class BaseApiClient {
     public BaseApiClient(RequestSpecification requestSpec) {
         this.specBuilder = null;
         this.requestSpec = requestSpec;
+        this.bodyFormat = BodyFormat.JSON;
     }
 
     /**
@@ -90,6 +99,14 @@ public class BaseApiClient {
         return this;
     }
 
+    /**
+     * Authenticate the request with a pooled session
+     */
+    public BaseApiClient withSession(AuthSession session) {
+        this.requestSpec = session.apply(this.requestSpec);
+        return this;
+    }
+
     /**
      * Set custom headers
      */
@@ -116,20 +133,50 @@ public class BaseApiClient {
         return this;
     }
 
+    /**
+     * Send and accept bodies in a wire format other than the configured one
+     */
+    public BaseApiClient withBodyFormat(BodyFormat bodyFormat) {
+        this.bodyFormat = bodyFormat;
+        if (bodyFormat.isBinary()) {
+            this.requestSpec.contentType(bodyFormat.getMimeType()).accept(bodyFormat.getMimeType());
+        } else {
+            this.requestSpec.contentType(ContentType.JSON).accept(ContentType.JSON);
+        }
+        return this;
+    }
+
+    public BodyFormat getBodyFormat() {
+        return bodyFormat;
+    }
+
     /**
      * Set request body as string
+     * A JSON string is re-encoded when a binary body format is in use.
      */
     public BaseApiClient withBody(String body) {
+        if (bodyFormat.isBinary()) {
+            try {
+                this.requestSpec.body(JsonUtils.toBytes(JsonUtils.getObjectMapper().readTree(body), bodyFormat));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Body must be JSON to send it as " + bodyFormat, e);
+            }
+            return this;
+        }
         this.requestSpec.body(body);
         return this;
     }
 
     /**
-     * Set request body as object (will be serialized to JSON)
+     * Set request body as object (serialized to JSON, or to CBOR/Smile when that body format is in use)
+     * JSON stays text so request logs print it; binary formats are serialized straight to bytes.
      */
     public BaseApiClient withBody(Object body) {
-        String jsonBody = JsonUtils.objectToJson(body);
-        this.requestSpec.body(jsonBody);
+        if (bodyFormat.isBinary()) {
+            this.requestSpec.body(JsonUtils.toBytes(body, bodyFormat));
+        } else {
+            this.requestSpec.body(JsonUtils.objectToJson(body));
+        }
         return this;
     }
 
@@ -0,0 +1,515 @@
+package com.api.automation.client;
+
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.PaginationMeta;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iteration over a paginated list endpoint
+ * Exposes the {success, data, meta} pages of an endpoint as a Stream or Iterator of items.
+ * At most two pages are held at a time: while page N is consumed, page N+1 is fetched in the background.
+ * When the whole list is needed, {@link #fanOut(int)} fetches the remaining pages concurrently once the
+ * first page has reported totalPages, and checks the pages for drift caused by concurrent inserts or deletes.
+ *
+ * Example usage:
+ * <pre>
+ * try (Stream&lt;Bill&gt; bills = billService.pageBills().pageSize(100).maxItems(5000).stream()) {
+ *     bills.filter(Bill::isOverdue).forEach(...);
+ * }
+ * </pre>
+ *
+ * @param <T> The type of the list items
+ */
+public class Pager<T> {
+    private static final Logger logger = LoggerFactory.getLogger(Pager.class);
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "pager-prefetch-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Fetches one page of an endpoint; implementations must not share request state between calls
+     */
+    @FunctionalInterface
+    public interface PageFetcher {
+        Response fetch(int page, int limit);
+    }
+
+    private final PageFetcher fetcher;
+    private final Class<T> itemType;
+    private int pageSize = 50;
+    private int startPage = 1;
+    private long maxItems = Long.MAX_VALUE;
+    private boolean prefetch = true;
+    private Function<? super T, ?> idExtractor;
+
+    private Pager(PageFetcher fetcher, Class<T> itemType) {
+        this.fetcher = fetcher;
+        this.itemType = itemType;
+    }
+
+    /**
+     * Create a pager for an endpoint
+     */
+    public static <T> Pager<T> of(PageFetcher fetcher, Class<T> itemType) {
+        if (fetcher == null || itemType == null) {
+            throw new IllegalArgumentException("Page fetcher and item type cannot be null");
+        }
+        return new Pager<>(fetcher, itemType);
+    }
+
+    /**
+     * Set the number of items requested per page
+     */
+    public Pager<T> pageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Set the first page to fetch (1-based)
+     */
+    public Pager<T> startPage(int startPage) {
+        if (startPage < 1) {
+            throw new IllegalArgumentException("Start page must be positive: " + startPage);
+        }
+        this.startPage = startPage;
+        return this;
+    }
+
+    /**
+     * Stop after this many items; no page beyond the one containing the last item is requested
+     */
+    public Pager<T> maxItems(long maxItems) {
+        if (maxItems < 0) {
+            throw new IllegalArgumentException("Max items cannot be negative: " + maxItems);
+        }
+        this.maxItems = maxItems;
+        return this;
+    }
+
+    /**
+     * Enable or disable fetching the next page in the background (enabled by default)
+     */
+    public Pager<T> prefetch(boolean prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    /**
+     * Set how item ids are read, enabling duplicate detection in {@link #fanOut(int)}
+     */
+    public Pager<T> idExtractor(Function<? super T, ?> idExtractor) {
+        this.idExtractor = idExtractor;
+        return this;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getStartPage() {
+        return startPage;
+    }
+
+    public long getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Iterate over the items; close the iterator to cancel an outstanding prefetch when stopping early
+     */
+    public PageIterator<T> iterator() {
+        return new PageIterator<>(this);
+    }
+
+    /**
+     * Stream the items lazily; close the stream to cancel an outstanding prefetch when stopping early
+     */
+    public Stream<T> stream() {
+        PageIterator<T> iterator = iterator();
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+    }
+
+    /**
+     * Fetch all pages with at most {@code parallelism} concurrent requests and reassemble them in page order
+     */
+    public FanOutResult<T> fanOut(int parallelism) {
+        return fanOut(parallelism, null);
+    }
+
+    /**
+     * Fetch all pages with at most {@code parallelism} concurrent requests and hand each page's items to the
+     * consumer as soon as the page arrives, in completion order. The consumer runs on the calling thread and
+     * the items are not retained in the result.
+     */
+    public FanOutResult<T> fanOut(int parallelism, Consumer<? super T> consumer) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        FanOutResult<T> result = new FanOutResult<>(consumer == null, idExtractor != null);
+        if (maxItems == 0) {
+            return result;
+        }
+
+        ApiResponse<List<T>> first = fetchPage(startPage);
+        PaginationMeta meta = first.getMeta();
+        result.total = meta != null ? meta.getTotal() : null;
+        result.totalPages = meta != null ? meta.getTotalPages() : null;
+        if (result.totalPages == null) {
+            logger.warn("First page of {} has no totalPages, fetching the remaining pages sequentially",
+                    itemType.getSimpleName());
+            fetchRemainingSequentially(first, result, consumer);
+            return result;
+        }
+
+        int lastPage = result.totalPages;
+        if (maxItems != Long.MAX_VALUE) {
+            long pagesNeeded = (maxItems + pageSize - 1) / pageSize;
+            lastPage = (int) Math.min(lastPage, startPage + pagesNeeded - 1);
+        }
+        accept(startPage, first, lastPage, result, consumer);
+
+        int remaining = lastPage - startPage;
+        if (remaining > 0) {
+            fetchConcurrently(startPage + 1, lastPage, Math.min(parallelism, remaining), result, consumer);
+        }
+        if (maxItems == Long.MAX_VALUE && lastPage == result.totalPages && result.total != null
+                && result.itemCount != result.total) {
+            result.drift(String.format("received %d items but the first page reported a total of %d",
+                    result.itemCount, result.total));
+        }
+        logger.info("Fetched {} {} items from {} pages with parallelism {}{}", result.itemCount,
+                itemType.getSimpleName(), result.pages, parallelism,
+                result.isDrifted() ? " (drift detected: " + result.driftReasons + ")" : "");
+        return result;
+    }
+
+    private void fetchConcurrently(int fromPage, int toPage, int threads, FanOutResult<T> result,
+                                   Consumer<? super T> consumer) {
+        AtomicInteger workerCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "pager-fanout-" + workerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<PageResult<T>> completion = new ExecutorCompletionService<>(pool);
+        int count = toPage - fromPage + 1;
+        try {
+            for (int page = fromPage; page <= toPage; page++) {
+                int current = page;
+                completion.submit(() -> new PageResult<>(current, fetchPage(current)));
+            }
+
+            // Ordered mode buffers out-of-order pages until the gap before them is filled
+            @SuppressWarnings("unchecked")
+            ApiResponse<List<T>>[] buffered = consumer == null ? new ApiResponse[count] : null;
+            int nextInOrder = fromPage;
+            for (int i = 0; i < count; i++) {
+                PageResult<T> pageResult = completion.take().get();
+                checkTotals(pageResult.page, pageResult.response, result);
+                if (consumer != null) {
+                    accept(pageResult.page, pageResult.response, toPage, result, consumer);
+                    continue;
+                }
+                buffered[pageResult.page - fromPage] = pageResult.response;
+                while (nextInOrder <= toPage && buffered[nextInOrder - fromPage] != null) {
+                    accept(nextInOrder, buffered[nextInOrder - fromPage], toPage, result, null);
+                    buffered[nextInOrder - fromPage] = null;
+                    nextInOrder++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching pages of " + itemType.getSimpleName(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Failed to fetch pages of " + itemType.getSimpleName(), cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void fetchRemainingSequentially(ApiResponse<List<T>> first, FanOutResult<T> result,
+                                            Consumer<? super T> consumer) {
+        ApiResponse<List<T>> response = first;
+        int page = startPage;
+        while (true) {
+            accept(page, response, page, result, consumer);
+            List<T> items = response.getData();
+            PaginationMeta meta = response.getMeta();
+            boolean more = items != null && !items.isEmpty() && result.itemCount < maxItems
+                    && (meta != null && meta.getHasMore() != null ? meta.hasNextPage() : items.size() >= pageSize);
+            if (!more) {
+                return;
+            }
+            response = fetchPage(++page);
+        }
+    }
+
+    private void checkTotals(int page, ApiResponse<List<T>> response, FanOutResult<T> result) {
+        PaginationMeta meta = response.getMeta();
+        if (meta == null) {
+            return;
+        }
+        if (result.total != null && meta.getTotal() != null && !result.total.equals(meta.getTotal())) {
+            result.drift(String.format("total changed from %d to %d by page %d", result.total, meta.getTotal(), page));
+        }
+        if (meta.getTotalPages() != null && !result.totalPages.equals(meta.getTotalPages())) {
+            result.drift(String.format("totalPages changed from %d to %d by page %d",
+                    result.totalPages, meta.getTotalPages(), page));
+        }
+    }
+
+    private void accept(int page, ApiResponse<List<T>> response, int lastPage, FanOutResult<T> result,
+                        Consumer<? super T> consumer) {
+        List<T> items = response.getData() != null ? response.getData() : Collections.emptyList();
+        result.pages++;
+        if (page < lastPage && items.size() < pageSize) {
+            result.drift(String.format("page %d returned %d items, expected a full page of %d",
+                    page, items.size(), pageSize));
+        }
+        for (T item : items) {
+            if (result.itemCount >= maxItems) {
+                return;
+            }
+            if (idExtractor != null && !result.seenIds.add(idExtractor.apply(item))) {
+                result.drift(String.format("duplicate id %s on page %d", idExtractor.apply(item), page));
+            }
+            result.itemCount++;
+            if (consumer != null) {
+                consumer.accept(item);
+            } else {
+                result.items.add(item);
+            }
+        }
+    }
+
+    private static class PageResult<T> {
+        private final int page;
+        private final ApiResponse<List<T>> response;
+
+        PageResult(int page, ApiResponse<List<T>> response) {
+            this.page = page;
+            this.response = response;
+        }
+    }
+
+    /**
+     * Outcome of a fan-out: the items (ordered mode only), counts and any detected page drift
+     */
+    public static class FanOutResult<T> {
+        private final List<T> items;
+        private final Set<Object> seenIds;
+        private final List<String> driftReasons = new ArrayList<>();
+        private Integer total;
+        private Integer totalPages;
+        private long itemCount;
+        private int pages;
+
+        private FanOutResult(boolean keepItems, boolean trackIds) {
+            this.items = keepItems ? new ArrayList<>() : Collections.emptyList();
+            this.seenIds = trackIds ? new HashSet<>() : null;
+        }
+
+        private void drift(String reason) {
+            if (driftReasons.size() < 20) {
+                driftReasons.add(reason);
+            }
+        }
+
+        /**
+         * Items in page order; empty when the items were delivered to a consumer
+         */
+        public List<T> getItems() {
+            return items;
+        }
+
+        public long getItemCount() {
+            return itemCount;
+        }
+
+        /**
+         * Total reported by the first page, or null when the endpoint does not report it
+         */
+        public Integer getTotal() {
+            return total;
+        }
+
+        public Integer getTotalPages() {
+            return totalPages;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        /**
+         * Whether inserts or deletes during the fan-out shifted page boundaries
+         */
+        public boolean isDrifted() {
+            return !driftReasons.isEmpty();
+        }
+
+        public List<String> getDriftReasons() {
+            return Collections.unmodifiableList(driftReasons);
+        }
+
+        /**
+         * Fail if drift was detected, e.g. before using the result as a consistent snapshot
+         */
+        public FanOutResult<T> requireConsistent() {
+            if (isDrifted()) {
+                throw new IllegalStateException("Pages shifted while they were fetched: " + driftReasons);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Fetch and parse a single page
+     */
+    ApiResponse<List<T>> fetchPage(int page) {
+        Response response = fetcher.fetch(page, pageSize);
+        int status = response.getStatusCode();
+        if (status < 200 || status >= 300) {
+            throw new IllegalStateException(String.format("Page %d of %s failed with status %d: %s",
+                    page, itemType.getSimpleName(), status, response.getBody().asString()));
+        }
+        return ApiResponse.fromResponseList(response, itemType);
+    }
+
+    /**
+     * Item iterator holding the current page and the future of the next one
+     */
+    public static class PageIterator<T> implements Iterator<T>, AutoCloseable {
+        private final Pager<T> pager;
+        private Iterator<T> current = Collections.emptyIterator();
+        private CompletableFuture<ApiResponse<List<T>>> prefetched;
+        private boolean morePages;
+        private int nextPage;
+        private long emitted;
+        private long received;
+        private int pagesFetched;
+
+        private PageIterator(Pager<T> pager) {
+            this.pager = pager;
+            this.nextPage = pager.startPage;
+            this.morePages = pager.maxItems > 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (emitted >= pager.maxItems) {
+                close();
+                return false;
+            }
+            while (!current.hasNext()) {
+                if (!morePages) {
+                    return false;
+                }
+                advance();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            emitted++;
+            return current.next();
+        }
+
+        /**
+         * Number of pages received so far
+         */
+        public int getPagesFetched() {
+            return pagesFetched;
+        }
+
+        @Override
+        public void close() {
+            morePages = false;
+            if (prefetched != null) {
+                prefetched.cancel(false);
+                prefetched = null;
+            }
+        }
+
+        private void advance() {
+            ApiResponse<List<T>> response;
+            try {
+                response = prefetched != null ? prefetched.join() : pager.fetchPage(nextPage);
+            } catch (CompletionException e) {
+                close();
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new RuntimeException("Failed to fetch page " + nextPage, cause);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            prefetched = null;
+            pagesFetched++;
+            List<T> items = response.getData() != null ? response.getData() : Collections.emptyList();
+            received += items.size();
+            logger.debug("Fetched page {} with {} {} items", nextPage, items.size(), pager.itemType.getSimpleName());
+
+            current = items.iterator();
+            nextPage++;
+            morePages = !items.isEmpty() && hasMore(response.getMeta(), items.size()) && received < pager.maxItems;
+            if (morePages && pager.prefetch) {
+                int page = nextPage;
+                prefetched = CompletableFuture.supplyAsync(() -> pager.fetchPage(page), prefetchExecutor);
+            }
+        }
+
+        private boolean hasMore(PaginationMeta meta, int received) {
+            if (meta == null) {
+                // Without metadata a full page is the only hint that more items may follow
+                return received >= pager.pageSize;
+            }
+            if (meta.getHasMore() != null) {
+                return meta.hasNextPage();
+            }
+            return meta.getTotalPages() != null && meta.getPage() != null && meta.getPage() < meta.getTotalPages();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.api.automation.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * Streaming reader/writer for one model type
+ * Implementations are generated for {@link StreamingCodec} models; they read and write fields in
+ * straight-line code instead of going through Jackson's reflective bean (de)serializers.
+ * Anything the generated code does not handle itself falls back to the surrounding Jackson context,
+ * so coercion rules and error messages stay Jackson's.
+ */
+public abstract class ModelCodec<T> {
+
+    private final Class<T> type;
+    private final JsonSerializer<T> serializer;
+    private final JsonDeserializer<T> deserializer;
+
+    protected ModelCodec(Class<T> type) {
+        this.type = type;
+        this.serializer = new Serializer();
+        this.deserializer = new Deserializer();
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Write a non-null value as a JSON object
+     */
+    public abstract void write(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+    /**
+     * Read an object; the parser is on START_OBJECT or the first FIELD_NAME, and is left on END_OBJECT
+     */
+    public abstract T read(JsonParser p, DeserializationContext ctxt) throws IOException;
+
+    public JsonSerializer<T> serializer() {
+        return serializer;
+    }
+
+    public JsonDeserializer<T> deserializer() {
+        return deserializer;
+    }
+
+    // ============ Helpers for generated code ============
+
+    /**
+     * Move into an object and return the first FIELD_NAME (or END_OBJECT)
+     */
+    protected final JsonToken startObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return p.nextToken();
+        }
+        if (token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT) {
+            return token;
+        }
+        return (JsonToken) ctxt.handleUnexpectedToken(type, p);
+    }
+
+    /**
+     * Handle a property the model does not declare, per FAIL_ON_UNKNOWN_PROPERTIES
+     */
+    protected final void unknownProperty(JsonParser p, DeserializationContext ctxt, Object bean, String name) throws IOException {
+        ctxt.handleUnknownProperty(p, deserializer, bean, name);
+    }
+
+    protected static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, String.class);
+    }
+
+    protected static Boolean readBoolean(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+        }
+        if (token == JsonToken.VALUE_FALSE) {
+            return Boolean.FALSE;
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Boolean.class);
+    }
+
+    protected static Integer readInteger(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+            return p.getIntValue();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Integer.class);
+    }
+
+    protected static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return p.getLongValue();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Long.class);
+    }
+
+    protected static Double readDouble(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getDoubleValue();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Double.class);
+    }
+
+    protected static Float readFloat(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getFloatValue();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Float.class);
+    }
+
+    protected static BigDecimal readDecimal(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getDecimalValue();
+        }
+        return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, BigDecimal.class);
+    }
+
+    /**
+     * Primitive properties: null and coercions follow Jackson's primitive deserializers
+     */
+    protected static <V> V readPrimitive(JsonParser p, DeserializationContext ctxt, Class<V> primitiveType) throws IOException {
+        return ctxt.readValue(p, primitiveType);
+    }
+
+    /**
+     * Enums with a {@code @JsonCreator} factory; values the factory rejects are left to Jackson to report
+     */
+    protected static <E> E readEnum(JsonParser p, DeserializationContext ctxt, Function<String, E> creator, Class<E> enumType)
+            throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return creator.apply(p.getText());
+            } catch (IllegalArgumentException e) {
+                // fall through to Jackson for its error handling
+            }
+        }
+        return ctxt.readValue(p, enumType);
+    }
+
+    protected static <V> V readValue(JsonParser p, DeserializationContext ctxt, Class<V> valueType) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, valueType);
+    }
+
+    protected static <V> V readValue(JsonParser p, DeserializationContext ctxt, JavaType valueType) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, valueType);
+    }
+
+    /**
+     * Write a field through Jackson's serializer for its runtime type
+     */
+    protected static void writeValue(JsonGenerator gen, SerializerProvider provider, String name, Object value) throws IOException {
+        provider.defaultSerializeField(name, value, gen);
+    }
+
+    // ============ Jackson adapters ============
+
+    private class Serializer extends StdSerializer<T> {
+        Serializer() {
+            super(type);
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            write(value, gen, provider);
+        }
+    }
+
+    private class Deserializer extends StdDeserializer<T> {
+        Deserializer() {
+            super(type);
+        }
+
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return read(p, ctxt);
+        }
+    }
+}
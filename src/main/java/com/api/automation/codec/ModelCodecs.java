@@ -0,0 +1,77 @@
+package com.api.automation.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of generated model codecs
+ * Codecs are discovered with ServiceLoader (the generator writes META-INF/services/com.api.automation.codec.ModelCodec)
+ * and installed on a mapper as a Jackson module, so they take precedence over reflective bean (de)serializers.
+ * Run with {@code -Djson.codecs=false} to fall back to the reflective path.
+ */
+public class ModelCodecs {
+    private static final Logger logger = LoggerFactory.getLogger(ModelCodecs.class);
+    private static final Map<Class<?>, ModelCodec<?>> codecs = load();
+
+    /**
+     * Whether generated codecs should be used, see {@code json.codecs}
+     */
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty("json.codecs"));
+    }
+
+    /**
+     * Generated codec for a model, or null if it has none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ModelCodec<T> forType(Class<T> type) {
+        return (ModelCodec<T>) codecs.get(type);
+    }
+
+    public static Collection<ModelCodec<?>> all() {
+        return Collections.unmodifiableCollection(codecs.values());
+    }
+
+    /**
+     * Jackson module with a serializer and deserializer per generated codec
+     */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("ModelCodecs");
+        for (ModelCodec<?> codec : codecs.values()) {
+            addTo(module, codec);
+        }
+        return module;
+    }
+
+    /**
+     * Install the generated codecs on a mapper unless they are disabled
+     */
+    public static <M extends ObjectMapper> M register(M mapper) {
+        if (isEnabled() && !codecs.isEmpty()) {
+            mapper.registerModule(module());
+        }
+        return mapper;
+    }
+
+    private static <T> void addTo(SimpleModule module, ModelCodec<T> codec) {
+        module.addSerializer(codec.getType(), codec.serializer());
+        module.addDeserializer(codec.getType(), codec.deserializer());
+    }
+
+    private static Map<Class<?>, ModelCodec<?>> load() {
+        Map<Class<?>, ModelCodec<?>> loaded = new LinkedHashMap<>();
+        for (ModelCodec<?> codec : ServiceLoader.load(ModelCodec.class, ModelCodecs.class.getClassLoader())) {
+            loaded.put(codec.getType(), codec);
+        }
+        logger.debug("Loaded {} generated model codecs", loaded.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,19 @@
+package com.api.automation.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a streaming {@link ModelCodec} for this model at compile time
+ * The generated {@code <Model>Codec} reads and writes the model's fields directly through
+ * JsonParser/JsonGenerator, honouring {@code @JsonProperty}, {@code @JsonInclude} and {@code @JsonIgnore},
+ * and is registered with the framework mappers by {@link ModelCodecs}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface StreamingCodec {
+}
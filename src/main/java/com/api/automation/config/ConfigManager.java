@@ -4,61 +4,161 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Configuration Manager to handle environment-specific properties
+ * Reads go to an immutable {@link ConfigSnapshot} published through a volatile reference,
+ * so getters are lock-free; a reload (manual or file-watch based) swaps the snapshot atomically.
  */
 public class ConfigManager {
     private static final Logger logger = LoggerFactory.getLogger(ConfigManager.class);
-    private static ConfigManager instance;
-    private Properties properties;
-    private String environment;
+    private final String environment;
+    private volatile ConfigSnapshot snapshot;
+    private final List<Consumer<ConfigSnapshot>> reloadListeners = new CopyOnWriteArrayList<>();
+    private WatchService watchService;
+    private Thread watcherThread;
 
     private ConfigManager() {
         this.environment = System.getProperty("env", "dev");
-        loadProperties();
+        this.snapshot = ConfigSnapshot.load(environment);
+        if (Boolean.parseBoolean(System.getProperty("config.hot.reload", snapshot.get("config.hot.reload")))) {
+            enableHotReload();
+        }
+    }
+
+    private static class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
+    }
+
+    public static ConfigManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Get the current configuration snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+    /**
+     * Reload the configuration and atomically publish the new snapshot.
+     * On failure the previous snapshot stays active.
+     */
+    public ConfigSnapshot reload() {
+        try {
+            ConfigSnapshot next = ConfigSnapshot.load(environment);
+            this.snapshot = next;
+            logger.info("Configuration reloaded for environment: {}", environment);
+            for (Consumer<ConfigSnapshot> listener : reloadListeners) {
+                try {
+                    listener.accept(next);
+                } catch (Exception e) {
+                    logger.error("Configuration reload listener failed", e);
+                }
+            }
+            return next;
+        } catch (Exception e) {
+            logger.error("Configuration reload failed, keeping previous configuration", e);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Register a listener notified with every newly published snapshot
+     */
+    public void addReloadListener(Consumer<ConfigSnapshot> listener) {
+        reloadListeners.add(listener);
+    }
+
+    public void removeReloadListener(Consumer<ConfigSnapshot> listener) {
+        reloadListeners.remove(listener);
+    }
+
+    /**
+     * Watch the configuration file and reload it whenever it changes
+     * Only available when the configuration was loaded from the file system (-Dconfig.file or an exploded classpath)
+     */
+    public synchronized boolean enableHotReload() {
+        if (watcherThread != null) {
+            return true;
+        }
+        Path file = snapshot.getSourceFile();
+        if (file == null || file.getParent() == null) {
+            logger.warn("Configuration is not loaded from a file, hot reload is unavailable");
+            return false;
+        }
+        try {
+            watchService = file.getFileSystem().newWatchService();
+            file.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException e) {
+            logger.error("Unable to watch configuration file: {}", file, e);
+            return false;
+        }
+
+        WatchService service = watchService;
+        Path fileName = file.getFileName();
+        watcherThread = new Thread(() -> watch(service, fileName), "config-hot-reload");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        logger.info("Configuration hot reload enabled for: {}", file);
+        return true;
+    }
+
+    /**
+     * Stop watching the configuration file
+     */
+    public synchronized void disableHotReload() {
+        if (watcherThread == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.debug("Error closing configuration watch service: {}", e.getMessage());
         }
-        return instance;
-    }
-
-    private void loadProperties() {
-        properties = new Properties();
-        String configFile = String.format("config/%s.properties", environment);
-        
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(configFile)) {
-            if (inputStream == null) {
-                logger.warn("Configuration file not found: {}, trying to load default dev.properties", configFile);
-                // Fallback to dev.properties if environment-specific file not found
-                try (InputStream fallbackStream = getClass().getClassLoader().getResourceAsStream("config/dev.properties")) {
-                    if (fallbackStream == null) {
-                        logger.error("Default configuration file also not found: config/dev.properties");
-                        throw new RuntimeException("Configuration file not found: " + configFile);
+        watcherThread.interrupt();
+        watcherThread = null;
+        watchService = null;
+        logger.info("Configuration hot reload disabled");
+    }
+
+    private void watch(WatchService service, Path fileName) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        changed = true;
                     }
-                    properties.load(fallbackStream);
-                    logger.info("Loaded fallback configuration from dev.properties for environment: {}", environment);
-                } catch (IOException e) {
-                    logger.error("Error loading fallback configuration file", e);
-                    throw new RuntimeException("Error loading fallback configuration file", e);
                 }
-            } else {
-                properties.load(inputStream);
-                logger.info("Loaded configuration for environment: {}", environment);
+                key.reset();
+                if (changed) {
+                    // Editors often write in several steps, let the file settle
+                    Thread.sleep(100);
+                    reload();
+                }
             }
-        } catch (IOException e) {
-            logger.error("Error loading configuration file: {}", configFile, e);
-            throw new RuntimeException("Error loading configuration file: " + configFile, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Configuration watch service closed");
         }
     }
 
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = snapshot.get(key);
         if (value == null) {
             logger.warn("Property not found: {}", key);
         }
@@ -66,7 +166,7 @@ public class ConfigManager {
     }
 
     public String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key, defaultValue);
+        String value = snapshot.asMap().getOrDefault(key, defaultValue);
         if (value == null || value.isEmpty()) {
             logger.warn("Property '{}' is null or empty, using default: {}", key, defaultValue);
             return defaultValue;
@@ -79,6 +179,10 @@ public class ConfigManager {
     }
 
     public int getIntProperty(String key, int defaultValue) {
+        Integer parsed = snapshot.getInt(key);
+        if (parsed != null) {
+            return parsed;
+        }
         try {
             String value = getProperty(key);
             return value != null ? Integer.parseInt(value) : defaultValue;
@@ -103,19 +207,19 @@ public class ConfigManager {
 
     // Convenience methods for common properties
     public String getBaseUrl() {
-        return getProperty("base.url", "https://jsonplaceholder.typicode.com");
+        return snapshot.getBaseUrl();
     }
 
     public int getApiTimeout() {
-        return getIntProperty("api.timeout", 30000);
+        return snapshot.getApiTimeout();
     }
 
     public int getRetryAttempts() {
-        return getIntProperty("retry.attempts", 3);
+        return snapshot.getRetryAttempts();
     }
 
     public int getRetryDelay() {
-        return getIntProperty("retry.delay", 1000);
+        return snapshot.getRetryDelay();
     }
 
     public String getAuthType() {
@@ -153,4 +257,44 @@ public class ConfigManager {
     public String getOAuth2TokenUrl() {
         return getProperty("auth.oauth2.token.url", "/v1/auth/token");
     }
+
+    public int getTokenExpiryMarginSeconds() {
+        return getIntProperty("auth.token.expiry.margin.seconds", 30);
+    }
+
+    public String getSessionPoolIdentities() {
+        return getProperty("auth.pool.identities", "");
+    }
+
+    public String getSessionPoolLoginUrl() {
+        return getProperty("auth.pool.login.url", "/v1/auth/login");
+    }
+
+    public int getSessionPoolRenewBeforeSeconds() {
+        return getIntProperty("auth.pool.renew.before.seconds", 30);
+    }
+
+    public int getSessionPoolLeaseTimeoutMs() {
+        return getIntProperty("auth.pool.lease.timeout.ms", 30000);
+    }
+
+    public int getDebugCaptureRequests() {
+        return getIntProperty("debug.capture.requests", 20);
+    }
+
+    public int getDebugWriterQueueSize() {
+        return getIntProperty("debug.writer.queue.size", 64);
+    }
+
+    public int getReportFlushIntervalMs() {
+        return getIntProperty("report.flush.interval.ms", 30000);
+    }
+
+    public int getReportBodyMaxBytes() {
+        return getIntProperty("report.body.max.bytes", 16384);
+    }
+
+    public int getAttachmentMinBytes() {
+        return getIntProperty("attachments.min.bytes", 1024);
+    }
 }
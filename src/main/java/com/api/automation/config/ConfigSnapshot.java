@@ -0,0 +1,189 @@
+package com.api.automation.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, fully resolved view of an environment configuration
+ * Built once per (re)load: ${NAME:default} placeholders are resolved against system properties
+ * and environment variables, and the values read on hot paths are parsed up front.
+ */
+public final class ConfigSnapshot {
+    private static final Logger logger = LoggerFactory.getLogger(ConfigSnapshot.class);
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}:]+)(?::([^}]*))?}");
+
+    private final String environment;
+    private final Path sourceFile;
+    private final Instant loadedAt;
+    private final Map<String, String> values;
+    private final Map<String, Integer> intValues;
+
+    // Pre-parsed values read on every request
+    private final String baseUrl;
+    private final int apiTimeout;
+    private final int retryAttempts;
+    private final int retryDelay;
+
+    private ConfigSnapshot(String environment, Path sourceFile, Map<String, String> values) {
+        this.environment = environment;
+        this.sourceFile = sourceFile;
+        this.loadedAt = Instant.now();
+        this.values = Collections.unmodifiableMap(values);
+
+        Map<String, Integer> ints = new HashMap<>();
+        values.forEach((key, value) -> {
+            try {
+                ints.put(key, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException ignored) {
+                // Not an integer property
+            }
+        });
+        this.intValues = Collections.unmodifiableMap(ints);
+
+        String url = values.get("base.url");
+        this.baseUrl = url != null && !url.isEmpty() ? url : "https://jsonplaceholder.typicode.com";
+        this.apiTimeout = intValues.getOrDefault("api.timeout", 30000);
+        this.retryAttempts = intValues.getOrDefault("retry.attempts", 3);
+        this.retryDelay = intValues.getOrDefault("retry.delay", 1000);
+    }
+
+    /**
+     * Load the snapshot for an environment.
+     * An explicit -Dconfig.file path wins over the classpath resource config/{env}.properties,
+     * which falls back to config/dev.properties.
+     */
+    public static ConfigSnapshot load(String environment) {
+        Properties properties = new Properties();
+        Path sourceFile = null;
+        String explicitFile = System.getProperty("config.file");
+
+        try {
+            if (explicitFile != null && !explicitFile.isEmpty()) {
+                sourceFile = Paths.get(explicitFile).toAbsolutePath();
+                try (InputStream inputStream = Files.newInputStream(sourceFile)) {
+                    properties.load(inputStream);
+                }
+                logger.info("Loaded configuration for environment: {} from {}", environment, sourceFile);
+            } else {
+                String configFile = String.format("config/%s.properties", environment);
+                URL resource = ConfigSnapshot.class.getClassLoader().getResource(configFile);
+                if (resource == null) {
+                    logger.warn("Configuration file not found: {}, trying to load default dev.properties", configFile);
+                    resource = ConfigSnapshot.class.getClassLoader().getResource("config/dev.properties");
+                    if (resource == null) {
+                        logger.error("Default configuration file also not found: config/dev.properties");
+                        throw new RuntimeException("Configuration file not found: " + configFile);
+                    }
+                    logger.info("Loaded fallback configuration from dev.properties for environment: {}", environment);
+                } else {
+                    logger.info("Loaded configuration for environment: {}", environment);
+                }
+                try (InputStream inputStream = resource.openStream()) {
+                    properties.load(inputStream);
+                }
+                if ("file".equals(resource.getProtocol())) {
+                    sourceFile = Paths.get(resource.toURI());
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error loading configuration for environment: {}", environment, e);
+            throw new RuntimeException("Error loading configuration for environment: " + environment, e);
+        } catch (URISyntaxException e) {
+            logger.debug("Configuration resource is not a file, hot reload unavailable: {}", e.getMessage());
+        }
+
+        Map<String, String> resolved = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            resolved.put(key, resolvePlaceholders(key, properties.getProperty(key)));
+        }
+        return new ConfigSnapshot(environment, sourceFile, resolved);
+    }
+
+    /**
+     * Resolve ${NAME} and ${NAME:default} against system properties, then environment variables
+     */
+    public static String resolvePlaceholders(String key, String value) {
+        if (value == null || value.indexOf("${") < 0) {
+            return value;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1).trim();
+            String defaultValue = matcher.group(2);
+            String replacement = System.getProperty(name);
+            if (replacement == null) {
+                replacement = System.getenv(name);
+            }
+            if (replacement == null) {
+                if (defaultValue == null) {
+                    logger.warn("Unresolved placeholder ${{{}}} in property '{}', using empty value", name, key);
+                    replacement = "";
+                } else {
+                    replacement = defaultValue;
+                }
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public Integer getInt(String key) {
+        return intValues.get(key);
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * File the snapshot was read from, or null when loaded from a jar
+     */
+    public Path getSourceFile() {
+        return sourceFile;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getApiTimeout() {
+        return apiTimeout;
+    }
+
+    public int getRetryAttempts() {
+        return retryAttempts;
+    }
+
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+}
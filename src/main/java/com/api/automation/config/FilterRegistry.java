@@ -0,0 +1,375 @@
+package com.api.automation.config;
+
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named, ordered set of filters applied to every request through a single RestAssured global filter
+ * RestAssured.filters() appends, so registering filters in each test class's setup grows the chain (and the
+ * per-request cost) with every class in the fork. Registration here is keyed by name and idempotent, and the
+ * registry adds only itself to RestAssured, so the chain stays the same size however many classes register.
+ * Filters run by ascending order (OrderedFilter's order, or the one given); a thread can switch filters on or
+ * off for its own requests, which is how test classes opt in or out. Each filter's own time, excluding the
+ * filters and request after it, is accumulated for {@link #getStats()}.
+ */
+public class FilterRegistry implements OrderedFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilterRegistry.class);
+    private static volatile FilterRegistry instance;
+
+    // Copy-on-write, sorted by order; requests read it without locking
+    private volatile Entry[] entries = new Entry[0];
+    private final ThreadLocal<Map<String, Boolean>> selections = new ThreadLocal<>();
+
+    /**
+     * The registry installed as RestAssured's global filter
+     */
+    public static FilterRegistry getInstance() {
+        if (instance == null) {
+            synchronized (FilterRegistry.class) {
+                if (instance == null) {
+                    instance = new FilterRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add this registry to RestAssured's global filters if it is not there, e.g. after RestAssured.reset()
+     */
+    public FilterRegistry install() {
+        synchronized (RestAssured.class) {
+            if (!RestAssured.filters().contains(this)) {
+                RestAssured.filters(this);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Register a filter, enabled for all threads, at its OrderedFilter order or the default precedence
+     * @return the filter registered under the name, which is the earlier one if the name was already taken
+     */
+    public <T extends Filter> T register(String name, T filter) {
+        int order = filter instanceof OrderedFilter ? ((OrderedFilter) filter).getOrder() : DEFAULT_PRECEDENCE;
+        return register(name, filter, order, true);
+    }
+
+    /**
+     * Register a filter; one that is not enabled by default only runs on threads that enable it
+     * @return the filter registered under the name, which is the earlier one if the name was already taken
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T extends Filter> T register(String name, T filter, int order, boolean enabledByDefault) {
+        if (name == null || filter == null) {
+            throw new IllegalArgumentException("Filter name and filter are required");
+        }
+        if (filter == this) {
+            throw new IllegalArgumentException("A registry cannot contain itself");
+        }
+        Entry existing = find(name);
+        if (existing != null) {
+            return (T) existing.filter;
+        }
+        Entry[] updated = Arrays.copyOf(entries, entries.length + 1);
+        updated[entries.length] = new Entry(name, filter, order, enabledByDefault);
+        // Stable sort keeps registration order among equal orders
+        Arrays.sort(updated, Comparator.comparingInt(entry -> entry.order));
+        entries = updated;
+        logger.debug("Registered filter '{}' (order {}, enabled by default: {})", name, order, enabledByDefault);
+        return filter;
+    }
+
+    /**
+     * Remove a filter; returns whether one was registered under the name
+     */
+    public synchronized boolean unregister(String name) {
+        Entry[] current = entries;
+        List<Entry> kept = new ArrayList<>(current.length);
+        for (Entry entry : current) {
+            if (!entry.name.equals(name)) {
+                kept.add(entry);
+            }
+        }
+        entries = kept.toArray(new Entry[0]);
+        return kept.size() != current.length;
+    }
+
+    public boolean isRegistered(String name) {
+        return find(name) != null;
+    }
+
+    // ============ Per-thread selection ============
+
+    /**
+     * Run the named filters for the calling thread's requests, including ones not enabled by default
+     */
+    public void enableForCurrentThread(String... names) {
+        select(names, true);
+    }
+
+    /**
+     * Skip the named filters for the calling thread's requests
+     */
+    public void disableForCurrentThread(String... names) {
+        select(names, false);
+    }
+
+    /**
+     * Go back to the default selection for the calling thread
+     */
+    public void clearThreadSelection() {
+        selections.remove();
+    }
+
+    /**
+     * Whether the named filter runs for the calling thread's requests
+     */
+    public boolean isEnabled(String name) {
+        Entry entry = find(name);
+        return entry != null && entry.isEnabled(selections.get());
+    }
+
+    /**
+     * Names of the filters the calling thread's requests go through, in the order they run
+     */
+    public List<String> getActiveChain() {
+        Map<String, Boolean> selection = selections.get();
+        List<String> chain = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.isEnabled(selection)) {
+                chain.add(entry.name);
+            }
+        }
+        return chain;
+    }
+
+    private void select(String[] names, boolean enabled) {
+        Map<String, Boolean> selection = selections.get();
+        if (selection == null) {
+            selection = new HashMap<>();
+            selections.set(selection);
+        }
+        for (String name : names) {
+            selection.put(name, enabled);
+        }
+    }
+
+    // ============ Statistics ============
+
+    /**
+     * Time spent in each registered filter across all threads, in chain order
+     */
+    public List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>();
+        for (Entry entry : entries) {
+            stats.add(new Stats(entry.name, entry.order, entry.invocations.sum(), entry.nanos.sum()));
+        }
+        return stats;
+    }
+
+    public void resetStats() {
+        for (Entry entry : entries) {
+            entry.invocations.reset();
+            entry.nanos.reset();
+        }
+    }
+
+    // ============ Filter ============
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_PRECEDENCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Entry[] chain = entries;
+        if (chain.length == 0) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        return new Invocation(chain, selections.get(), ctx).proceed(0, requestSpec, responseSpec);
+    }
+
+    private Entry find(String name) {
+        for (Entry entry : entries) {
+            if (entry.name.equals(name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A registered filter and its accumulated cost
+     */
+    private static final class Entry {
+        private final String name;
+        private final Filter filter;
+        private final int order;
+        private final boolean enabledByDefault;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private Entry(String name, Filter filter, int order, boolean enabledByDefault) {
+            this.name = name;
+            this.filter = filter;
+            this.order = order;
+            this.enabledByDefault = enabledByDefault;
+        }
+
+        private boolean isEnabled(Map<String, Boolean> selection) {
+            if (selection != null) {
+                Boolean selected = selection.get(name);
+                if (selected != null) {
+                    return selected;
+                }
+            }
+            return enabledByDefault;
+        }
+    }
+
+    /**
+     * Runs one request through the registered filters, acting as their FilterContext
+     * next() called by the filter at {@code index} continues with the following enabled filter and records the
+     * time it took, so each filter is charged only for its own work.
+     */
+    private static final class Invocation implements FilterContext {
+        private final Entry[] chain;
+        private final Map<String, Boolean> selection;
+        private final FilterContext context;
+        private final long[] downstream;
+        private int index = -1;
+
+        private Invocation(Entry[] chain, Map<String, Boolean> selection, FilterContext context) {
+            this.chain = chain;
+            this.selection = selection;
+            this.context = context;
+            this.downstream = new long[chain.length];
+        }
+
+        private Response proceed(int from, FilterableRequestSpecification requestSpec,
+                                 FilterableResponseSpecification responseSpec) {
+            int i = from;
+            while (i < chain.length && !chain[i].isEnabled(selection)) {
+                i++;
+            }
+            if (i == chain.length) {
+                return context.next(requestSpec, responseSpec);
+            }
+            Entry entry = chain[i];
+            int caller = index;
+            index = i;
+            downstream[i] = 0;
+            long start = System.nanoTime();
+            try {
+                return entry.filter.filter(requestSpec, responseSpec, this);
+            } finally {
+                entry.nanos.add(System.nanoTime() - start - downstream[i]);
+                entry.invocations.increment();
+                index = caller;
+            }
+        }
+
+        @Override
+        public Response next(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec) {
+            int caller = index;
+            long start = System.nanoTime();
+            try {
+                return proceed(caller + 1, requestSpec, responseSpec);
+            } finally {
+                index = caller;
+                downstream[caller] += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public void setValue(String name, Object value) {
+            context.setValue(name, value);
+        }
+
+        @Override
+        public <T> T getValue(String name) {
+            return context.getValue(name);
+        }
+
+        @Override
+        public boolean hasValue(String name) {
+            return context.hasValue(name);
+        }
+
+        @Override
+        public boolean hasValue(String name, Object value) {
+            return context.hasValue(name, value);
+        }
+
+        @Override
+        public Response send(RequestSender requestSender) {
+            return context.send(requestSender);
+        }
+    }
+
+    /**
+     * Accumulated cost of one registered filter
+     */
+    public static final class Stats {
+        private final String name;
+        private final int order;
+        private final long invocations;
+        private final long totalNanos;
+
+        private Stats(String name, int order, long invocations, long totalNanos) {
+            this.name = name;
+            this.order = order;
+            this.invocations = invocations;
+            this.totalNanos = totalNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getOrder() {
+            return order;
+        }
+
+        public long getInvocations() {
+            return invocations;
+        }
+
+        /**
+         * Time spent in the filter itself, excluding later filters and the request
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getAverageNanos() {
+            return invocations == 0 ? 0 : totalNanos / invocations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (order %d): %d calls, avg %.1f us", name, order, invocations, getAverageNanos() / 1000.0);
+        }
+    }
+}
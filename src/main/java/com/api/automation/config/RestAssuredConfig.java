@@ -115,9 +115,14 @@ public class RestAssuredConfig {
         return builder.build();
     }
 
+    /**
+     * Reset Rest Assured's static configuration; the filter registry is re-installed before the lock is released
+     * Other threads' requests keep running while this happens, so only call it once no tests are in flight.
+     */
     public static void reset() {
         synchronized (lock) {
             RestAssured.reset();
+            FilterRegistry.getInstance().install();
             isInitialized = false;
             logger.info("Rest Assured configuration reset");
         }
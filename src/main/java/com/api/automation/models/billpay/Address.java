@@ -1,5 +1,6 @@
 package com.api.automation.models.billpay;
 
+import com.api.automation.codec.StreamingCodec;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -15,6 +16,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@StreamingCodec
 public class Address {
 
     @JsonProperty("line1")
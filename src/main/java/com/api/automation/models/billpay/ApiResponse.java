@@ -2,15 +2,19 @@ package com.api.automation.models.billpay;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.restassured.response.Response;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Generic API response wrapper for the Bill Payment API
@@ -36,7 +40,9 @@ import java.util.List;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ApiResponse<T> {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    // Readers for ApiResponse<T> and ApiResponse<List<T>>, keyed by T
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
 
     @JsonProperty("success")
     private Boolean success;
@@ -98,9 +104,7 @@ public class ApiResponse<T> {
      */
     public static <T> ApiResponse<T> fromJson(String json, Class<T> dataClass) {
         try {
-            JavaType type = objectMapper.getTypeFactory()
-                    .constructParametricType(ApiResponse.class, dataClass);
-            return objectMapper.readValue(json, type);
+            return readerFor(dataClass).readValue(json);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse ApiResponse: " + e.getMessage(), e);
         }
@@ -116,16 +120,65 @@ public class ApiResponse<T> {
      */
     public static <T> ApiResponse<List<T>> fromJsonList(String json, Class<T> elementClass) {
         try {
-            JavaType listType = objectMapper.getTypeFactory()
-                    .constructCollectionType(List.class, elementClass);
-            JavaType responseType = objectMapper.getTypeFactory()
-                    .constructParametricType(ApiResponse.class, listType);
-            return objectMapper.readValue(json, responseType);
+            return listReaderFor(elementClass).readValue(json);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse ApiResponse list: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Parse a response body to ApiResponse with single object data
+     * The body is decoded in the format named by the response Content-Type (JSON, CBOR or Smile).
+     *
+     * @param response The HTTP response
+     * @param dataClass The class of the data object
+     * @param <T> The type of data
+     * @return Parsed ApiResponse
+     */
+    public static <T> ApiResponse<T> fromResponse(Response response, Class<T> dataClass) {
+        try {
+            return reader(readerFor(dataClass), BodyFormat.of(response)).readValue(response.asByteArray());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse ApiResponse: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parse a response body to ApiResponse with list data, in the format named by its Content-Type
+     */
+    public static <T> ApiResponse<List<T>> fromResponseList(Response response, Class<T> elementClass) {
+        try {
+            return reader(listReaderFor(elementClass), BodyFormat.of(response)).readValue(response.asByteArray());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to parse ApiResponse list: " + e.getMessage(), e);
+        }
+    }
+
+    private static ObjectReader reader(ObjectReader jsonReader, BodyFormat format) {
+        return format == BodyFormat.JSON ? jsonReader : JsonUtils.readerFor(jsonReader.getValueType(), format);
+    }
+
+    /**
+     * Get the cached reader for ApiResponse&lt;dataClass&gt;
+     */
+    public static ObjectReader readerFor(Class<?> dataClass) {
+        return readers.computeIfAbsent(dataClass, c -> {
+            TypeFactory typeFactory = JsonUtils.getObjectMapper().getTypeFactory();
+            return JsonUtils.readerFor(typeFactory.constructParametricType(ApiResponse.class, c));
+        });
+    }
+
+    /**
+     * Get the cached reader for ApiResponse&lt;List&lt;elementClass&gt;&gt;
+     */
+    public static ObjectReader listReaderFor(Class<?> elementClass) {
+        return listReaders.computeIfAbsent(elementClass, c -> {
+            TypeFactory typeFactory = JsonUtils.getObjectMapper().getTypeFactory();
+            return JsonUtils.readerFor(typeFactory.constructParametricType(ApiResponse.class,
+                    typeFactory.constructCollectionType(List.class, c)));
+        });
+    }
+
     /**
      * Create a success response
      */
@@ -1,7 +1,9 @@
 package com.api.automation.models.billpay;
 
+import com.api.automation.codec.StreamingCodec;
 import com.api.automation.models.billpay.enums.BillStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@StreamingCodec
 public class Bill {
 
     @JsonProperty("id")
@@ -86,6 +89,7 @@ public class Bill {
     /**
      * Check if bill is overdue
      */
+    @JsonIgnore
     public boolean isOverdue() {
         return status == BillStatus.OVERDUE;
     }
@@ -93,6 +97,7 @@ public class Bill {
     /**
      * Check if bill is paid
      */
+    @JsonIgnore
     public boolean isPaid() {
         return status == BillStatus.PAID;
     }
@@ -100,6 +105,7 @@ public class Bill {
     /**
      * Check if bill is pending payment
      */
+    @JsonIgnore
     public boolean isPending() {
         return status == BillStatus.PENDING;
     }
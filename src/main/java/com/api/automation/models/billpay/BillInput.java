@@ -1,5 +1,6 @@
 package com.api.automation.models.billpay;
 
+import com.api.automation.codec.StreamingCodec;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@StreamingCodec
 public class BillInput {
 
     @JsonProperty("userId")
@@ -1,5 +1,6 @@
 package com.api.automation.models.billpay;
 
+import com.api.automation.codec.StreamingCodec;
 import com.api.automation.models.billpay.enums.KycStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -20,6 +21,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@StreamingCodec
 public class BillPayUser {
 
     @JsonProperty("id")
@@ -1,5 +1,6 @@
 package com.api.automation.models.billpay;
 
+import com.api.automation.codec.StreamingCodec;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -18,6 +19,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
+@StreamingCodec
 public class HealthResponse {
 
     @JsonProperty("success")
@@ -38,6 +40,7 @@ public class HealthResponse {
     @AllArgsConstructor
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonIgnoreProperties(ignoreUnknown = true)
+    @StreamingCodec
     public static class HealthData {
 
         @JsonProperty("status")
@@ -68,6 +71,7 @@ public class HealthResponse {
     @AllArgsConstructor
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonIgnoreProperties(ignoreUnknown = true)
+    @StreamingCodec
     public static class DatabaseHealth {
 
         @JsonProperty("status")
@@ -89,6 +93,7 @@ public class HealthResponse {
     @AllArgsConstructor
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonIgnoreProperties(ignoreUnknown = true)
+    @StreamingCodec
     public static class ConnectionPool {
 
         @JsonProperty("active")
@@ -0,0 +1,397 @@
+package com.api.automation.models.billpay;
+
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lazily bound {success, data, meta} list response
+ * The envelope (success, meta, message, error) is parsed eagerly; {@code data} is kept unparsed
+ * (a range of the JSON body, or a token buffer for CBOR/Smile) and its elements are bound only
+ * when asked for. Checks on pagination or a few fields then cost one scan of the body instead of
+ * binding every element into a model. Unknown envelope properties are skipped.
+ *
+ * @param <T> The type of list elements
+ *
+ * Example usage:
+ * <pre>
+ * LazyApiResponse<Bill> page = LazyApiResponse.fromResponseList(response, Bill.class);
+ * page.getMeta().getTotal();                           // no element is bound
+ * page.size();                                         // counts elements without binding them
+ * page.get(0);                                         // binds one element
+ * page.values("amount.value", Double.class);           // reads one field per element
+ * page.project("id", "status");                        // reads the named fields per element
+ * </pre>
+ */
+public class LazyApiResponse<T> {
+
+    private final Class<T> elementClass;
+    private Boolean success;
+    private PaginationMeta meta;
+    private String message;
+    private ErrorResponse.ErrorDetail error;
+
+    // data: a range of the JSON text or bytes, or buffered tokens for binary formats; all unset when absent or null
+    private String text;
+    private byte[] body;
+    private int dataStart;
+    private int dataEnd;
+    private TokenBuffer dataTokens;
+
+    private int size = -1;
+    private List<T> data;
+
+    private LazyApiResponse(Class<T> elementClass) {
+        this.elementClass = elementClass;
+    }
+
+    /**
+     * Parse the envelope of a JSON list response
+     */
+    public static <T> LazyApiResponse<T> fromJsonList(String json, Class<T> elementClass) {
+        LazyApiResponse<T> response = new LazyApiResponse<>(elementClass);
+        try (JsonParser p = JsonUtils.getObjectMapper().getFactory().createParser(json)) {
+            response.parseEnvelope(p, json, null, BodyFormat.JSON);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse ApiResponse list: " + e.getMessage(), e);
+        }
+        return response;
+    }
+
+    /**
+     * Parse the envelope of a list response, in the format named by its Content-Type
+     */
+    public static <T> LazyApiResponse<T> fromResponseList(Response response, Class<T> elementClass) {
+        return fromBytes(response.asByteArray(), BodyFormat.of(response), elementClass);
+    }
+
+    /**
+     * Parse the envelope of a list response body in the given format
+     */
+    public static <T> LazyApiResponse<T> fromBytes(byte[] body, BodyFormat format, Class<T> elementClass) {
+        LazyApiResponse<T> response = new LazyApiResponse<>(elementClass);
+        try (JsonParser p = JsonUtils.getMapper(format).getFactory().createParser(body)) {
+            response.parseEnvelope(p, null, body, format);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse ApiResponse list: " + e.getMessage(), e);
+        }
+        return response;
+    }
+
+    // ============ Envelope ============
+
+    public Boolean getSuccess() {
+        return success;
+    }
+
+    public PaginationMeta getMeta() {
+        return meta;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public ErrorResponse.ErrorDetail getError() {
+        return error;
+    }
+
+    /**
+     * Check if the response indicates success
+     */
+    public boolean isSuccessful() {
+        return success != null && success;
+    }
+
+    /**
+     * Check if the response has data
+     */
+    public boolean hasData() {
+        return text != null || body != null || dataTokens != null;
+    }
+
+    /**
+     * Check if the response has pagination metadata
+     */
+    public boolean hasPagination() {
+        return meta != null;
+    }
+
+    /**
+     * Check if there are more pages
+     */
+    public boolean hasMorePages() {
+        return meta != null && meta.hasNextPage();
+    }
+
+    /**
+     * Get error message if present
+     */
+    public String getErrorMessage() {
+        return error != null ? error.getMessage() : null;
+    }
+
+    // ============ Data ============
+
+    /**
+     * Number of elements in data, counted without binding them; 0 when data is absent
+     */
+    public int size() {
+        if (size < 0) {
+            if (data != null) {
+                size = data.size();
+            } else if (!hasData()) {
+                size = 0;
+            } else {
+                try (JsonParser p = dataParser()) {
+                    int count = 0;
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        p.skipChildren();
+                        count++;
+                    }
+                    size = count;
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to read ApiResponse data: " + e.getMessage(), e);
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Bind a single element, skipping over the ones before it
+     */
+    public T get(int index) {
+        if (data != null) {
+            return data.get(index);
+        }
+        if (index >= 0 && hasData()) {
+            try (JsonParser p = dataParser()) {
+                ObjectReader reader = JsonUtils.readerFor(elementClass);
+                for (int i = 0; p.nextToken() != JsonToken.END_ARRAY; i++) {
+                    if (i == index) {
+                        return reader.readValue(p);
+                    }
+                    p.skipChildren();
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to bind ApiResponse data[" + index + "]: " + e.getMessage(), e);
+            }
+        }
+        throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+    }
+
+    /**
+     * Bind every element (once); null when data is absent
+     */
+    public List<T> getData() {
+        if (data == null && hasData()) {
+            try (JsonParser p = dataParser()) {
+                data = JsonUtils.listReaderFor(elementClass).readValue(p);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to bind ApiResponse data: " + e.getMessage(), e);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Read one field of every element, bound to the given type; nested fields use dotted paths
+     * Elements without the field give null.
+     */
+    public <V> List<V> values(String path, Class<V> valueType) {
+        ObjectReader reader = JsonUtils.readerFor(valueType);
+        List<V> values = new ArrayList<>();
+        Set<String> paths = Collections.singleton(path);
+        Set<String> parents = parentsOf(paths);
+        forEachElement(p -> {
+            Object[] value = new Object[1];
+            if (p.currentToken() == JsonToken.START_OBJECT) {
+                readPaths(p, "", paths, parents, (name, parser) -> value[0] = reader.readValue(parser));
+            } else {
+                p.skipChildren();
+            }
+            values.add(valueType.cast(value[0]));
+        });
+        return values;
+    }
+
+    /**
+     * Read only the named fields of every element, keyed by path in the order given
+     * Values have their natural JSON types (String, Integer, Double, Boolean, Map, List); missing fields are null,
+     * as are elements that are not objects.
+     */
+    public List<Map<String, Object>> project(String... paths) {
+        ObjectReader reader = JsonUtils.readerFor(Object.class);
+        Set<String> wanted = new LinkedHashSet<>(List.of(paths));
+        Set<String> parents = parentsOf(wanted);
+        List<Map<String, Object>> projections = new ArrayList<>();
+        forEachElement(p -> {
+            if (p.currentToken() != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                projections.add(null);
+                return;
+            }
+            Map<String, Object> projection = new LinkedHashMap<>();
+            for (String path : wanted) {
+                projection.put(path, null);
+            }
+            readPaths(p, "", wanted, parents, (path, parser) -> projection.put(path, reader.readValue(parser)));
+            projections.add(projection);
+        });
+        return projections;
+    }
+
+    /**
+     * Bind everything into a regular ApiResponse
+     */
+    public ApiResponse<List<T>> toApiResponse() {
+        return ApiResponse.<List<T>>builder()
+                .success(success)
+                .data(getData())
+                .meta(meta)
+                .message(message)
+                .error(error)
+                .build();
+    }
+
+    // ============ Parsing ============
+
+    private void parseEnvelope(JsonParser p, String jsonText, byte[] bytes, BodyFormat format) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object envelope but got " + p.currentToken());
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken token = p.nextToken();
+            switch (name) {
+                case "success":
+                    success = JsonUtils.readerFor(Boolean.class).readValue(p);
+                    break;
+                case "meta":
+                    meta = JsonUtils.readerFor(PaginationMeta.class).readValue(p);
+                    break;
+                case "message":
+                    message = JsonUtils.readerFor(String.class).readValue(p);
+                    break;
+                case "error":
+                    error = JsonUtils.readerFor(ErrorResponse.ErrorDetail.class).readValue(p);
+                    break;
+                case "data":
+                    if (token == JsonToken.VALUE_NULL) {
+                        text = null;
+                        body = null;
+                        dataTokens = null;
+                        size = -1;
+                    } else if (token != JsonToken.START_ARRAY) {
+                        throw new IllegalArgumentException("Expected data to be an array but got " + token);
+                    } else if (format == BodyFormat.JSON) {
+                        // Only the extent of the array is scanned (counting elements on the way); they stay unparsed
+                        text = jsonText;
+                        body = bytes;
+                        dataStart = (int) (jsonText != null ? p.getTokenLocation().getCharOffset() : p.getTokenLocation().getByteOffset());
+                        int count = 0;
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            p.skipChildren();
+                            count++;
+                        }
+                        size = count;
+                        dataEnd = (int) p.currentLocation().getByteOffset();
+                    } else {
+                        // Smile slices are not self-contained (shared name references), so buffer the tokens
+                        TokenBuffer buffer = new TokenBuffer(p);
+                        buffer.copyCurrentStructure(p);
+                        dataTokens = buffer;
+                    }
+                    break;
+                default:
+                    p.skipChildren();
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Parser positioned on the START_ARRAY of data
+     */
+    private JsonParser dataParser() throws IOException {
+        JsonParser p;
+        if (dataTokens != null) {
+            p = dataTokens.asParser();
+        } else if (text != null) {
+            // Parsing stops at the end of the array, so the rest of the text is never read
+            Reader reader = new StringReader(text);
+            reader.skip(dataStart);
+            p = JsonUtils.getObjectMapper().getFactory().createParser(reader);
+        } else {
+            p = JsonUtils.getObjectMapper().getFactory().createParser(body, dataStart, dataEnd - dataStart);
+        }
+        p.nextToken();
+        return p;
+    }
+
+    private void forEachElement(ElementReader reader) {
+        if (!hasData()) {
+            return;
+        }
+        try (JsonParser p = dataParser()) {
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                reader.read(p);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read ApiResponse data: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Walk an object, handing the named paths to the reader and skipping every other subtree
+     */
+    private static void readPaths(JsonParser p, String prefix, Set<String> paths, Set<String> parents, FieldReader reader)
+            throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String path = prefix.isEmpty() ? p.currentName() : prefix + "." + p.currentName();
+            JsonToken token = p.nextToken();
+            if (paths.contains(path)) {
+                reader.read(path, p);
+            } else if (token == JsonToken.START_OBJECT && parents.contains(path)) {
+                readPaths(p, path, paths, parents, reader);
+            } else {
+                p.skipChildren();
+            }
+        }
+    }
+
+    private static Set<String> parentsOf(Set<String> paths) {
+        Set<String> parents = new HashSet<>();
+        for (String path : paths) {
+            for (int dot = path.indexOf('.'); dot > 0; dot = path.indexOf('.', dot + 1)) {
+                parents.add(path.substring(0, dot));
+            }
+        }
+        return parents;
+    }
+
+    private interface ElementReader {
+        void read(JsonParser p) throws IOException;
+    }
+
+    private interface FieldReader {
+        void read(String path, JsonParser p) throws IOException;
+    }
+}
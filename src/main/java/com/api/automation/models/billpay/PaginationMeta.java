@@ -1,5 +1,7 @@
 package com.api.automation.models.billpay;
 
+import com.api.automation.codec.StreamingCodec;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -15,6 +17,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@StreamingCodec
 public class PaginationMeta {
 
     @JsonProperty("page")
@@ -42,6 +45,7 @@ public class PaginationMeta {
     /**
      * Calculate remaining items
      */
+    @JsonIgnore
     public int getRemainingItems() {
         if (total == null || page == null || limit == null) {
             return 0;
@@ -1,7 +1,9 @@
 package com.api.automation.models.billpay;
 
+import com.api.automation.codec.StreamingCodec;
 import com.api.automation.models.billpay.enums.PaymentStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@StreamingCodec
 public class Payment {
 
     @JsonProperty("id")
@@ -83,6 +86,7 @@ public class Payment {
     /**
      * Check if payment is completed
      */
+    @JsonIgnore
     public boolean isCompleted() {
         return status == PaymentStatus.COMPLETED;
     }
@@ -90,6 +94,7 @@ public class Payment {
     /**
      * Check if payment failed
      */
+    @JsonIgnore
     public boolean isFailed() {
         return status == PaymentStatus.FAILED;
     }
@@ -97,6 +102,7 @@ public class Payment {
     /**
      * Check if payment is processing
      */
+    @JsonIgnore
     public boolean isProcessing() {
         return status == PaymentStatus.PROCESSING;
     }
@@ -104,6 +110,7 @@ public class Payment {
     /**
      * Check if payment is refunded
      */
+    @JsonIgnore
     public boolean isRefunded() {
         return status == PaymentStatus.REFUNDED;
     }
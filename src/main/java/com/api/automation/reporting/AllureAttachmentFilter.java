@@ -0,0 +1,117 @@
+package com.api.automation.reporting;
+
+import com.api.automation.utils.AttachmentStore;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import io.qameta.allure.attachment.DefaultAttachmentProcessor;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.NameAndValue;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Allure request/response attachments that reference large bodies instead of embedding them
+ * Works like {@code AllureRestAssured}, except that bodies the {@link AttachmentStore} takes are replaced
+ * by their hash, stored file and a short preview. Small bodies are prettified and attached as before.
+ * Attachments are added once the response is in, as the {@link CapturePolicy} decides: in full, as method, URL and
+ * status only, or not at all.
+ */
+public class AllureAttachmentFilter implements OrderedFilter {
+
+    private static final int BODY_PREVIEW_CHARS = 256;
+
+    private final AttachmentStore store;
+    private final CapturePolicy policy;
+
+    public AllureAttachmentFilter() {
+        this(AttachmentStore.getInstance(), CapturePolicy.getInstance());
+    }
+
+    public AllureAttachmentFilter(AttachmentStore store, CapturePolicy policy) {
+        this.store = store;
+        this.policy = policy;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            // No response to decide on; a request that could not be sent is a failure
+            attachRequest(requestSpec, CapturePolicy.Level.FULL);
+            throw e;
+        }
+
+        CapturePolicy.Level level = policy.decide(requestSpec, response, ctx);
+        if (level == CapturePolicy.Level.NONE) {
+            return response;
+        }
+        attachRequest(requestSpec, level);
+        HttpResponseAttachment.Builder attachment = HttpResponseAttachment.Builder.create(response.getStatusLine())
+                .setResponseCode(response.getStatusCode());
+        if (level == CapturePolicy.Level.FULL) {
+            byte[] body = response.asByteArray();
+            AttachmentStore.Ref stored = store.storeIfLarge(body);
+            attachment.setHeaders(toMap(response.getHeaders()))
+                    .setBody(stored != null ? reference(stored, preview(body, response.getContentType()))
+                            : new Prettifier().getPrettifiedBodyIfPossible(response, response.getBody()));
+        }
+        new DefaultAttachmentProcessor().addAttachment(attachment.build(), new FreemarkerAttachmentRenderer("http-response.ftl"));
+        return response;
+    }
+
+    private void attachRequest(FilterableRequestSpecification requestSpec, CapturePolicy.Level level) {
+        HttpRequestAttachment.Builder request = HttpRequestAttachment.Builder.create("Request", requestSpec.getURI())
+                .setMethod(requestSpec.getMethod());
+        if (level == CapturePolicy.Level.FULL) {
+            request.setHeaders(toMap(requestSpec.getHeaders()))
+                    .setCookies(toMap(requestSpec.getCookies()));
+            if (requestSpec.getBody() != null) {
+                String body = JsonUtils.bodyToString(requestSpec.getBody(), requestSpec.getContentType());
+                AttachmentStore.Ref stored = store.storeIfLarge(body);
+                request.setBody(stored != null ? reference(stored, body)
+                        : JsonUtils.bodyToPrettyString(body, requestSpec.getContentType()));
+            }
+        }
+        new DefaultAttachmentProcessor().addAttachment(request.build(), new FreemarkerAttachmentRenderer("http-request.ftl"));
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MAX_VALUE;
+    }
+
+    private static String reference(AttachmentStore.Ref stored, String body) {
+        String preview = body.length() > BODY_PREVIEW_CHARS ? body.substring(0, BODY_PREVIEW_CHARS) + "..." : body;
+        return "Stored body " + stored + " at " + stored.getFile() + "\n\n" + preview;
+    }
+
+    /**
+     * Start of a response body without decoding all of it; binary formats get no preview
+     */
+    private static String preview(byte[] body, String contentType) {
+        if (BodyFormat.fromContentType(contentType).isBinary()) {
+            return "";
+        }
+        return new String(body, 0, Math.min(body.length, BODY_PREVIEW_CHARS + 1), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> toMap(Iterable<? extends NameAndValue> values) {
+        Map<String, String> map = new HashMap<>();
+        values.forEach(value -> map.put(value.getName(), value.getValue()));
+        return map;
+    }
+}
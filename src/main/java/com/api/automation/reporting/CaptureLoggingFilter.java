@@ -0,0 +1,79 @@
+package com.api.automation.reporting;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.internal.print.RequestPrinter;
+import io.restassured.internal.print.ResponsePrinter;
+import com.api.automation.utils.JsonUtils;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.PrintStream;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Request/response logging that follows the {@link CapturePolicy}
+ * Replaces a RequestLoggingFilter/ResponseLoggingFilter pair: full captures print the same request and
+ * response output, summaries print one line, and excluded requests print nothing. The request is printed
+ * after the response arrives, because the policy decides on the status. Request bodies are rendered as
+ * text (CBOR/Smile as JSON) rather than by RequestPrinter, which prints byte array bodies as numbers.
+ */
+public class CaptureLoggingFilter implements Filter {
+
+    private static final Set<LogDetail> REQUEST_DETAILS =
+            EnumSet.of(LogDetail.METHOD, LogDetail.URI, LogDetail.PARAMS, LogDetail.HEADERS, LogDetail.COOKIES);
+
+    private final CapturePolicy policy;
+    private final PrintStream stream;
+
+    public CaptureLoggingFilter() {
+        this(CapturePolicy.getInstance(), System.out);
+    }
+
+    public CaptureLoggingFilter(CapturePolicy policy, PrintStream stream) {
+        this.policy = policy;
+        this.stream = stream;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.currentTimeMillis();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            // A request that could not be sent is a failure, so it is always printed
+            printRequest(requestSpec);
+            throw e;
+        }
+
+        switch (policy.decide(requestSpec, response, ctx)) {
+            case FULL -> {
+                printRequest(requestSpec);
+                ResponsePrinter.print(response, response.getBody(), stream, LogDetail.ALL, true, Set.of());
+            }
+            case SUMMARY -> stream.println(requestSpec.getMethod() + " " + requestSpec.getURI() + " -> "
+                    + response.getStatusCode() + " (" + (System.currentTimeMillis() - start) + " ms)");
+            default -> {
+            }
+        }
+        return response;
+    }
+
+    private void printRequest(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            // No body, or a multipart request, which RequestPrinter renders itself
+            RequestPrinter.print(requestSpec, requestSpec.getMethod(), requestSpec.getURI(), LogDetail.ALL, Set.of(), stream, true);
+            return;
+        }
+        RequestPrinter.print(requestSpec, requestSpec.getMethod(), requestSpec.getURI(), REQUEST_DETAILS, Set.of(), stream, true);
+        stream.println("Body:");
+        stream.println(JsonUtils.bodyToPrettyString(body, requestSpec.getContentType()));
+    }
+}
@@ -0,0 +1,219 @@
+package com.api.automation.reporting;
+
+import com.api.automation.config.ConfigManager;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Decides per request how much the reporting filters (logging, Allure, HAR) record
+ * Rules, first match wins:
+ * <ol>
+ *   <li>Failures (status at or above {@code capture.failure.status}) are always captured in full</li>
+ *   <li>URIs matching {@code capture.exclude} are not captured</li>
+ *   <li>URIs matching {@code capture.include} are captured in full</li>
+ *   <li>Successes with a request or response body over {@code capture.body.max.bytes} are summarized</li>
+ *   <li>One in {@code capture.sample.rate} remaining successes is captured in full, the rest are summarized</li>
+ * </ol>
+ * A summary is method, URI, status and timing without headers or bodies. The defaults capture everything in full.
+ * A failure here is a failing HTTP status: the decision is made when the response arrives, before the test's
+ * outcome is known, so a test that fails an assertion on a 2xx response can have its requests summarized or
+ * skipped. A failed test's most recent exchanges are kept in full by {@link com.api.automation.utils.RequestRecorder}
+ * and written as curl/HAR/report debug artifacts, whatever this policy decided.
+ * The decision is made once per request and kept in the request's FilterContext for the other filters that
+ * ask, so the reporters agree on which requests were sampled; it goes away with the request.
+ */
+public class CapturePolicy {
+
+    /**
+     * How much of an exchange to record
+     */
+    public enum Level {
+        NONE,
+        SUMMARY,
+        FULL
+    }
+
+    private static final AtomicLong ids = new AtomicLong();
+    private static volatile CapturePolicy instance;
+
+    private final int failureStatus;
+    private final int sampleRate;
+    private final long maxBodyBytes;
+    private final List<Pattern> include;
+    private final List<Pattern> exclude;
+    private final AtomicLong successes = new AtomicLong();
+    // FilterContext key for this policy's decision, so filters using different policies do not share one
+    private final String decisionKey = CapturePolicy.class.getName() + ".decision." + ids.incrementAndGet();
+
+    private CapturePolicy(Builder builder) {
+        this.failureStatus = builder.failureStatus;
+        this.sampleRate = builder.sampleRate;
+        this.maxBodyBytes = builder.maxBodyBytes;
+        this.include = List.copyOf(builder.include);
+        this.exclude = List.copyOf(builder.exclude);
+    }
+
+    /**
+     * The policy configured by the capture.* properties
+     */
+    public static CapturePolicy getInstance() {
+        if (instance == null) {
+            synchronized (CapturePolicy.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    instance = builder()
+                            .failureStatus(config.getIntProperty("capture.failure.status", 400))
+                            .sampleRate(config.getIntProperty("capture.sample.rate", 1))
+                            .maxBodyBytes(config.getIntProperty("capture.body.max.bytes", 0))
+                            .include(config.getSnapshot().get("capture.include"))
+                            .exclude(config.getSnapshot().get("capture.exclude"))
+                            .build();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Policy that captures every request in full
+     */
+    public static CapturePolicy captureAll() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Level for a completed exchange; filters passing the same request's context get the same level
+     */
+    public Level decide(FilterableRequestSpecification requestSpec, Response response, FilterContext ctx) {
+        Level level = ctx.getValue(decisionKey);
+        if (level == null) {
+            level = decide(requestSpec.getURI(), response.getStatusCode(),
+                    Math.max(requestBodySize(requestSpec.getBody()), response.asByteArray().length));
+            ctx.setValue(decisionKey, level);
+        }
+        return level;
+    }
+
+    /**
+     * Level for a request to {@code uri} that got {@code status}, with the larger of its bodies {@code bodyBytes} long
+     * Every call for a sampled success advances the sampler.
+     */
+    public Level decide(String uri, int status, long bodyBytes) {
+        if (status >= failureStatus) {
+            return Level.FULL;
+        }
+        if (matches(exclude, uri)) {
+            return Level.NONE;
+        }
+        if (matches(include, uri)) {
+            return Level.FULL;
+        }
+        if (maxBodyBytes > 0 && bodyBytes > maxBodyBytes) {
+            return Level.SUMMARY;
+        }
+        if (sampleRate <= 0) {
+            return Level.SUMMARY;
+        }
+        return (successes.getAndIncrement() % sampleRate) == 0 ? Level.FULL : Level.SUMMARY;
+    }
+
+    private static boolean matches(List<Pattern> patterns, String uri) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(uri).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long requestBodySize(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        // Strings are at least one byte per char; an estimate is enough to compare with the limit
+        return body.toString().length();
+    }
+
+    /**
+     * Builder class for fluent policy configuration
+     */
+    public static class Builder {
+        private int failureStatus = 400;
+        private int sampleRate = 1;
+        private long maxBodyBytes;
+        private final List<Pattern> include = new ArrayList<>();
+        private final List<Pattern> exclude = new ArrayList<>();
+
+        /**
+         * Lowest status treated as a failure and always captured
+         */
+        public Builder failureStatus(int failureStatus) {
+            this.failureStatus = failureStatus;
+            return this;
+        }
+
+        /**
+         * Capture one in {@code sampleRate} successes in full; 1 captures all, 0 none
+         */
+        public Builder sampleRate(int sampleRate) {
+            if (sampleRate < 0) {
+                throw new IllegalArgumentException("Sample rate must not be negative: " + sampleRate);
+            }
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * Summarize successes with a body larger than this; 0 for no limit
+         */
+        public Builder maxBodyBytes(long maxBodyBytes) {
+            this.maxBodyBytes = maxBodyBytes;
+            return this;
+        }
+
+        /**
+         * Always capture URIs matching any of the comma-separated regular expressions
+         */
+        public Builder include(String patterns) {
+            this.include.addAll(compile(patterns));
+            return this;
+        }
+
+        /**
+         * Never capture successful requests to URIs matching any of the comma-separated regular expressions
+         */
+        public Builder exclude(String patterns) {
+            this.exclude.addAll(compile(patterns));
+            return this;
+        }
+
+        public CapturePolicy build() {
+            return new CapturePolicy(this);
+        }
+
+        private static List<Pattern> compile(String patterns) {
+            List<Pattern> compiled = new ArrayList<>();
+            if (patterns != null) {
+                for (String pattern : patterns.split(",")) {
+                    if (!pattern.isBlank()) {
+                        compiled.add(Pattern.compile(pattern.trim()));
+                    }
+                }
+            }
+            return compiled;
+        }
+    }
+}
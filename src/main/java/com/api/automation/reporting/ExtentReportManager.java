@@ -1,47 +1,132 @@
 package com.api.automation.reporting;
 
+import com.api.automation.config.ConfigManager;
+import com.api.automation.utils.AttachmentStore;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Extent Reports manager for test reporting
+ * Test threads never touch the ExtentReports model: every call is turned into an event on a lock-free queue
+ * and a single writer thread creates the tests, logs and builds request/response HTML. The writer flushes
+ * the report incrementally every {@code report.flush.interval.ms} and on {@link #flushReports()}. Large
+ * request/response bodies go to the {@link AttachmentStore} and are linked with a short preview; bodies
+ * logged inline are capped at {@code report.body.max.bytes}.
  */
 public class ExtentReportManager {
     private static final Logger logger = LoggerFactory.getLogger(ExtentReportManager.class);
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static volatile ExtentReports extent;
+    private static volatile String reportPath;
+    private static final ThreadLocal<Long> test = new ThreadLocal<>();
+    private static final AtomicLong testIds = new AtomicLong();
     
     private static final String REPORT_DIR = "test-output/extent-reports";
     private static final String REPORT_NAME = "API-Test-Report";
+    private static final long WRITER_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FLUSH_TIMEOUT_MS = 60_000;
+    private static final int BODY_PREVIEW_BYTES = 256;
+
+    // Many producers, one consumer: test threads only ever offer to the queue
+    private static final Queue<ReportEvent> events = new ConcurrentLinkedQueue<>();
+    private static volatile Thread writer;
+    private static int bodyMaxBytes;
+    private static long flushIntervalMs;
+
+    // ============ Writer-thread state ============
+    private static final Map<Long, ExtentTest> tests = new HashMap<>();
+    private static boolean dirty;
+    private static long lastFlush;
+
+    /**
+     * Work applied to the report by the writer thread
+     */
+    private interface ReportEvent {
+        void apply();
+
+        /**
+         * Whether applying the event leaves the report with something to write
+         */
+        default boolean changesReport() {
+            return true;
+        }
+    }
+
+    /**
+     * Flush request; completes once everything queued before it is in the report file
+     */
+    private static final class FlushRequest implements ReportEvent {
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        @Override
+        public void apply() {
+            try {
+                flushNow();
+            } finally {
+                // Waiting callers are released even when the report cannot be written
+                done.countDown();
+            }
+        }
+
+        @Override
+        public boolean changesReport() {
+            return false;
+        }
+    }
 
     /**
      * Initialize Extent Reports
+     * Safe to call from parallel test classes; tests created before an explicit call initialize it lazily
      */
-    public static void initReports() {
+    public static synchronized void initReports() {
         if (extent == null) {
             createReportDirectory();
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String reportPath = REPORT_DIR + File.separator + REPORT_NAME + "_" + timestamp + ".html";
+            String path = REPORT_DIR + File.separator + REPORT_NAME + "_" + timestamp + ".html";
             
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(path);
             configureSparkReporter(sparkReporter);
             
-            extent = new ExtentReports();
-            extent.attachReporter(sparkReporter);
-            setSystemInfo();
+            ExtentReports reports = new ExtentReports();
+            reports.attachReporter(sparkReporter);
+            setSystemInfo(reports);
+            
+            ConfigManager config = ConfigManager.getInstance();
+            bodyMaxBytes = config.getReportBodyMaxBytes();
+            flushIntervalMs = config.getReportFlushIntervalMs();
+            lastFlush = System.currentTimeMillis();
+            extent = reports;
+            reportPath = path;
+            startWriter();
             
-            logger.info("Extent Reports initialized: {}", reportPath);
+            logger.info("Extent Reports initialized: {}", path);
         }
     }
 
+    /**
+     * Report file being written, or null before initialization
+     */
+    public static String getReportPath() {
+        return reportPath;
+    }
+
     /**
      * Configure Spark Reporter
      */
@@ -56,11 +141,11 @@ public class ExtentReportManager {
     /**
      * Set system information
      */
-    private static void setSystemInfo() {
-        extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-        extent.setSystemInfo("OS", System.getProperty("os.name"));
-        extent.setSystemInfo("Environment", System.getProperty("env", "dev"));
-        extent.setSystemInfo("User", System.getProperty("user.name"));
+    private static void setSystemInfo(ExtentReports reports) {
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("OS", System.getProperty("os.name"));
+        reports.setSystemInfo("Environment", System.getProperty("env", "dev"));
+        reports.setSystemInfo("User", System.getProperty("user.name"));
     }
 
     /**
@@ -73,40 +158,64 @@ public class ExtentReportManager {
         }
     }
 
+    /**
+     * Queue an event for the writer, initializing the reports on first use
+     */
+    private static void publish(ReportEvent event) {
+        if (extent == null) {
+            initReports();
+        }
+        events.offer(event);
+    }
+
+    /**
+     * Queue a log entry for the calling thread's test
+     */
+    private static void publishLog(Status status, String message, Throwable throwable) {
+        Long id = test.get();
+        if (id != null) {
+            publish(() -> {
+                ExtentTest extentTest = tests.get(id);
+                if (extentTest != null) {
+                    extentTest.log(status, message);
+                    if (throwable != null) {
+                        extentTest.log(status, throwable);
+                    }
+                }
+            });
+        }
+    }
+
     /**
      * Create a new test
      */
-    public static ExtentTest createTest(String testName) {
-        ExtentTest extentTest = extent.createTest(testName);
-        test.set(extentTest);
-        logger.debug("Created test: {}", testName);
-        return extentTest;
+    public static void createTest(String testName) {
+        createTest(testName, null);
     }
 
     /**
      * Create a new test with description
      */
-    public static ExtentTest createTest(String testName, String description) {
-        ExtentTest extentTest = extent.createTest(testName, description);
-        test.set(extentTest);
+    public static void createTest(String testName, String description) {
+        long id = testIds.incrementAndGet();
+        test.set(id);
+        publish(() -> tests.put(id, description != null
+                ? extent.createTest(testName, description) : extent.createTest(testName)));
         logger.debug("Created test: {} with description: {}", testName, description);
-        return extentTest;
     }
 
     /**
-     * Get current test
+     * Whether the calling thread has a current test
      */
-    public static ExtentTest getTest() {
-        return test.get();
+    public static boolean hasTest() {
+        return test.get() != null;
     }
 
     /**
      * Log info message
      */
     public static void logInfo(String message) {
-        if (getTest() != null) {
-            getTest().info(message);
-        }
+        publishLog(Status.INFO, message, null);
         logger.info(message);
     }
 
@@ -114,9 +223,7 @@ public class ExtentReportManager {
      * Log pass message
      */
     public static void logPass(String message) {
-        if (getTest() != null) {
-            getTest().pass(message);
-        }
+        publishLog(Status.PASS, message, null);
         logger.info("PASS: {}", message);
     }
 
@@ -124,9 +231,7 @@ public class ExtentReportManager {
      * Log fail message
      */
     public static void logFail(String message) {
-        if (getTest() != null) {
-            getTest().fail(message);
-        }
+        publishLog(Status.FAIL, message, null);
         logger.error("FAIL: {}", message);
     }
 
@@ -134,9 +239,7 @@ public class ExtentReportManager {
      * Log fail message with throwable
      */
     public static void logFail(String message, Throwable throwable) {
-        if (getTest() != null) {
-            getTest().fail(message).fail(throwable);
-        }
+        publishLog(Status.FAIL, message, throwable);
         logger.error("FAIL: {}", message, throwable);
     }
 
@@ -144,9 +247,7 @@ public class ExtentReportManager {
      * Log skip message
      */
     public static void logSkip(String message) {
-        if (getTest() != null) {
-            getTest().skip(message);
-        }
+        publishLog(Status.SKIP, message, null);
         logger.warn("SKIP: {}", message);
     }
 
@@ -154,9 +255,7 @@ public class ExtentReportManager {
      * Log warning message
      */
     public static void logWarning(String message) {
-        if (getTest() != null) {
-            getTest().warning(message);
-        }
+        publishLog(Status.WARNING, message, null);
         logger.warn("WARNING: {}", message);
     }
 
@@ -164,18 +263,21 @@ public class ExtentReportManager {
      * Log request details
      */
     public static void logRequest(String method, String url, String headers, String body) {
-        if (getTest() != null) {
-            StringBuilder requestDetails = new StringBuilder();
-            requestDetails.append("<details><summary><b>").append(method).append(" Request Details</b></summary>");
-            requestDetails.append("<p><b>URL:</b> ").append(url).append("</p>");
-            if (headers != null && !headers.isEmpty()) {
-                requestDetails.append("<p><b>Headers:</b><br><pre>").append(headers).append("</pre></p>");
-            }
-            if (body != null && !body.isEmpty()) {
-                requestDetails.append("<p><b>Body:</b><br><pre>").append(body).append("</pre></p>");
-            }
-            requestDetails.append("</details>");
-            getTest().info(requestDetails.toString());
+        Long id = test.get();
+        if (id != null) {
+            AttachmentStore.Ref stored = AttachmentStore.getInstance().storeIfLarge(body);
+            String shownBody = capBody(body, stored != null ? BODY_PREVIEW_BYTES : bodyMaxBytes);
+            publish(() -> {
+                StringBuilder requestDetails = new StringBuilder();
+                requestDetails.append("<details><summary><b>").append(method).append(" Request Details</b></summary>");
+                requestDetails.append("<p><b>URL:</b> ").append(url).append("</p>");
+                if (headers != null && !headers.isEmpty()) {
+                    requestDetails.append("<p><b>Headers:</b><br><pre>").append(headers).append("</pre></p>");
+                }
+                appendBody(requestDetails, shownBody, stored);
+                requestDetails.append("</details>");
+                logTo(id, requestDetails.toString());
+            });
         }
     }
 
@@ -183,38 +285,99 @@ public class ExtentReportManager {
      * Log response details
      */
     public static void logResponse(int statusCode, String headers, String body, long responseTime) {
-        if (getTest() != null) {
-            StringBuilder responseDetails = new StringBuilder();
-            responseDetails.append("<details><summary><b>Response Details</b></summary>");
-            responseDetails.append("<p><b>Status Code:</b> ").append(statusCode).append("</p>");
-            responseDetails.append("<p><b>Response Time:</b> ").append(responseTime).append(" ms</p>");
-            if (headers != null && !headers.isEmpty()) {
-                responseDetails.append("<p><b>Headers:</b><br><pre>").append(headers).append("</pre></p>");
+        Long id = test.get();
+        if (id != null) {
+            AttachmentStore.Ref stored = AttachmentStore.getInstance().storeIfLarge(body);
+            String shownBody = capBody(body, stored != null ? BODY_PREVIEW_BYTES : bodyMaxBytes);
+            publish(() -> {
+                StringBuilder responseDetails = new StringBuilder();
+                responseDetails.append("<details><summary><b>Response Details</b></summary>");
+                responseDetails.append("<p><b>Status Code:</b> ").append(statusCode).append("</p>");
+                responseDetails.append("<p><b>Response Time:</b> ").append(responseTime).append(" ms</p>");
+                if (headers != null && !headers.isEmpty()) {
+                    responseDetails.append("<p><b>Headers:</b><br><pre>").append(headers).append("</pre></p>");
+                }
+                appendBody(responseDetails, shownBody, stored);
+                responseDetails.append("</details>");
+                logTo(id, responseDetails.toString());
+            });
+        }
+    }
+
+    /**
+     * Body inline, or a link to the stored attachment followed by a preview
+     */
+    private static void appendBody(StringBuilder details, String body, AttachmentStore.Ref stored) {
+        if (stored != null) {
+            details.append("<p><b>Body:</b> <a href=\"").append(stored.relativeTo(Paths.get(REPORT_DIR)))
+                   .append("\">").append(stored).append("</a><br><pre>").append(body).append("</pre></p>");
+        } else if (body != null && !body.isEmpty()) {
+            details.append("<p><b>Body:</b><br><pre>").append(body).append("</pre></p>");
+        }
+    }
+
+    private static void logTo(long id, String details) {
+        ExtentTest extentTest = tests.get(id);
+        if (extentTest != null) {
+            extentTest.info(details);
+        }
+    }
+
+    /**
+     * Body cut to at most {@code maxBytes} UTF-8 bytes, with a note of how much was left out
+     */
+    static String capBody(String body, int maxBytes) {
+        // A char encodes to at most 3 UTF-8 bytes, so short bodies need no counting
+        if (body == null || maxBytes <= 0 || body.length() <= maxBytes / 3) {
+            return body;
+        }
+        int bytes = 0;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : 3;
+            if (bytes + size > maxBytes) {
+                return body.substring(0, i) + "\n... [truncated, " + (body.length() - i) + " more chars]";
             }
-            if (body != null && !body.isEmpty()) {
-                responseDetails.append("<p><b>Body:</b><br><pre>").append(body).append("</pre></p>");
+            bytes += size;
+            if (size == 4) {
+                i++;
             }
-            responseDetails.append("</details>");
-            getTest().info(responseDetails.toString());
         }
+        return body;
     }
 
     /**
      * Add tag to current test
      */
     public static void addTag(String tag) {
-        if (getTest() != null) {
-            getTest().assignCategory(tag);
+        Long id = test.get();
+        if (id != null) {
+            publish(() -> {
+                ExtentTest extentTest = tests.get(id);
+                if (extentTest != null) {
+                    extentTest.assignCategory(tag);
+                }
+            });
         }
     }
 
     /**
      * Flush reports
+     * Waits until every event queued so far is written to the report file
      */
     public static void flushReports() {
-        if (extent != null) {
-            extent.flush();
-            logger.info("Extent Reports flushed");
+        if (extent == null) {
+            return;
+        }
+        FlushRequest request = new FlushRequest();
+        events.offer(request);
+        LockSupport.unpark(writer);
+        try {
+            if (!request.done.await(FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                logger.warn("Extent Reports flush timed out with {} events pending", events.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -222,6 +385,57 @@ public class ExtentReportManager {
      * End current test
      */
     public static void endTest() {
-        test.remove();
+        Long id = test.get();
+        if (id != null) {
+            test.remove();
+            // The report keeps the test; the writer only needs to stop tracking it
+            publish(() -> tests.remove(id));
+        }
+    }
+
+    // ============ Writer thread ============
+
+    private static void startWriter() {
+        Thread thread = new Thread(ExtentReportManager::runWriter, "extent-report-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(ExtentReportManager::flushReports, "extent-report-flush"));
+    }
+
+    private static void runWriter() {
+        while (true) {
+            ReportEvent event = events.poll();
+            if (event != null) {
+                apply(event);
+                continue;
+            }
+            if (dirty && flushIntervalMs > 0 && System.currentTimeMillis() - lastFlush >= flushIntervalMs) {
+                flushNow();
+            }
+            // Producers do not signal the writer, so offering an event stays a single CAS on the queue
+            LockSupport.parkNanos(WRITER_IDLE_NANOS);
+        }
+    }
+
+    private static void apply(ReportEvent event) {
+        try {
+            event.apply();
+            // A flush leaves the report clean, so back-to-back flush requests only rewrite the file once
+            if (event.changesReport()) {
+                dirty = true;
+            }
+        } catch (Exception e) {
+            logger.error("Failed to apply report event", e);
+        }
+    }
+
+    private static void flushNow() {
+        if (dirty) {
+            extent.flush();
+            dirty = false;
+            logger.info("Extent Reports flushed");
+        }
+        lastFlush = System.currentTimeMillis();
     }
 }
@@ -0,0 +1,687 @@
+package com.api.automation.reporting;
+
+import com.api.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Append-only store of per-test results across runs: duration, outcome, retries and endpoint latencies
+ * Rows are length-prefixed binary frames in {@code runs.bin}; test and endpoint names are written once to
+ * {@code names.txt} and referenced by index, so a row takes 21 bytes plus 12 per endpoint. Queries map the file
+ * and scan it, comparing name indexes before decoding anything else, which keeps hundreds of thousands of rows
+ * cheap to query. Rows are buffered and appended in batches under a file lock, so forked test JVMs can share a
+ * directory. A crash can only leave a partial last frame or name; readers ignore it and the next writer cuts it off.
+ * A run is identified by the epoch millis its JVM started at.
+ */
+public class RunHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunHistory.class);
+
+    public static final String DEFAULT_DIR = "target/run-history";
+
+    private static final String ROWS_FILE = "runs.bin";
+    private static final String NAMES_FILE = "names.txt";
+    private static final String LOCK_FILE = "history.lock";
+    private static final int FIXED_BYTES = 21;
+    private static final int ENDPOINT_BYTES = 12;
+    private static final int FLUSH_BYTES = 64 * 1024;
+
+    /**
+     * Result of one test execution
+     */
+    public enum Outcome {
+        PASSED,
+        FAILED,
+        SKIPPED
+    }
+
+    private static volatile RunHistory instance;
+
+    private final Path directory;
+    private final long runId;
+    // Guarded by this
+    private final List<Row> pending = new ArrayList<>();
+    private int pendingBytes;
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private long namesRead;
+    private long rowsChecked;
+
+    public RunHistory(Path directory, long runId) {
+        this.directory = directory;
+        this.runId = runId;
+    }
+
+    /**
+     * The run's shared history in history.dir, flushed when the JVM exits
+     */
+    public static RunHistory getInstance() {
+        if (instance == null) {
+            synchronized (RunHistory.class) {
+                if (instance == null) {
+                    RunHistory history = new RunHistory(Paths.get(ConfigManager.getInstance().getProperty("history.dir", DEFAULT_DIR)),
+                            ManagementFactory.getRuntimeMXBean().getStartTime());
+                    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                        try {
+                            history.flush();
+                        } catch (RuntimeException e) {
+                            logger.error("Failed to write run history", e);
+                        }
+                    }, "run-history-flush"));
+                    instance = history;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getRunId() {
+        return runId;
+    }
+
+    /**
+     * Add a result to this run; it is written with the next batch
+     */
+    public synchronized void record(Row.Builder row) {
+        Row built = row.build(runId);
+        pending.add(built);
+        pendingBytes += FIXED_BYTES + ENDPOINT_BYTES * built.endpoints.size();
+        if (pendingBytes >= FLUSH_BYTES) {
+            flush();
+        }
+    }
+
+    /**
+     * Append the buffered results
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = lockChannel.lock()) {
+                // Another JVM may have added names since they were last read
+                loadNames();
+                Path namesFile = directory.resolve(NAMES_FILE);
+                if (Files.exists(namesFile) && Files.size(namesFile) > namesRead) {
+                    try (FileChannel channel = FileChannel.open(namesFile, StandardOpenOption.WRITE)) {
+                        channel.truncate(namesRead);
+                    }
+                }
+                StringBuilder newNames = new StringBuilder();
+                ByteBuffer frames = ByteBuffer.allocate(pendingBytes + 4 * pending.size());
+                for (Row row : pending) {
+                    encode(row, frames, newNames);
+                }
+                byte[] nameBytes = newNames.toString().getBytes(StandardCharsets.UTF_8);
+                // Names go first, so every index a frame refers to is readable once the frame is
+                Files.write(namesFile, nameBytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                namesRead += nameBytes.length;
+                try (FileChannel rows = FileChannel.open(directory.resolve(ROWS_FILE),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    long end = completeFramesEnd(rows);
+                    if (end < rows.size()) {
+                        logger.warn("Dropping {} bytes of an incomplete run history row", rows.size() - end);
+                        rows.truncate(end);
+                    }
+                    frames.flip();
+                    while (frames.hasRemaining()) {
+                        end += rows.write(frames, end);
+                    }
+                    rowsChecked = end;
+                }
+            }
+            pending.clear();
+            pendingBytes = 0;
+        } catch (IOException e) {
+            // The in-memory dictionary may now be ahead of the file; rebuild it on the next access
+            names.clear();
+            ids.clear();
+            namesRead = 0;
+            rowsChecked = 0;
+            throw new RuntimeException("Failed to write run history: " + directory, e);
+        }
+    }
+
+    /**
+     * Query over all runs recorded in this directory, including this run's buffered results
+     */
+    public Query query() {
+        return new Query();
+    }
+
+    private void encode(Row row, ByteBuffer frames, StringBuilder newNames) {
+        frames.putInt(FIXED_BYTES + ENDPOINT_BYTES * row.endpoints.size());
+        frames.putLong(row.runId);
+        frames.putInt(id(row.testName, newNames));
+        frames.put((byte) row.outcome.ordinal());
+        frames.putShort((short) Math.min(row.retries, Short.MAX_VALUE));
+        frames.putInt(clamp(row.durationMicros));
+        frames.putShort((short) row.endpoints.size());
+        for (Map.Entry<String, Latency> endpoint : row.endpoints.entrySet()) {
+            frames.putInt(id(endpoint.getKey(), newNames));
+            frames.putInt(endpoint.getValue().calls);
+            frames.putInt(clamp(endpoint.getValue().totalMicros));
+        }
+    }
+
+    /**
+     * End of the last complete frame, walking only the part of the file not checked before
+     */
+    private long completeFramesEnd(FileChannel rows) throws IOException {
+        long size = rows.size();
+        long start = rowsChecked <= size ? rowsChecked : 0;
+        if (start == size) {
+            return size;
+        }
+        MappedByteBuffer buffer = rows.map(FileChannel.MapMode.READ_ONLY, start, size - start);
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt(buffer.position());
+            if (length < FIXED_BYTES || buffer.remaining() - 4 < length) {
+                break;
+            }
+            buffer.position(buffer.position() + 4 + length);
+        }
+        return start + buffer.position();
+    }
+
+    private int id(String name, StringBuilder newNames) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            names.add(name);
+            ids.put(name, id);
+            newNames.append(name).append('\n');
+        }
+        return id;
+    }
+
+    private static int clamp(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read names appended to the dictionary since the last call; only complete lines are taken
+     */
+    private void loadNames() throws IOException {
+        Path file = directory.resolve(NAMES_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= namesRead) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) (size - namesRead));
+            channel.read(buffer, namesRead);
+            byte[] bytes = buffer.array();
+            int lineStart = 0;
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] == '\n') {
+                    String name = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+                    ids.put(name, names.size());
+                    names.add(name);
+                    lineStart = i + 1;
+                }
+            }
+            namesRead += lineStart;
+        }
+    }
+
+    /**
+     * Visit every complete frame; {@code start} is the position of the frame's first field
+     */
+    private synchronized void scan(FrameVisitor visitor) {
+        flush();
+        Path file = directory.resolve(ROWS_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            loadNames();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (buffer.remaining() >= 4) {
+                    int length = buffer.getInt();
+                    if (length < FIXED_BYTES || buffer.remaining() < length) {
+                        break;
+                    }
+                    int start = buffer.position();
+                    visitor.visit(buffer, start);
+                    buffer.position(start + length);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read run history: " + directory, e);
+        }
+    }
+
+    private Row decode(ByteBuffer buffer, int start) {
+        int endpointCount = buffer.getShort(start + 19);
+        Map<String, Latency> endpoints = endpointCount == 0 ? Collections.emptyMap() : new LinkedHashMap<>();
+        for (int i = 0; i < endpointCount; i++) {
+            int at = start + FIXED_BYTES + i * ENDPOINT_BYTES;
+            endpoints.put(names.get(buffer.getInt(at)), new Latency(buffer.getInt(at + 4), buffer.getInt(at + 8)));
+        }
+        return new Row(buffer.getLong(start), names.get(buffer.getInt(start + 8)), Outcome.values()[buffer.get(start + 12)],
+                buffer.getInt(start + 15), buffer.getShort(start + 13), endpoints);
+    }
+
+    @FunctionalInterface
+    private interface FrameVisitor {
+        void visit(ByteBuffer buffer, int start);
+    }
+
+    /**
+     * Builder class for fluent row selection and aggregation
+     */
+    public class Query {
+        private String testName;
+        private Outcome outcome;
+        private long sinceRunId = Long.MIN_VALUE;
+        private int lastRuns;
+
+        private Query() {
+        }
+
+        /**
+         * Only results of this test
+         */
+        public Query test(String testName) {
+            this.testName = testName;
+            return this;
+        }
+
+        public Query outcome(Outcome outcome) {
+            this.outcome = outcome;
+            return this;
+        }
+
+        /**
+         * Only runs started at or after this instant
+         */
+        public Query since(Instant instant) {
+            this.sinceRunId = instant.toEpochMilli();
+            return this;
+        }
+
+        /**
+         * Only the most recent {@code runs} runs
+         */
+        public Query lastRuns(int runs) {
+            if (runs < 1) {
+                throw new IllegalArgumentException("Runs must be at least 1: " + runs);
+            }
+            this.lastRuns = runs;
+            return this;
+        }
+
+        /**
+         * Matching rows in the order they were written
+         */
+        public List<Row> list() {
+            List<Row> rows = new ArrayList<>();
+            select((buffer, start) -> rows.add(decode(buffer, start)));
+            return rows;
+        }
+
+        public int count() {
+            int[] count = new int[1];
+            select((buffer, start) -> count[0]++);
+            return count[0];
+        }
+
+        /**
+         * Run ids with matching rows, oldest first
+         */
+        public List<Long> runs() {
+            Set<Long> runs = new TreeSet<>();
+            select((buffer, start) -> runs.add(buffer.getLong(start)));
+            return new ArrayList<>(runs);
+        }
+
+        /**
+         * Duration, outcome and flakiness statistics per test, over the matching rows
+         */
+        public Map<String, TestStats> statsByTest() {
+            Map<Integer, TestStats> byId = new HashMap<>();
+            select((buffer, start) -> byId.computeIfAbsent(buffer.getInt(start + 8), id -> new TestStats(names.get(id)))
+                    .add(Outcome.values()[buffer.get(start + 12)], buffer.getShort(start + 13), buffer.getInt(start + 15)));
+            Map<String, TestStats> stats = new TreeMap<>();
+            for (TestStats test : byId.values()) {
+                stats.put(test.testName, test.finish());
+            }
+            return stats;
+        }
+
+        /**
+         * Median duration per test in microseconds, for ordering or balancing test execution
+         */
+        public Map<String, Long> expectedDurations() {
+            Map<String, Long> durations = new TreeMap<>();
+            statsByTest().forEach((test, stats) -> durations.put(test, stats.getMedianDurationMicros()));
+            return durations;
+        }
+
+        /**
+         * Latency of one endpoint per run, summed over the matching rows
+         */
+        public SortedMap<Long, Latency> endpointTrend(String endpoint) {
+            SortedMap<Long, Latency> trend = new TreeMap<>();
+            int[] endpointId = {-1};
+            select((buffer, start) -> {
+                if (endpointId[0] < 0) {
+                    // Names are loaded by the time frames are visited
+                    endpointId[0] = ids.getOrDefault(endpoint, Integer.MIN_VALUE);
+                }
+                int endpointCount = buffer.getShort(start + 19);
+                for (int i = 0; i < endpointCount; i++) {
+                    int at = start + FIXED_BYTES + i * ENDPOINT_BYTES;
+                    if (buffer.getInt(at) == endpointId[0]) {
+                        Latency total = trend.computeIfAbsent(buffer.getLong(start), run -> new Latency(0, 0));
+                        total.calls += buffer.getInt(at + 4);
+                        total.totalMicros += buffer.getInt(at + 8);
+                    }
+                }
+            });
+            return trend;
+        }
+
+        private void select(FrameVisitor visitor) {
+            synchronized (RunHistory.this) {
+                long minRunId = sinceRunId;
+                if (lastRuns > 0) {
+                    // Run ids are start times, so the most recent runs have the largest ids
+                    Set<Long> all = new HashSet<>();
+                    scan((buffer, start) -> all.add(buffer.getLong(start)));
+                    long[] sorted = all.stream().mapToLong(Long::longValue).sorted().toArray();
+                    if (sorted.length > lastRuns) {
+                        minRunId = Math.max(minRunId, sorted[sorted.length - lastRuns]);
+                    }
+                }
+                long runFloor = minRunId;
+                int testId = testName == null ? -1 : resolve(testName);
+                if (testName != null && testId < 0) {
+                    return;
+                }
+                int outcomeOrdinal = outcome == null ? -1 : outcome.ordinal();
+                scan((buffer, start) -> {
+                    if ((testId < 0 || buffer.getInt(start + 8) == testId)
+                            && (outcomeOrdinal < 0 || buffer.get(start + 12) == outcomeOrdinal)
+                            && buffer.getLong(start) >= runFloor) {
+                        visitor.visit(buffer, start);
+                    }
+                });
+            }
+        }
+
+        private int resolve(String name) {
+            try {
+                flush();
+                loadNames();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read run history: " + directory, e);
+            }
+            return ids.getOrDefault(name, -1);
+        }
+    }
+
+    /**
+     * Calls to an endpoint and the time they took
+     */
+    public static final class Latency {
+        private int calls;
+        private long totalMicros;
+
+        private Latency(int calls, long totalMicros) {
+            this.calls = calls;
+            this.totalMicros = totalMicros;
+        }
+
+        public int getCalls() {
+            return calls;
+        }
+
+        public long getTotalMicros() {
+            return totalMicros;
+        }
+
+        public long getAverageMicros() {
+            return calls == 0 ? 0 : totalMicros / calls;
+        }
+    }
+
+    /**
+     * One test execution
+     */
+    public static final class Row {
+        private final long runId;
+        private final String testName;
+        private final Outcome outcome;
+        private final long durationMicros;
+        private final int retries;
+        private final Map<String, Latency> endpoints;
+
+        private Row(long runId, String testName, Outcome outcome, long durationMicros, int retries, Map<String, Latency> endpoints) {
+            this.runId = runId;
+            this.testName = testName;
+            this.outcome = outcome;
+            this.durationMicros = durationMicros;
+            this.retries = retries;
+            this.endpoints = endpoints;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public long getRunId() {
+            return runId;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public long getDurationMicros() {
+            return durationMicros;
+        }
+
+        public int getRetries() {
+            return retries;
+        }
+
+        public Map<String, Latency> getEndpoints() {
+            return endpoints;
+        }
+
+        /**
+         * Builder class for fluent row configuration
+         */
+        public static class Builder {
+            private String testName;
+            private Outcome outcome = Outcome.PASSED;
+            private long durationMicros;
+            private int retries;
+            private final Map<String, Latency> endpoints = new LinkedHashMap<>();
+
+            public Builder test(String testName) {
+                this.testName = testName;
+                return this;
+            }
+
+            public Builder outcome(Outcome outcome) {
+                this.outcome = outcome;
+                return this;
+            }
+
+            public Builder durationNanos(long durationNanos) {
+                this.durationMicros = durationNanos / 1000;
+                return this;
+            }
+
+            public Builder retries(int retries) {
+                this.retries = retries;
+                return this;
+            }
+
+            /**
+             * Calls made to an endpoint during the test and their total time
+             */
+            public Builder endpoint(String endpoint, int calls, long totalNanos) {
+                endpoints.put(endpoint, new Latency(calls, totalNanos / 1000));
+                return this;
+            }
+
+            private Row build(long runId) {
+                if (testName == null || testName.isEmpty()) {
+                    throw new IllegalArgumentException("Test name is required");
+                }
+                if (endpoints.size() > Short.MAX_VALUE) {
+                    throw new IllegalArgumentException("Too many endpoints: " + endpoints.size());
+                }
+                // Names are stored one per line
+                Map<String, Latency> cleaned = new LinkedHashMap<>();
+                endpoints.forEach((endpoint, latency) -> cleaned.put(endpoint.replace('\n', ' '), latency));
+                return new Row(runId, testName.replace('\n', ' '), outcome, durationMicros, retries, cleaned);
+            }
+        }
+    }
+
+    /**
+     * Statistics of one test over the selected runs
+     */
+    public static final class TestStats {
+        private final String testName;
+        private int runs;
+        private int failures;
+        private int skipped;
+        private long retries;
+        private int flips;
+        private Outcome last;
+        private long[] durations = new long[4];
+
+        private TestStats(String testName) {
+            this.testName = testName;
+        }
+
+        private void add(Outcome outcome, int rowRetries, long durationMicros) {
+            if (outcome == Outcome.SKIPPED) {
+                skipped++;
+                return;
+            }
+            if (last != null && last != outcome) {
+                flips++;
+            }
+            last = outcome;
+            if (outcome == Outcome.FAILED) {
+                failures++;
+            }
+            retries += rowRetries;
+            if (runs == durations.length) {
+                durations = Arrays.copyOf(durations, runs * 2);
+            }
+            durations[runs++] = durationMicros;
+        }
+
+        private TestStats finish() {
+            durations = Arrays.copyOf(durations, runs);
+            Arrays.sort(durations);
+            return this;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        /**
+         * Executions that passed or failed; skipped ones are counted separately
+         */
+        public int getRuns() {
+            return runs;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+
+        public long getRetries() {
+            return retries;
+        }
+
+        public double getFailureRate() {
+            return runs == 0 ? 0 : (double) failures / runs;
+        }
+
+        /**
+         * Times the outcome changed between consecutive executions
+         */
+        public int getFlips() {
+            return flips;
+        }
+
+        /**
+         * Share of consecutive executions with a different outcome: 0 for stable tests, 1 for ones that alternate
+         */
+        public double getFlakiness() {
+            return runs < 2 ? 0 : (double) flips / (runs - 1);
+        }
+
+        public long getMedianDurationMicros() {
+            return percentile(50);
+        }
+
+        public long getP95DurationMicros() {
+            return percentile(95);
+        }
+
+        private long percentile(int percent) {
+            if (durations.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percent / 100.0 * durations.length) - 1;
+            return durations[Math.max(index, 0)];
+        }
+    }
+}
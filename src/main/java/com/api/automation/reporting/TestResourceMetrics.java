@@ -0,0 +1,346 @@
+package com.api.automation.reporting;
+
+import com.api.automation.retry.RetryHandler;
+import com.api.automation.utils.JsonUtils;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Per-test wall time, thread CPU time and allocated bytes, with wall time split into network wait and local work
+ * Network wait is the time spent in request sends, measured by {@link #getNetworkTimer()}, which runs after the
+ * other registered filters; everything else (serialization, assertions, reporting) is local. Only the test's own
+ * thread is measured, so work it hands to other threads is not attributed to it. Sends are also timed per
+ * endpoint (method and path, with numeric and UUID segments as {id}), and RetryHandler retries are counted.
+ * Samples are written, slowest local time first, to {@value #SUMMARY_FILE} when the JVM exits.
+ */
+public class TestResourceMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestResourceMetrics.class);
+
+    public static final String SUMMARY_FILE = "target/test-metrics/summary.json";
+
+    private static final com.sun.management.ThreadMXBean threads = threadBean();
+    private static final ThreadLocal<Meter> meters = new ThreadLocal<>();
+    private static final Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+    private static final NetworkTimer networkTimer = new NetworkTimer();
+    private static final AtomicBoolean shutdownHookRegistered = new AtomicBoolean();
+    private static final Pattern ID_SEGMENT = Pattern.compile("/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private TestResourceMetrics() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (bean.isCurrentThreadCpuTimeSupported() && !bean.isThreadCpuTimeEnabled()) {
+            bean.setThreadCpuTimeEnabled(true);
+        }
+        if (bean.isThreadAllocatedMemorySupported() && !bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+
+    /**
+     * Filter timing request sends for the metered thread; register it after all other filters
+     */
+    public static OrderedFilter getNetworkTimer() {
+        return networkTimer;
+    }
+
+    /**
+     * Start metering the calling thread for a test
+     */
+    public static void start(String testName) {
+        Meter meter = new Meter(testName);
+        meters.set(meter);
+        meter.cpuStart = cpuTime();
+        meter.allocatedStart = allocatedBytes();
+        meter.retriesStart = RetryHandler.getRetryCount();
+        meter.wallStart = System.nanoTime();
+    }
+
+    /**
+     * Stop metering the calling thread and record its sample; null if it was not metered
+     */
+    public static Sample stop() {
+        long wallEnd = System.nanoTime();
+        long cpuEnd = cpuTime();
+        long allocatedEnd = allocatedBytes();
+        Meter meter = meters.get();
+        if (meter == null) {
+            return null;
+        }
+        meters.remove();
+        long wall = wallEnd - meter.wallStart;
+        Sample sample = new Sample(meter.testName, wall, Math.min(meter.networkNanos, wall), meter.requests,
+                meter.cpuStart < 0 ? -1 : cpuEnd - meter.cpuStart,
+                meter.allocatedStart < 0 ? -1 : allocatedEnd - meter.allocatedStart,
+                RetryHandler.getRetryCount() - meter.retriesStart,
+                meter.endpoints == null ? Collections.emptyMap() : Collections.unmodifiableMap(meter.endpoints));
+        samples.add(sample);
+        registerShutdownHook();
+        return sample;
+    }
+
+    /**
+     * Whether the calling thread is being metered
+     */
+    public static boolean isMetering() {
+        return meters.get() != null;
+    }
+
+    /**
+     * Samples recorded so far, slowest local time first
+     */
+    public static List<Sample> getSamples() {
+        List<Sample> sorted = new ArrayList<>(samples);
+        sorted.sort(Comparator.comparingLong(Sample::getLocalNanos).reversed());
+        return sorted;
+    }
+
+    /**
+     * Write the samples and their totals as JSON
+     */
+    public static void writeSummary(Path file) {
+        List<Sample> sorted = getSamples();
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("tests", sorted.size());
+        totals.put("wallNanos", sorted.stream().mapToLong(Sample::getWallNanos).sum());
+        totals.put("networkNanos", sorted.stream().mapToLong(Sample::getNetworkNanos).sum());
+        totals.put("localNanos", sorted.stream().mapToLong(Sample::getLocalNanos).sum());
+        totals.put("cpuNanos", sorted.stream().mapToLong(sample -> Math.max(sample.getCpuNanos(), 0)).sum());
+        totals.put("allocatedBytes", sorted.stream().mapToLong(sample -> Math.max(sample.getAllocatedBytes(), 0)).sum());
+        totals.put("requests", sorted.stream().mapToLong(Sample::getRequests).sum());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totals", totals);
+        summary.put("tests", sorted);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            JsonUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), summary);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write test metrics summary: " + file, e);
+        }
+    }
+
+    private static void registerShutdownHook() {
+        if (shutdownHookRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    writeSummary(Paths.get(SUMMARY_FILE));
+                } catch (RuntimeException e) {
+                    logger.error("Failed to write test metrics summary", e);
+                }
+            }, "test-metrics-summary"));
+        }
+    }
+
+    /**
+     * Endpoint key for a request: method and path, with id segments replaced so requests to one resource group together
+     */
+    public static String endpoint(String method, String uri) {
+        String path;
+        try {
+            path = URI.create(uri).getPath();
+        } catch (IllegalArgumentException e) {
+            path = uri;
+        }
+        return method + " " + ID_SEGMENT.matcher(path == null || path.isEmpty() ? "/" : path).replaceAll("/{id}");
+    }
+
+    private static long cpuTime() {
+        return threads != null && threads.isThreadCpuTimeEnabled() ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long allocatedBytes() {
+        return threads != null && threads.isThreadAllocatedMemoryEnabled() ? threads.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Running totals for the test on one thread
+     */
+    private static final class Meter {
+        private final String testName;
+        private long wallStart;
+        private long cpuStart;
+        private long allocatedStart;
+        private int retriesStart;
+        private long networkNanos;
+        private int requests;
+        private Map<String, EndpointTime> endpoints;
+
+        private Meter(String testName) {
+            this.testName = testName;
+        }
+    }
+
+    /**
+     * Times the rest of the chain, which is the send when this filter runs last
+     */
+    private static final class NetworkTimer implements OrderedFilter {
+
+        @Override
+        public int getOrder() {
+            return LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            Meter meter = meters.get();
+            if (meter == null) {
+                return ctx.next(requestSpec, responseSpec);
+            }
+            long start = System.nanoTime();
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                meter.networkNanos += elapsed;
+                meter.requests++;
+                if (meter.endpoints == null) {
+                    meter.endpoints = new LinkedHashMap<>();
+                }
+                EndpointTime time = meter.endpoints.computeIfAbsent(endpoint(requestSpec.getMethod(), requestSpec.getURI()),
+                        key -> new EndpointTime());
+                time.calls++;
+                time.totalNanos += elapsed;
+            }
+        }
+    }
+
+    /**
+     * Calls to one endpoint and the time spent in them
+     */
+    public static final class EndpointTime {
+        private int calls;
+        private long totalNanos;
+
+        public int getCalls() {
+            return calls;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getAverageNanos() {
+            return calls == 0 ? 0 : totalNanos / calls;
+        }
+    }
+
+    /**
+     * Resource use of one test; CPU time and allocated bytes are -1 where the JVM cannot measure them
+     */
+    public static final class Sample {
+        private final String testName;
+        private final long wallNanos;
+        private final long networkNanos;
+        private final int requests;
+        private final long cpuNanos;
+        private final long allocatedBytes;
+        private final int retries;
+        private final Map<String, EndpointTime> endpoints;
+
+        private Sample(String testName, long wallNanos, long networkNanos, int requests, long cpuNanos, long allocatedBytes,
+                       int retries, Map<String, EndpointTime> endpoints) {
+            this.testName = testName;
+            this.wallNanos = wallNanos;
+            this.networkNanos = networkNanos;
+            this.requests = requests;
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.retries = retries;
+            this.endpoints = endpoints;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        /**
+         * Time spent waiting on request sends
+         */
+        public long getNetworkNanos() {
+            return networkNanos;
+        }
+
+        /**
+         * Wall time outside request sends: serialization, assertions, reporting
+         */
+        public long getLocalNanos() {
+            return wallNanos - networkNanos;
+        }
+
+        /**
+         * Fraction of the wall time spent locally
+         */
+        public double getLocalShare() {
+            return wallNanos == 0 ? 0 : (double) getLocalNanos() / wallNanos;
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * RetryHandler retries made during the test
+         */
+        public int getRetries() {
+            return retries;
+        }
+
+        /**
+         * Send time per endpoint, in first-request order
+         */
+        public Map<String, EndpointTime> getEndpoints() {
+            return endpoints;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Resources: %.1f ms wall (network %.1f ms over %d requests, local %.1f ms), CPU %s, allocated %s",
+                    wallNanos / 1e6, networkNanos / 1e6, requests, getLocalNanos() / 1e6,
+                    cpuNanos < 0 ? "n/a" : String.format("%.1f ms", cpuNanos / 1e6),
+                    allocatedBytes < 0 ? "n/a" : String.format("%.1f KB", allocatedBytes / 1024.0));
+        }
+    }
+}
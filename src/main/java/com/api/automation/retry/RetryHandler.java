@@ -13,6 +13,14 @@ import java.util.function.Supplier;
 public class RetryHandler {
     private static final Logger logger = LoggerFactory.getLogger(RetryHandler.class);
     private static final ConfigManager config = ConfigManager.getInstance();
+    private static final ThreadLocal<int[]> retries = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Retries made on the calling thread so far; compare two readings to count the retries in between
+     */
+    public static int getRetryCount() {
+        return retries.get()[0];
+    }
 
     /**
      * Execute operation with retry logic
@@ -49,6 +57,7 @@ public class RetryHandler {
                     exceptionType, exceptionMessage);
                 
                 if (attempt < maxAttempts) {
+                    retries.get()[0]++;
                     try {
                         long waitTime = delayMs * attempt; // Exponential backoff
                         logger.debug("Waiting {}ms before retry", waitTime);
@@ -144,6 +153,7 @@ public class RetryHandler {
                 logger.warn("Operation failed on attempt {}/{}: {}", attempt, maxAttempts, e.getMessage());
                 
                 if (attempt < maxAttempts) {
+                    retries.get()[0]++;
                     try {
                         logger.debug("Waiting {}ms before retry", delayMs);
                         Thread.sleep(delayMs);
@@ -1,6 +1,7 @@
 package com.api.automation.services.billpay;
 
 import com.api.automation.auth.AuthHandler;
+import com.api.automation.auth.TokenIntrospector;
 import com.api.automation.client.BaseApiClient;
 import com.api.automation.models.billpay.ApiResponse;
 import com.api.automation.models.billpay.BillPayUser;
@@ -10,6 +11,8 @@ import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 /**
  * Auth Service for Bill Payment API authentication endpoints
  */
@@ -38,7 +41,7 @@ public class AuthService extends BaseApiClient {
     public TokenResponse getTokenAsObject(String clientId, String clientSecret) {
         Response response = getToken(clientId, clientSecret);
         response.then().statusCode(200);
-        return JsonUtils.jsonToObject(response.getBody().asString(), TokenResponse.class);
+        return JsonUtils.responseToObject(response, TokenResponse.class);
     }
 
     /**
@@ -85,16 +88,36 @@ public class AuthService extends BaseApiClient {
     public BillPayUser getCurrentUserAsObject() {
         Response response = getCurrentUser();
         response.then().statusCode(200);
-        ApiResponse<BillPayUser> apiResponse = ApiResponse.fromJson(response.getBody().asString(), BillPayUser.class);
+        ApiResponse<BillPayUser> apiResponse = ApiResponse.fromResponse(response, BillPayUser.class);
         return apiResponse.getData();
     }
 
     /**
      * Verify that authentication is working
+     * JWTs are checked locally; /v1/auth/me is only probed for opaque tokens or tokens close to expiry
      */
     public boolean isAuthenticated() {
+        return isAuthenticated(config.getAuthToken());
+    }
+
+    /**
+     * Verify that the given bearer token is usable
+     */
+    public boolean isAuthenticated(String token) {
+        TokenIntrospector.Status status = TokenIntrospector.evaluate(token,
+                Duration.ofSeconds(config.getTokenExpiryMarginSeconds()));
+        switch (status) {
+            case ACTIVE:
+                logger.debug("Token verified locally, skipping {} probe", AUTH_ME_ENDPOINT);
+                return true;
+            case INACTIVE:
+                logger.debug("Token is expired or not yet valid, skipping {} probe", AUTH_ME_ENDPOINT);
+                return false;
+            default:
+                break;
+        }
         try {
-            Response response = getCurrentUser();
+            Response response = getCurrentUserWithBearerToken(token);
             return response.getStatusCode() == 200;
         } catch (Exception e) {
             logger.error("Authentication check failed", e);
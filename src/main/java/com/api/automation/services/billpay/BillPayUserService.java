@@ -2,6 +2,7 @@ package com.api.automation.services.billpay;
 
 import com.api.automation.auth.AuthHandler;
 import com.api.automation.client.BaseApiClient;
+import com.api.automation.client.Pager;
 import com.api.automation.models.billpay.*;
 import com.api.automation.models.billpay.enums.KycStatus;
 import com.api.automation.utils.JsonUtils;
@@ -11,6 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * User Service for Bill Payment API user management endpoints
@@ -171,7 +173,7 @@ public class BillPayUserService extends BaseApiClient {
     public List<BillPayUser> getAllUsersAsList() {
         Response response = getAllUsers();
         response.then().statusCode(200);
-        ApiResponse<List<BillPayUser>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), BillPayUser.class);
+        ApiResponse<List<BillPayUser>> apiResponse = ApiResponse.fromResponseList(response, BillPayUser.class);
         return apiResponse.getData();
     }
 
@@ -181,7 +183,7 @@ public class BillPayUserService extends BaseApiClient {
     public BillPayUser getUserByIdAsObject(String userId) {
         Response response = getUserById(userId);
         response.then().statusCode(200);
-        ApiResponse<BillPayUser> apiResponse = ApiResponse.fromJson(response.getBody().asString(), BillPayUser.class);
+        ApiResponse<BillPayUser> apiResponse = ApiResponse.fromResponse(response, BillPayUser.class);
         return apiResponse.getData();
     }
 
@@ -191,7 +193,7 @@ public class BillPayUserService extends BaseApiClient {
     public BillPayUser createUserAndReturn(UserInput userInput) {
         Response response = createUser(userInput);
         response.then().statusCode(201);
-        ApiResponse<BillPayUser> apiResponse = ApiResponse.fromJson(response.getBody().asString(), BillPayUser.class);
+        ApiResponse<BillPayUser> apiResponse = ApiResponse.fromResponse(response, BillPayUser.class);
         return apiResponse.getData();
     }
 
@@ -201,7 +203,7 @@ public class BillPayUserService extends BaseApiClient {
     public List<Bill> getUserBillsAsList(String userId) {
         Response response = getUserBills(userId);
         response.then().statusCode(200);
-        ApiResponse<List<Bill>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), Bill.class);
+        ApiResponse<List<Bill>> apiResponse = ApiResponse.fromResponseList(response, Bill.class);
         return apiResponse.getData();
     }
 
@@ -211,7 +213,7 @@ public class BillPayUserService extends BaseApiClient {
     public List<PaymentMethod> getUserPaymentMethodsAsList(String userId) {
         Response response = getUserPaymentMethods(userId);
         response.then().statusCode(200);
-        ApiResponse<List<PaymentMethod>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), PaymentMethod.class);
+        ApiResponse<List<PaymentMethod>> apiResponse = ApiResponse.fromResponseList(response, PaymentMethod.class);
         return apiResponse.getData();
     }
 
@@ -221,7 +223,7 @@ public class BillPayUserService extends BaseApiClient {
     public List<Payment> getUserTransactionsAsList(String userId) {
         Response response = getUserTransactions(userId);
         response.then().statusCode(200);
-        ApiResponse<List<Payment>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), Payment.class);
+        ApiResponse<List<Payment>> apiResponse = ApiResponse.fromResponseList(response, Payment.class);
         return apiResponse.getData();
     }
 
@@ -232,4 +234,22 @@ public class BillPayUserService extends BaseApiClient {
         UserInput input = UserInput.simple(email, firstName, lastName, phone);
         return createUserAndReturn(input);
     }
+
+    // ============ Pagination ============
+
+    /**
+     * Page through all users lazily, one request per page
+     * Each page is fetched with its own client so request state is never shared between pages
+     */
+    public Pager<BillPayUser> pageUsers() {
+        return Pager.of((page, limit) -> new BillPayUserService().getUsers(page, limit), BillPayUser.class)
+                .idExtractor(BillPayUser::getId);
+    }
+
+    /**
+     * Stream all users with the given page size
+     */
+    public Stream<BillPayUser> streamUsers(int pageSize) {
+        return pageUsers().pageSize(pageSize).stream();
+    }
 }
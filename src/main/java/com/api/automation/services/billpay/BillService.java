@@ -2,6 +2,7 @@ package com.api.automation.services.billpay;
 
 import com.api.automation.auth.AuthHandler;
 import com.api.automation.client.BaseApiClient;
+import com.api.automation.client.Pager;
 import com.api.automation.models.billpay.*;
 import com.api.automation.models.billpay.enums.BillStatus;
 import com.api.automation.utils.JsonUtils;
@@ -10,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Bill Service for Bill Payment API bill management endpoints
@@ -199,7 +201,7 @@ public class BillService extends BaseApiClient {
     public List<Bill> getAllBillsAsList() {
         Response response = getAllBills();
         response.then().statusCode(200);
-        ApiResponse<List<Bill>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), Bill.class);
+        ApiResponse<List<Bill>> apiResponse = ApiResponse.fromResponseList(response, Bill.class);
         return apiResponse.getData();
     }
 
@@ -209,7 +211,7 @@ public class BillService extends BaseApiClient {
     public Bill getBillByIdAsObject(String billId) {
         Response response = getBillById(billId);
         response.then().statusCode(200);
-        ApiResponse<Bill> apiResponse = ApiResponse.fromJson(response.getBody().asString(), Bill.class);
+        ApiResponse<Bill> apiResponse = ApiResponse.fromResponse(response, Bill.class);
         return apiResponse.getData();
     }
 
@@ -219,7 +221,7 @@ public class BillService extends BaseApiClient {
     public Bill createBillAndReturn(BillInput billInput) {
         Response response = createBill(billInput);
         response.then().statusCode(201);
-        ApiResponse<Bill> apiResponse = ApiResponse.fromJson(response.getBody().asString(), Bill.class);
+        ApiResponse<Bill> apiResponse = ApiResponse.fromResponse(response, Bill.class);
         return apiResponse.getData();
     }
 
@@ -229,7 +231,7 @@ public class BillService extends BaseApiClient {
     public BillsSummary getBillsSummaryAsObject() {
         Response response = getBillsSummary();
         response.then().statusCode(200);
-        ApiResponse<BillsSummary> apiResponse = ApiResponse.fromJson(response.getBody().asString(), BillsSummary.class);
+        ApiResponse<BillsSummary> apiResponse = ApiResponse.fromResponse(response, BillsSummary.class);
         return apiResponse.getData();
     }
 
@@ -239,7 +241,33 @@ public class BillService extends BaseApiClient {
     public List<Bill> getOverdueBillsAsList() {
         Response response = getOverdueBills();
         response.then().statusCode(200);
-        ApiResponse<List<Bill>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), Bill.class);
+        ApiResponse<List<Bill>> apiResponse = ApiResponse.fromResponseList(response, Bill.class);
         return apiResponse.getData();
     }
+
+    // ============ Pagination ============
+
+    /**
+     * Page through all bills lazily, one request per page
+     * Each page is fetched with its own client so request state is never shared between pages
+     */
+    public Pager<Bill> pageBills() {
+        return Pager.of((page, limit) -> new BillService().getBills(page, limit), Bill.class)
+                .idExtractor(Bill::getId);
+    }
+
+    /**
+     * Stream all bills with the given page size
+     */
+    public Stream<Bill> streamBills(int pageSize) {
+        return pageBills().pageSize(pageSize).stream();
+    }
+
+    /**
+     * Fetch all bills, requesting the pages after the first concurrently
+     * Fails if inserts or deletes shifted the page boundaries while the pages were fetched
+     */
+    public List<Bill> getAllBillsParallel(int pageSize, int parallelism) {
+        return pageBills().pageSize(pageSize).fanOut(parallelism).requireConsistent().getItems();
+    }
 }
@@ -2,6 +2,7 @@ package com.api.automation.services.billpay;
 
 import com.api.automation.auth.AuthHandler;
 import com.api.automation.client.BaseApiClient;
+import com.api.automation.client.Pager;
 import com.api.automation.models.billpay.ApiResponse;
 import com.api.automation.models.billpay.Biller;
 import com.api.automation.models.billpay.BillerInput;
@@ -12,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Biller Service for Bill Payment API biller management endpoints
@@ -178,7 +180,7 @@ public class BillerService extends BaseApiClient {
     public List<Biller> getAllBillersAsList() {
         Response response = getAllBillers();
         response.then().statusCode(200);
-        ApiResponse<List<Biller>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), Biller.class);
+        ApiResponse<List<Biller>> apiResponse = ApiResponse.fromResponseList(response, Biller.class);
         return apiResponse.getData();
     }
 
@@ -188,7 +190,7 @@ public class BillerService extends BaseApiClient {
     public Biller getBillerByIdAsObject(String billerId) {
         Response response = getBillerById(billerId);
         response.then().statusCode(200);
-        ApiResponse<Biller> apiResponse = ApiResponse.fromJson(response.getBody().asString(), Biller.class);
+        ApiResponse<Biller> apiResponse = ApiResponse.fromResponse(response, Biller.class);
         return apiResponse.getData();
     }
 
@@ -198,7 +200,7 @@ public class BillerService extends BaseApiClient {
     public Biller createBillerAndReturn(BillerInput billerInput) {
         Response response = createBiller(billerInput);
         response.then().statusCode(201);
-        ApiResponse<Biller> apiResponse = ApiResponse.fromJson(response.getBody().asString(), Biller.class);
+        ApiResponse<Biller> apiResponse = ApiResponse.fromResponse(response, Biller.class);
         return apiResponse.getData();
     }
 
@@ -213,4 +215,30 @@ public class BillerService extends BaseApiClient {
             return false;
         }
     }
+
+    // ============ Pagination ============
+
+    /**
+     * Page through all billers lazily, one request per page
+     * Each page is fetched with its own client so request state is never shared between pages
+     */
+    public Pager<Biller> pageBillers() {
+        return Pager.of((page, limit) -> new BillerService().getBillers(page, limit), Biller.class)
+                .idExtractor(Biller::getId);
+    }
+
+    /**
+     * Stream all billers with the given page size
+     */
+    public Stream<Biller> streamBillers(int pageSize) {
+        return pageBillers().pageSize(pageSize).stream();
+    }
+
+    /**
+     * Fetch all billers, requesting the pages after the first concurrently
+     * Fails if inserts or deletes shifted the page boundaries while the pages were fetched
+     */
+    public List<Biller> getAllBillersParallel(int pageSize, int parallelism) {
+        return pageBillers().pageSize(pageSize).fanOut(parallelism).requireConsistent().getItems();
+    }
 }
@@ -2,6 +2,7 @@ package com.api.automation.services.billpay;
 
 import com.api.automation.auth.AuthHandler;
 import com.api.automation.client.BaseApiClient;
+import com.api.automation.client.Pager;
 import com.api.automation.models.billpay.ApiResponse;
 import com.api.automation.models.billpay.UploadedFile;
 import com.api.automation.utils.JsonUtils;
@@ -11,6 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * File Service for Bill Payment API file upload/download endpoints
@@ -201,7 +203,7 @@ public class FileService extends BaseApiClient {
     public List<UploadedFile> getAllFilesAsList() {
         Response response = getAllFiles();
         response.then().statusCode(200);
-        ApiResponse<List<UploadedFile>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), UploadedFile.class);
+        ApiResponse<List<UploadedFile>> apiResponse = ApiResponse.fromResponseList(response, UploadedFile.class);
         return apiResponse.getData();
     }
 
@@ -211,7 +213,7 @@ public class FileService extends BaseApiClient {
     public UploadedFile getFileByIdAsObject(String fileId) {
         Response response = getFileById(fileId);
         response.then().statusCode(200);
-        ApiResponse<UploadedFile> apiResponse = ApiResponse.fromJson(response.getBody().asString(), UploadedFile.class);
+        ApiResponse<UploadedFile> apiResponse = ApiResponse.fromResponse(response, UploadedFile.class);
         return apiResponse.getData();
     }
 
@@ -221,7 +223,7 @@ public class FileService extends BaseApiClient {
     public UploadedFile uploadFileAndReturn(File file) {
         Response response = uploadFile(file);
         response.then().statusCode(201);
-        ApiResponse<UploadedFile> apiResponse = ApiResponse.fromJson(response.getBody().asString(), UploadedFile.class);
+        ApiResponse<UploadedFile> apiResponse = ApiResponse.fromResponse(response, UploadedFile.class);
         return apiResponse.getData();
     }
 
@@ -231,7 +233,7 @@ public class FileService extends BaseApiClient {
     public List<UploadedFile> uploadMultipleFilesAndReturn(File... files) {
         Response response = uploadMultipleFiles(files);
         response.then().statusCode(201);
-        ApiResponse<List<UploadedFile>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), UploadedFile.class);
+        ApiResponse<List<UploadedFile>> apiResponse = ApiResponse.fromResponseList(response, UploadedFile.class);
         return apiResponse.getData();
     }
 
@@ -246,4 +248,22 @@ public class FileService extends BaseApiClient {
             return false;
         }
     }
+
+    // ============ Pagination ============
+
+    /**
+     * Page through all files lazily, one request per page
+     * Each page is fetched with its own client so request state is never shared between pages
+     */
+    public Pager<UploadedFile> pageFiles() {
+        return Pager.of((page, limit) -> new FileService().getFiles(page, limit), UploadedFile.class)
+                .idExtractor(UploadedFile::getId);
+    }
+
+    /**
+     * Stream all files with the given page size
+     */
+    public Stream<UploadedFile> streamFiles(int pageSize) {
+        return pageFiles().pageSize(pageSize).stream();
+    }
 }
@@ -58,7 +58,7 @@ public class HealthService extends BaseApiClient {
     public HealthResponse getHealthAsObject() {
         Response response = getHealth();
         response.then().statusCode(200);
-        return JsonUtils.jsonToObject(response.getBody().asString(), HealthResponse.class);
+        return JsonUtils.responseToObject(response, HealthResponse.class);
     }
 
     /**
@@ -67,7 +67,7 @@ public class HealthService extends BaseApiClient {
     public HealthResponse getDatabaseHealthAsObject() {
         Response response = getDatabaseHealth();
         response.then().statusCode(200);
-        return JsonUtils.jsonToObject(response.getBody().asString(), HealthResponse.class);
+        return JsonUtils.responseToObject(response, HealthResponse.class);
     }
 
     /**
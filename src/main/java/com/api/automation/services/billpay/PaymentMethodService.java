@@ -138,7 +138,7 @@ public class PaymentMethodService extends BaseApiClient {
     public List<PaymentMethod> getAllPaymentMethodsAsList() {
         Response response = getAllPaymentMethods();
         response.then().statusCode(200);
-        ApiResponse<List<PaymentMethod>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), PaymentMethod.class);
+        ApiResponse<List<PaymentMethod>> apiResponse = ApiResponse.fromResponseList(response, PaymentMethod.class);
         return apiResponse.getData();
     }
 
@@ -148,7 +148,7 @@ public class PaymentMethodService extends BaseApiClient {
     public PaymentMethod getPaymentMethodByIdAsObject(String paymentMethodId) {
         Response response = getPaymentMethodById(paymentMethodId);
         response.then().statusCode(200);
-        ApiResponse<PaymentMethod> apiResponse = ApiResponse.fromJson(response.getBody().asString(), PaymentMethod.class);
+        ApiResponse<PaymentMethod> apiResponse = ApiResponse.fromResponse(response, PaymentMethod.class);
         return apiResponse.getData();
     }
 
@@ -158,7 +158,7 @@ public class PaymentMethodService extends BaseApiClient {
     public PaymentMethod createPaymentMethodAndReturn(PaymentMethodInput input) {
         Response response = createPaymentMethod(input);
         response.then().statusCode(201);
-        ApiResponse<PaymentMethod> apiResponse = ApiResponse.fromJson(response.getBody().asString(), PaymentMethod.class);
+        ApiResponse<PaymentMethod> apiResponse = ApiResponse.fromResponse(response, PaymentMethod.class);
         return apiResponse.getData();
     }
 
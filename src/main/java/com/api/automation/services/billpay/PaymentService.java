@@ -2,6 +2,7 @@ package com.api.automation.services.billpay;
 
 import com.api.automation.auth.AuthHandler;
 import com.api.automation.client.BaseApiClient;
+import com.api.automation.client.Pager;
 import com.api.automation.models.billpay.*;
 import com.api.automation.models.billpay.enums.PaymentStatus;
 import com.api.automation.utils.JsonUtils;
@@ -12,6 +13,7 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Payment Service for Bill Payment API payment transaction endpoints
@@ -184,7 +186,7 @@ public class PaymentService extends BaseApiClient {
     public List<Payment> getAllPaymentsAsList() {
         Response response = getAllPayments();
         response.then().statusCode(200);
-        ApiResponse<List<Payment>> apiResponse = ApiResponse.fromJsonList(response.getBody().asString(), Payment.class);
+        ApiResponse<List<Payment>> apiResponse = ApiResponse.fromResponseList(response, Payment.class);
         return apiResponse.getData();
     }
 
@@ -194,7 +196,7 @@ public class PaymentService extends BaseApiClient {
     public Payment getPaymentByIdAsObject(String paymentId) {
         Response response = getPaymentById(paymentId);
         response.then().statusCode(200);
-        ApiResponse<Payment> apiResponse = ApiResponse.fromJson(response.getBody().asString(), Payment.class);
+        ApiResponse<Payment> apiResponse = ApiResponse.fromResponse(response, Payment.class);
         return apiResponse.getData();
     }
 
@@ -204,7 +206,7 @@ public class PaymentService extends BaseApiClient {
     public Payment createPaymentAndReturn(PaymentInput paymentInput) {
         Response response = createPayment(paymentInput);
         response.then().statusCode(201);
-        ApiResponse<Payment> apiResponse = ApiResponse.fromJson(response.getBody().asString(), Payment.class);
+        ApiResponse<Payment> apiResponse = ApiResponse.fromResponse(response, Payment.class);
         return apiResponse.getData();
     }
 
@@ -214,7 +216,7 @@ public class PaymentService extends BaseApiClient {
     public PaymentStats getPaymentStatsAsObject() {
         Response response = getPaymentStats();
         response.then().statusCode(200);
-        ApiResponse<PaymentStats> apiResponse = ApiResponse.fromJson(response.getBody().asString(), PaymentStats.class);
+        ApiResponse<PaymentStats> apiResponse = ApiResponse.fromResponse(response, PaymentStats.class);
         return apiResponse.getData();
     }
 
@@ -226,4 +228,30 @@ public class PaymentService extends BaseApiClient {
         PaymentInput input = PaymentInput.simple(billId, userId, paymentMethodId, amount);
         return createPaymentAndReturn(input);
     }
+
+    // ============ Pagination ============
+
+    /**
+     * Page through all payments lazily, one request per page
+     * Each page is fetched with its own client so request state is never shared between pages
+     */
+    public Pager<Payment> pagePayments() {
+        return Pager.of((page, limit) -> new PaymentService().getPayments(page, limit), Payment.class)
+                .idExtractor(Payment::getId);
+    }
+
+    /**
+     * Stream all payments with the given page size
+     */
+    public Stream<Payment> streamPayments(int pageSize) {
+        return pagePayments().pageSize(pageSize).stream();
+    }
+
+    /**
+     * Fetch all payments, requesting the pages after the first concurrently
+     * Fails if inserts or deletes shifted the page boundaries while the pages were fetched
+     */
+    public List<Payment> getAllPaymentsParallel(int pageSize, int parallelism) {
+        return pagePayments().pageSize(pageSize).fanOut(parallelism).requireConsistent().getItems();
+    }
 }
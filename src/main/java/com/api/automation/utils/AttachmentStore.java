@@ -0,0 +1,227 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed store for request/response bodies
+ * Bodies are keyed by their SHA-256 and written once, gzip-compressed, to {@code <dir>/<hash>.gz}; reporters
+ * (Extent, Allure, HAR) log the reference instead of embedding the same payload again. Bodies under
+ * {@code attachments.min.bytes} stay inline, since a reference would not be much smaller.
+ * Files are named by content, so one left by an earlier run is reused rather than rewritten.
+ */
+public class AttachmentStore {
+
+    public static final String DEFAULT_DIR = "target/attachments";
+
+    private static volatile AttachmentStore instance;
+    private static final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final int minBytes;
+    private final boolean enabled;
+    private final Set<String> known = ConcurrentHashMap.newKeySet();
+    private final AtomicLong bodies = new AtomicLong();
+    private final AtomicLong bodyBytes = new AtomicLong();
+    private final AtomicLong files = new AtomicLong();
+    private final AtomicLong fileBytes = new AtomicLong();
+
+    public AttachmentStore(Path directory, int minBytes, boolean enabled) {
+        this.directory = directory;
+        this.minBytes = minBytes;
+        this.enabled = enabled;
+    }
+
+    /**
+     * The run's shared store, configured by attachments.enabled and attachments.min.bytes
+     */
+    public static AttachmentStore getInstance() {
+        if (instance == null) {
+            synchronized (AttachmentStore.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    instance = new AttachmentStore(Paths.get(DEFAULT_DIR), config.getAttachmentMinBytes(),
+                            config.getBooleanProperty("attachments.enabled", true));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Store the body if it is large enough to be worth a reference; null means log it inline
+     */
+    public Ref storeIfLarge(String body) {
+        // A char is at most three UTF-8 bytes, so short strings are under the threshold without encoding
+        if (!enabled || body == null || body.length() * 3L < minBytes) {
+            return null;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return bytes.length < minBytes ? null : store(bytes);
+    }
+
+    /**
+     * Store the body if it is large enough to be worth a reference; null means log it inline
+     */
+    public Ref storeIfLarge(byte[] body) {
+        if (!enabled || body == null || body.length < minBytes) {
+            return null;
+        }
+        return store(body);
+    }
+
+    /**
+     * Store the body regardless of size, writing it only if its content has not been stored before
+     */
+    public Ref store(byte[] body) {
+        String hash = hash(body);
+        Path file = directory.resolve(hash + ".gz");
+        bodies.incrementAndGet();
+        bodyBytes.addAndGet(body.length);
+        if (known.add(hash) && !Files.exists(file)) {
+            write(file, body);
+        }
+        return new Ref(hash, body.length, file);
+    }
+
+    /**
+     * Decompressed content of a stored body
+     */
+    public byte[] read(String hash) {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(directory.resolve(hash + ".gz")))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read attachment: " + hash, e);
+        }
+    }
+
+    /**
+     * Bodies handed to the store, including repeats
+     */
+    public long getStoredCount() {
+        return bodies.get();
+    }
+
+    /**
+     * Uncompressed size of the bodies handed to the store, including repeats
+     */
+    public long getStoredBytes() {
+        return bodyBytes.get();
+    }
+
+    /**
+     * Files this store wrote
+     */
+    public long getWrittenCount() {
+        return files.get();
+    }
+
+    /**
+     * Compressed size of the files this store wrote
+     */
+    public long getWrittenBytes() {
+        return fileBytes.get();
+    }
+
+    private void write(Path file, byte[] body) {
+        try {
+            Files.createDirectories(directory);
+            // Write under a temporary name so readers never see a partial file
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), 8192)) {
+                out.write(body);
+            }
+            long size = Files.size(temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            files.incrementAndGet();
+            fileBytes.addAndGet(size);
+        } catch (IOException e) {
+            known.remove(hash(file));
+            throw new RuntimeException("Failed to store attachment: " + file, e);
+        }
+    }
+
+    private static String hash(Path file) {
+        return file.getFileName().toString().replaceFirst("\\.gz$", "");
+    }
+
+    private static String hash(byte[] body) {
+        MessageDigest digest = digests.get();
+        byte[] sum = digest.digest(body);
+        char[] hex = new char[sum.length * 2];
+        for (int i = 0; i < sum.length; i++) {
+            hex[i * 2] = HEX[(sum[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[sum[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Reference to a stored body
+     */
+    public static final class Ref {
+        private final String hash;
+        private final int size;
+        private final Path file;
+
+        private Ref(String hash, int size, Path file) {
+            this.hash = hash;
+            this.size = size;
+            this.file = file;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        /**
+         * Uncompressed size in bytes
+         */
+        public int getSize() {
+            return size;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * Path of the stored file relative to a report's directory, for links
+         */
+        public String relativeTo(Path reportDirectory) {
+            return reportDirectory.toAbsolutePath().normalize().relativize(file.toAbsolutePath().normalize())
+                    .toString().replace('\\', '/');
+        }
+
+        @Override
+        public String toString() {
+            return "sha256:" + hash + " (" + size + " bytes)";
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.api.automation.utils;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Thread-confined, reusable output buffer for request bodies
+ * Serializers write into the calling thread's buffer, so the only per-body allocation is the
+ * exact-length byte[] handed to the transport. Buffers that grew past {@link #MAX_RETAINED}
+ * are dropped on release, so one large bulk body does not pin memory on a worker thread.
+ */
+public class BodyBuffer extends OutputStream {
+    static final int INITIAL_SIZE = 8 * 1024;
+    static final int MAX_RETAINED = 1024 * 1024;
+
+    private static final ThreadLocal<BodyBuffer> buffers = ThreadLocal.withInitial(BodyBuffer::new);
+
+    private byte[] buf = new byte[INITIAL_SIZE];
+    private int count;
+    private boolean inUse;
+
+    /**
+     * Take the current thread's buffer, emptied; a nested acquire gets a fresh buffer instead
+     */
+    public static BodyBuffer acquire() {
+        BodyBuffer buffer = buffers.get();
+        if (buffer.inUse) {
+            return new BodyBuffer();
+        }
+        buffer.inUse = true;
+        buffer.count = 0;
+        return buffer;
+    }
+
+    /**
+     * Hand the buffer back to its thread
+     */
+    public void release() {
+        inUse = false;
+        count = 0;
+        if (buf.length > MAX_RETAINED) {
+            buf = new byte[INITIAL_SIZE];
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    /**
+     * Serializers close their target when done; the buffer stays usable until {@link #release()}
+     */
+    @Override
+    public void close() {
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Copy of the written bytes, exactly {@link #size()} long
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(capacity, buf.length << 1));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+import io.restassured.response.Response;
+
+/**
+ * Wire formats for request and response bodies
+ * JSON is the default; gateways that speak binary JSON can use CBOR or Smile with the same model classes.
+ * The format is chosen per environment with {@code api.body.format} (json, cbor or smile), which
+ * {@code -Dapi.body.format} overrides.
+ */
+public enum BodyFormat {
+    JSON("application/json"),
+    CBOR("application/cbor"),
+    SMILE("application/x-jackson-smile");
+
+    private final String mimeType;
+
+    BodyFormat(String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * Format configured for the current environment
+     */
+    public static BodyFormat configured() {
+        String format = System.getProperty("api.body.format");
+        if (format == null || format.isEmpty()) {
+            format = ConfigManager.getInstance().getSnapshot().get("api.body.format");
+        }
+        return fromName(format);
+    }
+
+    /**
+     * Parse a format name; null or empty means JSON
+     */
+    public static BodyFormat fromName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return JSON;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown body format: " + name + " (expected json, cbor or smile)");
+        }
+    }
+
+    /**
+     * Format for a Content-Type header value; anything that is not CBOR or Smile is treated as JSON
+     */
+    public static BodyFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        int parameters = contentType.indexOf(';');
+        String mime = (parameters >= 0 ? contentType.substring(0, parameters) : contentType).trim();
+        for (BodyFormat format : values()) {
+            if (format.mimeType.equalsIgnoreCase(mime)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Format of a response body, from its Content-Type
+     */
+    public static BodyFormat of(Response response) {
+        return fromContentType(response.getContentType());
+    }
+}
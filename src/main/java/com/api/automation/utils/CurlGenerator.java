@@ -16,13 +16,14 @@ import java.util.Map;
 /**
  * Utility class to generate cURL commands from REST API requests
  * Useful for debugging failed tests by reproducing the exact request
+ * Enabling is per thread, so one generator can be shared by parallel tests; scripts are written by the
+ * {@link DebugArtifactWriter} thread rather than inline on the test thread.
  */
 public class CurlGenerator implements Filter {
     
     private static final Logger logger = LoggerFactory.getLogger(CurlGenerator.class);
     private static final String CURL_OUTPUT_DIR = "target/curl-commands";
-    private boolean enableCurlGeneration = false;
-    private String testName = "";
+    private final ThreadLocal<String> testName = new ThreadLocal<>();
     
     public CurlGenerator() {
         // Create curl output directory
@@ -30,17 +31,22 @@ public class CurlGenerator implements Filter {
     }
     
     public CurlGenerator enableForTest(String testName) {
-        this.enableCurlGeneration = true;
-        this.testName = testName;
+        this.testName.set(testName);
         return this;
     }
     
     public CurlGenerator disable() {
-        this.enableCurlGeneration = false;
-        this.testName = "";
+        this.testName.remove();
         return this;
     }
     
+    /**
+     * Whether generation is enabled on the calling thread
+     */
+    public boolean isEnabled() {
+        return testName.get() != null;
+    }
+    
     @Override
     public Response filter(FilterableRequestSpecification requestSpec, 
                           FilterableResponseSpecification responseSpec, 
@@ -48,10 +54,12 @@ public class CurlGenerator implements Filter {
         
         Response response = ctx.next(requestSpec, responseSpec);
         
-        // Generate curl command if enabled and test failed
-        if (enableCurlGeneration && (response.getStatusCode() >= 400 || isTestFailed())) {
-            String curlCommand = generateCurlCommand(requestSpec);
-            saveCurlCommand(curlCommand, testName, response.getStatusCode());
+        // Generate curl command if enabled on this thread and test failed
+        String testName = this.testName.get();
+        if (testName != null && (response.getStatusCode() >= 400 || isTestFailed())) {
+            int statusCode = response.getStatusCode();
+            DebugArtifactWriter.getInstance().submit("cURL command for " + testName,
+                () -> saveCurlCommand(generateCurlCommand(requestSpec), testName, statusCode));
         }
         
         return response;
@@ -82,20 +90,15 @@ public class CurlGenerator implements Filter {
         }
         
         // Add body if present
-        String body = requestSpec.getBody();
+        String body = JsonUtils.bodyToString(requestSpec.getBody(), requestSpec.getContentType());
         if (body != null && !body.isEmpty()) {
             // Escape quotes and format JSON
             String escapedBody = body.replace("\"", "\\\"").replace("\n", "").replace("\r", "");
             curl.append(" -d \"").append(escapedBody).append("\"");
         }
         
-        // Add URL
-        String baseUri = requestSpec.getBaseUri();
-        String basePath = requestSpec.getBasePath() != null ? requestSpec.getBasePath() : "";
-        String uri = requestSpec.getURI();
-        
-        String fullUrl = baseUri + basePath + uri;
-        curl.append(" \"").append(fullUrl).append("\"");
+        // Add URL (getURI() is already absolute, including base URI, base path and query string)
+        curl.append(" \"").append(requestSpec.getURI()).append("\"");
         
         return curl.toString();
     }
@@ -0,0 +1,147 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background writer for debug artifacts (curl scripts, HAR files, reports)
+ * Artifacts are written by one daemon thread from a bounded queue, so test threads never block on disk I/O.
+ * When the queue is full the artifact is dropped and counted rather than slowing the run down. The shared
+ * writer sizes its queue from {@code debug.writer.queue.size} and is flushed by a shutdown hook.
+ */
+public class DebugArtifactWriter {
+    private static final Logger logger = LoggerFactory.getLogger(DebugArtifactWriter.class);
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final long SHUTDOWN_FLUSH_MS = 10_000;
+
+    private static volatile DebugArtifactWriter instance;
+
+    private final ThreadPoolExecutor executor;
+    private final Object idleLock = new Object();
+    private final AtomicLong dropped = new AtomicLong();
+    private int pending;
+
+    public DebugArtifactWriter(int queueSize) {
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Queue size must be at least 1: " + queueSize);
+        }
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), r -> {
+            Thread thread = new Thread(r, "debug-artifact-writer-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The shared writer
+     */
+    public static DebugArtifactWriter getInstance() {
+        if (instance == null) {
+            synchronized (DebugArtifactWriter.class) {
+                if (instance == null) {
+                    DebugArtifactWriter writer = new DebugArtifactWriter(ConfigManager.getInstance().getDebugWriterQueueSize());
+                    Runtime.getRuntime().addShutdownHook(new Thread(
+                            () -> writer.awaitIdle(Duration.ofMillis(SHUTDOWN_FLUSH_MS)), "debug-artifact-flush"));
+                    instance = writer;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Work that writes one artifact
+     */
+    @FunctionalInterface
+    public interface ArtifactTask {
+        void write() throws Exception;
+    }
+
+    /**
+     * Queue an artifact for writing; returns false if the queue was full and the artifact was dropped
+     */
+    public boolean submit(String description, ArtifactTask task) {
+        synchronized (idleLock) {
+            pending++;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.write();
+                } catch (Exception e) {
+                    logger.error("Failed to write debug artifact: {}", description, e);
+                } finally {
+                    done();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            done();
+            long count = dropped.incrementAndGet();
+            logger.warn("Debug artifact queue full, dropped: {} ({} dropped so far)", description, count);
+            return false;
+        }
+    }
+
+    /**
+     * Wait until every queued artifact has been written; returns false on timeout
+     */
+    public boolean awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (idleLock) {
+            while (pending > 0) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    idleLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Artifacts dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Artifacts queued or being written
+     */
+    public int getPendingCount() {
+        synchronized (idleLock) {
+            return pending;
+        }
+    }
+
+    /**
+     * Write what is already queued, then stop the writer thread
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void done() {
+        synchronized (idleLock) {
+            if (--pending == 0) {
+                idleLock.notifyAll();
+            }
+        }
+    }
+}
@@ -8,21 +8,24 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Debug utility that automatically generates curl commands and HAR files for failed tests
  * This helps in debugging API test failures by providing reproducible requests
+ * Debug mode and the current test name are per thread, so parallel tests keep their own context. Artifacts are
+ * rendered and written by the {@link DebugArtifactWriter} thread; the test thread only queues them.
  */
 public class DebugUtils {
     
     private static final Logger logger = LoggerFactory.getLogger(DebugUtils.class);
     private static final String DEBUG_OUTPUT_DIR = "target/debug-output";
-    private static final DateTimeFormatter timestampFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    private static final DateTimeFormatter timestampFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss-SSS");
     
-    private static boolean debugEnabled = false;
-    private static String currentTestName = "";
+    private static final ThreadLocal<String> currentTestName = new ThreadLocal<>();
     
     static {
         // Create debug output directory
@@ -33,28 +36,33 @@ public class DebugUtils {
     }
     
     /**
-     * Enable debug mode for a specific test
+     * Enable debug mode for a specific test on the calling thread
      */
     public static void enableDebugForTest(String testName) {
-        debugEnabled = true;
-        currentTestName = testName;
+        currentTestName.set(testName);
         logger.info("Debug mode enabled for test: {}", testName);
     }
     
     /**
-     * Disable debug mode
+     * Disable debug mode on the calling thread
      */
     public static void disableDebug() {
-        debugEnabled = false;
-        currentTestName = "";
+        currentTestName.remove();
         logger.info("Debug mode disabled");
     }
     
     /**
-     * Check if debug mode is enabled
+     * Check if debug mode is enabled on the calling thread
      */
     public static boolean isDebugEnabled() {
-        return debugEnabled;
+        return currentTestName.get() != null;
+    }
+    
+    /**
+     * Test the calling thread is debugging, or null
+     */
+    public static String getCurrentTestName() {
+        return currentTestName.get();
     }
     
     /**
@@ -62,118 +70,154 @@ public class DebugUtils {
      */
     public static void generateDebugArtifacts(FilterableRequestSpecification requestSpec, 
                                             Response response, String testName, Throwable error) {
-        if (!debugEnabled) {
+        if (!isDebugEnabled()) {
             return;
         }
         
-        try {
-            String timestamp = LocalDateTime.now().format(timestampFormatter);
-            String baseFileName = String.format("%s_%s_%d", 
-                sanitizeFileName(testName), timestamp, response.getStatusCode());
-            
-            // Generate cURL command
-            String curlCommand = CurlGenerator.generateCurlCommand(requestSpec);
-            saveCurlCommand(curlCommand, baseFileName, response.getStatusCode(), error);
+        long endTime = System.currentTimeMillis();
+        writeArtifacts(testName, List.of(RequestRecorder.Exchange.of(requestSpec, response, endTime - response.getTime(), endTime)),
+            1, error);
+    }
+    
+    /**
+     * Queue curl, HAR and report artifacts for a failed test's recorded requests
+     * The report details the last request and lists the others; returns the base file name the artifacts
+     * are written under (in curl/, har/ and reports/), or null if nothing was recorded.
+     */
+    public static String materialize(RequestRecorder.Recording recording, Throwable error) {
+        if (recording == null || recording.getExchanges().isEmpty()) {
+            return null;
+        }
+        return writeArtifacts(recording.getTestName(), recording.getExchanges(), recording.getTotalRequests(), error);
+    }
+    
+    private static String writeArtifacts(String testName, List<RequestRecorder.Exchange> exchanges, long totalRequests,
+                                         Throwable error) {
+        RequestRecorder.Exchange failed = exchanges.get(exchanges.size() - 1);
+        String timestamp = LocalDateTime.now().format(timestampFormatter);
+        String baseFileName = String.format("%s_%s_%d", 
+            sanitizeFileName(testName), timestamp, failed.getResponse().getStatusCode());
+        
+        DebugArtifactWriter.getInstance().submit("debug artifacts for " + testName, () -> {
+            // Generate cURL commands
+            saveCurlCommands(exchanges, baseFileName, testName, error);
             
             // Generate HAR file
-            HarGenerator.saveAsHar(baseFileName, requestSpec, response);
+            try (HarWriter writer = new HarWriter(Paths.get(DEBUG_OUTPUT_DIR, "har", baseFileName + ".har"))) {
+                for (RequestRecorder.Exchange exchange : exchanges) {
+                    writer.write(exchange.getRequest(), exchange.getResponse(), exchange.getStartTime(), exchange.getEndTime());
+                }
+            }
             
             // Generate debug report
-            generateDebugReport(baseFileName, requestSpec, response, error);
+            generateDebugReport(baseFileName, testName, exchanges, totalRequests, error);
             
             logger.info("Debug artifacts generated for failed test: {} in directory: {}", 
                 testName, DEBUG_OUTPUT_DIR);
-            
-        } catch (Exception e) {
-            logger.error("Failed to generate debug artifacts for test: {}", testName, e);
-        }
+        });
+        return baseFileName;
     }
     
     /**
      * Generate a comprehensive debug report
      */
-    private static void generateDebugReport(String baseFileName, FilterableRequestSpecification requestSpec, 
-                                          Response response, Throwable error) {
+    private static void generateDebugReport(String baseFileName, String testName, List<RequestRecorder.Exchange> exchanges,
+                                          long totalRequests, Throwable error) {
         try {
+            RequestRecorder.Exchange failed = exchanges.get(exchanges.size() - 1);
+            FilterableRequestSpecification requestSpec = failed.getRequest();
+            Response response = failed.getResponse();
             StringBuilder report = new StringBuilder();
             
             // Header
-            report.append("# Debug Report for Test Failure\\n");
-            report.append("**Generated at:** ").append(LocalDateTime.now()).append("\\n");
-            report.append("**Test Name:** ").append(currentTestName).append("\\n");
-            report.append("**Status Code:** ").append(response.getStatusCode()).append("\\n\\n");
+            report.append("# Debug Report for Test Failure\n");
+            report.append("**Generated at:** ").append(LocalDateTime.now()).append("\n");
+            report.append("**Test Name:** ").append(testName).append("\n");
+            report.append("**Status Code:** ").append(response.getStatusCode()).append("\n\n");
             
             // Error Information
             if (error != null) {
-                report.append("## Error Details\\n");
-                report.append("**Error Type:** ").append(error.getClass().getSimpleName()).append("\\n");
-                report.append("**Error Message:** ").append(error.getMessage()).append("\\n");
+                report.append("## Error Details\n");
+                report.append("**Error Type:** ").append(error.getClass().getSimpleName()).append("\n");
+                report.append("**Error Message:** ").append(error.getMessage()).append("\n");
                 
                 if (error.getCause() != null) {
-                    report.append("**Root Cause:** ").append(error.getCause().getMessage()).append("\\n");
+                    report.append("**Root Cause:** ").append(error.getCause().getMessage()).append("\n");
                 }
-                report.append("\\n");
+                report.append("\n");
             }
             
             // Request Details
-            report.append("## Request Details\\n");
-            report.append("**Method:** ").append(requestSpec.getMethod()).append("\\n");
-            report.append("**URL:** ").append(requestSpec.getBaseUri())
-                  .append(requestSpec.getBasePath() != null ? requestSpec.getBasePath() : "")
-                  .append(requestSpec.getURI()).append("\\n");
+            report.append("## Request Details\n");
+            report.append("**Method:** ").append(requestSpec.getMethod()).append("\n");
+            report.append("**URL:** ").append(requestSpec.getURI()).append("\n");
             
             // Request Headers
             if (!requestSpec.getHeaders().asList().isEmpty()) {
-                report.append("**Headers:**\\n");
+                report.append("**Headers:**\n");
                 requestSpec.getHeaders().asList().forEach(header -> 
-                    report.append("  - ").append(header.getName()).append(": ").append(header.getValue()).append("\\n"));
+                    report.append("  - ").append(header.getName()).append(": ").append(header.getValue()).append("\n"));
             }
             
             // Request Body
-            String requestBody = requestSpec.getBody();
+            String requestBody = JsonUtils.bodyToString(requestSpec.getBody(), requestSpec.getContentType());
             if (requestBody != null && !requestBody.isEmpty()) {
-                report.append("**Request Body:**\\n");
-                report.append("```json\\n").append(requestBody).append("\\n```\\n\\n");
+                report.append("**Request Body:**\n");
+                report.append("```json\n").append(requestBody).append("\n```\n\n");
             }
             
             // Response Details
-            report.append("## Response Details\\n");
-            report.append("**Status Code:** ").append(response.getStatusCode()).append("\\n");
-            report.append("**Status Line:** ").append(response.getStatusLine()).append("\\n");
-            report.append("**Content Type:** ").append(response.getContentType()).append("\\n");
-            report.append("**Response Time:** ").append(response.getTime()).append(" ms\\n");
+            report.append("## Response Details\n");
+            report.append("**Status Code:** ").append(response.getStatusCode()).append("\n");
+            report.append("**Status Line:** ").append(response.getStatusLine()).append("\n");
+            report.append("**Content Type:** ").append(response.getContentType()).append("\n");
+            report.append("**Response Time:** ").append(failed.getEndTime() - failed.getStartTime()).append(" ms\n");
             
             // Response Headers
             if (!response.getHeaders().asList().isEmpty()) {
-                report.append("**Response Headers:**\\n");
+                report.append("**Response Headers:**\n");
                 response.getHeaders().asList().forEach(header -> 
-                    report.append("  - ").append(header.getName()).append(": ").append(header.getValue()).append("\\n"));
+                    report.append("  - ").append(header.getName()).append(": ").append(header.getValue()).append("\n"));
             }
             
             // Response Body
             String responseBody = response.getBody().asString();
             if (responseBody != null && !responseBody.isEmpty()) {
-                report.append("**Response Body:**\\n");
+                report.append("**Response Body:**\n");
                 if (response.getContentType() != null && response.getContentType().contains("json")) {
-                    report.append("```json\\n").append(responseBody).append("\\n```\\n\\n");
+                    report.append("```json\n").append(responseBody).append("\n```\n\n");
                 } else {
-                    report.append("```\\n").append(responseBody).append("\\n```\\n\\n");
+                    report.append("```\n").append(responseBody).append("\n```\n\n");
+                }
+            }
+            
+            // Requests leading up to the failure
+            if (exchanges.size() > 1) {
+                report.append("## Recorded Requests\n");
+                report.append("Last ").append(exchanges.size()).append(" of ").append(totalRequests).append(" requests, oldest first:\n");
+                for (int i = 0; i < exchanges.size(); i++) {
+                    RequestRecorder.Exchange exchange = exchanges.get(i);
+                    report.append(i + 1).append(". `").append(exchange.getRequest().getMethod()).append(' ')
+                          .append(exchange.getRequest().getURI()).append("` -> ")
+                          .append(exchange.getResponse().getStatusCode()).append(" (")
+                          .append(exchange.getEndTime() - exchange.getStartTime()).append(" ms)\n");
                 }
+                report.append("\n");
             }
             
             // Troubleshooting Tips
-            report.append("## Troubleshooting Tips\\n");
-            report.append("1. **Reproduce the request:** Use the generated cURL command in `curl/").append(baseFileName).append(".sh`\\n");
-            report.append("2. **Analyze in browser:** Import the HAR file from `har/").append(baseFileName).append(".har` into browser dev tools\\n");
-            report.append("3. **Check status code:** ").append(getStatusCodeSuggestion(response.getStatusCode())).append("\\n");
-            report.append("4. **Validate request format:** Ensure headers and body format match API expectations\\n");
-            report.append("5. **Check authentication:** Verify tokens, API keys, or credentials are valid\\n\\n");
+            report.append("## Troubleshooting Tips\n");
+            report.append("1. **Reproduce the request:** Use the generated cURL command in `curl/").append(baseFileName).append(".sh`\n");
+            report.append("2. **Analyze in browser:** Import the HAR file from `har/").append(baseFileName).append(".har` into browser dev tools\n");
+            report.append("3. **Check status code:** ").append(getStatusCodeSuggestion(response.getStatusCode())).append("\n");
+            report.append("4. **Validate request format:** Ensure headers and body format match API expectations\n");
+            report.append("5. **Check authentication:** Verify tokens, API keys, or credentials are valid\n\n");
             
             // Related Files
-            report.append("## Related Debug Files\\n");
-            report.append("- **cURL Command:** `curl/").append(baseFileName).append(".sh`\\n");
-            report.append("- **HAR File:** `har/").append(baseFileName).append(".har`\\n");
-            report.append("- **This Report:** `reports/").append(baseFileName).append(".md`\\n");
+            report.append("## Related Debug Files\n");
+            report.append("- **cURL Command:** `curl/").append(baseFileName).append(".sh`\n");
+            report.append("- **HAR File:** `har/").append(baseFileName).append(".har`\n");
+            report.append("- **This Report:** `reports/").append(baseFileName).append(".md`\n");
             
             // Save the report
             String reportPath = DEBUG_OUTPUT_DIR + "/reports/" + baseFileName + ".md";
@@ -185,35 +229,44 @@ public class DebugUtils {
     }
     
     /**
-     * Save cURL command with additional debug info
+     * Save cURL commands for the recorded requests, oldest first, with additional debug info
      */
-    private static void saveCurlCommand(String curlCommand, String baseFileName, int statusCode, Throwable error) {
+    private static void saveCurlCommands(List<RequestRecorder.Exchange> exchanges, String baseFileName, String testName,
+                                         Throwable error) {
         try {
+            int statusCode = exchanges.get(exchanges.size() - 1).getResponse().getStatusCode();
             StringBuilder curlScript = new StringBuilder();
-            curlScript.append("#!/bin/bash\\n");
-            curlScript.append("# Debug cURL command for failed test: ").append(currentTestName).append("\\n");
-            curlScript.append("# Status Code: ").append(statusCode).append("\\n");
-            curlScript.append("# Generated at: ").append(LocalDateTime.now()).append("\\n");
+            curlScript.append("#!/bin/bash\n");
+            curlScript.append("# Debug cURL command for failed test: ").append(testName).append("\n");
+            curlScript.append("# Status Code: ").append(statusCode).append("\n");
+            curlScript.append("# Generated at: ").append(LocalDateTime.now()).append("\n");
             
             if (error != null) {
-                curlScript.append("# Error: ").append(error.getMessage()).append("\\n");
+                curlScript.append("# Error: ").append(error.getMessage()).append("\n");
             }
             
-            curlScript.append("\\n");
-            curlScript.append("echo 'Reproducing failed request...'\\n");
-            curlScript.append("echo 'Original Status Code: ").append(statusCode).append("'\\n");
-            curlScript.append("echo ''\\n");
-            curlScript.append("\\n");
+            curlScript.append("\n");
+            curlScript.append("echo 'Reproducing failed request...'\n");
+            curlScript.append("echo 'Original Status Code: ").append(statusCode).append("'\n");
+            curlScript.append("echo ''\n");
             
-            // Add the actual curl command
-            curlScript.append(curlCommand);
-            
-            // Add some debugging options
-            curlScript.append(" \\\\\\n");
-            curlScript.append("  --verbose \\\\\\n");
-            curlScript.append("  --include \\\\\\n");
-            curlScript.append("  --location \\\\\\n");
-            curlScript.append("  --max-time 30\\n");
+            for (int i = 0; i < exchanges.size(); i++) {
+                RequestRecorder.Exchange exchange = exchanges.get(i);
+                curlScript.append("\n");
+                curlScript.append("# [").append(i + 1).append('/').append(exchanges.size()).append("] ")
+                          .append(exchange.getRequest().getMethod()).append(' ').append(exchange.getRequest().getURI())
+                          .append(" -> ").append(exchange.getResponse().getStatusCode()).append("\n");
+                
+                // Add the actual curl command
+                curlScript.append(CurlGenerator.generateCurlCommand(exchange.getRequest()));
+                
+                // Add some debugging options
+                curlScript.append(" \\\n");
+                curlScript.append("  --verbose \\\n");
+                curlScript.append("  --include \\\n");
+                curlScript.append("  --location \\\n");
+                curlScript.append("  --max-time 30\n");
+            }
             
             String curlPath = DEBUG_OUTPUT_DIR + "/curl/" + baseFileName + ".sh";
             saveToFile(curlPath, curlScript.toString());
@@ -268,12 +321,17 @@ public class DebugUtils {
     
     /**
      * Generate debug session summary
+     * Written after the artifacts already queued, so the counts include them
      */
     public static void generateSessionSummary() {
-        if (!debugEnabled) {
+        String testName = currentTestName.get();
+        if (testName == null) {
             return;
         }
-        
+        DebugArtifactWriter.getInstance().submit("debug session summary", () -> writeSessionSummary(testName));
+    }
+    
+    private static void writeSessionSummary(String testName) {
         try {
             File debugDir = new File(DEBUG_OUTPUT_DIR);
             if (!debugDir.exists()) {
@@ -281,24 +339,24 @@ public class DebugUtils {
             }
             
             StringBuilder summary = new StringBuilder();
-            summary.append("# Debug Session Summary\\n");
-            summary.append("**Session for test:** ").append(currentTestName).append("\\n");
-            summary.append("**Generated at:** ").append(LocalDateTime.now()).append("\\n\\n");
+            summary.append("# Debug Session Summary\n");
+            summary.append("**Session for test:** ").append(testName).append("\n");
+            summary.append("**Generated at:** ").append(LocalDateTime.now()).append("\n\n");
             
             // Count files in each directory
             File curlDir = new File(DEBUG_OUTPUT_DIR + "/curl");
             File harDir = new File(DEBUG_OUTPUT_DIR + "/har");
             File reportsDir = new File(DEBUG_OUTPUT_DIR + "/reports");
             
-            summary.append("## Generated Artifacts\\n");
-            summary.append("- **cURL Commands:** ").append(countFiles(curlDir)).append("\\n");
-            summary.append("- **HAR Files:** ").append(countFiles(harDir)).append("\\n");
-            summary.append("- **Debug Reports:** ").append(countFiles(reportsDir)).append("\\n\\n");
+            summary.append("## Generated Artifacts\n");
+            summary.append("- **cURL Commands:** ").append(countFiles(curlDir)).append("\n");
+            summary.append("- **HAR Files:** ").append(countFiles(harDir)).append("\n");
+            summary.append("- **Debug Reports:** ").append(countFiles(reportsDir)).append("\n\n");
             
-            summary.append("## Usage Instructions\\n");
-            summary.append("1. Run cURL commands from the `curl/` directory to reproduce requests\\n");
-            summary.append("2. Import HAR files from the `har/` directory into browser dev tools\\n");
-            summary.append("3. Review detailed debug reports in the `reports/` directory\\n");
+            summary.append("## Usage Instructions\n");
+            summary.append("1. Run cURL commands from the `curl/` directory to reproduce requests\n");
+            summary.append("2. Import HAR files from the `har/` directory into browser dev tools\n");
+            summary.append("3. Review detailed debug reports in the `reports/` directory\n");
             
             String summaryPath = DEBUG_OUTPUT_DIR + "/debug_session_summary.md";
             saveToFile(summaryPath, summary.toString());
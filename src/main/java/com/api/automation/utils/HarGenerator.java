@@ -1,8 +1,6 @@
 package com.api.automation.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.api.automation.reporting.CapturePolicy;
 import io.restassured.filter.Filter;
 import io.restassured.filter.FilterContext;
 import io.restassured.response.Response;
@@ -12,250 +10,125 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.time.Instant;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Utility class to generate HAR (HTTP Archive) files from REST API requests
  * HAR files can be imported into browser dev tools for detailed analysis
+ * Capture is per thread: enableForTest() starts a HAR file for the calling thread's test, requests made on
+ * that thread are streamed into it by a {@link HarWriter}, and disable() finishes it. Parallel tests sharing
+ * one generator therefore each get their own file, and memory does not grow with the number of requests.
+ * The {@link CapturePolicy} decides per request whether an entry is recorded in full, as a summary, or not at all.
  */
 public class HarGenerator implements Filter {
     
     private static final Logger logger = LoggerFactory.getLogger(HarGenerator.class);
     private static final String HAR_OUTPUT_DIR = "target/har-files";
-    private static final ObjectMapper objectMapper = new ObjectMapper();
     
-    private boolean enableHarGeneration = false;
-    private String testName = "";
-    private List<ObjectNode> entries = new ArrayList<>();
+    private final ThreadLocal<HarWriter> writers = new ThreadLocal<>();
+    private final int maxBodyBytes;
+    private final boolean spillBodies;
+    private CapturePolicy policy = CapturePolicy.getInstance();
     
     public HarGenerator() {
+        this(HarWriter.configuredMaxBodyBytes(), HarWriter.configuredSpill());
+    }
+    
+    /**
+     * Generator with an explicit body cap instead of har.body.max.bytes / har.body.spill
+     */
+    public HarGenerator(int maxBodyBytes, boolean spillBodies) {
+        this.maxBodyBytes = maxBodyBytes;
+        this.spillBodies = spillBodies;
         // Create HAR output directory
         new File(HAR_OUTPUT_DIR).mkdirs();
     }
     
-    public HarGenerator enableForTest(String testName) {
-        this.enableHarGeneration = true;
-        this.testName = testName;
-        this.entries.clear();
+    /**
+     * Decide per request with this policy instead of the configured one
+     */
+    public HarGenerator withCapturePolicy(CapturePolicy policy) {
+        this.policy = policy;
         return this;
     }
     
-    public HarGenerator disable() {
-        if (enableHarGeneration && !entries.isEmpty()) {
-            generateHarFile();
-        }
-        this.enableHarGeneration = false;
-        this.testName = "";
-        this.entries.clear();
+    /**
+     * Start capturing the calling thread's requests into a new HAR file for the test
+     */
+    public HarGenerator enableForTest(String testName) {
+        disable();
+        writers.set(new HarWriter(harFile(testName), maxBodyBytes, spillBodies));
         return this;
     }
     
-    @Override
-    public Response filter(FilterableRequestSpecification requestSpec, 
-                          FilterableResponseSpecification responseSpec, 
-                          FilterContext ctx) {
-        
-        long startTime = System.currentTimeMillis();
-        Response response = ctx.next(requestSpec, responseSpec);
-        long endTime = System.currentTimeMillis();
-        
-        // Capture request/response if HAR generation is enabled
-        if (enableHarGeneration) {
-            ObjectNode entry = createHarEntry(requestSpec, response, startTime, endTime);
-            entries.add(entry);
+    /**
+     * Finish the calling thread's HAR file, if it captured anything
+     */
+    public HarGenerator disable() {
+        HarWriter writer = writers.get();
+        if (writer != null) {
+            writers.remove();
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.error("Failed to finish HAR file: {}", writer.getFile(), e);
+            }
         }
-        
-        return response;
+        return this;
     }
     
     /**
-     * Create a HAR entry for the request/response pair
+     * Whether the calling thread is capturing
      */
-    private ObjectNode createHarEntry(FilterableRequestSpecification requestSpec, 
-                                    Response response, long startTime, long endTime) {
-        
-        ObjectNode entry = objectMapper.createObjectNode();
-        
-        // Entry metadata
-        entry.put("startedDateTime", formatTimestamp(startTime));
-        entry.put("time", endTime - startTime);
-        
-        // Request object
-        ObjectNode request = createRequestObject(requestSpec);
-        entry.set("request", request);
-        
-        // Response object
-        ObjectNode responseObj = createResponseObject(response);
-        entry.set("response", responseObj);
-        
-        // Cache (empty for API calls)
-        entry.set("cache", objectMapper.createObjectNode());
-        
-        // Timings
-        ObjectNode timings = objectMapper.createObjectNode();
-        timings.put("send", 0);
-        timings.put("wait", endTime - startTime);
-        timings.put("receive", 0);
-        entry.set("timings", timings);
-        
-        return entry;
+    public boolean isEnabled() {
+        return writers.get() != null;
     }
     
     /**
-     * Create HAR request object
+     * HAR file the calling thread is capturing into, or null
      */
-    private ObjectNode createRequestObject(FilterableRequestSpecification requestSpec) {
-        ObjectNode request = objectMapper.createObjectNode();
-        
-        request.put("method", requestSpec.getMethod());
-        
-        // URL
-        String baseUri = requestSpec.getBaseUri();
-        String basePath = requestSpec.getBasePath() != null ? requestSpec.getBasePath() : "";
-        String uri = requestSpec.getURI();
-        String fullUrl = baseUri + basePath + uri;
-        request.put("url", fullUrl);
-        
-        request.put("httpVersion", "HTTP/1.1");
-        
-        // Headers
-        ArrayNode headers = objectMapper.createArrayNode();
-        requestSpec.getHeaders().asList().forEach(header -> {
-            ObjectNode headerObj = objectMapper.createObjectNode();
-            headerObj.put("name", header.getName());
-            headerObj.put("value", header.getValue());
-            headers.add(headerObj);
-        });
-        request.set("headers", headers);
-        
-        // Query parameters
-        ArrayNode queryString = objectMapper.createArrayNode();
-        if (requestSpec.getQueryParams() != null) {
-            requestSpec.getQueryParams().forEach((key, value) -> {
-                ObjectNode param = objectMapper.createObjectNode();
-                param.put("name", key);
-                param.put("value", value.toString());
-                queryString.add(param);
-            });
-        }
-        request.set("queryString", queryString);
-        
-        // Request body
-        ObjectNode postData = objectMapper.createObjectNode();
-        String body = requestSpec.getBody();
-        if (body != null && !body.isEmpty()) {
-            postData.put("mimeType", "application/json");
-            postData.put("text", body);
-        }
-        request.set("postData", postData);
-        
-        // Header and body sizes
-        request.put("headersSize", -1);
-        request.put("bodySize", body != null ? body.length() : 0);
-        
-        return request;
+    public Path getCurrentFile() {
+        HarWriter writer = writers.get();
+        return writer != null ? writer.getFile() : null;
     }
     
-    /**
-     * Create HAR response object
-     */
-    private ObjectNode createResponseObject(Response response) {
-        ObjectNode responseObj = objectMapper.createObjectNode();
-        
-        responseObj.put("status", response.getStatusCode());
-        responseObj.put("statusText", response.getStatusLine());
-        responseObj.put("httpVersion", "HTTP/1.1");
-        
-        // Headers
-        ArrayNode headers = objectMapper.createArrayNode();
-        response.getHeaders().asList().forEach(header -> {
-            ObjectNode headerObj = objectMapper.createObjectNode();
-            headerObj.put("name", header.getName());
-            headerObj.put("value", header.getValue());
-            headers.add(headerObj);
-        });
-        responseObj.set("headers", headers);
-        
-        // Content
-        ObjectNode content = objectMapper.createObjectNode();
-        String responseBody = response.getBody().asString();
-        content.put("size", responseBody.length());
-        content.put("mimeType", response.getContentType() != null ? response.getContentType() : "text/plain");
-        content.put("text", responseBody);
-        responseObj.set("content", content);
-        
-        // Redirect URL (empty for API calls)
-        responseObj.put("redirectURL", "");
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, 
+                          FilterableResponseSpecification responseSpec, 
+                          FilterContext ctx) {
         
-        // Header and body sizes
-        responseObj.put("headersSize", -1);
-        responseObj.put("bodySize", responseBody.length());
+        long startTime = System.currentTimeMillis();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long endTime = System.currentTimeMillis();
         
-        return responseObj;
-    }
-    
-    /**
-     * Generate the complete HAR file
-     */
-    private void generateHarFile() {
-        try {
-            ObjectNode har = objectMapper.createObjectNode();
-            
-            // HAR format version
-            ObjectNode log = objectMapper.createObjectNode();
-            log.put("version", "1.2");
-            
-            // Creator info
-            ObjectNode creator = objectMapper.createObjectNode();
-            creator.put("name", "REST Assured Framework");
-            creator.put("version", "1.0.0");
-            log.set("creator", creator);
-            
-            // Entries
-            ArrayNode entriesArray = objectMapper.createArrayNode();
-            entries.forEach(entriesArray::add);
-            log.set("entries", entriesArray);
-            
-            har.set("log", log);
-            
-            // Save to file
-            String fileName = String.format("%s/har_%s_%d.har", 
-                HAR_OUTPUT_DIR, 
-                sanitizeFileName(testName), 
-                System.currentTimeMillis());
-                
-            File harFile = new File(fileName);
-            
-            try (FileWriter writer = new FileWriter(harFile)) {
-                objectMapper.writerWithDefaultPrettyPrinter().writeValue(writer, har);
+        // Capture request/response if HAR generation is enabled on this thread and the capture policy wants it
+        HarWriter writer = writers.get();
+        CapturePolicy.Level level = writer != null ? policy.decide(requestSpec, response, ctx) : CapturePolicy.Level.NONE;
+        if (level != CapturePolicy.Level.NONE) {
+            try {
+                writer.write(requestSpec, response, startTime, endTime, level == CapturePolicy.Level.FULL);
+            } catch (IOException e) {
+                logger.error("Failed to write HAR entry to: {}", writer.getFile(), e);
             }
-            
-            logger.info("HAR file saved to: {}", fileName);
-            
-        } catch (IOException e) {
-            logger.error("Failed to generate HAR file for test: {}", testName, e);
         }
+        
+        return response;
     }
     
     /**
-     * Format timestamp for HAR format
+     * HAR file for a test; the thread id keeps parallel runs of the same test apart
      */
-    private String formatTimestamp(long timestamp) {
-        return Instant.ofEpochMilli(timestamp)
-                .atOffset(ZoneOffset.UTC)
-                .format(DateTimeFormatter.ISO_INSTANT);
+    private static Path harFile(String testName) {
+        return Paths.get(HAR_OUTPUT_DIR, String.format("har_%s_%d_%d.har",
+                sanitizeFileName(testName), System.currentTimeMillis(), Thread.currentThread().getId()));
     }
     
     /**
      * Sanitize file name by removing invalid characters
      */
-    private String sanitizeFileName(String fileName) {
+    private static String sanitizeFileName(String fileName) {
         return fileName.replaceAll("[^a-zA-Z0-9._-]", "_");
     }
     
@@ -270,13 +143,11 @@ public class HarGenerator implements Filter {
      * Save single request/response as HAR file (utility method)
      */
     public static void saveAsHar(String testName, FilterableRequestSpecification requestSpec, Response response) {
-        HarGenerator generator = new HarGenerator();
-        generator.enableForTest(testName);
-        
         long startTime = System.currentTimeMillis();
-        ObjectNode entry = generator.createHarEntry(requestSpec, response, startTime, startTime + response.getTime());
-        generator.entries.add(entry);
-        
-        generator.generateHarFile();
+        try (HarWriter writer = new HarWriter(harFile(testName))) {
+            writer.write(requestSpec, response, startTime, startTime + response.getTime());
+        } catch (IOException e) {
+            logger.error("Failed to generate HAR file for test: {}", testName, e);
+        }
     }
 }
@@ -0,0 +1,260 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams HAR (HTTP Archive) entries into one file as they are captured
+ * Each entry is written with a JsonGenerator and nothing is kept in memory between entries, so a
+ * capture costs the same heap whether it holds ten requests or ten thousand. The file is only
+ * created with the first entry, and is a complete archive once {@link #close()} has run.
+ * Bodies over {@code har.body.max.bytes} are truncated in the archive; with {@code har.body.spill}
+ * the full body is put in the {@link AttachmentStore} and referenced from the entry as {@code _bodyHash}
+ * and {@code _bodyFile}, so a payload repeated across entries and archives is stored once.
+ * A writer is not thread-safe; {@link HarGenerator} gives each thread its own.
+ */
+public class HarWriter implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(HarWriter.class);
+
+    static final int DEFAULT_MAX_BODY_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final int maxBodyBytes;
+    private final boolean spill;
+    private JsonGenerator gen;
+    private int entries;
+
+    public HarWriter(Path file) {
+        this(file, configuredMaxBodyBytes(), configuredSpill());
+    }
+
+    public HarWriter(Path file, int maxBodyBytes, boolean spill) {
+        this.file = file;
+        this.maxBodyBytes = maxBodyBytes;
+        this.spill = spill;
+    }
+
+    static int configuredMaxBodyBytes() {
+        return ConfigManager.getInstance().getIntProperty("har.body.max.bytes", DEFAULT_MAX_BODY_BYTES);
+    }
+
+    static boolean configuredSpill() {
+        return ConfigManager.getInstance().getBooleanProperty("har.body.spill", true);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getEntryCount() {
+        return entries;
+    }
+
+    /**
+     * Append one request/response pair
+     */
+    public void write(FilterableRequestSpecification requestSpec, Response response, long startTime, long endTime)
+            throws IOException {
+        write(requestSpec, response, startTime, endTime, true);
+    }
+
+    /**
+     * Append one request/response pair; without details only method, URL, status, sizes and timing are recorded
+     */
+    public void write(FilterableRequestSpecification requestSpec, Response response, long startTime, long endTime,
+                      boolean details) throws IOException {
+        if (gen == null) {
+            open();
+        }
+        entries++;
+        gen.writeStartObject();
+        gen.writeStringField("startedDateTime", Instant.ofEpochMilli(startTime).toString());
+        gen.writeNumberField("time", endTime - startTime);
+        writeRequest(requestSpec, details);
+        writeResponse(response, details);
+        gen.writeObjectFieldStart("cache");
+        gen.writeEndObject();
+        gen.writeObjectFieldStart("timings");
+        gen.writeNumberField("send", 0);
+        gen.writeNumberField("wait", endTime - startTime);
+        gen.writeNumberField("receive", 0);
+        gen.writeEndObject();
+        gen.writeEndObject();
+        // Entries reach the file as they are captured, not at the end of the test
+        gen.flush();
+    }
+
+    /**
+     * Finish the archive; a writer that never received an entry leaves no file behind
+     */
+    @Override
+    public void close() throws IOException {
+        if (gen == null) {
+            return;
+        }
+        try {
+            gen.writeEndArray();
+            gen.writeEndObject();
+            gen.writeEndObject();
+        } finally {
+            gen.close();
+            gen = null;
+        }
+        logger.info("HAR file saved to: {} ({} entries)", file, entries);
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        gen = JsonUtils.getObjectMapper().getFactory().createGenerator(Files.newOutputStream(file), JsonEncoding.UTF8);
+        gen.useDefaultPrettyPrinter();
+        gen.writeStartObject();
+        gen.writeObjectFieldStart("log");
+        gen.writeStringField("version", "1.2");
+        gen.writeObjectFieldStart("creator");
+        gen.writeStringField("name", "REST Assured Framework");
+        gen.writeStringField("version", "1.0.0");
+        gen.writeEndObject();
+        gen.writeArrayFieldStart("entries");
+    }
+
+    private void writeRequest(FilterableRequestSpecification requestSpec, boolean details) throws IOException {
+        gen.writeObjectFieldStart("request");
+        gen.writeStringField("method", requestSpec.getMethod());
+        // getURI() is already absolute, including base URI, base path and query string
+        gen.writeStringField("url", requestSpec.getURI());
+        gen.writeStringField("httpVersion", "HTTP/1.1");
+        writeHeaders(details ? requestSpec.getHeaders().asList() : List.of());
+
+        gen.writeArrayFieldStart("queryString");
+        if (details && requestSpec.getQueryParams() != null) {
+            for (Map.Entry<String, String> param : requestSpec.getQueryParams().entrySet()) {
+                gen.writeStartObject();
+                gen.writeStringField("name", param.getKey());
+                gen.writeStringField("value", String.valueOf(param.getValue()));
+                gen.writeEndObject();
+            }
+        }
+        gen.writeEndArray();
+
+        // Summaries skip rendering the body; raw byte bodies still report their size
+        byte[] body = details ? bodyBytes(requestSpec.getBody(), requestSpec.getContentType())
+                : requestSpec.getBody() instanceof byte[] ? (byte[]) requestSpec.getBody() : new byte[0];
+        gen.writeObjectFieldStart("postData");
+        if (details && body.length > 0) {
+            String contentType = requestSpec.getContentType();
+            gen.writeStringField("mimeType", contentType != null && !contentType.isEmpty() ? contentType : "application/json");
+            writeBodyText(body, isText(contentType));
+        }
+        gen.writeEndObject();
+        gen.writeNumberField("headersSize", -1);
+        gen.writeNumberField("bodySize", body.length);
+        gen.writeEndObject();
+    }
+
+    private void writeResponse(Response response, boolean details) throws IOException {
+        gen.writeObjectFieldStart("response");
+        gen.writeNumberField("status", response.getStatusCode());
+        gen.writeStringField("statusText", response.getStatusLine());
+        gen.writeStringField("httpVersion", "HTTP/1.1");
+        writeHeaders(details ? response.getHeaders().asList() : List.of());
+
+        String contentType = response.getContentType();
+        byte[] body = details ? bodyBytes(response.asByteArray(), contentType) : response.asByteArray();
+        gen.writeObjectFieldStart("content");
+        gen.writeNumberField("size", body.length);
+        gen.writeStringField("mimeType", contentType != null && !contentType.isEmpty() ? contentType : "text/plain");
+        if (details) {
+            writeBodyText(body, isText(contentType));
+        }
+        gen.writeEndObject();
+        gen.writeStringField("redirectURL", "");
+        gen.writeNumberField("headersSize", -1);
+        gen.writeNumberField("bodySize", body.length);
+        gen.writeEndObject();
+    }
+
+    private void writeHeaders(Iterable<Header> headers) throws IOException {
+        gen.writeArrayFieldStart("headers");
+        for (Header header : headers) {
+            gen.writeStartObject();
+            gen.writeStringField("name", header.getName());
+            gen.writeStringField("value", header.getValue());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Write {@code text} straight from the body bytes (UTF-8, or base64 for non-text content),
+     * truncated past the cap and then optionally stored whole in the attachment store
+     */
+    private void writeBodyText(byte[] body, boolean text) throws IOException {
+        if (!text) {
+            gen.writeStringField("encoding", "base64");
+        }
+        gen.writeFieldName("text");
+        int length = body.length <= maxBodyBytes ? body.length : text ? utf8Boundary(body, maxBodyBytes) : maxBodyBytes;
+        if (text) {
+            gen.writeUTF8String(body, 0, length);
+        } else {
+            gen.writeBinary(body, 0, length);
+        }
+        if (length == body.length) {
+            return;
+        }
+        gen.writeBooleanField("_truncated", true);
+        if (spill) {
+            AttachmentStore.Ref ref = AttachmentStore.getInstance().store(body);
+            gen.writeStringField("_bodyHash", ref.getHash());
+            gen.writeStringField("_bodyFile", ref.relativeTo(file.toAbsolutePath().getParent()));
+        }
+    }
+
+    /**
+     * Body as UTF-8 bytes; CBOR/Smile bodies become their JSON text
+     */
+    private static byte[] bodyBytes(Object body, String contentType) {
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[] && !BodyFormat.fromContentType(contentType).isBinary()) {
+            return (byte[]) body;
+        }
+        return JsonUtils.bodyToString(body, contentType).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isText(String contentType) {
+        if (contentType == null || contentType.isEmpty()) {
+            return true;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("text/") || type.contains("json") || type.contains("xml") || type.contains("javascript")
+                || type.contains("x-www-form-urlencoded") || BodyFormat.fromContentType(contentType).isBinary();
+    }
+
+    /**
+     * Largest length up to {@code limit} that does not split a UTF-8 sequence
+     */
+    private static int utf8Boundary(byte[] bytes, int limit) {
+        int end = limit;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return end;
+    }
+}
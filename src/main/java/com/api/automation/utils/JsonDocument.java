@@ -0,0 +1,288 @@
+package com.api.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A JSON body parsed once into a Jackson tree for repeated extraction
+ * Paths use the GPath syntax of Rest Assured's JsonPath and return the same Java types
+ * (Map, List, String, Integer/Long/BigInteger, Float/Double, Boolean); expressions the native evaluator
+ * does not support are delegated to a Groovy JsonPath that is created on first use.
+ *
+ * Example usage:
+ * <pre>
+ * JsonDocument doc = JsonDocument.from(response);
+ * String id = doc.getString("data.id");
+ * Map&lt;String, Object&gt; values = doc.extract("data.amount.value", "data.status", "meta.total");
+ * </pre>
+ */
+public class JsonDocument {
+    private String source;
+    private final JsonNode root;
+    private JsonPath groovyPath;
+
+    private JsonDocument(String source, JsonNode root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * Parse a JSON string
+     */
+    public static JsonDocument parse(String json) {
+        if (json == null) {
+            throw new IllegalArgumentException("JSON cannot be null");
+        }
+        try {
+            return new JsonDocument(json, JsonUtils.getObjectMapper().readTree(json));
+        } catch (IOException e) {
+            throw new RuntimeException("Error parsing JSON document: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parse a response body; CBOR and Smile bodies are decoded according to the Content-Type
+     */
+    public static JsonDocument from(Response response) {
+        BodyFormat format = BodyFormat.of(response);
+        if (format.isBinary()) {
+            return new JsonDocument(null, JsonUtils.readTree(response.asByteArray(), format));
+        }
+        return parse(new String(response.getBody().asByteArray(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Original JSON text; for binary bodies it is rendered from the tree on first use
+     */
+    public String getSource() {
+        if (source == null) {
+            source = root.toString();
+        }
+        return source;
+    }
+
+    /**
+     * Parsed tree, for callers that work with Jackson directly
+     */
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Resolve a path to a tree node; missing paths yield a MissingNode.
+     * Only natively supported expressions can be resolved to nodes.
+     */
+    public JsonNode node(String path) {
+        return JsonPathExpression.compile(path).evaluate(root);
+    }
+
+    /**
+     * Extract the value at a path, or null when it does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String path) {
+        JsonPathExpression expression = JsonPathExpression.compile(path);
+        if (!expression.isNative()) {
+            return groovy().get(path);
+        }
+        return (T) toJava(expression.evaluate(root));
+    }
+
+    public String getString(String path) {
+        Object value = get(path);
+        return value != null ? value.toString() : null;
+    }
+
+    public Integer getInt(String path) {
+        Object value = get(path);
+        return value instanceof Number ? ((Number) value).intValue() : (Integer) value;
+    }
+
+    public Boolean getBoolean(String path) {
+        return get(path);
+    }
+
+    public <T> List<T> getList(String path) {
+        return get(path);
+    }
+
+    public Map<String, Object> getMap(String path) {
+        return get(path);
+    }
+
+    /**
+     * Check if a path resolves to a non-null value
+     */
+    public boolean exists(String path) {
+        JsonPathExpression expression = JsonPathExpression.compile(path);
+        if (!expression.isNative()) {
+            return groovy().get(path) != null;
+        }
+        JsonNode node = expression.evaluate(root);
+        return !node.isMissingNode() && !node.isNull();
+    }
+
+    /**
+     * Extract several paths in a single traversal of the tree
+     * Paths sharing a prefix are resolved once for the prefix, e.g. data[0].id and data[0].status.
+     *
+     * @return values keyed by path, in the order the paths were given
+     */
+    public Map<String, Object> extract(String... paths) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        Map<String, JsonNode> nodes = nodes(paths);
+        for (String path : paths) {
+            JsonNode node = nodes.get(path);
+            values.put(path, node != null ? toJava(node) : groovy().get(path));
+        }
+        return values;
+    }
+
+    /**
+     * Resolve several paths to tree nodes in a single traversal
+     * Expressions that need Groovy are left out of the result.
+     */
+    public Map<String, JsonNode> nodes(String... paths) {
+        Map<String, JsonNode> nodes = new LinkedHashMap<>();
+        PathTrie trie = new PathTrie();
+        for (String path : paths) {
+            JsonPathExpression expression = JsonPathExpression.compile(path);
+            if (expression.isNative()) {
+                trie.add(expression);
+            }
+        }
+        trie.resolve(root, nodes);
+        return nodes;
+    }
+
+    /**
+     * Elements of the array at a path that match a filter, converted to Java maps/values
+     * e.g. {@code doc.findAll("data", "status == 'completed' && amount.value >= 100")}
+     */
+    public <T> List<T> findAll(String arrayPath, String filter) {
+        return findAll(arrayPath, JsonFilter.compile(filter));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> findAll(String arrayPath, JsonFilter filter) {
+        List<JsonNode> matches = filter.select(node(arrayPath));
+        List<T> values = new ArrayList<>(matches.size());
+        for (JsonNode match : matches) {
+            values.add((T) toJava(match));
+        }
+        return values;
+    }
+
+    /**
+     * First matching element of the array at a path, or null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T findFirst(String arrayPath, JsonFilter filter) {
+        JsonNode array = node(arrayPath);
+        if (array.isArray()) {
+            for (JsonNode element : array) {
+                if (filter.test(element)) {
+                    return (T) toJava(element);
+                }
+            }
+        }
+        return null;
+    }
+
+    public int count(String arrayPath, JsonFilter filter) {
+        return filter.count(node(arrayPath));
+    }
+
+    public boolean anyMatch(String arrayPath, JsonFilter filter) {
+        return filter.anyMatch(node(arrayPath));
+    }
+
+    private JsonPath groovy() {
+        if (groovyPath == null) {
+            groovyPath = JsonPath.from(getSource());
+        }
+        return groovyPath;
+    }
+
+    /**
+     * Convert a tree node to the Java types returned by Rest Assured's JsonPath
+     */
+    public static Object toJava(JsonNode node) {
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        switch (node.getNodeType()) {
+            case OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    map.put(field.getKey(), toJava(field.getValue()));
+                }
+                return map;
+            case ARRAY:
+                List<Object> list = new ArrayList<>(node.size());
+                for (JsonNode element : node) {
+                    list.add(toJava(element));
+                }
+                return list;
+            case STRING:
+                return node.textValue();
+            case BOOLEAN:
+                return node.booleanValue();
+            case NUMBER:
+                return toJavaNumber(node);
+            default:
+                return node.asText();
+        }
+    }
+
+    private static Object toJavaNumber(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            if (node.canConvertToInt()) {
+                return node.intValue();
+            }
+            if (node.canConvertToLong()) {
+                return node.longValue();
+            }
+            return node.bigIntegerValue();
+        }
+        // Rest Assured's default FLOAT_AND_DOUBLE number return type
+        float asFloat = node.floatValue();
+        return Float.isInfinite(asFloat) ? (Object) node.doubleValue() : (Object) asFloat;
+    }
+
+    /**
+     * Prefix tree of compiled paths, walked once over the document
+     */
+    private static class PathTrie {
+        private final Map<JsonPathExpression.Step, PathTrie> children = new LinkedHashMap<>();
+        private final List<String> terminals = new ArrayList<>(1);
+
+        void add(JsonPathExpression expression) {
+            PathTrie node = this;
+            for (JsonPathExpression.Step step : expression.getSteps()) {
+                node = node.children.computeIfAbsent(step, s -> new PathTrie());
+            }
+            node.terminals.add(expression.getExpression());
+        }
+
+        void resolve(JsonNode node, Map<String, JsonNode> nodes) {
+            for (String path : terminals) {
+                nodes.put(path, node);
+            }
+            for (Map.Entry<JsonPathExpression.Step, PathTrie> child : children.entrySet()) {
+                child.getValue().resolve(child.getKey().apply(node), nodes);
+            }
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package com.api.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Compiled filter over the elements of a JSON array, evaluated natively against a Jackson tree
+ * Expressions compare fields of each element (nested paths allowed, an optional {@code it.} prefix is ignored):
+ * <pre>
+ * status == 'completed'
+ * amount.value &gt;= 100 &amp;&amp; amount.value &lt; 250
+ * status in ['initiated', 'processing'] || !(userId != 'user-3')
+ * paymentDate &gt;= '2026-01-01'
+ * </pre>
+ * Numbers compare numerically, other values by their text, so ISO dates order correctly.
+ * A field that spreads over a nested array matches when any of its values does.
+ * Compiled filters are cached and immutable; {@link #parallel()} evaluates large arrays on a parallel stream.
+ */
+public final class JsonFilter implements Predicate<JsonNode> {
+    private static final int MAX_CACHED_FILTERS = 1024;
+    private static final int PARALLEL_THRESHOLD = 2048;
+    private static final Map<String, JsonFilter> cache = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final Predicate<JsonNode> predicate;
+    private final boolean parallel;
+
+    private JsonFilter(String expression, Predicate<JsonNode> predicate, boolean parallel) {
+        this.expression = expression;
+        this.predicate = predicate;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Compile a filter expression, reusing the cached instance when it was compiled before
+     */
+    public static JsonFilter compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Filter expression cannot be empty");
+        }
+        JsonFilter compiled = cache.get(expression);
+        if (compiled == null) {
+            if (cache.size() >= MAX_CACHED_FILTERS) {
+                cache.clear();
+            }
+            compiled = cache.computeIfAbsent(expression, e -> new JsonFilter(e, new Parser(e).parse(), false));
+        }
+        return compiled;
+    }
+
+    /**
+     * Filter on a single field equal to a value, without building an expression string
+     */
+    public static JsonFilter eq(String field, Object value) {
+        return new JsonFilter(field + " == " + value, comparison(field, Operator.EQ, Literal.of(value)), false);
+    }
+
+    /**
+     * Filter on a single field equal to any of the values
+     */
+    public static JsonFilter in(String field, Object... values) {
+        List<Literal> literals = new ArrayList<>(values.length);
+        for (Object value : values) {
+            literals.add(Literal.of(value));
+        }
+        return new JsonFilter(field + " in " + literals, membership(field, literals), false);
+    }
+
+    public JsonFilter and(JsonFilter other) {
+        return new JsonFilter("(" + expression + ") && (" + other.expression + ")", predicate.and(other.predicate), parallel);
+    }
+
+    public JsonFilter or(JsonFilter other) {
+        return new JsonFilter("(" + expression + ") || (" + other.expression + ")", predicate.or(other.predicate), parallel);
+    }
+
+    /**
+     * Same filter, evaluated on a parallel stream for arrays large enough to benefit
+     */
+    public JsonFilter parallel() {
+        return parallel ? this : new JsonFilter(expression, predicate, true);
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    public boolean test(JsonNode element) {
+        return element != null && predicate.test(element);
+    }
+
+    /**
+     * Matching elements of an array, in array order; a non-array yields an empty list
+     */
+    public List<JsonNode> select(JsonNode array) {
+        if (array == null || !array.isArray()) {
+            return Collections.emptyList();
+        }
+        if (!useParallel(array)) {
+            List<JsonNode> matches = new ArrayList<>();
+            for (JsonNode element : array) {
+                if (test(element)) {
+                    matches.add(element);
+                }
+            }
+            return matches;
+        }
+        return elements(array).filter(this).collect(Collectors.toList());
+    }
+
+    /**
+     * Number of matching elements
+     */
+    public int count(JsonNode array) {
+        if (array == null || !array.isArray()) {
+            return 0;
+        }
+        if (!useParallel(array)) {
+            int count = 0;
+            for (JsonNode element : array) {
+                if (test(element)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        return (int) elements(array).filter(this).count();
+    }
+
+    /**
+     * Whether any element matches, stopping at the first match
+     */
+    public boolean anyMatch(JsonNode array) {
+        if (array == null || !array.isArray()) {
+            return false;
+        }
+        if (!useParallel(array)) {
+            for (JsonNode element : array) {
+                if (test(element)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return elements(array).anyMatch(this);
+    }
+
+    private boolean useParallel(JsonNode array) {
+        return parallel && array.size() >= PARALLEL_THRESHOLD;
+    }
+
+    private static Stream<JsonNode> elements(JsonNode array) {
+        // Index-based so the stream splits evenly; ArrayNode is backed by an ArrayList
+        return IntStream.range(0, array.size()).parallel().mapToObj(array::get);
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    // ============ Predicates ============
+
+    private enum Operator { EQ, NE, GT, GE, LT, LE }
+
+    private static JsonPathExpression fieldPath(String field) {
+        String path = field.startsWith("it.") ? field.substring(3) : field;
+        JsonPathExpression compiled = JsonPathExpression.compile(path);
+        if (!compiled.isNative()) {
+            throw new IllegalArgumentException("Unsupported field path in filter: " + field);
+        }
+        return compiled;
+    }
+
+    private static Predicate<JsonNode> comparison(String field, Operator operator, Literal literal) {
+        JsonPathExpression path = fieldPath(field);
+        if (operator == Operator.NE) {
+            Predicate<JsonNode> equal = literal::matches;
+            return element -> !anyValue(path.evaluate(element), equal);
+        }
+        Predicate<JsonNode> test = value -> compare(operator, value, literal);
+        return element -> anyValue(path.evaluate(element), test);
+    }
+
+    private static Predicate<JsonNode> membership(String field, List<Literal> literals) {
+        JsonPathExpression path = fieldPath(field);
+        Literal[] candidates = literals.toArray(new Literal[0]);
+        Predicate<JsonNode> test = value -> {
+            for (Literal literal : candidates) {
+                if (literal.matches(value)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return element -> anyValue(path.evaluate(element), test);
+    }
+
+    private static boolean anyValue(JsonNode value, Predicate<JsonNode> test) {
+        if (!value.isArray()) {
+            return test.test(value);
+        }
+        for (JsonNode element : value) {
+            if (test.test(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean compare(Operator operator, JsonNode value, Literal literal) {
+        if (operator == Operator.EQ) {
+            return literal.matches(value);
+        }
+        Integer order = literal.compareFrom(value);
+        if (order == null) {
+            return false;
+        }
+        switch (operator) {
+            case GT:
+                return order > 0;
+            case GE:
+                return order >= 0;
+            case LT:
+                return order < 0;
+            case LE:
+            default:
+                return order <= 0;
+        }
+    }
+
+    /**
+     * A constant on the right-hand side of a comparison, pre-converted for fast comparison
+     */
+    private static final class Literal {
+        private final Object value;
+        private final String text;
+        private final boolean integral;
+        private final long longValue;
+        private final double doubleValue;
+
+        private Literal(Object value) {
+            this.value = value;
+            this.text = value != null ? value.toString() : null;
+            Number number = value instanceof Number ? (Number) value : null;
+            this.integral = number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+            this.longValue = number != null ? number.longValue() : 0;
+            this.doubleValue = number != null ? number.doubleValue() : Double.NaN;
+        }
+
+        static Literal of(Object value) {
+            if (value instanceof Enum) {
+                // Compare against the enum's JSON form, which honours @JsonValue
+                return new Literal(JsonUtils.getObjectMapper().valueToTree(value).asText());
+            }
+            return new Literal(value);
+        }
+
+        boolean isNumber() {
+            return value instanceof Number;
+        }
+
+        boolean matches(JsonNode node) {
+            if (value == null) {
+                return node.isMissingNode() || node.isNull();
+            }
+            if (node.isMissingNode() || node.isNull() || node.isContainerNode()) {
+                return false;
+            }
+            if (isNumber() && node.isNumber()) {
+                return compareNumbers(node) == 0;
+            }
+            if (value instanceof Boolean) {
+                return node.isBoolean() ? node.booleanValue() == (Boolean) value : text.equals(node.asText());
+            }
+            return text.equals(node.asText());
+        }
+
+        /**
+         * Sign of (node - literal), or null when the two cannot be ordered
+         */
+        Integer compareFrom(JsonNode node) {
+            if (value == null || node.isMissingNode() || node.isNull() || node.isContainerNode()) {
+                return null;
+            }
+            if (isNumber()) {
+                return node.isNumber() ? compareNumbers(node) : null;
+            }
+            if (value instanceof Boolean || node.isNumber() || node.isBoolean()) {
+                return null;
+            }
+            return Integer.signum(node.asText().compareTo(text));
+        }
+
+        private int compareNumbers(JsonNode node) {
+            if (integral && node.isIntegralNumber() && node.canConvertToLong()) {
+                return Long.compare(node.longValue(), longValue);
+            }
+            return Double.compare(node.doubleValue(), doubleValue);
+        }
+
+        @Override
+        public String toString() {
+            return value instanceof String ? "'" + value + "'" : String.valueOf(value);
+        }
+    }
+
+    // ============ Parsing ============
+
+    /**
+     * Recursive descent parser:
+     * <pre>
+     * or         := and ( ('||' | 'or') and )*
+     * and        := unary ( ('&amp;&amp;' | 'and') unary )*
+     * unary      := '!' unary | '(' or ')' | comparison
+     * comparison := field op literal | field ['not'] 'in' '[' literal (',' literal)* ']'
+     * </pre>
+     */
+    private static final class Parser {
+        private final String source;
+        private int position;
+
+        Parser(String source) {
+            this.source = source;
+        }
+
+        Predicate<JsonNode> parse() {
+            Predicate<JsonNode> predicate = parseOr();
+            skipWhitespace();
+            if (position < source.length()) {
+                throw error("Unexpected '" + source.charAt(position) + "'");
+            }
+            return predicate;
+        }
+
+        private Predicate<JsonNode> parseOr() {
+            Predicate<JsonNode> left = parseAnd();
+            while (consume("||") || consumeWord("or")) {
+                left = left.or(parseAnd());
+            }
+            return left;
+        }
+
+        private Predicate<JsonNode> parseAnd() {
+            Predicate<JsonNode> left = parseUnary();
+            while (consume("&&") || consumeWord("and")) {
+                left = left.and(parseUnary());
+            }
+            return left;
+        }
+
+        private Predicate<JsonNode> parseUnary() {
+            skipWhitespace();
+            if (peek('!') && !source.startsWith("!=", position)) {
+                position++;
+                return parseUnary().negate();
+            }
+            if (consume("(")) {
+                Predicate<JsonNode> inner = parseOr();
+                expect(")");
+                return inner;
+            }
+            return parseComparison();
+        }
+
+        private Predicate<JsonNode> parseComparison() {
+            String field = parseField();
+            if (consumeWord("not")) {
+                if (!consumeWord("in")) {
+                    throw error("Expected 'in' after 'not'");
+                }
+                return membership(field, parseList()).negate();
+            }
+            if (consumeWord("in")) {
+                return membership(field, parseList());
+            }
+            Operator operator = parseOperator();
+            return comparison(field, operator, parseLiteral());
+        }
+
+        private String parseField() {
+            skipWhitespace();
+            int start = position;
+            while (position < source.length()) {
+                char c = source.charAt(position);
+                if (c == '\'') {
+                    int end = source.indexOf('\'', position + 1);
+                    if (end < 0) {
+                        throw error("Unterminated quoted field name");
+                    }
+                    position = end + 1;
+                } else if (Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == '[' || c == ']' || c == '$' || c == '@') {
+                    position++;
+                } else {
+                    break;
+                }
+            }
+            if (start == position) {
+                throw error("Expected a field name");
+            }
+            return source.substring(start, position);
+        }
+
+        private Operator parseOperator() {
+            skipWhitespace();
+            if (consume("==")) {
+                return Operator.EQ;
+            }
+            if (consume("!=")) {
+                return Operator.NE;
+            }
+            if (consume(">=")) {
+                return Operator.GE;
+            }
+            if (consume("<=")) {
+                return Operator.LE;
+            }
+            if (consume(">")) {
+                return Operator.GT;
+            }
+            if (consume("<")) {
+                return Operator.LT;
+            }
+            throw error("Expected a comparison operator");
+        }
+
+        private List<Literal> parseList() {
+            expect("[");
+            List<Literal> literals = new ArrayList<>();
+            if (!consume("]")) {
+                do {
+                    literals.add(parseLiteral());
+                } while (consume(","));
+                expect("]");
+            }
+            return literals;
+        }
+
+        private Literal parseLiteral() {
+            skipWhitespace();
+            if (position >= source.length()) {
+                throw error("Expected a value");
+            }
+            char c = source.charAt(position);
+            if (c == '\'' || c == '"') {
+                StringBuilder text = new StringBuilder();
+                position++;
+                while (position < source.length() && source.charAt(position) != c) {
+                    char next = source.charAt(position++);
+                    if (next == '\\' && position < source.length()) {
+                        next = source.charAt(position++);
+                    }
+                    text.append(next);
+                }
+                if (position >= source.length()) {
+                    throw error("Unterminated string");
+                }
+                position++;
+                return Literal.of(text.toString());
+            }
+            if (consumeWord("true")) {
+                return Literal.of(Boolean.TRUE);
+            }
+            if (consumeWord("false")) {
+                return Literal.of(Boolean.FALSE);
+            }
+            if (consumeWord("null")) {
+                return Literal.of(null);
+            }
+            int start = position;
+            while (position < source.length() && "+-0123456789.eE".indexOf(source.charAt(position)) >= 0) {
+                position++;
+            }
+            String number = source.substring(start, position);
+            try {
+                if (number.matches("[+-]?\\d+")) {
+                    return Literal.of(Long.parseLong(number));
+                }
+                return Literal.of(Double.parseDouble(number));
+            } catch (NumberFormatException e) {
+                position = start;
+                throw error("Expected a value");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean peek(char c) {
+            return position < source.length() && source.charAt(position) == c;
+        }
+
+        private boolean consume(String token) {
+            skipWhitespace();
+            if (source.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean consumeWord(String word) {
+            skipWhitespace();
+            int end = position + word.length();
+            if (source.startsWith(word, position)
+                    && (end == source.length() || !Character.isLetterOrDigit(source.charAt(end)))) {
+                position = end;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!consume(token)) {
+                throw error("Expected '" + token + "'");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + position + " in filter: " + source);
+        }
+    }
+}
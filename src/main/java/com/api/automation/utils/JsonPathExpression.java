@@ -0,0 +1,254 @@
+package com.api.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled form of a GPath-style path such as {@code data[0].amount.value}, {@code data.id} or {@code data.size()}
+ * Supports field access (including quoted names), positive and negative indexes, spreading a field over an
+ * array and size(). Anything else (closures, wildcards, method calls) is flagged as not native and has to be
+ * evaluated by Rest Assured's Groovy JsonPath instead. Compiled expressions are cached.
+ */
+public final class JsonPathExpression {
+    private static final int MAX_CACHED_EXPRESSIONS = 4096;
+    private static final Map<String, JsonPathExpression> cache = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final List<Step> steps;
+    private final Step[] stepArray;
+    private final boolean nativeSupported;
+
+    private JsonPathExpression(String expression, List<Step> steps, boolean nativeSupported) {
+        this.expression = expression;
+        this.steps = steps;
+        this.stepArray = steps.toArray(new Step[0]);
+        this.nativeSupported = nativeSupported;
+    }
+
+    /**
+     * Compile an expression, reusing the cached instance when it was compiled before
+     */
+    public static JsonPathExpression compile(String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("JSON path cannot be null");
+        }
+        JsonPathExpression compiled = cache.get(expression);
+        if (compiled == null) {
+            if (cache.size() >= MAX_CACHED_EXPRESSIONS) {
+                cache.clear();
+            }
+            compiled = cache.computeIfAbsent(expression, JsonPathExpression::parse);
+        }
+        return compiled;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Whether the expression can be evaluated without Groovy
+     */
+    public boolean isNative() {
+        return nativeSupported;
+    }
+
+    List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Evaluate against a parsed tree; a missing path yields a MissingNode
+     */
+    public JsonNode evaluate(JsonNode root) {
+        if (!nativeSupported) {
+            throw new IllegalStateException("JSON path needs Groovy evaluation: " + expression);
+        }
+        JsonNode current = root;
+        for (Step step : stepArray) {
+            current = step.apply(current);
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    // ============ Parsing ============
+
+    private static JsonPathExpression parse(String expression) {
+        String path = expression.trim();
+        if (path.equals("$")) {
+            path = "";
+        } else if (path.startsWith("$.")) {
+            path = path.substring(2);
+        }
+
+        List<Step> steps = new ArrayList<>();
+        int i = 0;
+        int length = path.length();
+        boolean expectName = true;
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    return unsupported(expression);
+                }
+                try {
+                    steps.add(Step.index(Integer.parseInt(path.substring(i + 1, end).trim())));
+                } catch (NumberFormatException e) {
+                    return unsupported(expression);
+                }
+                i = end + 1;
+                expectName = false;
+            } else if (c == '.') {
+                if (expectName) {
+                    return unsupported(expression);
+                }
+                i++;
+                expectName = true;
+            } else if (expectName && c == '\'') {
+                int end = path.indexOf('\'', i + 1);
+                if (end < 0) {
+                    return unsupported(expression);
+                }
+                steps.add(Step.field(path.substring(i + 1, end)));
+                i = end + 1;
+                expectName = false;
+            } else if (expectName) {
+                int start = i;
+                while (i < length && isNameChar(path.charAt(i))) {
+                    i++;
+                }
+                String name = path.substring(start, i);
+                if (name.isEmpty()) {
+                    return unsupported(expression);
+                }
+                if (path.startsWith("()", i)) {
+                    if (!name.equals("size")) {
+                        return unsupported(expression);
+                    }
+                    steps.add(Step.SIZE);
+                    i += 2;
+                } else {
+                    steps.add(Step.field(name));
+                }
+                expectName = false;
+            } else {
+                return unsupported(expression);
+            }
+        }
+        if (expectName && !steps.isEmpty()) {
+            return unsupported(expression);
+        }
+        return new JsonPathExpression(expression, Collections.unmodifiableList(steps), true);
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '@' || c == '$';
+    }
+
+    private static JsonPathExpression unsupported(String expression) {
+        return new JsonPathExpression(expression, Collections.emptyList(), false);
+    }
+
+    /**
+     * One navigation step; equal steps share a node when several paths are resolved together
+     */
+    static final class Step {
+        static final Step SIZE = new Step(Kind.SIZE, null, 0);
+
+        enum Kind { FIELD, INDEX, SIZE }
+
+        private final Kind kind;
+        private final String name;
+        private final int index;
+
+        private Step(Kind kind, String name, int index) {
+            this.kind = kind;
+            this.name = name;
+            this.index = index;
+        }
+
+        static Step field(String name) {
+            return new Step(Kind.FIELD, name, 0);
+        }
+
+        static Step index(int index) {
+            return new Step(Kind.INDEX, null, index);
+        }
+
+        JsonNode apply(JsonNode node) {
+            if (node == null || node.isMissingNode()) {
+                return MissingNode.getInstance();
+            }
+            switch (kind) {
+                case FIELD:
+                    return field(node);
+                case INDEX:
+                    if (!node.isArray()) {
+                        return MissingNode.getInstance();
+                    }
+                    int position = index < 0 ? node.size() + index : index;
+                    return position >= 0 && position < node.size() ? node.get(position) : MissingNode.getInstance();
+                case SIZE:
+                default:
+                    if (node.isArray() || node.isObject()) {
+                        return IntNode.valueOf(node.size());
+                    }
+                    return node.isTextual() ? IntNode.valueOf(node.asText().length()) : MissingNode.getInstance();
+            }
+        }
+
+        private JsonNode field(JsonNode node) {
+            if (node.isObject()) {
+                JsonNode value = node.get(name);
+                return value != null ? value : MissingNode.getInstance();
+            }
+            if (!node.isArray()) {
+                return MissingNode.getInstance();
+            }
+            // GPath spreads a property over a list: [a, b].name == [a.name, b.name], skipping null elements
+            ArrayNode spread = JsonNodeFactory.instance.arrayNode(node.size());
+            for (JsonNode element : node) {
+                if (element == null || element.isNull()) {
+                    continue;
+                }
+                JsonNode value = element.isArray() ? field(element) : element.get(name);
+                spread.add(value != null ? value : NullNode.getInstance());
+            }
+            return spread;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Step)) {
+                return false;
+            }
+            Step step = (Step) o;
+            return kind == step.kind && index == step.index && Objects.equals(name, step.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, name, index);
+        }
+    }
+}
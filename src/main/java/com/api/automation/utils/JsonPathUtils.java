@@ -2,28 +2,35 @@ package com.api.automation.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.restassured.path.json.JsonPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 /**
  * JSON Path utility class for JSON response validation and extraction
+ * Each call parses the body into a {@link JsonDocument}; to extract several fields from one response,
+ * parse it once with {@link #parse(String)} or {@link JsonDocument#from} and query the document.
  */
 public class JsonPathUtils {
     private static final Logger logger = LoggerFactory.getLogger(JsonPathUtils.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonUtils.getObjectMapper();
+
+    /**
+     * Parse a JSON response for repeated extraction
+     */
+    public static JsonDocument parse(String jsonResponse) {
+        return JsonDocument.parse(jsonResponse);
+    }
 
     /**
      * Extract value from JSON response using JSONPath
      */
     public static <T> T extractValue(String jsonResponse, String jsonPath) {
         try {
-            JsonPath path = JsonPath.from(jsonResponse);
-            return path.get(jsonPath);
+            return parse(jsonResponse).get(jsonPath);
         } catch (Exception e) {
             logger.error("Error extracting value from JSON path '{}': {}", jsonPath, e.getMessage(), e);
             throw new RuntimeException("Error extracting value from JSON path: " + jsonPath, e);
@@ -65,14 +72,26 @@ public class JsonPathUtils {
         return extractValue(jsonResponse, jsonPath);
     }
 
+    /**
+     * Extract several values from a JSON response in a single pass
+     *
+     * @return values keyed by path, in the order the paths were given
+     */
+    public static Map<String, Object> extractValues(String jsonResponse, String... jsonPaths) {
+        try {
+            return parse(jsonResponse).extract(jsonPaths);
+        } catch (Exception e) {
+            logger.error("Error extracting values from JSON paths {}: {}", Arrays.toString(jsonPaths), e.getMessage(), e);
+            throw new RuntimeException("Error extracting values from JSON paths: " + Arrays.toString(jsonPaths), e);
+        }
+    }
+
     /**
      * Check if JSON path exists in response
      */
     public static boolean pathExists(String jsonResponse, String jsonPath) {
         try {
-            JsonPath path = JsonPath.from(jsonResponse);
-            Object value = path.get(jsonPath);
-            return value != null;
+            return parse(jsonResponse).exists(jsonPath);
         } catch (Exception e) {
             logger.debug("JSON path '{}' does not exist or is invalid", jsonPath);
             return false;
@@ -84,8 +103,7 @@ public class JsonPathUtils {
      */
     public static <T> List<T> getAllValues(String jsonResponse, String jsonPath) {
         try {
-            JsonPath path = JsonPath.from(jsonResponse);
-            return path.getList(jsonPath);
+            return toList(parse(jsonResponse).get(jsonPath), jsonPath);
         } catch (Exception e) {
             logger.error("Error getting all values from JSON path '{}': {}", jsonPath, e.getMessage(), e);
             throw new RuntimeException("Error getting all values from JSON path: " + jsonPath, e);
@@ -97,8 +115,7 @@ public class JsonPathUtils {
      */
     public static int countElements(String jsonResponse, String jsonPath) {
         try {
-            JsonPath path = JsonPath.from(jsonResponse);
-            List<Object> elements = path.getList(jsonPath);
+            List<Object> elements = toList(parse(jsonResponse).get(jsonPath), jsonPath);
             return elements != null ? elements.size() : 0;
         } catch (Exception e) {
             logger.error("Error counting elements at JSON path '{}': {}", jsonPath, e.getMessage(), e);
@@ -111,7 +128,7 @@ public class JsonPathUtils {
      */
     public static boolean validateJsonStructure(String jsonResponse, String... requiredFields) {
         try {
-            JsonNode rootNode = objectMapper.readTree(jsonResponse);
+            JsonNode rootNode = parse(jsonResponse).getRoot();
             
             for (String field : requiredFields) {
                 if (!hasField(rootNode, field)) {
@@ -120,12 +137,20 @@ public class JsonPathUtils {
                 }
             }
             return true;
-        } catch (IOException e) {
+        } catch (RuntimeException e) {
             logger.error("Error validating JSON structure: {}", e.getMessage(), e);
             return false;
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> toList(Object value, String jsonPath) {
+        if (value == null || value instanceof List) {
+            return (List<T>) value;
+        }
+        throw new IllegalStateException("Value at JSON path '" + jsonPath + "' is not a list: " + value);
+    }
+
     /**
      * Check if JsonNode has a specific field (supports nested paths with dot notation)
      */
@@ -144,17 +169,45 @@ public class JsonPathUtils {
 
     /**
      * Find all objects in array where field matches value
+     * Values compare by text, or numerically when both sides are numbers; nested fields such as amount.value work.
      */
     public static <T> List<T> findInArray(String jsonResponse, String arrayPath, String fieldName, Object fieldValue) {
+        return findAll(jsonResponse, arrayPath, JsonFilter.eq(fieldName, fieldValue));
+    }
+
+    /**
+     * Find all objects in array matching a filter expression, e.g. {@code status in ['initiated', 'processing']}
+     *
+     * @see JsonFilter
+     */
+    public static <T> List<T> findInArray(String jsonResponse, String arrayPath, String filter) {
+        return findAll(jsonResponse, arrayPath, JsonFilter.compile(filter));
+    }
+
+    /**
+     * Find all objects in array matching a compiled filter
+     */
+    public static <T> List<T> findAll(String jsonResponse, String arrayPath, JsonFilter filter) {
         try {
-            String searchPath = String.format("%s.findAll { it.%s == '%s' }", arrayPath, fieldName, fieldValue);
-            return extractList(jsonResponse, searchPath);
+            return parse(jsonResponse).findAll(arrayPath, filter);
         } catch (Exception e) {
             logger.error("Error finding objects in array: {}", e.getMessage(), e);
             throw new RuntimeException("Error finding objects in array", e);
         }
     }
 
+    /**
+     * Count objects in array matching a filter expression
+     */
+    public static int countInArray(String jsonResponse, String arrayPath, String filter) {
+        try {
+            return parse(jsonResponse).count(arrayPath, JsonFilter.compile(filter));
+        } catch (Exception e) {
+            logger.error("Error counting objects in array: {}", e.getMessage(), e);
+            throw new RuntimeException("Error counting objects in array", e);
+        }
+    }
+
     /**
      * Extract field values from all objects in an array
      */
@@ -173,8 +226,7 @@ public class JsonPathUtils {
      */
     public static boolean arrayContains(String jsonResponse, String arrayPath, String fieldName, Object fieldValue) {
         try {
-            List<Object> results = findInArray(jsonResponse, arrayPath, fieldName, fieldValue);
-            return !results.isEmpty();
+            return parse(jsonResponse).anyMatch(arrayPath, JsonFilter.eq(fieldName, fieldValue));
         } catch (Exception e) {
             logger.error("Error checking if array contains value: {}", e.getMessage(), e);
             return false;
@@ -1,33 +1,71 @@
 package com.api.automation.utils;
 
+import com.api.automation.codec.ModelCodecs;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JSON utility class for serialization and deserialization
+ * Owns the framework-wide Jackson mapper (with Blackbird generated accessors) and caches
+ * ObjectReader/ObjectWriter instances per target type, so repeated (de)serialization of the
+ * same model skips type resolution and serializer lookup.
+ * Binary formats (CBOR, Smile) get their own mapper and caches, see {@link BodyFormat}.
+ * Models annotated with {@code @StreamingCodec} are handled by their generated codecs on every mapper,
+ * see {@link ModelCodecs}.
  */
 public class JsonUtils {
     private static final Logger logger = LoggerFactory.getLogger(JsonUtils.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = ModelCodecs.register(new ObjectMapper().registerModule(new BlackbirdModule()));
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private static final Map<BodyFormat, ObjectMapper> formatMappers = new EnumMap<>(BodyFormat.class);
+    private static final Map<BodyFormat, Map<JavaType, ObjectReader>> formatReaders = new EnumMap<>(BodyFormat.class);
+    private static final Map<BodyFormat, Map<Class<?>, ObjectWriter>> formatWriters = new EnumMap<>(BodyFormat.class);
     private static final Gson gson = new GsonBuilder()
             .setPrettyPrinting()
             .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
             .create();
 
+    static {
+        formatMappers.put(BodyFormat.JSON, objectMapper);
+        formatMappers.put(BodyFormat.CBOR, ModelCodecs.register(new CBORMapper().registerModule(new BlackbirdModule())));
+        formatMappers.put(BodyFormat.SMILE, ModelCodecs.register(new SmileMapper().registerModule(new BlackbirdModule())));
+        for (BodyFormat format : BodyFormat.values()) {
+            formatReaders.put(format, format == BodyFormat.JSON ? readers : new ConcurrentHashMap<>());
+            formatWriters.put(format, format == BodyFormat.JSON ? writers : new ConcurrentHashMap<>());
+        }
+    }
+
     /**
      * Convert object to JSON string using Jackson
      */
     public static String objectToJson(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            if (object == null) {
+                return objectMapper.writeValueAsString(null);
+            }
+            return writerFor(object.getClass()).writeValueAsString(object);
         } catch (JsonProcessingException e) {
             logger.error("Error converting object to JSON: {}", e.getMessage(), e);
             throw new RuntimeException("Error converting object to JSON", e);
@@ -39,7 +77,7 @@ public class JsonUtils {
      */
     public static <T> T jsonToObject(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return readerFor(clazz).readValue(json);
         } catch (IOException e) {
             logger.error("Error converting JSON to object: {}", e.getMessage(), e);
             throw new RuntimeException("Error converting JSON to object", e);
@@ -51,14 +89,66 @@ public class JsonUtils {
      */
     public static <T> List<T> jsonToList(String json, Class<T> clazz) {
         try {
-            TypeFactory typeFactory = objectMapper.getTypeFactory();
-            return objectMapper.readValue(json, typeFactory.constructCollectionType(List.class, clazz));
+            return listReaderFor(clazz).readValue(json);
         } catch (IOException e) {
             logger.error("Error converting JSON to List: {}", e.getMessage(), e);
             throw new RuntimeException("Error converting JSON to List", e);
         }
     }
 
+    /**
+     * Serialize an object in the given wire format
+     * Writes into the calling thread's {@link BodyBuffer}, so the returned array is the only per-call allocation.
+     */
+    public static byte[] toBytes(Object object, BodyFormat format) {
+        BodyBuffer buffer = BodyBuffer.acquire();
+        try {
+            ObjectWriter writer = object == null ? getMapper(format).writer() : writerFor(object.getClass(), format);
+            writer.writeValue(buffer, object);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            logger.error("Error converting object to {}: {}", format, e.getMessage(), e);
+            throw new RuntimeException("Error converting object to " + format, e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Deserialize a body in the given wire format
+     */
+    public static <T> T fromBytes(byte[] body, Class<T> clazz, BodyFormat format) {
+        return fromBytes(body, objectMapper.constructType(clazz), format);
+    }
+
+    public static <T> T fromBytes(byte[] body, JavaType type, BodyFormat format) {
+        try {
+            return readerFor(type, format).readValue(body);
+        } catch (IOException e) {
+            logger.error("Error converting {} to object: {}", format, e.getMessage(), e);
+            throw new RuntimeException("Error converting " + format + " to object", e);
+        }
+    }
+
+    /**
+     * Deserialize a response body in the format named by its Content-Type
+     */
+    public static <T> T responseToObject(Response response, Class<T> clazz) {
+        return fromBytes(response.asByteArray(), clazz, BodyFormat.of(response));
+    }
+
+    /**
+     * Parse a body in the given wire format into a tree
+     */
+    public static JsonNode readTree(byte[] body, BodyFormat format) {
+        try {
+            return getMapper(format).readTree(body);
+        } catch (IOException e) {
+            logger.error("Error parsing {} body: {}", format, e.getMessage(), e);
+            throw new RuntimeException("Error parsing " + format + " body", e);
+        }
+    }
+
     /**
      * Convert object to JSON string using Gson
      */
@@ -89,7 +179,7 @@ public class JsonUtils {
     public static String prettyPrintJson(String json) {
         try {
             Object obj = objectMapper.readValue(json, Object.class);
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+            return prettyWriter.writeValueAsString(obj);
         } catch (IOException e) {
             logger.error("Error pretty printing JSON: {}", e.getMessage(), e);
             return json; // Return original if formatting fails
@@ -108,6 +198,102 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Render a request body for logs and reports: strings as-is, JSON bytes as UTF-8 text,
+     * CBOR/Smile bytes (per the Content-Type) as their JSON equivalent
+     */
+    public static String bodyToString(Object body, String contentType) {
+        if (body == null || body instanceof String) {
+            return (String) body;
+        }
+        if (!(body instanceof byte[])) {
+            return body.toString();
+        }
+        byte[] bytes = (byte[]) body;
+        BodyFormat format = BodyFormat.fromContentType(contentType);
+        if (format.isBinary()) {
+            try {
+                return getMapper(format).readTree(bytes).toString();
+            } catch (IOException e) {
+                logger.debug("Body is not valid {}: {}", format, e.getMessage());
+                return "<" + bytes.length + " bytes of " + format + ">";
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@link #bodyToString} for display: JSON (and CBOR/Smile rendered as JSON) is pretty-printed, other text is left as it is
+     */
+    public static String bodyToPrettyString(Object body, String contentType) {
+        String text = bodyToString(body, contentType);
+        if (text == null || text.isBlank()) {
+            return text;
+        }
+        try {
+            return prettyWriter.writeValueAsString(objectMapper.readTree(text));
+        } catch (IOException e) {
+            return text;
+        }
+    }
+
+    /**
+     * Get the cached reader for a class
+     */
+    public static ObjectReader readerFor(Class<?> clazz) {
+        return readerFor(objectMapper.constructType(clazz));
+    }
+
+    /**
+     * Get the cached reader for a fully resolved type, e.g. a parametric ApiResponse type
+     */
+    public static ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * Get the cached reader for List&lt;clazz&gt;
+     */
+    public static ObjectReader listReaderFor(Class<?> clazz) {
+        return listReaders.computeIfAbsent(clazz,
+                c -> readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, c)));
+    }
+
+    /**
+     * Get the cached writer for a class
+     */
+    public static ObjectWriter writerFor(Class<?> clazz) {
+        return writers.computeIfAbsent(clazz, objectMapper::writerFor);
+    }
+
+    /**
+     * Get the cached reader for a type in a wire format
+     */
+    public static ObjectReader readerFor(JavaType type, BodyFormat format) {
+        return formatReaders.get(format).computeIfAbsent(type, getMapper(format)::readerFor);
+    }
+
+    /**
+     * Get the cached writer for a class in a wire format
+     */
+    public static ObjectWriter writerFor(Class<?> clazz, BodyFormat format) {
+        return formatWriters.get(format).computeIfAbsent(clazz, getMapper(format)::writerFor);
+    }
+
+    /**
+     * Get the mapper for a wire format; JSON uses the shared mapper
+     */
+    public static ObjectMapper getMapper(BodyFormat format) {
+        return formatMappers.get(format);
+    }
+
+    /**
+     * Get the shared pretty printing writer
+     */
+    public static ObjectWriter getPrettyWriter() {
+        return prettyWriter;
+    }
+
     /**
      * Get ObjectMapper instance for custom configurations
      */
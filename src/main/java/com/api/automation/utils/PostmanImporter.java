@@ -20,12 +20,16 @@ import java.time.Duration;
 public class PostmanImporter {
     
     private static final Logger logger = LoggerFactory.getLogger(PostmanImporter.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonUtils.getObjectMapper();
     private static final String OUTPUT_DIR = "src/test/java/com/api/automation/tests/generated";
     private static final String TEMPLATE_DIR = "target/postman-templates";
-    private static final HttpClient httpClient = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
+
+    // Only URL imports need an HTTP client, create it on first use
+    private static class HttpClientHolder {
+        private static final HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
     
     /**
      * Import Postman collection from URL and generate test templates
@@ -96,7 +100,7 @@ public class PostmanImporter {
                     .GET()
                     .build();
             
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = HttpClientHolder.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
             
             if (response.statusCode() != 200) {
                 throw new RuntimeException("Failed to download collection. Status: " + response.statusCode());
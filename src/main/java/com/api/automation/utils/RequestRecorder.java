@@ -0,0 +1,218 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ConfigManager;
+import com.api.automation.config.FilterRegistry;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the last N requests of each test in a thread-confined ring buffer
+ * Recording only stores references to the request specification and response RestAssured already
+ * built (plus timings) into preallocated slots, so a passing test pays a thread-local lookup and a few
+ * field writes per request. Nothing is rendered unless the test fails and the recording is handed to
+ * {@link DebugUtils#materialize}.
+ * RestAssured creates a fresh specification per request, so recorded references are not changed by later requests.
+ */
+public class RequestRecorder implements Filter {
+
+    private static final RequestRecorder INSTANCE = new RequestRecorder();
+    private static final ThreadLocal<Ring> rings = new ThreadLocal<>();
+
+    /**
+     * The shared recording filter
+     */
+    public static RequestRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the recording filter as "recorder" in the global filter registry, once
+     */
+    public static void install() {
+        FilterRegistry.getInstance().register("recorder", INSTANCE);
+        FilterRegistry.getInstance().install();
+    }
+
+    /**
+     * Start recording the calling thread's requests, keeping the configured number of most recent ones
+     */
+    public static void start(String testName) {
+        start(testName, ConfigManager.getInstance().getDebugCaptureRequests());
+    }
+
+    public static void start(String testName, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        Ring ring = rings.get();
+        if (ring == null || ring.slots.length != capacity) {
+            ring = new Ring(capacity);
+            rings.set(ring);
+        }
+        ring.reset(testName);
+    }
+
+    /**
+     * Stop recording and return what was recorded (oldest first); the ring is kept for the thread's next test
+     */
+    public static Recording stop() {
+        Ring ring = rings.get();
+        if (ring == null || ring.testName == null) {
+            return null;
+        }
+        Recording recording = ring.snapshot();
+        ring.reset(null);
+        return recording;
+    }
+
+    /**
+     * Whether the calling thread is recording
+     */
+    public static boolean isRecording() {
+        Ring ring = rings.get();
+        return ring != null && ring.testName != null;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.currentTimeMillis();
+        Response response = ctx.next(requestSpec, responseSpec);
+        Ring ring = rings.get();
+        if (ring != null && ring.testName != null) {
+            ring.record(requestSpec, response, start, System.currentTimeMillis());
+        }
+        return response;
+    }
+
+    /**
+     * One recorded request/response pair
+     */
+    public static final class Exchange {
+        private FilterableRequestSpecification request;
+        private Response response;
+        private long startTime;
+        private long endTime;
+
+        private Exchange() {
+        }
+
+        static Exchange of(FilterableRequestSpecification request, Response response, long startTime, long endTime) {
+            Exchange exchange = new Exchange();
+            exchange.request = request;
+            exchange.response = response;
+            exchange.startTime = startTime;
+            exchange.endTime = endTime;
+            return exchange;
+        }
+
+        private Exchange(Exchange other) {
+            this.request = other.request;
+            this.response = other.response;
+            this.startTime = other.startTime;
+            this.endTime = other.endTime;
+        }
+
+        public FilterableRequestSpecification getRequest() {
+            return request;
+        }
+
+        public Response getResponse() {
+            return response;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        public long getEndTime() {
+            return endTime;
+        }
+    }
+
+    /**
+     * Requests recorded for one test, oldest first
+     */
+    public static final class Recording {
+        private final String testName;
+        private final List<Exchange> exchanges;
+        private final long total;
+
+        private Recording(String testName, List<Exchange> exchanges, long total) {
+            this.testName = testName;
+            this.exchanges = exchanges;
+            this.total = total;
+        }
+
+        public String getTestName() {
+            return testName;
+        }
+
+        public List<Exchange> getExchanges() {
+            return exchanges;
+        }
+
+        /**
+         * Requests made during the test, including those that fell out of the ring
+         */
+        public long getTotalRequests() {
+            return total;
+        }
+
+        public Exchange getLast() {
+            return exchanges.isEmpty() ? null : exchanges.get(exchanges.size() - 1);
+        }
+    }
+
+    private static final class Ring {
+        private final Exchange[] slots;
+        private String testName;
+        private long count;
+
+        Ring(int capacity) {
+            slots = new Exchange[capacity];
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new Exchange();
+            }
+        }
+
+        void record(FilterableRequestSpecification request, Response response, long startTime, long endTime) {
+            // The filter may be both global and added to the request; record each request once
+            if (count > 0 && slots[(int) ((count - 1) % slots.length)].request == request) {
+                return;
+            }
+            Exchange slot = slots[(int) (count++ % slots.length)];
+            slot.request = request;
+            slot.response = response;
+            slot.startTime = startTime;
+            slot.endTime = endTime;
+        }
+
+        void reset(String testName) {
+            this.testName = testName;
+            this.count = 0;
+            // Drop references so a finished test's responses can be collected
+            for (Exchange slot : slots) {
+                slot.request = null;
+                slot.response = null;
+            }
+        }
+
+        Recording snapshot() {
+            int size = (int) Math.min(count, slots.length);
+            List<Exchange> exchanges = new ArrayList<>(size);
+            for (long i = count - size; i < count; i++) {
+                exchanges.add(new Exchange(slots[(int) (i % slots.length)]));
+            }
+            return new Recording(testName, Collections.unmodifiableList(exchanges), count);
+        }
+    }
+}
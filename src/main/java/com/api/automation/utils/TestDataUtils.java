@@ -18,14 +18,14 @@ import java.util.*;
  */
 public class TestDataUtils {
     private static final Logger logger = LoggerFactory.getLogger(TestDataUtils.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectMapper objectMapper = JsonUtils.getObjectMapper();
 
     /**
      * Read JSON test data from file
      */
     public static <T> T readJsonTestData(String filePath, Class<T> clazz) {
         try (InputStream inputStream = getResourceAsStream(filePath)) {
-            return objectMapper.readValue(inputStream, clazz);
+            return JsonUtils.readerFor(clazz).readValue(inputStream);
         } catch (IOException e) {
             logger.error("Error reading JSON test data from {}: {}", filePath, e.getMessage(), e);
             throw new RuntimeException("Error reading JSON test data", e);
@@ -37,8 +37,7 @@ public class TestDataUtils {
      */
     public static <T> List<T> readJsonTestDataAsList(String filePath, Class<T> clazz) {
         try (InputStream inputStream = getResourceAsStream(filePath)) {
-            return objectMapper.readValue(inputStream, 
-                objectMapper.getTypeFactory().constructCollectionType(List.class, clazz));
+            return JsonUtils.listReaderFor(clazz).readValue(inputStream);
         } catch (IOException e) {
             logger.error("Error reading JSON test data list from {}: {}", filePath, e.getMessage(), e);
             throw new RuntimeException("Error reading JSON test data list", e);
@@ -89,134 +88,125 @@ public class TestDataUtils {
      * Read Excel test data
      */
     public static List<Map<String, Object>> readExcelTestData(String filePath, String sheetName) {
-        List<Map<String, Object>> data = new ArrayList<>();
-        
-        try (InputStream inputStream = getResourceAsStream(filePath);
-             Workbook workbook = new XSSFWorkbook(inputStream)) {
-            
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) {
-                throw new RuntimeException("Sheet not found: " + sheetName);
-            }
-            
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                throw new RuntimeException("Header row not found in sheet: " + sheetName);
-            }
-            
-            List<String> headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                headers.add(getCellValueAsString(cell));
-            }
-            
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row != null) {
-                    Map<String, Object> rowData = new HashMap<>();
-                    for (int j = 0; j < headers.size(); j++) {
-                        Cell cell = row.getCell(j);
-                        String header = headers.get(j);
-                        Object value = getCellValue(cell);
-                        rowData.put(header, value);
-                    }
-                    data.add(rowData);
-                }
-            }
-            
-            logger.info("Read {} rows from Excel file: {}, sheet: {}", data.size(), filePath, sheetName);
-            return data;
-            
-        } catch (IOException e) {
-            logger.error("Error reading Excel test data from {}: {}", filePath, e.getMessage(), e);
-            throw new RuntimeException("Error reading Excel test data", e);
-        }
+        return ExcelReader.read(filePath, sheetName);
     }
 
     /**
      * Read Excel test data from first sheet
      */
     public static List<Map<String, Object>> readExcelTestData(String filePath) {
-        try (InputStream inputStream = getResourceAsStream(filePath);
-             Workbook workbook = new XSSFWorkbook(inputStream)) {
-            
-            Sheet sheet = workbook.getSheetAt(0);
-            String sheetName = sheet.getSheetName();
-            logger.info("Reading data from first sheet: {}", sheetName);
-            
-        } catch (IOException e) {
-            logger.error("Error getting first sheet from Excel file: {}", filePath, e);
-            throw new RuntimeException("Error reading Excel file", e);
-        }
-        
-        return readExcelTestData(filePath, getFirstSheetName(filePath));
+        return ExcelReader.read(filePath, null);
     }
 
     /**
-     * Get first sheet name from Excel file
+     * Excel reading, kept out of TestDataUtils so POI classes are only loaded when a workbook is read
+     * (verifying TestDataUtils would otherwise load them for JSON and CSV reads too)
      */
-    private static String getFirstSheetName(String filePath) {
-        try (InputStream inputStream = getResourceAsStream(filePath);
-             Workbook workbook = new XSSFWorkbook(inputStream)) {
-            
-            return workbook.getSheetAt(0).getSheetName();
+    private static final class ExcelReader {
+
+        /**
+         * Rows of the named sheet, or of the first sheet when the name is null, keyed by the header row
+         */
+        private static List<Map<String, Object>> read(String filePath, String sheetName) {
+            List<Map<String, Object>> data = new ArrayList<>();
             
-        } catch (IOException e) {
-            logger.error("Error getting first sheet name from Excel file: {}", filePath, e);
-            throw new RuntimeException("Error reading Excel file", e);
+            try (InputStream inputStream = getResourceAsStream(filePath);
+                 Workbook workbook = new XSSFWorkbook(inputStream)) {
+                
+                Sheet sheet = sheetName != null ? workbook.getSheet(sheetName) : workbook.getSheetAt(0);
+                if (sheet == null) {
+                    throw new RuntimeException("Sheet not found: " + sheetName);
+                }
+                if (sheetName == null) {
+                    sheetName = sheet.getSheetName();
+                    logger.info("Reading data from first sheet: {}", sheetName);
+                }
+                
+                Row headerRow = sheet.getRow(0);
+                if (headerRow == null) {
+                    throw new RuntimeException("Header row not found in sheet: " + sheetName);
+                }
+                
+                List<String> headers = new ArrayList<>();
+                for (Cell cell : headerRow) {
+                    headers.add(getCellValueAsString(cell));
+                }
+                
+                for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                    Row row = sheet.getRow(i);
+                    if (row != null) {
+                        Map<String, Object> rowData = new HashMap<>();
+                        for (int j = 0; j < headers.size(); j++) {
+                            Cell cell = row.getCell(j);
+                            String header = headers.get(j);
+                            Object value = getCellValue(cell);
+                            rowData.put(header, value);
+                        }
+                        data.add(rowData);
+                    }
+                }
+                
+                logger.info("Read {} rows from Excel file: {}, sheet: {}", data.size(), filePath, sheetName);
+                return data;
+                
+            } catch (IOException e) {
+                logger.error("Error reading Excel test data from {}: {}", filePath, e.getMessage(), e);
+                throw new RuntimeException("Error reading Excel test data", e);
+            }
         }
-    }
 
-    /**
-     * Get cell value as Object
-     */
-    private static Object getCellValue(Cell cell) {
-        if (cell == null) {
-            return null;
-        }
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue();
-                } else {
-                    return cell.getNumericCellValue();
-                }
-            case BOOLEAN:
-                return cell.getBooleanCellValue();
-            case FORMULA:
-                return cell.getCellFormula();
-            case BLANK:
-            default:
+        /**
+         * Get cell value as Object
+         */
+        private static Object getCellValue(Cell cell) {
+            if (cell == null) {
                 return null;
+            }
+            
+            switch (cell.getCellType()) {
+                case STRING:
+                    return cell.getStringCellValue();
+                case NUMERIC:
+                    if (DateUtil.isCellDateFormatted(cell)) {
+                        return cell.getDateCellValue();
+                    } else {
+                        return cell.getNumericCellValue();
+                    }
+                case BOOLEAN:
+                    return cell.getBooleanCellValue();
+                case FORMULA:
+                    return cell.getCellFormula();
+                case BLANK:
+                default:
+                    return null;
+            }
         }
-    }
 
-    /**
-     * Get cell value as String
-     */
-    private static String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return "";
-        }
-        
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                } else {
-                    return String.valueOf(cell.getNumericCellValue());
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            case BLANK:
-            default:
+        /**
+         * Get cell value as String
+         */
+        private static String getCellValueAsString(Cell cell) {
+            if (cell == null) {
                 return "";
+            }
+            
+            switch (cell.getCellType()) {
+                case STRING:
+                    return cell.getStringCellValue();
+                case NUMERIC:
+                    if (DateUtil.isCellDateFormatted(cell)) {
+                        return cell.getDateCellValue().toString();
+                    } else {
+                        return String.valueOf(cell.getNumericCellValue());
+                    }
+                case BOOLEAN:
+                    return String.valueOf(cell.getBooleanCellValue());
+                case FORMULA:
+                    return cell.getCellFormula();
+                case BLANK:
+                default:
+                    return "";
+            }
         }
     }
 
@@ -241,7 +231,7 @@ public class TestDataUtils {
         try {
             File file = new File("src/test/resources/testdata/" + filePath);
             file.getParentFile().mkdirs();
-            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, data);
+            JsonUtils.getPrettyWriter().writeValue(file, data);
             logger.info("Test data written to: {}", file.getAbsolutePath());
         } catch (IOException e) {
             logger.error("Error writing JSON test data to {}: {}", filePath, e.getMessage(), e);
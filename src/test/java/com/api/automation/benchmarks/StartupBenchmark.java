@@ -0,0 +1,186 @@
+package com.api.automation.benchmarks;
+
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.config.FrameworkBootstrap;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonUtils;
+import io.restassured.response.Response;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Cold-start benchmark: JVM start -> main -> first response
+ *
+ * Driver mode (no arguments) starts a StubApiServer and launches child JVMs with the test classpath
+ * for three configurations: standard startup, fast startup, and fast startup with an AppCDS archive.
+ * AppCDS only accepts jars on the class path, so the CDS configuration runs from jarred copies of
+ * target/classes and target/test-classes. Each child reports its timings on stdout; medians are
+ * written to target/startup-benchmark.json.
+ *
+ * Run with: mvn -B test-compile exec:exec -Pstartup-benchmark
+ */
+public class StartupBenchmark {
+
+    private static final String RESULT_PREFIX = "STARTUP_RESULT ";
+    private static final Path TARGET = Paths.get("target");
+    private static final Path CDS_DIR = TARGET.resolve("startup-cds");
+    private static final Path CDS_ARCHIVE = CDS_DIR.resolve("startup.jsa");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "child".equals(args[0])) {
+            runChild(args[1]);
+        } else {
+            int runs = Integer.getInteger("startup.benchmark.runs", 5);
+            runDriver(runs);
+        }
+    }
+
+    /**
+     * Measure a single cold start inside the child JVM
+     */
+    private static void runChild(String baseUrl) {
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long mainEntered = System.currentTimeMillis();
+
+        FrameworkBootstrap.initialize();
+        long initialized = System.currentTimeMillis();
+
+        Response response = new BaseApiClient().get(baseUrl + "/v1/bills?page=1&limit=10");
+        long firstResponse = System.currentTimeMillis();
+
+        if (response.getStatusCode() != 200) {
+            throw new IllegalStateException("Unexpected status from stub server: " + response.getStatusCode());
+        }
+        System.out.println(RESULT_PREFIX + (mainEntered - jvmStart) + " " + (initialized - jvmStart) + " " + (firstResponse - jvmStart));
+        System.exit(0);
+    }
+
+    private static void runDriver(int runs) throws Exception {
+        Files.createDirectories(TARGET);
+        Map<String, Object> results = new LinkedHashMap<>();
+
+        try (StubApiServer server = StubApiServer.start()) {
+            String baseUrl = server.getBaseUrl();
+
+            String classPath = System.getProperty("java.class.path");
+            results.put("standard", measure(baseUrl, runs, classPath, List.of("-Dstartup.mode=standard")));
+            results.put("fast", measure(baseUrl, runs, classPath, List.of("-Dstartup.mode=fast", "-XX:TieredStopAtLevel=1")));
+
+            // Training run dumps the classes loaded up to the first response into a dynamic archive
+            String jarClassPath = jarClassPath(classPath);
+            Files.deleteIfExists(CDS_ARCHIVE);
+            launch(baseUrl, jarClassPath, List.of("-Dstartup.mode=fast", "-XX:ArchiveClassesAtExit=" + CDS_ARCHIVE));
+            if (Files.exists(CDS_ARCHIVE)) {
+                results.put("fast+cds", measure(baseUrl, runs, jarClassPath,
+                        List.of("-Dstartup.mode=fast", "-XX:TieredStopAtLevel=1", "-XX:SharedArchiveFile=" + CDS_ARCHIVE)));
+            } else {
+                System.err.println("AppCDS archive was not created, skipping fast+cds configuration");
+            }
+        }
+
+        Path output = TARGET.resolve("startup-benchmark.json");
+        Files.write(output, JsonUtils.objectToJson(results).getBytes(StandardCharsets.UTF_8));
+        System.out.println(JsonUtils.objectToJson(results));
+        System.out.println("Startup benchmark results written to " + output.toAbsolutePath());
+    }
+
+    private static Map<String, Object> measure(String baseUrl, int runs, String classPath, List<String> jvmOptions) throws Exception {
+        List<Long> mainTimes = new ArrayList<>();
+        List<Long> initTimes = new ArrayList<>();
+        List<Long> firstResponseTimes = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            long[] timings = launch(baseUrl, classPath, jvmOptions);
+            mainTimes.add(timings[0]);
+            initTimes.add(timings[1]);
+            firstResponseTimes.add(timings[2]);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jvmOptions", jvmOptions);
+        result.put("runs", runs);
+        result.put("mainMs", median(mainTimes));
+        result.put("initializedMs", median(initTimes));
+        result.put("firstResponseMs", median(firstResponseTimes));
+        result.put("firstResponseSamplesMs", firstResponseTimes);
+        return result;
+    }
+
+    private static long[] launch(String baseUrl, String classPath, List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-Dgroovy.indy=false");
+        command.add("-Dlog4j2.level=WARN");
+        command.add("-cp");
+        command.add(classPath);
+        command.add(StartupBenchmark.class.getName());
+        command.add("child");
+        command.add(baseUrl);
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.PIPE)
+                .directory(new File(System.getProperty("user.dir")))
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        int exitCode = process.waitFor();
+
+        for (String line : output.split("\\R")) {
+            if (line.startsWith(RESULT_PREFIX)) {
+                String[] parts = line.substring(RESULT_PREFIX.length()).trim().split(" ");
+                return new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])};
+            }
+        }
+        throw new IllegalStateException("Child JVM exited with " + exitCode + " without reporting timings:\n" + output);
+    }
+
+    /**
+     * Replace class directories on the class path with jars, as required by AppCDS
+     */
+    private static String jarClassPath(String classPath) throws IOException {
+        Files.createDirectories(CDS_DIR);
+        List<String> entries = new ArrayList<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            Path path = Paths.get(entry);
+            if (Files.isDirectory(path)) {
+                Path jar = CDS_DIR.resolve(path.getFileName() + ".jar");
+                writeJar(path, jar);
+                entries.add(jar.toAbsolutePath().toString());
+            } else {
+                entries.add(entry);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void writeJar(Path directory, Path jar) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                out.putNextEntry(new JarEntry(directory.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
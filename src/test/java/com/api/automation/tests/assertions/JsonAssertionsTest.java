@@ -0,0 +1,139 @@
+package com.api.automation.tests.assertions;
+
+import com.api.automation.assertions.JsonAssertions;
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.models.billpay.enums.PaymentStatus;
+import com.api.automation.tests.support.StubApiServer;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JSON Assertion DSL Tests
+ * Validates soft, single-pass assertions over parsed responses and their Rest Assured style messages
+ */
+@Epic("Framework")
+@Feature("Assertions")
+public class JsonAssertionsTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(1000);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static Response get(String path, int limit) {
+        return new BaseApiClient()
+                .withQueryParam("page", 1)
+                .withQueryParam("limit", limit)
+                .get(server.getBaseUrl() + path);
+    }
+
+    @Test
+    @DisplayName("Passing expectations verify silently")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Soft Assertions")
+    @Description("Status, equality, matchers, sizes and array filters all pass on a valid page")
+    void testPassingExpectations() {
+        Response response = get("/v1/payments", 1000);
+
+        JsonAssertions.assertThat(response)
+                .statusCode(200)
+                .isEqualTo("success", true)
+                .isEqualTo("meta.total", 1000L)
+                .isEqualTo("data[0].amount.value", 101.45)
+                .isEqualTo("data[1].status", PaymentStatus.COMPLETED)
+                .hasSize("data", 1000)
+                .field("data[0].id", startsWith("pay-"))
+                .field("data.id", hasItem("pay-00500"))
+                .containsFields("data[0].transactionId", "meta.page")
+                .isNull("data[0].refundedAt")
+                .allMatch("data", "amount.value > 100 && userId != null")
+                .anyMatch("data", "id == 'pay-01000'")
+                .noneMatch("data", "status == 'unknown'")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("All failures are collected into one error")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Soft Assertions")
+    @Description("Every failing expectation is reported, not just the first one")
+    void testCollectsAllFailures() {
+        Response response = get("/v1/bills", 50);
+
+        AssertionError error = assertThrows(AssertionError.class, () -> JsonAssertions.assertThat(response)
+                .statusCode(201)
+                .isEqualTo("meta.total", 999)
+                .field("data[0].id", startsWith("pay-"))
+                .hasSize("data", 10)
+                .allMatch("data", "amount.value < 120")
+                .isEqualTo("success", true)
+                .verify());
+
+        String message = error.getMessage();
+        assertTrue(message.startsWith("5 expectations failed.\n"), "Failure count should lead: " + message);
+        assertTrue(message.contains("Expected status code <201> but was <200>."), message);
+        assertTrue(message.contains("JSON path meta.total doesn't match.\nExpected: <999>\n  Actual: <1000>\n"), message);
+        assertTrue(message.contains("Expected: a string starting with \"pay-\"\n  Actual: bill-00001"), message);
+        assertTrue(message.contains("size was <50>"), message);
+        assertTrue(message.contains("31 of 50 elements did not match, at indexes [19, 20, 21, 22, 23, 24, 25, 26, 27, 28]..."), message);
+        assertFalse(message.contains("success"), "Passing expectations should not be reported");
+    }
+
+    @Test
+    @DisplayName("Messages match Rest Assured's")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Messages")
+    @Description("Status and body failures read the same as response.then() failures")
+    void testMessagesMatchRestAssured() {
+        Response response = get("/v1/bills", 5);
+
+        AssertionError restAssured = assertThrows(AssertionError.class,
+                () -> response.then().body("meta.limit", equalTo(6)));
+        AssertionError ours = assertThrows(AssertionError.class,
+                () -> JsonAssertions.assertThat(response).field("meta.limit", equalTo(6)).verify());
+        assertEquals(restAssured.getMessage().trim(), ours.getMessage().trim());
+
+        restAssured = assertThrows(AssertionError.class, () -> response.then().body("data[0].id", equalTo("bill-9")));
+        ours = assertThrows(AssertionError.class, () -> JsonAssertions.assertThat(response).isEqualTo("data[0].id", "bill-9").verify());
+        assertEquals(restAssured.getMessage().trim(), ours.getMessage().trim());
+
+        AssertionError status = assertThrows(AssertionError.class, () -> JsonAssertions.assertStatusCode(response, 204));
+        AssertionError restAssuredStatus = assertThrows(AssertionError.class, () -> response.then().statusCode(204));
+        assertEquals(restAssuredStatus.getMessage().trim(), status.getMessage().trim());
+    }
+
+    @Test
+    @DisplayName("Check returns failures without throwing")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Soft Assertions")
+    @Description("Plain JSON can be checked and failures inspected, including paths that need Groovy")
+    void testCheck() {
+        String json = "{\"items\":[{\"sku\":\"a\",\"qty\":2},{\"sku\":\"b\",\"qty\":0}]}";
+
+        List<String> failures = JsonAssertions.assertThat(json)
+                .allMatch("items", "qty > 0")
+                .isEqualTo("items.findAll { it.qty > 0 }.sku", List.of("a"))
+                .isNotNull("items[5]")
+                .check();
+
+        assertEquals(2, failures.size(), "Two expectations should fail: " + failures);
+        assertTrue(failures.get(0).contains("1 of 2 elements did not match, at indexes [1]"), failures.get(0));
+        assertTrue(failures.get(1).contains("JSON path items[5] doesn't match."), failures.get(1));
+    }
+}
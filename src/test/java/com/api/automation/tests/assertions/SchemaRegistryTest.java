@@ -0,0 +1,121 @@
+package com.api.automation.tests.assertions;
+
+import com.api.automation.assertions.JsonAssertions;
+import com.api.automation.assertions.SchemaRegistry;
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Schema Registry Tests
+ * Validates cached schema compilation, OpenAPI-derived schemas and parallel list validation
+ */
+@Epic("Framework")
+@Feature("Schema Validation")
+public class SchemaRegistryTest {
+
+    private static final String BILL_SCHEMA = "classpath:schemas/bill.json";
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(500);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Schemas are compiled once per reference")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Schema Registry")
+    @Description("The same compiled schema is returned for repeated lookups; unknown references fail clearly")
+    void testCachedCompilation() {
+        assertSame(SchemaRegistry.get(BILL_SCHEMA), SchemaRegistry.get(BILL_SCHEMA), "Schema should be compiled once");
+        assertThrows(IllegalArgumentException.class, () -> SchemaRegistry.get("classpath:schemas/missing.json"));
+        assertThrows(IllegalArgumentException.class, () -> SchemaRegistry.get("schemas/bill.json"));
+    }
+
+    @Test
+    @DisplayName("Every element of a large list is validated")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("List Validation")
+    @Description("All 500 bills of a page validate, with validation time reported apart from the response time")
+    void testValidateEach() {
+        Response response = new BaseApiClient()
+                .withQueryParam("page", 1)
+                .withQueryParam("limit", 500)
+                .get(server.getBaseUrl() + "/v1/bills");
+
+        SchemaRegistry.Result result = SchemaRegistry.validateEach(response, "data", BILL_SCHEMA).assertValid();
+        assertEquals(500, result.getItemCount(), "Every bill should be validated");
+        assertTrue(result.getValidationNanos() > 0, "Validation time should be measured");
+        assertTrue(result.getResponseTimeMillis() >= 0, "Response time should be reported separately");
+
+        JsonAssertions.assertThat(response)
+                .statusCode(200)
+                .eachMatchesSchema("data", BILL_SCHEMA)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Invalid elements are reported by index")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("List Validation")
+    @Description("Errors from parallel validation name the element and the failing pointer, in order")
+    void testInvalidElements() {
+        ArrayNode bills = JsonUtils.getObjectMapper().createArrayNode();
+        IntStream.rangeClosed(1, 200).forEach(i -> bills.add(JsonUtils.getObjectMapper().valueToTree(StubApiServer.bill(i))));
+        ((ObjectNode) bills.get(17)).put("status", "lost");
+        ((ObjectNode) bills.get(150).get("amount")).put("currency", "rupees");
+        ((ObjectNode) bills.get(199)).remove("dueDate");
+
+        SchemaRegistry.Result result = SchemaRegistry.validateEach(bills, BILL_SCHEMA);
+
+        assertFalse(result.isValid(), "Invalid bills should fail");
+        assertEquals(3, result.getErrors().size(), "One error per broken bill: " + result.getErrors());
+        assertTrue(result.getErrors().get(0).startsWith("[17]/status:"), result.getErrors().get(0));
+        assertTrue(result.getErrors().get(1).startsWith("[150]/amount/currency:"), result.getErrors().get(1));
+        assertTrue(result.getErrors().get(2).startsWith("[199]/:"), result.getErrors().get(2));
+        AssertionError error = assertThrows(AssertionError.class, result::assertValid);
+        assertTrue(error.getMessage().contains("3 schema error(s) in 200 item(s)"), error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Schemas are derived from OpenAPI components")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Spec Schemas")
+    @Description("Component schemas of enhanced-swagger.json validate matching and mismatching users")
+    void testSpecSchemas() {
+        JsonNode schema = SchemaRegistry.fromSpec("enhanced-swagger.json", "UserProfile");
+        assertEquals("#/definitions/UserProfile", schema.path("$ref").asText());
+        assertTrue(schema.path("definitions").has("User"), "All components should be available to references");
+
+        JsonNode valid = JsonUtils.getObjectMapper().valueToTree(Map.of(
+                "id", 7, "name", "Ada", "preferences", Map.of("theme", "dark", "notifications", true)));
+        JsonNode invalid = JsonUtils.getObjectMapper().valueToTree(Map.of(
+                "id", "seven", "preferences", Map.of("theme", "neon")));
+
+        assertTrue(SchemaRegistry.validate(valid, "spec:enhanced-swagger.json#UserProfile").isValid());
+        SchemaRegistry.Result result = SchemaRegistry.validate(invalid, "spec:enhanced-swagger.json#UserProfile");
+        assertEquals(2, result.getErrors().size(), "Type and enum violations expected: " + result.getErrors());
+        assertThrows(IllegalArgumentException.class, () -> SchemaRegistry.get("spec:enhanced-swagger.json#Invoice"));
+    }
+}
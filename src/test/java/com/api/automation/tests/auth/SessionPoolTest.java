@@ -0,0 +1,146 @@
+package com.api.automation.tests.auth;
+
+import com.api.automation.auth.AuthHandler;
+import com.api.automation.auth.AuthSession;
+import com.api.automation.auth.SessionPool;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Session Pool Tests
+ * Uses an in-memory authenticator, no API calls are made
+ */
+@Epic("Framework")
+@Feature("Session Pool")
+public class SessionPoolTest {
+
+    private static SessionPool.Authenticator countingAuthenticator(AtomicInteger logins, Duration ttl) {
+        return identity -> new AuthSession(identity.getName(), AuthHandler.AuthType.BEARER,
+                identity.getName() + "-token-" + logins.incrementAndGet(),
+                ttl != null ? Instant.now().plus(ttl) : null);
+    }
+
+    @Test
+    @DisplayName("Pool logs in every identity up front")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Session Pool")
+    @Description("All configured identities are logged in when the pool is built")
+    void testAllIdentitiesLoggedIn() {
+        AtomicInteger logins = new AtomicInteger();
+        try (SessionPool pool = SessionPool.builder()
+                .identities(SessionPool.Identity.parse("a:1, b:2, c:3"))
+                .authenticator(countingAuthenticator(logins, null))
+                .build()) {
+            assertEquals(3, logins.get(), "Each identity should log in once");
+            assertEquals(3, pool.getStats().getIdle(), "All sessions should be idle");
+        }
+    }
+
+    @Test
+    @DisplayName("Leases rotate across identities")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Session Pool")
+    @Description("Consecutive leases are spread across all identities")
+    void testLeasesRotateAcrossIdentities() {
+        try (SessionPool pool = SessionPool.builder()
+                .identities(SessionPool.Identity.parse("a:1,b:2,c:3"))
+                .authenticator(countingAuthenticator(new AtomicInteger(), null))
+                .build()) {
+            Set<String> used = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                try (SessionPool.Lease lease = pool.lease()) {
+                    used.add(lease.getSession().getIdentity());
+                }
+            }
+            assertEquals(Set.of("a", "b", "c"), used, "Every identity should be leased once");
+            assertEquals(3, pool.getStats().getLeases(), "Lease count should be reported");
+        }
+    }
+
+    @Test
+    @DisplayName("Expiring and invalidated sessions are renewed")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Session Renewal")
+    @Description("A session inside the renewal window or invalidated by the caller is logged in again")
+    void testSessionRenewal() {
+        AtomicInteger logins = new AtomicInteger();
+        try (SessionPool pool = SessionPool.builder()
+                .identity("a", "1")
+                .authenticator(countingAuthenticator(logins, Duration.ofSeconds(10)))
+                .renewBefore(Duration.ofSeconds(60))
+                .build()) {
+            String first;
+            try (SessionPool.Lease lease = pool.lease()) {
+                first = lease.getSession().getCredential();
+            }
+            assertNotEquals("a-token-1", first, "Session inside the renewal window should be renewed");
+            assertEquals(1, pool.getStats().getRenewals(), "Renewal should be counted");
+        }
+
+        try (SessionPool pool = SessionPool.builder()
+                .identity("b", "2")
+                .authenticator(countingAuthenticator(new AtomicInteger(), null))
+                .build()) {
+            try (SessionPool.Lease lease = pool.lease()) {
+                lease.invalidate();
+            }
+            try (SessionPool.Lease lease = pool.lease()) {
+                assertFalse(lease.getSession().isInvalidated(), "Invalidated session should be replaced");
+            }
+            assertEquals(1, pool.getStats().getRenewals(), "Renewal should be counted");
+        }
+    }
+
+    @Test
+    @DisplayName("Lease times out when all sessions are in use")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Session Pool")
+    @Description("Waiting for a session is bounded by the lease timeout")
+    void testLeaseTimeout() {
+        try (SessionPool pool = SessionPool.builder()
+                .identity("a", "1")
+                .authenticator(countingAuthenticator(new AtomicInteger(), null))
+                .leaseTimeout(Duration.ofMillis(50))
+                .build()) {
+            try (SessionPool.Lease ignored = pool.lease()) {
+                assertThrows(IllegalStateException.class, pool::lease, "Second lease should time out");
+            }
+            assertTrue(pool.getStats().getMaxWaitMillis() >= 40, "Lease wait time should be reported");
+        }
+    }
+
+    @Test
+    @DisplayName("Pool survives partial login failures")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Session Pool")
+    @Description("Identities that fail to log in are skipped, the pool fails only if none succeed")
+    void testPartialLoginFailure() {
+        SessionPool.Authenticator failingForB = identity -> {
+            if ("b".equals(identity.getName())) {
+                throw new IllegalStateException("invalid credentials");
+            }
+            return AuthSession.of(identity.getName(), AuthHandler.AuthType.COOKIE_SESSION, "session-" + identity.getName());
+        };
+        try (SessionPool pool = SessionPool.builder()
+                .identities(List.of(new SessionPool.Identity("a", "1"), new SessionPool.Identity("b", "2")))
+                .authenticator(failingForB)
+                .build()) {
+            assertEquals(1, pool.getStats().getIdle(), "Only the successful login should be pooled");
+        }
+
+        assertThrows(RuntimeException.class, () -> SessionPool.builder()
+                .identity("b", "2")
+                .authenticator(failingForB)
+                .build(), "Pool without any session should fail to build");
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.automation.tests.auth;
+
+import com.api.automation.auth.TokenIntrospector;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Token Introspection Tests
+ * Validates local JWT claim decoding without calling /v1/auth/me
+ */
+@Epic("Framework")
+@Feature("Token Introspection")
+public class TokenIntrospectorTest {
+
+    private static final Duration MARGIN = Duration.ofSeconds(30);
+
+    private static String jwt(String claimsJson) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(claimsJson.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+
+    @Test
+    @DisplayName("Decode JWT claims locally")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Token Introspection")
+    @Description("exp, nbf, sub and scopes are read from the JWT payload")
+    void testDecodeClaims() {
+        long exp = Instant.now().plusSeconds(3600).getEpochSecond();
+        String token = jwt("{\"sub\":\"demo\",\"exp\":" + exp + ",\"nbf\":1,\"scope\":\"bills:read payments:write\"}");
+
+        TokenIntrospector.TokenInfo info = TokenIntrospector.inspect(token);
+        assertFalse(info.isOpaque(), "JWT should be decodable");
+        assertEquals("demo", info.getSubject(), "Subject should match");
+        assertEquals(exp, info.getExpiresAt().getEpochSecond(), "Expiry should match");
+        assertTrue(info.hasScope("payments:write"), "Space separated scopes should be split");
+        assertSame(info, TokenIntrospector.inspect(token), "Decoded token should be cached");
+        assertEquals(TokenIntrospector.Status.ACTIVE, TokenIntrospector.evaluate(token, MARGIN));
+    }
+
+    @Test
+    @DisplayName("Expired, not-yet-valid and expiring tokens")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Token Introspection")
+    @Description("Validity windows are evaluated against the safety margin")
+    void testValidityWindows() {
+        long now = Instant.now().getEpochSecond();
+
+        assertEquals(TokenIntrospector.Status.INACTIVE,
+                TokenIntrospector.evaluate(jwt("{\"exp\":" + (now - 10) + "}"), MARGIN), "Expired token");
+        assertEquals(TokenIntrospector.Status.INACTIVE,
+                TokenIntrospector.evaluate(jwt("{\"nbf\":" + (now + 600) + ",\"exp\":" + (now + 3600) + "}"), MARGIN),
+                "Token not yet valid");
+        assertEquals(TokenIntrospector.Status.EXPIRING,
+                TokenIntrospector.evaluate(jwt("{\"exp\":" + (now + 5) + "}"), MARGIN), "Token inside margin");
+    }
+
+    @Test
+    @DisplayName("Opaque tokens need a network probe")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Token Introspection")
+    @Description("Tokens that are not JWTs are reported as opaque")
+    void testOpaqueTokens() {
+        assertEquals(TokenIntrospector.Status.OPAQUE, TokenIntrospector.evaluate("demo-jwt-token-456", MARGIN));
+        assertEquals(TokenIntrospector.Status.OPAQUE, TokenIntrospector.evaluate("a.b.c", MARGIN));
+        assertEquals(TokenIntrospector.Status.OPAQUE, TokenIntrospector.evaluate(null, MARGIN));
+    }
+}
@@ -1,26 +1,36 @@
 package com.api.automation.tests.base;
 
 import com.api.automation.config.ConfigManager;
-import com.api.automation.config.RestAssuredConfig;
+import com.api.automation.config.FilterRegistry;
+import com.api.automation.config.FrameworkBootstrap;
+import com.api.automation.reporting.AllureAttachmentFilter;
+import com.api.automation.reporting.CaptureLoggingFilter;
 import com.api.automation.reporting.ExtentReportManager;
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Base test class for all API tests
+ * Requests are recorded per test and debug artifacts are written for failures by {@link DebugCaptureExtension}
+ * Each test's wall time, network wait, CPU time and allocations are metered by {@link ResourceMetricsExtension}
+ * Logging and reporting filters are registered once in the {@link FilterRegistry}; classes opt in or out with {@link GlobalFilters}
+ * Each test invocation's log events go to their own file, routed by {@link TestLogRoutingExtension}
  */
+@ExtendWith({TestLogRoutingExtension.class, GlobalFiltersExtension.class, DebugCaptureExtension.class, ResourceMetricsExtension.class})
 public abstract class BaseTest {
     protected static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
     protected static ConfigManager config;
+    
+    /**
+     * MDC key the log4j2 routing appender uses to give each test its own log file
+     */
+    public static final String TEST_ID = "testId";
 
     @BeforeAll
     static void setUpClass() {
@@ -31,20 +41,15 @@ public abstract class BaseTest {
             config = ConfigManager.getInstance();
             logger.info("ConfigManager initialized successfully for environment: {}", config.getEnvironment());
             
-            // Initialize Rest Assured
-            RestAssuredConfig.setup();
-            logger.info("RestAssured configuration completed");
-            
-            // Add filters for logging and reporting
-            RestAssured.filters(
-                new RequestLoggingFilter(),
-                new ResponseLoggingFilter(),
-                new AllureRestAssured()
-            );
+            // Initialize Rest Assured and reporting (eagerly, or lazily with background warmup in fast startup mode)
+            FrameworkBootstrap.initialize();
+            logger.info("Framework initialized (fast startup: {})", FrameworkBootstrap.isFastStartup());
             
-            // Initialize Extent Reports
-            ExtentReportManager.initReports();
-            logger.info("Extent Reports initialized");
+            // Register filters for logging and reporting once per run; the capture policy decides what each request records
+            FilterRegistry registry = FilterRegistry.getInstance();
+            registry.register("logging", new CaptureLoggingFilter());
+            registry.register("allure", new AllureAttachmentFilter());
+            registry.install();
             
         } catch (Exception e) {
             logger.error("Failed to set up test class", e);
@@ -95,8 +100,8 @@ public abstract class BaseTest {
         // Flush reports
         ExtentReportManager.flushReports();
         
-        // Reset Rest Assured
-        RestAssuredConfig.reset();
+        // Rest Assured's configuration is left in place: classes run concurrently, and resetting it here would
+        // strip the filter registry from requests other classes still have in flight
         
         logger.info("Test class teardown completed");
     }
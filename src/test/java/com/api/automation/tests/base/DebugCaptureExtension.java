@@ -0,0 +1,30 @@
+package com.api.automation.tests.base;
+
+import com.api.automation.utils.DebugUtils;
+import com.api.automation.utils.RequestRecorder;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Records each test's requests and writes curl/HAR/report artifacts only when the test fails
+ * Aborted tests (failed assumptions) are skips, not failures, and get no artifacts.
+ * A passing test costs a slot update per request in its thread's {@link RequestRecorder} ring.
+ */
+public class DebugCaptureExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RequestRecorder.install();
+        RequestRecorder.start(context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        RequestRecorder.Recording recording = RequestRecorder.stop();
+        context.getExecutionException()
+                .filter(error -> !(error instanceof TestAbortedException))
+                .ifPresent(error -> DebugUtils.materialize(recording, error));
+    }
+}
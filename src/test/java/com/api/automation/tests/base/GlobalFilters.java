@@ -0,0 +1,28 @@
+package com.api.automation.tests.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per-class opt-in/opt-out of filters registered in the {@link com.api.automation.config.FilterRegistry}
+ * Applied to the class's test threads by {@link GlobalFiltersExtension}, e.g.
+ * {@code @GlobalFilters(disable = "logging")} for a class that makes many requests.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface GlobalFilters {
+
+    /**
+     * Registered filters to run for this class, including ones not enabled by default
+     */
+    String[] enable() default {};
+
+    /**
+     * Registered filters to skip for this class
+     */
+    String[] disable() default {};
+}
@@ -0,0 +1,46 @@
+package com.api.automation.tests.base;
+
+import com.api.automation.config.FilterRegistry;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Applies a test class's {@link GlobalFilters} selection to the threads running it
+ * Also re-installs the registry before each test, in case code outside the framework has reset RestAssured.
+ */
+public class GlobalFiltersExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        select(context);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        FilterRegistry.getInstance().install();
+        select(context);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        FilterRegistry.getInstance().clearThreadSelection();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        FilterRegistry.getInstance().clearThreadSelection();
+    }
+
+    private static void select(ExtensionContext context) {
+        FilterRegistry registry = FilterRegistry.getInstance();
+        registry.clearThreadSelection();
+        AnnotationSupport.findAnnotation(context.getRequiredTestClass(), GlobalFilters.class).ifPresent(selection -> {
+            registry.enableForCurrentThread(selection.enable());
+            registry.disableForCurrentThread(selection.disable());
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.api.automation.tests.base;
+
+import com.api.automation.config.ConfigManager;
+import com.api.automation.config.FilterRegistry;
+import com.api.automation.reporting.ExtentReportManager;
+import com.api.automation.reporting.RunHistory;
+import com.api.automation.reporting.TestResourceMetrics;
+import io.restassured.filter.OrderedFilter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Meters each test method's wall time, CPU time and allocations with {@link TestResourceMetrics}
+ * Runs inside the @BeforeEach/@AfterEach methods, so the figures cover the test body and the line reaches the
+ * Extent test before BaseTest ends it. The outcome, duration, retries and endpoint latencies are also added to
+ * the {@link RunHistory} unless history.enabled is false.
+ */
+public class ResourceMetricsExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (!ConfigManager.getInstance().getBooleanProperty("metrics.enabled", true)) {
+            return;
+        }
+        FilterRegistry registry = FilterRegistry.getInstance();
+        registry.register("network-timer", TestResourceMetrics.getNetworkTimer(), OrderedFilter.LOWEST_PRECEDENCE, true);
+        registry.install();
+        TestResourceMetrics.start(context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        TestResourceMetrics.Sample sample = TestResourceMetrics.stop();
+        if (sample == null) {
+            return;
+        }
+        if (ExtentReportManager.hasTest()) {
+            ExtentReportManager.logInfo(sample.toString());
+        }
+        if (ConfigManager.getInstance().getBooleanProperty("history.enabled", true)) {
+            RunHistory.getInstance().record(row(sample, context));
+        }
+    }
+
+    private static RunHistory.Row.Builder row(TestResourceMetrics.Sample sample, ExtensionContext context) {
+        RunHistory.Outcome outcome = context.getExecutionException()
+                .map(error -> error instanceof TestAbortedException ? RunHistory.Outcome.SKIPPED : RunHistory.Outcome.FAILED)
+                .orElse(RunHistory.Outcome.PASSED);
+        RunHistory.Row.Builder row = RunHistory.Row.builder()
+                .test(context.getRequiredTestClass().getName() + "." + context.getRequiredTestMethod().getName())
+                .outcome(outcome)
+                .durationNanos(sample.getWallNanos())
+                .retries(sample.getRetries());
+        sample.getEndpoints().forEach((endpoint, time) -> row.endpoint(endpoint, time.getCalls(), time.getTotalNanos()));
+        return row;
+    }
+}
@@ -0,0 +1,40 @@
+package com.api.automation.tests.base;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.MDC;
+
+/**
+ * Routes each test invocation's log events to logs/tests/&lt;testId&gt;.log through the {@link BaseTest#TEST_ID} MDC entry.
+ * The id is the test class and method, plus the invocation number of each repeated, parameterized or dynamic
+ * invocation in the test's JUnit unique id, so invocations of one method get separate files.
+ */
+public class TestLogRoutingExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        MDC.put(BaseTest.TEST_ID, testId(context));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        MDC.remove(BaseTest.TEST_ID);
+    }
+
+    /**
+     * File-safe id for a test invocation, e.g. BillTests.testList or BillTests.testStatus-3
+     */
+    public static String testId(ExtensionContext context) {
+        StringBuilder id = new StringBuilder(context.getRequiredTestClass().getSimpleName())
+                .append('.').append(context.getRequiredTestMethod().getName());
+        // Unique ids are [type:value] segments joined by '/'; invocations have values like #3
+        for (String segment : context.getUniqueId().split("/")) {
+            int colon = segment.indexOf(':');
+            if (colon > 0 && segment.startsWith("#", colon + 1) && segment.endsWith("]")) {
+                id.append('-').append(segment, colon + 2, segment.length() - 1);
+            }
+        }
+        return id.toString().replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+}
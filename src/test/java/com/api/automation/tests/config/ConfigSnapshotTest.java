@@ -0,0 +1,84 @@
+package com.api.automation.tests.config;
+
+import com.api.automation.config.ConfigManager;
+import com.api.automation.config.ConfigSnapshot;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Configuration Snapshot Tests
+ * Validates placeholder resolution and atomic snapshot reloads
+ */
+@Epic("Framework")
+@Feature("Configuration")
+public class ConfigSnapshotTest {
+
+    @Test
+    @DisplayName("Resolve placeholders with defaults")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Placeholder Resolution")
+    @Description("${NAME:default} uses the default when neither a system property nor an env var is set")
+    void testPlaceholderDefaults() {
+        assertEquals("jdbc:h2:mem:testdb",
+                ConfigSnapshot.resolvePlaceholders("db.url", "${CONFIG_SNAPSHOT_TEST_UNSET:jdbc:h2:mem:testdb}"));
+        assertEquals("", ConfigSnapshot.resolvePlaceholders("db.password", "${CONFIG_SNAPSHOT_TEST_UNSET:}"));
+        assertEquals("", ConfigSnapshot.resolvePlaceholders("token", "${CONFIG_SNAPSHOT_TEST_UNSET}"),
+                "Unresolved placeholder without default should be empty");
+        assertEquals("plain-value", ConfigSnapshot.resolvePlaceholders("key", "plain-value"));
+    }
+
+    @Test
+    @DisplayName("Resolve placeholders from environment variables")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Placeholder Resolution")
+    @Description("Environment variables replace placeholders inside larger values")
+    void testPlaceholderFromEnvironment() {
+        String path = System.getenv("PATH");
+        assertNotNull(path, "PATH should be set in the test environment");
+        assertEquals("prefix-" + path + "-suffix",
+                ConfigSnapshot.resolvePlaceholders("key", "prefix-${PATH:unused}-suffix"));
+    }
+
+    @Test
+    @DisplayName("Loaded configuration has resolved and pre-parsed values")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Configuration Snapshot")
+    @Description("Placeholders from the properties file are resolved and hot-path values are typed")
+    void testLoadedSnapshot() {
+        ConfigSnapshot snapshot = ConfigManager.getInstance().getSnapshot();
+
+        assertFalse(snapshot.asMap().values().stream().anyMatch(value -> value.contains("${")),
+                "No unresolved placeholders should remain");
+        assertEquals(snapshot.getInt("retry.attempts"), snapshot.getRetryAttempts());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.asMap().put("base.url", "x"),
+                "Snapshot should be immutable");
+    }
+
+    @Test
+    @DisplayName("Reload publishes a new snapshot to listeners")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Hot Reload")
+    @Description("reload() swaps the snapshot atomically and notifies listeners")
+    void testReloadNotifiesListeners() {
+        ConfigManager config = ConfigManager.getInstance();
+        AtomicReference<ConfigSnapshot> received = new AtomicReference<>();
+        Consumer<ConfigSnapshot> listener = received::set;
+        config.addReloadListener(listener);
+        try {
+            ConfigSnapshot before = config.getSnapshot();
+            ConfigSnapshot after = config.reload();
+
+            assertNotSame(before, after, "Reload should publish a new snapshot");
+            assertSame(after, received.get(), "Listener should receive the new snapshot");
+            assertEquals(before.asMap(), after.asMap(), "Unchanged file should produce equal values");
+        } finally {
+            config.removeReloadListener(listener);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.api.automation.tests.config;
+
+import com.api.automation.config.FilterRegistry;
+import com.api.automation.reporting.CaptureLoggingFilter;
+import com.api.automation.reporting.CapturePolicy;
+import com.api.automation.tests.base.BaseTest;
+import com.api.automation.tests.base.GlobalFilters;
+import com.api.automation.tests.base.GlobalFiltersExtension;
+import com.api.automation.tests.support.StubApiServer;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Filter Registry Tests
+ * Validates idempotent, ordered filter registration, per-thread selection and per-filter cost
+ */
+@Epic("Framework")
+@Feature("Configuration")
+@ExtendWith(GlobalFiltersExtension.class)
+@GlobalFilters(enable = "filter-registry-opt-in", disable = "filter-registry-opt-out")
+public class FilterRegistryTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(10);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static Filter counting(AtomicInteger calls) {
+        return (requestSpec, responseSpec, ctx) -> {
+            calls.incrementAndGet();
+            return ctx.next(requestSpec, responseSpec);
+        };
+    }
+
+    private static Filter tracing(List<String> trace, String name) {
+        return (requestSpec, responseSpec, ctx) -> {
+            trace.add(name);
+            return ctx.next(requestSpec, responseSpec);
+        };
+    }
+
+    @Test
+    @DisplayName("Repeated registration keeps the chain flat")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Filter Registry")
+    @Description("Registering the same filters from 200 test classes leaves one entry each, and each request runs them once")
+    void testIdempotentRegistration() {
+        FilterRegistry registry = new FilterRegistry();
+        AtomicInteger calls = new AtomicInteger();
+        PrintStream nullStream = new PrintStream(OutputStream.nullOutputStream());
+        Filter first = null;
+        for (int i = 0; i < 200; i++) {
+            Filter registered = registry.register("counter", counting(calls));
+            registry.register("logging", new CaptureLoggingFilter(CapturePolicy.captureAll(), nullStream));
+            first = first == null ? registered : first;
+            assertSame(first, registered, "The first filter registered under a name is kept");
+        }
+        assertEquals(List.of("counter", "logging"), registry.getActiveChain());
+
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().filter(registry).get(server.getBaseUrl() + "/health");
+        }
+        assertEquals(3, calls.get(), "Each request should run a registered filter once");
+        assertTrue(registry.getStats().stream().allMatch(stats -> stats.getInvocations() == 3), "Stats: " + registry.getStats());
+
+        assertTrue(registry.unregister("counter"));
+        assertFalse(registry.unregister("counter"));
+        assertEquals(List.of("logging"), registry.getActiveChain());
+    }
+
+    @Test
+    @DisplayName("Filters run in order and threads choose their own")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Filter Registry")
+    @Description("Filters run by ascending order whatever the registration order; selections apply to the calling thread only")
+    void testOrderAndSelection() throws Exception {
+        FilterRegistry registry = new FilterRegistry();
+        List<String> trace = new ArrayList<>();
+        registry.register("late", tracing(trace, "late"), 100, true);
+        registry.register("early", tracing(trace, "early"), -100, true);
+        registry.register("optional", tracing(trace, "optional"), 0, false);
+
+        RestAssured.given().filter(registry).get(server.getBaseUrl() + "/health");
+        assertEquals(List.of("early", "late"), trace, "Filters not enabled by default are skipped");
+
+        trace.clear();
+        registry.enableForCurrentThread("optional");
+        registry.disableForCurrentThread("early");
+        assertEquals(List.of("optional", "late"), registry.getActiveChain());
+        RestAssured.given().filter(registry).get(server.getBaseUrl() + "/health");
+        assertEquals(List.of("optional", "late"), trace);
+
+        List<String> otherThread = new ArrayList<>();
+        Thread other = new Thread(() -> otherThread.addAll(registry.getActiveChain()));
+        other.start();
+        other.join();
+        assertEquals(List.of("early", "late"), otherThread, "Selections should not leak to other threads");
+
+        registry.clearThreadSelection();
+        assertEquals(List.of("early", "late"), registry.getActiveChain());
+    }
+
+    @Test
+    @DisplayName("Each filter is charged for its own time")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Filter Registry")
+    @Description("A filter's time excludes the filters and request after it")
+    void testStats() {
+        FilterRegistry registry = new FilterRegistry();
+        registry.register("outer", tracing(new ArrayList<>(), "outer"), 0, true);
+        registry.register("slow", (requestSpec, responseSpec, ctx) -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ctx.next(requestSpec, responseSpec);
+        }, 1, true);
+
+        RestAssured.given().filter(registry).get(server.getBaseUrl() + "/health");
+        FilterRegistry.Stats outer = registry.getStats().get(0);
+        FilterRegistry.Stats slow = registry.getStats().get(1);
+        assertEquals("outer", outer.getName());
+        assertTrue(slow.getTotalNanos() >= 20_000_000L, "The slow filter's sleep should be charged to it: " + slow);
+        assertTrue(outer.getTotalNanos() < 20_000_000L, "The outer filter should not be charged for the slow one: " + outer);
+
+        registry.resetStats();
+        assertEquals(0, registry.getStats().get(1).getInvocations());
+    }
+
+    @Test
+    @DisplayName("Test classes select filters with @GlobalFilters")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Filter Registry")
+    @Description("The class annotation is applied to the shared registry for the test's thread")
+    void testClassSelection() {
+        FilterRegistry registry = FilterRegistry.getInstance();
+        registry.register("filter-registry-opt-in", (requestSpec, responseSpec, ctx) -> ctx.next(requestSpec, responseSpec), 0, false);
+        registry.register("filter-registry-opt-out", (requestSpec, responseSpec, ctx) -> ctx.next(requestSpec, responseSpec), 0, true);
+        assertTrue(registry.isEnabled("filter-registry-opt-in"), "The class opted in");
+        assertFalse(registry.isEnabled("filter-registry-opt-out"), "The class opted out");
+        registry.unregister("filter-registry-opt-in");
+        registry.unregister("filter-registry-opt-out");
+    }
+
+    @Test
+    @DisplayName("Another class's teardown leaves the registry in place")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Filter Registry")
+    @Description("Two BaseTest classes run concurrently; requests made after one has torn down still go through the registry")
+    void testConcurrentClassTeardown() {
+        AtomicInteger probed = new AtomicInteger();
+        FilterRegistry registry = FilterRegistry.getInstance();
+        registry.register(TeardownProbe.PROBE, counting(probed), 0, false);
+        launchedServer = server;
+        teardownDone = new CountDownLatch(1);
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        try {
+            launching = true;
+            Launcher launcher = LauncherFactory.create();
+            launcher.execute(LauncherDiscoveryRequestBuilder.request()
+                    .selectors(selectClass(ShortLivedClass.class), selectClass(TeardownProbe.class))
+                    .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                    .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                    .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                    .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "4")
+                    .build(), listener);
+        } finally {
+            launching = false;
+            registry.unregister(TeardownProbe.PROBE);
+        }
+
+        TestExecutionSummary summary = listener.getSummary();
+        StringBuilder failures = new StringBuilder();
+        summary.getFailures().forEach(failure -> failures.append(failure.getTestIdentifier().getDisplayName())
+                .append(": ").append(failure.getException()).append('\n'));
+        assertEquals(2, summary.getTestsSucceededCount(), "Both classes should pass:\n" + failures);
+        assertEquals(1, probed.get(), "The request made after the other class's teardown should run the registered filters");
+    }
+
+    // State shared with the classes launched by testConcurrentClassTeardown
+    private static volatile boolean launching;
+    private static volatile StubApiServer launchedServer;
+    private static volatile CountDownLatch teardownDone;
+
+    static boolean isLaunching() {
+        return launching;
+    }
+
+    /**
+     * Finishes at once; its extension callback runs after BaseTest's class teardown
+     */
+    @EnabledIf("com.api.automation.tests.config.FilterRegistryTest#isLaunching")
+    static class ShortLivedClass extends BaseTest {
+
+        @RegisterExtension
+        static final AfterAllCallback signalTeardown = context -> teardownDone.countDown();
+
+        @Test
+        void finishesFirst() {
+            logStep("Finishing before the other class");
+        }
+    }
+
+    /**
+     * Still running when the other class tears down, then checks its request goes through the registry
+     */
+    @EnabledIf("com.api.automation.tests.config.FilterRegistryTest#isLaunching")
+    @GlobalFilters(enable = TeardownProbe.PROBE)
+    static class TeardownProbe extends BaseTest {
+
+        static final String PROBE = "filter-registry-teardown-probe";
+
+        @Test
+        void requestsAfterOtherClassTeardown() throws Exception {
+            assertTrue(teardownDone.await(30, TimeUnit.SECONDS), "The other class should have torn down");
+            RestAssured.given().get(launchedServer.getBaseUrl() + "/health");
+        }
+    }
+}
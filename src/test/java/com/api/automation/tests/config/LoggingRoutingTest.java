@@ -0,0 +1,85 @@
+package com.api.automation.tests.config;
+
+import com.api.automation.tests.base.BaseTest;
+import com.api.automation.tests.base.TestLogRoutingExtension;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Logging Routing Tests
+ * Validates that log events are routed to a file per test id
+ */
+@Epic("Framework")
+@Feature("Configuration")
+public class LoggingRoutingTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingRoutingTest.class);
+
+    private static String awaitContent(Path file, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (Files.exists(file)) {
+                String content = Files.readString(file);
+                if (content.contains(expected)) {
+                    return content;
+                }
+            }
+            Thread.sleep(50);
+        }
+        return Files.exists(file) ? Files.readString(file) : "";
+    }
+
+    @Test
+    @DisplayName("Each test id gets its own log file")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Logging")
+    @Description("Events logged with a test id in the MDC are written asynchronously to logs/tests/<testId>.log, and only there for that id")
+    void testPerTestFiles() throws Exception {
+        String first = "LoggingRoutingTest.first" + System.nanoTime();
+        String second = "LoggingRoutingTest.second" + System.nanoTime();
+        try {
+            MDC.put(BaseTest.TEST_ID, first);
+            logger.info("routed to first");
+            MDC.put(BaseTest.TEST_ID, second);
+            logger.info("routed to second");
+        } finally {
+            MDC.remove(BaseTest.TEST_ID);
+        }
+        logger.info("routed to no test");
+
+        String firstLog = awaitContent(Paths.get("logs", "tests", first + ".log"), "routed to first");
+        String secondLog = awaitContent(Paths.get("logs", "tests", second + ".log"), "routed to second");
+        assertTrue(firstLog.contains("routed to first"), "First test's file should hold its event: " + firstLog);
+        assertTrue(secondLog.contains("routed to second"), "Second test's file should hold its event: " + secondLog);
+        assertFalse(firstLog.contains("routed to second") || firstLog.contains("routed to no test"),
+                "A test's file should hold only its own events: " + firstLog);
+    }
+
+    @RepeatedTest(2)
+    @ExtendWith(TestLogRoutingExtension.class)
+    @DisplayName("Each invocation of a repeated test gets its own log file")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Logging")
+    @Description("The test id carries the invocation number from the JUnit unique id, so invocations do not share a file")
+    void testInvocationFiles(RepetitionInfo repetition) throws Exception {
+        String id = "LoggingRoutingTest.testInvocationFiles-" + repetition.getCurrentRepetition();
+        assertEquals(id, MDC.get(BaseTest.TEST_ID));
+        logger.info("invocation {}", repetition.getCurrentRepetition());
+
+        String log = awaitContent(Paths.get("logs", "tests", id + ".log"), "invocation " + repetition.getCurrentRepetition());
+        assertTrue(log.contains("invocation " + repetition.getCurrentRepetition()), "The invocation's file should hold its event: " + log);
+    }
+}
@@ -0,0 +1,189 @@
+package com.api.automation.tests.debug;
+
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.DebugArtifactWriter;
+import com.api.automation.utils.DebugUtils;
+import com.api.automation.utils.JsonUtils;
+import com.api.automation.utils.RequestRecorder;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Debug Capture Tests
+ * Validates the per-thread request ring and failure-only artifact writing
+ */
+@Epic("Framework")
+@Feature("Debug Artifacts")
+public class DebugCaptureTest {
+
+    private static final Path DEBUG_OUTPUT = Paths.get("target/debug-output");
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(50);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static void get(String path) {
+        RestAssured.given().filter(RequestRecorder.getInstance()).get(server.getBaseUrl() + path);
+    }
+
+    @Test
+    @DisplayName("Ring keeps only the last N requests of the test")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Request Recording")
+    @Description("Older requests are overwritten, requests outside a recording are ignored, and stop() ends recording")
+    void testRingBuffer() {
+        get("/health");
+        RequestRecorder.start("ring", 3);
+        for (int i = 0; i < 5; i++) {
+            get("/v1/bills?limit=1&i=" + i);
+        }
+        RequestRecorder.Recording recording = RequestRecorder.stop();
+
+        assertEquals("ring", recording.getTestName());
+        assertEquals(5, recording.getTotalRequests(), "All requests of the test should be counted");
+        assertEquals(List.of("i=2", "i=3", "i=4"), recording.getExchanges().stream()
+                        .map(exchange -> exchange.getRequest().getURI().replaceAll(".*&", ""))
+                        .collect(Collectors.toList()),
+                "Only the last three requests should be kept, oldest first");
+        assertEquals(200, recording.getLast().getResponse().getStatusCode());
+        assertTrue(recording.getLast().getEndTime() >= recording.getLast().getStartTime());
+        assertFalse(RequestRecorder.isRecording(), "stop() should end recording");
+        assertNull(RequestRecorder.stop(), "Nothing is recorded after stop()");
+    }
+
+    @Test
+    @DisplayName("A failure writes curl, HAR and report for the recorded requests")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Failure Artifacts")
+    @Description("Artifacts are written in the background and cover the recorded requests leading up to the failure")
+    void testMaterialize() throws Exception {
+        RequestRecorder.start("DebugCaptureTest.materialize", 2);
+        get("/health");
+        get("/v1/bills?limit=2");
+        get("/v1/missing");
+        String base = DebugUtils.materialize(RequestRecorder.stop(), new AssertionError("expected 200 but was 404"));
+        assertTrue(base.endsWith("_404"), "File names should carry the failing status: " + base);
+        assertTrue(DebugArtifactWriter.getInstance().awaitIdle(Duration.ofSeconds(30)), "Artifacts should be written");
+
+        String curl = Files.readString(DEBUG_OUTPUT.resolve("curl/" + base + ".sh"));
+        assertTrue(curl.contains("\"" + server.getBaseUrl() + "/v1/bills?limit=2\""), "curl should use the absolute URL: " + curl);
+        assertTrue(curl.contains("[2/2] GET " + server.getBaseUrl() + "/v1/missing -> 404"));
+        assertFalse(curl.contains("/health"), "Requests that fell out of the ring are not written");
+        assertFalse(curl.contains("\\n"), "Scripts should contain real line breaks");
+
+        JsonNode entries = JsonUtils.getObjectMapper().readTree(DEBUG_OUTPUT.resolve("har/" + base + ".har").toFile())
+                .path("log").path("entries");
+        assertEquals(2, entries.size(), "The HAR should hold the recorded requests");
+        assertEquals(404, entries.get(1).path("response").path("status").asInt());
+
+        String report = Files.readString(DEBUG_OUTPUT.resolve("reports/" + base + ".md"));
+        assertTrue(report.contains("**Test Name:** DebugCaptureTest.materialize"));
+        assertTrue(report.contains("expected 200 but was 404"));
+        assertTrue(report.contains("Last 2 of 3 requests"), "The report should list the recorded requests");
+        assertNull(DebugUtils.materialize(null, new AssertionError()), "Nothing recorded, nothing written");
+    }
+
+    @Test
+    @DisplayName("Parallel threads record only their own requests")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Request Recording")
+    @Description("Recording and debug mode are thread-confined, so concurrent tests do not see each other's context")
+    void testThreadIsolation() throws Exception {
+        int threads = 4;
+        List<RequestRecorder.Recording> recordings = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch ready = new CountDownLatch(threads);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers.add(new Thread(() -> {
+                try {
+                    RequestRecorder.start("thread-" + id, 10);
+                    DebugUtils.enableDebugForTest("thread-" + id);
+                    ready.countDown();
+                    ready.await();
+                    for (int i = 0; i < 3; i++) {
+                        get("/v1/bills?limit=1&thread=" + id);
+                    }
+                    assertEquals("thread-" + id, DebugUtils.getCurrentTestName());
+                    DebugUtils.disableDebug();
+                    synchronized (recordings) {
+                        recordings.add(RequestRecorder.stop());
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(failures.isEmpty(), "Workers failed: " + failures);
+        assertEquals(threads, recordings.size());
+        for (RequestRecorder.Recording recording : recordings) {
+            String id = recording.getTestName().substring("thread-".length());
+            assertEquals(3, recording.getExchanges().size(), "Each thread should record only its own requests");
+            recording.getExchanges().forEach(exchange -> assertTrue(exchange.getRequest().getURI().endsWith("thread=" + id),
+                    "Request from another thread: " + exchange.getRequest().getURI()));
+        }
+        assertFalse(DebugUtils.isDebugEnabled(), "Debug mode enabled on other threads is not visible here");
+    }
+
+    @Test
+    @DisplayName("The artifact queue is bounded")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Failure Artifacts")
+    @Description("While the writer is busy, artifacts beyond the queue size are dropped and counted instead of blocking")
+    void testQueueBound() throws Exception {
+        DebugArtifactWriter writer = new DebugArtifactWriter(4);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        try {
+            assertTrue(writer.submit("blocker", () -> {
+                running.countDown();
+                release.await();
+            }));
+            running.await();
+            int accepted = 0;
+            for (int i = 0; i < 10; i++) {
+                if (writer.submit("filler-" + i, () -> { })) {
+                    accepted++;
+                }
+            }
+            assertEquals(4, accepted, "Only the queue size should be accepted while the writer is busy");
+            assertEquals(6, writer.getDroppedCount(), "Rejected artifacts should be counted as dropped");
+            assertEquals(5, writer.getPendingCount());
+        } finally {
+            release.countDown();
+        }
+        assertTrue(writer.awaitIdle(Duration.ofSeconds(30)), "The queue should drain");
+        assertEquals(0, writer.getPendingCount());
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,144 @@
+package com.api.automation.tests.debug;
+
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.AttachmentStore;
+import com.api.automation.utils.HarGenerator;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HAR Generator Tests
+ * Validates streamed, per-thread HAR capture and body size caps
+ */
+@Epic("Framework")
+@Feature("Debug Artifacts")
+public class HarGeneratorTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(200);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Parallel threads capture into their own HAR files")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("HAR Capture")
+    @Description("One generator shared by several threads writes one complete archive per thread with only that thread's requests")
+    void testPerThreadCapture() throws Exception {
+        HarGenerator generator = new HarGenerator();
+        int threads = 4;
+        int requests = 5;
+        Set<Path> files = ConcurrentHashMap.newKeySet();
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch ready = new CountDownLatch(threads);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers.add(new Thread(() -> {
+                try {
+                    generator.enableForTest("har-thread-" + id);
+                    files.add(generator.getCurrentFile());
+                    ready.countDown();
+                    ready.await();
+                    for (int i = 0; i < requests; i++) {
+                        RestAssured.given().filter(generator).queryParam("thread", id)
+                                .get(server.getBaseUrl() + "/v1/bills?limit=2");
+                    }
+                    generator.disable();
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(failures.isEmpty(), "Workers failed: " + failures);
+        assertEquals(threads, files.size(), "Each thread should get its own file");
+
+        for (Path file : files) {
+            JsonNode entries = JsonUtils.getObjectMapper().readTree(file.toFile()).path("log").path("entries");
+            assertEquals(requests, entries.size(), "Each archive should hold exactly its thread's requests: " + file);
+            String thread = file.getFileName().toString().replaceAll("^har_har-thread-(\\d+)_.*", "$1");
+            for (JsonNode entry : entries) {
+                assertTrue(entry.path("request").path("url").asText().contains("thread=" + thread),
+                        "Entries should come from the capturing thread: " + entry.path("request").path("url"));
+                assertEquals(200, entry.path("response").path("status").asInt());
+                assertTrue(entry.path("request").path("url").asText().startsWith(server.getBaseUrl() + "/v1/bills"),
+                        "url should be the absolute request URI");
+            }
+        }
+        assertFalse(generator.isEnabled(), "Capture is not enabled on threads that never enabled it");
+    }
+
+    @Test
+    @DisplayName("Large bodies are truncated and stored as attachments")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("HAR Capture")
+    @Description("Bodies over the cap keep a UTF-8 prefix in the archive and are stored whole in the attachment store")
+    void testBodyCap() throws Exception {
+        HarGenerator generator = new HarGenerator(1024, true).enableForTest("har-body-cap");
+        Path file = generator.getCurrentFile();
+        Response large = RestAssured.given().filter(generator).get(server.getBaseUrl() + "/v1/bills?limit=50");
+        Response small = RestAssured.given().filter(generator).get(server.getBaseUrl() + "/health");
+        generator.disable();
+
+        JsonNode entries = JsonUtils.getObjectMapper().readTree(file.toFile()).path("log").path("entries");
+        JsonNode largeContent = entries.get(0).path("response").path("content");
+        byte[] body = large.asByteArray();
+        assertTrue(body.length > 1024, "The bill page should exceed the cap");
+        assertEquals(body.length, largeContent.path("size").asInt(), "size should report the full body");
+        assertTrue(largeContent.path("_truncated").asBoolean(), "Large body should be flagged as truncated");
+        assertTrue(largeContent.path("text").asText().length() <= 1024, "Only the capped prefix stays in the archive");
+        assertTrue(large.asString().startsWith(largeContent.path("text").asText()), "The prefix should be the start of the body");
+        assertTrue(Files.exists(file.resolveSibling(largeContent.path("_bodyFile").asText())), "_bodyFile should point at the stored body");
+        assertArrayEquals(body, AttachmentStore.getInstance().read(largeContent.path("_bodyHash").asText()),
+                "The attachment store should hold the whole body");
+
+        JsonNode smallContent = entries.get(1).path("response").path("content");
+        assertEquals(small.asString(), smallContent.path("text").asText(), "Small bodies are kept whole");
+        assertFalse(smallContent.has("_truncated"));
+    }
+
+    @Test
+    @DisplayName("Disabled capture leaves no file")
+    @Severity(SeverityLevel.MINOR)
+    @Story("HAR Capture")
+    @Description("A capture without requests creates nothing, and requests outside a capture are not recorded")
+    void testNoCapture() {
+        HarGenerator generator = new HarGenerator().enableForTest("har-empty");
+        Path file = generator.getCurrentFile();
+        generator.disable();
+        assertFalse(Files.exists(file), "An empty capture should not create a file");
+
+        RestAssured.given().filter(generator).get(server.getBaseUrl() + "/health");
+        assertNull(generator.getCurrentFile());
+    }
+}
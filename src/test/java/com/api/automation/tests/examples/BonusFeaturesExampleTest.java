@@ -1,5 +1,6 @@
 package com.api.automation.tests.examples;
 
+import com.api.automation.config.FilterRegistry;
 import com.api.automation.tests.base.BaseTest;
 import com.api.automation.utils.*;
 import io.restassured.RestAssured;
@@ -23,12 +24,10 @@ public class BonusFeaturesExampleTest extends BaseTest {
     
     @BeforeEach
     void setUpBonusFeatures() {
-        // Initialize debug utilities
-        curlGenerator = new CurlGenerator();
-        harGenerator = new HarGenerator();
-        
-        // Add generators as filters to capture requests
-        RestAssured.filters(curlGenerator, harGenerator);
+        // Register the generators as global filters once; capture stays off until a test enables it on its thread
+        FilterRegistry registry = FilterRegistry.getInstance();
+        curlGenerator = registry.register("curl", new CurlGenerator());
+        harGenerator = registry.register("har", new HarGenerator());
     }
     
     @AfterEach
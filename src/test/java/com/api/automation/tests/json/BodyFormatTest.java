@@ -0,0 +1,172 @@
+package com.api.automation.tests.json;
+
+import com.api.automation.assertions.JsonAssertions;
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.Payment;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.CurlGenerator;
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonUtils;
+import io.qameta.allure.*;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Body Format Tests
+ * Validates CBOR/Smile encoding of the billpay models and content negotiation through the client
+ */
+@Epic("Framework")
+@Feature("Body Formats")
+public class BodyFormatTest {
+
+    private static final List<BodyFormat> BINARY_FORMATS = List.of(BodyFormat.CBOR, BodyFormat.SMILE);
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(100);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Models round-trip through binary formats")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Encoding")
+    @Description("Bills and payments encode to fewer bytes than JSON and decode to equal objects")
+    void testRoundTrip() {
+        List<Bill> bills = IntStream.rangeClosed(1, 50).mapToObj(StubApiServer::bill).collect(Collectors.toList());
+        Payment payment = StubApiServer.payment(7);
+
+        for (BodyFormat format : BINARY_FORMATS) {
+            byte[] billBytes = JsonUtils.toBytes(bills, format);
+            byte[] jsonBytes = JsonUtils.objectToJson(bills).getBytes(StandardCharsets.UTF_8);
+            assertTrue(billBytes.length < jsonBytes.length,
+                    format + " should be smaller than JSON: " + billBytes.length + " vs " + jsonBytes.length);
+
+            Payment decoded = JsonUtils.fromBytes(JsonUtils.toBytes(payment, format), Payment.class, format);
+            assertEquals(payment, decoded, format + " payment should survive the round trip");
+            List<Bill> decodedBills = JsonUtils.fromBytes(billBytes,
+                    JsonUtils.listReaderFor(Bill.class).getValueType(), format);
+            assertEquals(bills, decodedBills, format + " bills should survive the round trip");
+        }
+    }
+
+    @Test
+    @DisplayName("Binary responses are negotiated and decoded")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Negotiation")
+    @Description("A client switched to CBOR or Smile gets that format back and reads it with the same models and assertions")
+    void testNegotiatedResponse() {
+        for (BodyFormat format : BINARY_FORMATS) {
+            assertNegotiated(format);
+        }
+    }
+
+    private void assertNegotiated(BodyFormat format) {
+        Response response = new BaseApiClient()
+                .withBodyFormat(format)
+                .withQueryParam("page", 1)
+                .withQueryParam("limit", 20)
+                .get(server.getBaseUrl() + "/v1/bills");
+
+        assertEquals(format, BodyFormat.of(response), "Response should be in the requested format");
+        ApiResponse<List<Bill>> page = ApiResponse.fromResponseList(response, Bill.class);
+        assertEquals(20, page.getData().size(), "Page should decode into bills");
+        assertEquals(StubApiServer.bill(1), page.getData().get(0), "Decoded bill should match the source");
+
+        JsonDocument document = JsonDocument.from(response);
+        assertEquals("bill-00020", document.get("data[19].id"));
+        JsonAssertions.assertThat(response)
+                .statusCode(200)
+                .hasSize("data", 20)
+                .field("data[0].id", startsWith("bill-"))
+                .allMatch("data", "amount.value > 100")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Request bodies are sent in the client's format")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Negotiation")
+    @Description("Objects and JSON strings are encoded as Smile and echoed back intact")
+    void testBinaryRequestBody() {
+        Payment payment = StubApiServer.payment(3);
+
+        Response fromObject = new BaseApiClient()
+                .withBodyFormat(BodyFormat.SMILE)
+                .withBody((Object) payment)
+                .post(server.getBaseUrl() + "/v1/payments");
+        assertEquals(201, fromObject.getStatusCode());
+        assertEquals(payment, ApiResponse.fromResponse(fromObject, Payment.class).getData(), "Echoed payment should match");
+
+        Response fromString = new BaseApiClient()
+                .withBodyFormat(BodyFormat.SMILE)
+                .withBody("{\"id\":\"pay-1\",\"status\":\"completed\"}")
+                .post(server.getBaseUrl() + "/v1/payments");
+        assertEquals("completed", JsonDocument.from(fromString).get("data.status"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BaseApiClient().withBodyFormat(BodyFormat.CBOR).withBody("not json"));
+    }
+
+    @Test
+    @DisplayName("JSON request bodies are logged as JSON")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Request Bodies")
+    @Description("Objects are sent as JSON text, so request logs and curl commands show the body, and are echoed back intact")
+    void testJsonRequestBody() {
+        Payment payment = StubApiServer.payment(4);
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        BaseApiClient client = new BaseApiClient().withBody((Object) payment);
+        client.getRequestSpec().filter(new RequestLoggingFilter(LogDetail.BODY, new PrintStream(log, true, StandardCharsets.UTF_8)));
+        FilterableRequestSpecification spec = (FilterableRequestSpecification) client.getRequestSpec();
+        assertInstanceOf(String.class, spec.getBody(), "JSON bodies should stay text");
+        assertTrue(CurlGenerator.generateCurlCommand(spec).contains("pay-"), "curl command should include the body text");
+
+        Response response = client.post(server.getBaseUrl() + "/v1/payments");
+        assertEquals(201, response.getStatusCode());
+        assertEquals(payment, ApiResponse.fromResponse(response, Payment.class).getData(), "Echoed payment should match");
+
+        String logged = log.toString(StandardCharsets.UTF_8);
+        assertTrue(logged.contains("\"id\": \"" + payment.getId() + "\""), "The logged body should be readable JSON: " + logged);
+        assertFalse(logged.contains("[123, "), "The logged body should not be a byte array: " + logged);
+    }
+
+    @Test
+    @DisplayName("Formats are resolved from names and content types")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Configuration")
+    @Description("Configuration names are case-insensitive and content type parameters are ignored")
+    void testResolution() {
+        assertEquals(BodyFormat.JSON, BodyFormat.fromName(null));
+        assertEquals(BodyFormat.CBOR, BodyFormat.fromName(" Cbor "));
+        assertThrows(IllegalArgumentException.class, () -> BodyFormat.fromName("xml"));
+        assertEquals(BodyFormat.SMILE, BodyFormat.fromContentType("application/x-jackson-smile; charset=UTF-8"));
+        assertEquals(BodyFormat.JSON, BodyFormat.fromContentType("text/plain"));
+        assertEquals(BodyFormat.JSON, BodyFormat.configured(), "Environments default to JSON");
+        assertEquals(BodyFormat.JSON, new BaseApiClient().getBodyFormat());
+    }
+}
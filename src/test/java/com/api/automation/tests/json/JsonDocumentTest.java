@@ -0,0 +1,118 @@
+package com.api.automation.tests.json;
+
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonPathExpression;
+import com.api.automation.utils.JsonPathUtils;
+import com.api.automation.utils.JsonUtils;
+import io.qameta.allure.*;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Parsed JSON Document Tests
+ * Validates the native path evaluator against Rest Assured's Groovy JsonPath
+ */
+@Epic("Framework")
+@Feature("JSON Path Extraction")
+public class JsonDocumentTest {
+
+    private static final String BILLS_PAGE = "{\"success\":true,\"data\":"
+            + JsonUtils.objectToJson(IntStream.rangeClosed(1, 5).mapToObj(StubApiServer::bill).collect(Collectors.toList()))
+            + ",\"meta\":{\"page\":1,\"limit\":5,\"total\":12,\"totalPages\":3,\"hasMore\":true},"
+            + "\"headers\":{\"Content-Type\":\"application/json\"},\"big\":12345678901234,\"ratio\":0.25,\"none\":null}";
+
+    private static final List<String> PATHS = List.of(
+            "success", "meta", "meta.total", "meta.hasMore", "data[0].id", "data[-1].id", "data[9].id",
+            "data.id", "data.amount.value", "data[2].amount", "data.size()", "data.id.size()", "meta.size()",
+            "data[0].status", "headers.'Content-Type'", "big", "ratio", "none", "missing", "missing.deeper",
+            "data[0].missing", "data.missing", "$", "");
+
+    @Test
+    @DisplayName("Native evaluation matches Groovy JsonPath")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Native Path Evaluation")
+    @Description("Fields, indexes, spreads, size() and quoted names return the same values and types as GPath")
+    void testParityWithGroovyJsonPath() {
+        JsonPath groovy = JsonPath.from(BILLS_PAGE);
+        JsonDocument document = JsonDocument.parse(BILLS_PAGE);
+
+        for (String path : PATHS) {
+            assertTrue(JsonPathExpression.compile(path).isNative(), "Path should be evaluated natively: " + path);
+            Object expected = groovy.get(path);
+            Object actual = document.get(path);
+            assertEquals(expected, actual, "Value mismatch for path: " + path);
+            if (expected != null) {
+                assertEquals(expected.getClass(), actual.getClass(), "Type mismatch for path: " + path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Root array paths")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Native Path Evaluation")
+    @Description("Top-level arrays are indexed with [n] and $[n]")
+    void testRootArray() {
+        String json = "[{\"id\":1,\"title\":\"Test\"},{\"id\":2,\"title\":\"Other\"}]";
+        JsonPath groovy = JsonPath.from(json);
+        JsonDocument document = JsonDocument.parse(json);
+
+        for (String path : List.of("[0].id", "[1].title", "id", "size()", "$[0].id")) {
+            assertEquals((Object) groovy.get(path), document.get(path), "Value mismatch for path: " + path);
+        }
+        assertTrue(JsonPathUtils.pathExists(json, "[0].id"), "Path [0].id should exist");
+        assertEquals(2, JsonPathUtils.countElements(json, "id"));
+    }
+
+    @Test
+    @DisplayName("Unsupported expressions fall back to Groovy")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Native Path Evaluation")
+    @Description("Closures are not compiled natively but still evaluate through GPath")
+    void testGroovyFallback() {
+        String path = "data.findAll { it.amount.value > 104 }.id";
+        assertFalse(JsonPathExpression.compile(path).isNative(), "Closures are not native");
+        List<String> ids = JsonDocument.parse(BILLS_PAGE).getList(path);
+        assertEquals(List.of("bill-00004", "bill-00005"), ids);
+    }
+
+    @Test
+    @DisplayName("Multi-extract resolves several paths in one pass")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Multi Extract")
+    @Description("Paths sharing prefixes are resolved together and keep their order")
+    void testExtractMany() {
+        Map<String, Object> values = JsonPathUtils.extractValues(BILLS_PAGE,
+                "data[1].id", "data[1].status", "meta.total", "data[1].amount.value", "missing", "data.findAll { it.id == 'bill-00002' }.id");
+
+        assertEquals(List.of("data[1].id", "data[1].status", "meta.total", "data[1].amount.value", "missing",
+                "data.findAll { it.id == 'bill-00002' }.id"), List.copyOf(values.keySet()), "Order should be kept");
+        assertEquals("bill-00002", values.get("data[1].id"));
+        assertEquals(12, values.get("meta.total"));
+        assertEquals(102.45f, values.get("data[1].amount.value"));
+        assertNull(values.get("missing"));
+        assertEquals(List.of("bill-00002"), values.get("data.findAll { it.id == 'bill-00002' }.id"));
+    }
+
+    @Test
+    @DisplayName("Compiled paths are reused")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Caching")
+    @Description("Compiled paths are cached, and values extracted through them bind back to the models")
+    void testReuse() {
+        assertSame(JsonPathExpression.compile("data[0].id"), JsonPathExpression.compile("data[0].id"), "Compiled path should be cached");
+
+        Bill bill = JsonUtils.jsonToObject(JsonUtils.objectToJson(JsonPathUtils.extractMap(BILLS_PAGE, "data[0]")), Bill.class);
+        assertEquals("bill-00001", bill.getId(), "Extracted map should bind back to the model");
+    }
+}
@@ -0,0 +1,114 @@
+package com.api.automation.tests.json;
+
+import com.api.automation.models.billpay.enums.PaymentStatus;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonDocument;
+import com.api.automation.utils.JsonFilter;
+import com.api.automation.utils.JsonPathUtils;
+import com.api.automation.utils.JsonUtils;
+import io.qameta.allure.*;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Array Filter Tests
+ * Validates the compiled filter language used to search JSON arrays without Groovy
+ */
+@Epic("Framework")
+@Feature("JSON Path Extraction")
+public class JsonFilterTest {
+
+    private static String paymentsPage(int size) {
+        return "{\"success\":true,\"data\":"
+                + JsonUtils.objectToJson(IntStream.rangeClosed(1, size).mapToObj(StubApiServer::payment).collect(Collectors.toList()))
+                + "}";
+    }
+
+    private static final String PAYMENTS = paymentsPage(60);
+
+    @Test
+    @DisplayName("Filters match the equivalent Groovy closures")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Array Filters")
+    @Description("Equality, ranges, in, negation and nested fields select the same elements as GPath findAll")
+    void testParityWithGroovy() {
+        JsonPath groovy = JsonPath.from(PAYMENTS);
+        JsonDocument document = JsonDocument.parse(PAYMENTS);
+        Map<String, String> filters = Map.of(
+                "status == 'completed'", "it.status == 'completed'",
+                "amount.value >= 120 && amount.value < 130", "it.amount.value >= 120 && it.amount.value < 130",
+                "status in ['initiated', 'failed'] || userId == 'user-3'", "it.status in ['initiated', 'failed'] || it.userId == 'user-3'",
+                "!(userId != 'user-5') and paymentMethodId != 'pm-0'", "!(it.userId != 'user-5') && it.paymentMethodId != 'pm-0'",
+                "status not in ['completed'] && it.transactionId > 'TXN1000050'", "!(it.status in ['completed']) && it.transactionId > 'TXN1000050'",
+                "missing == null && refundedAt == null", "it.missing == null && it.refundedAt == null");
+
+        filters.forEach((filter, closure) -> {
+            List<Map<String, Object>> expected = groovy.getList("data.findAll { " + closure + " }");
+            List<Map<String, Object>> actual = document.findAll("data", filter);
+            assertFalse(expected.isEmpty(), "Filter should match something: " + filter);
+            assertEquals(expected, actual, "Mismatch for filter: " + filter);
+        });
+    }
+
+    @Test
+    @DisplayName("findInArray handles quotes, numbers and enums")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Array Filters")
+    @Description("Values are compared directly instead of being spliced into a Groovy string")
+    void testFindInArray() {
+        String json = "{\"users\":[{\"name\":\"O'Brien\",\"age\":41,\"address\":{\"city\":\"Cork\"}},"
+                + "{\"name\":\"Smith\",\"age\":29,\"address\":{\"city\":\"Leeds\"}}]}";
+
+        List<Map<String, Object>> quoted = JsonPathUtils.findInArray(json, "users", "name", "O'Brien");
+        assertEquals(1, quoted.size(), "Names containing quotes should match");
+        assertEquals(1, JsonPathUtils.findInArray(json, "users", "age", 29).size(), "Numbers should compare numerically");
+        assertTrue(JsonPathUtils.arrayContains(json, "users", "address.city", "Leeds"), "Nested fields should be searchable");
+        assertFalse(JsonPathUtils.arrayContains(json, "users", "name", "Jones"));
+        assertTrue(JsonPathUtils.findInArray(json, "missing", "name", "Smith").isEmpty(), "Missing arrays have no matches");
+
+        assertEquals(10, JsonPathUtils.findInArray(PAYMENTS, "data", "status", PaymentStatus.COMPLETED).size(),
+                "Enums should compare by their JSON value");
+        assertEquals(2, JsonPathUtils.countInArray(json, "users", "age > 18 && name != \"Jones\""));
+    }
+
+    @Test
+    @DisplayName("Parallel evaluation matches sequential evaluation")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Parallel Evaluation")
+    @Description("A 10k element array gives the same ordered matches on a parallel stream")
+    void testParallel() {
+        JsonDocument document = JsonDocument.parse(paymentsPage(10_000));
+        JsonFilter filter = JsonFilter.compile("amount.value > 500 && status in ['initiated', 'completed']");
+
+        List<Object> sequential = document.findAll("data", filter);
+        List<Object> parallel = document.findAll("data", filter.parallel());
+
+        assertFalse(sequential.isEmpty(), "Filter should match something");
+        assertEquals(sequential, parallel, "Parallel results should keep array order");
+        assertEquals(sequential.size(), document.count("data", filter.parallel()));
+        assertTrue(document.anyMatch("data", JsonFilter.eq("id", "pay-09999").parallel()));
+    }
+
+    @Test
+    @DisplayName("Filters are compiled once and reject bad syntax")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Array Filters")
+    @Description("Compiled filters are cached and syntax errors report the position")
+    void testCompilation() {
+        assertSame(JsonFilter.compile("status == 'PAID'"), JsonFilter.compile("status == 'PAID'"), "Filters should be cached");
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> JsonFilter.compile("status = 'PAID'"));
+        assertTrue(error.getMessage().contains("position 7"), "Position should be reported: " + error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> JsonFilter.compile("status in ['PAID'"));
+        assertThrows(IllegalArgumentException.class, () -> JsonFilter.compile("items.findAll { true } == 1"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.api.automation.tests.json;
+
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.Biller;
+import com.api.automation.models.billpay.Payment;
+import com.api.automation.models.billpay.enums.BillStatus;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.BodyBuffer;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonUtils Reader/Writer Cache Tests
+ * Validates the shared mapper and the per-type ObjectReader/ObjectWriter cache
+ */
+@Epic("Framework")
+@Feature("JSON Serialization")
+public class JsonUtilsTest {
+
+    @Test
+    @DisplayName("Readers and writers are cached per type")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Reader Cache")
+    @Description("Repeated lookups for the same type return the same ObjectReader/ObjectWriter instance")
+    void testReadersAndWritersAreCached() {
+        assertSame(JsonUtils.readerFor(Bill.class), JsonUtils.readerFor(Bill.class), "Bill reader should be cached");
+        assertSame(JsonUtils.listReaderFor(Bill.class), JsonUtils.listReaderFor(Bill.class), "List reader should be cached");
+        assertSame(JsonUtils.writerFor(Bill.class), JsonUtils.writerFor(Bill.class), "Bill writer should be cached");
+        assertSame(ApiResponse.readerFor(Biller.class), ApiResponse.readerFor(Biller.class),
+                "ApiResponse<Biller> reader should be cached");
+        assertSame(ApiResponse.listReaderFor(Biller.class), ApiResponse.listReaderFor(Biller.class),
+                "ApiResponse<List<Biller>> reader should be cached");
+        assertNotSame(ApiResponse.readerFor(Biller.class), ApiResponse.listReaderFor(Biller.class),
+                "Single and list envelopes need different readers");
+    }
+
+    @Test
+    @DisplayName("Models round-trip through the cached readers")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Reader Cache")
+    @Description("Bill and Payment models serialize and deserialize without losing data")
+    void testModelRoundTrip() {
+        Bill bill = StubApiServer.bill(42);
+        Bill parsed = JsonUtils.jsonToObject(JsonUtils.objectToJson(bill), Bill.class);
+        assertEquals(bill, parsed, "Bill should survive a round trip");
+
+        List<Payment> payments = List.of(StubApiServer.payment(1), StubApiServer.payment(2));
+        List<Payment> parsedPayments = JsonUtils.jsonToList(JsonUtils.objectToJson(payments), Payment.class);
+        assertEquals(payments, parsedPayments, "Payment list should survive a round trip");
+        assertEquals("null", JsonUtils.objectToJson(null), "Null should serialize as JSON null");
+    }
+
+    @Test
+    @DisplayName("Parametric ApiResponse envelopes")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Reader Cache")
+    @Description("ApiResponse<T> and ApiResponse<List<T>> bind their data to the model types")
+    void testApiResponseEnvelopes() {
+        String single = "{\"success\":true,\"data\":" + JsonUtils.objectToJson(StubApiServer.bill(3)) + "}";
+        ApiResponse<Bill> response = ApiResponse.fromJson(single, Bill.class);
+        assertTrue(response.isSuccessful(), "Response should be successful");
+        assertEquals("bill-00003", response.getData().getId(), "Bill should be bound to the model type");
+        assertEquals(BillStatus.values()[3 % BillStatus.values().length], response.getData().getStatus());
+
+        String list = "{\"success\":true,\"data\":[" + JsonUtils.objectToJson(StubApiServer.biller(1)) + ","
+                + JsonUtils.objectToJson(StubApiServer.biller(2)) + "],"
+                + "\"meta\":{\"page\":1,\"limit\":2,\"total\":4,\"totalPages\":2,\"hasMore\":true}}";
+        ApiResponse<List<Biller>> listResponse = ApiResponse.fromJsonList(list, Biller.class);
+        assertEquals(2, listResponse.getData().size(), "Both billers should be parsed");
+        assertInstanceOf(Biller.class, listResponse.getData().get(1), "Elements should be bound to Biller");
+        assertTrue(listResponse.hasMorePages(), "Pagination meta should be parsed");
+    }
+
+    @Test
+    @DisplayName("Bodies serialize straight to bytes")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Request Bodies")
+    @Description("toBytes matches the string serialization, including bodies larger than the pooled buffer")
+    void testToBytes() {
+        Payment payment = StubApiServer.payment(5);
+        assertArrayEquals(JsonUtils.objectToJson(payment).getBytes(StandardCharsets.UTF_8), JsonUtils.toBytes(payment, BodyFormat.JSON),
+                "Bytes should be the UTF-8 encoding of the JSON string");
+
+        List<Bill> bulk = IntStream.rangeClosed(1, 3000).mapToObj(StubApiServer::bill).collect(Collectors.toList());
+        byte[] bulkBytes = JsonUtils.toBytes(bulk, BodyFormat.JSON);
+        assertTrue(bulkBytes.length > 1024 * 1024, "Bulk body should outgrow the retained buffer: " + bulkBytes.length);
+        assertEquals(bulk, JsonUtils.jsonToList(new String(bulkBytes, StandardCharsets.UTF_8), Bill.class));
+        assertArrayEquals(JsonUtils.objectToJson(payment).getBytes(StandardCharsets.UTF_8), JsonUtils.toBytes(payment, BodyFormat.JSON),
+                "A small body after a large one should not carry leftover bytes");
+        assertEquals("null", new String(JsonUtils.toBytes(null, BodyFormat.JSON), StandardCharsets.UTF_8));
+
+        BodyBuffer outer = BodyBuffer.acquire();
+        try {
+            outer.write(1);
+            BodyBuffer nested = BodyBuffer.acquire();
+            assertNotSame(outer, nested, "A nested acquire should not share the thread's buffer");
+            nested.release();
+            assertEquals(1, outer.size(), "The outer buffer should be untouched");
+        } finally {
+            outer.release();
+        }
+        BodyBuffer again = BodyBuffer.acquire();
+        again.release();
+        assertSame(outer, again, "Released buffers are reused on the same thread");
+    }
+
+    @Test
+    @DisplayName("Request bodies render as text for reports")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Request Bodies")
+    @Description("String, JSON byte and Smile byte bodies all render as JSON text")
+    void testBodyToString() {
+        Payment payment = StubApiServer.payment(5);
+        String json = JsonUtils.objectToJson(payment);
+        assertEquals(json, JsonUtils.bodyToString(json, "application/json"));
+        assertEquals(json, JsonUtils.bodyToString(JsonUtils.toBytes(payment, BodyFormat.JSON), "application/json; charset=UTF-8"));
+        assertEquals(JsonUtils.getObjectMapper().valueToTree(payment).toString(),
+                JsonUtils.bodyToString(JsonUtils.toBytes(payment, BodyFormat.SMILE), BodyFormat.SMILE.getMimeType()));
+        assertEquals("<3 bytes of CBOR>", JsonUtils.bodyToString(new byte[]{(byte) 0xff, 1, 2}, BodyFormat.CBOR.getMimeType()));
+        assertNull(JsonUtils.bodyToString(null, "application/json"));
+
+        String pretty = JsonUtils.bodyToPrettyString(JsonUtils.toBytes(payment, BodyFormat.JSON), "application/json");
+        assertTrue(pretty.contains("\"id\" : \"" + payment.getId() + "\""), "JSON bytes should be pretty-printed text: " + pretty);
+        assertEquals(pretty, JsonUtils.bodyToPrettyString(JsonUtils.toBytes(payment, BodyFormat.CBOR), BodyFormat.CBOR.getMimeType()));
+        assertEquals("plain text", JsonUtils.bodyToPrettyString("plain text", "text/plain"), "Other text is left as it is");
+    }
+}
@@ -0,0 +1,138 @@
+package com.api.automation.tests.json;
+
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.models.billpay.ApiResponse;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.LazyApiResponse;
+import com.api.automation.models.billpay.Payment;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lazy ApiResponse Tests
+ * Validates envelope parsing, on-demand element binding and field projection
+ */
+@Epic("Framework")
+@Feature("JSON Serialization")
+public class LazyApiResponseTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(60);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static String billPage(int size) {
+        List<Bill> bills = IntStream.rangeClosed(1, size).mapToObj(StubApiServer::bill).collect(Collectors.toList());
+        return "{\"success\":true,\"data\":" + JsonUtils.objectToJson(bills) + ",\"trace\":{\"id\":[1,2]},"
+                + "\"meta\":{\"page\":1,\"limit\":" + size + ",\"total\":90,\"totalPages\":3,\"hasMore\":true}}";
+    }
+
+    @Test
+    @DisplayName("Envelope is parsed and elements bound on demand")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Lazy Binding")
+    @Description("success and meta are available without binding data; elements bind to what the eager reader produces")
+    void testLazyBinding() {
+        String json = billPage(30);
+        ApiResponse<List<Bill>> eager = ApiResponse.fromJsonList(json.replace(",\"trace\":{\"id\":[1,2]}", ""), Bill.class);
+        LazyApiResponse<Bill> lazy = LazyApiResponse.fromJsonList(json, Bill.class);
+
+        assertTrue(lazy.isSuccessful(), "success should be parsed eagerly");
+        assertEquals(eager.getMeta(), lazy.getMeta(), "meta should be parsed eagerly");
+        assertTrue(lazy.hasMorePages());
+        assertEquals(30, lazy.size(), "Elements should be counted without binding");
+        assertEquals(eager.getData().get(17), lazy.get(17), "A single element should bind like the eager reader");
+        assertThrows(IndexOutOfBoundsException.class, () -> lazy.get(30));
+        assertEquals(eager.getData(), lazy.getData(), "All elements should bind like the eager reader");
+        assertSame(lazy.getData(), lazy.getData(), "Bound data should be kept");
+        assertEquals(eager.getData(), lazy.toApiResponse().getData());
+    }
+
+    @Test
+    @DisplayName("Selected fields are read without binding models")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Projection")
+    @Description("values() and project() read top-level and dotted paths and leave missing fields null")
+    void testProjection() {
+        LazyApiResponse<Bill> lazy = LazyApiResponse.fromJsonList(billPage(5), Bill.class);
+        List<Bill> bills = lazy.getData();
+
+        assertEquals(bills.stream().map(Bill::getId).collect(Collectors.toList()), lazy.values("id", String.class));
+        assertEquals(bills.stream().map(bill -> bill.getAmount().getValue()).collect(Collectors.toList()),
+                lazy.values("amount.value", bills.get(0).getAmount().getValue().getClass()), "Dotted paths reach nested fields");
+
+        List<Map<String, Object>> projected = lazy.project("status", "id", "amount.currency", "nope");
+        assertEquals(5, projected.size());
+        assertEquals(List.of("status", "id", "amount.currency", "nope"), List.copyOf(projected.get(2).keySet()),
+                "Projection keys should follow the requested order");
+        assertEquals(bills.get(2).getId(), projected.get(2).get("id"));
+        assertEquals(bills.get(2).getStatus().getValue(), projected.get(2).get("status"), "Values keep their JSON form");
+        assertNull(projected.get(2).get("nope"), "Missing fields should be null");
+    }
+
+    @Test
+    @DisplayName("Lazy responses decode JSON and binary bodies from the client")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Lazy Binding")
+    @Description("Negotiated Smile pages and JSON pages give the same envelope and elements")
+    void testResponses() {
+        for (BodyFormat format : BodyFormat.values()) {
+            Response response = new BaseApiClient().withBodyFormat(format)
+                    .withQueryParam("page", 2).withQueryParam("limit", 20)
+                    .get(server.getBaseUrl() + "/v1/payments");
+            ApiResponse<List<Payment>> eager = ApiResponse.fromResponseList(response, Payment.class);
+            LazyApiResponse<Payment> lazy = LazyApiResponse.fromResponseList(response, Payment.class);
+
+            assertEquals(eager.getMeta(), lazy.getMeta(), format + " meta should match");
+            assertEquals(eager.getData().size(), lazy.size(), format + " size should match");
+            assertEquals(eager.getData().get(3), lazy.get(3), format + " element should match");
+            assertEquals(eager.getData().stream().map(Payment::getId).collect(Collectors.toList()),
+                    lazy.values("id", String.class), format + " projected ids should match");
+        }
+    }
+
+    @Test
+    @DisplayName("Error and empty envelopes")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Lazy Binding")
+    @Description("Absent or null data reads as empty; malformed envelopes fail")
+    void testEdgeCases() {
+        LazyApiResponse<Bill> error = LazyApiResponse.fromJsonList(
+                "{\"success\":false,\"error\":{\"code\":\"NOT_FOUND\",\"message\":\"No bills\"},\"data\":null}", Bill.class);
+        assertFalse(error.isSuccessful());
+        assertEquals("No bills", error.getErrorMessage());
+        assertFalse(error.hasData());
+        assertEquals(0, error.size());
+        assertNull(error.getData());
+        assertTrue(error.project("id").isEmpty());
+
+        LazyApiResponse<Bill> empty = LazyApiResponse.fromJsonList("{\"success\":true,\"data\":[]}", Bill.class);
+        assertEquals(0, empty.size());
+        assertEquals(List.of(), empty.getData());
+
+        assertThrows(IllegalArgumentException.class, () -> LazyApiResponse.fromJsonList("[]", Bill.class));
+        assertThrows(IllegalArgumentException.class, () -> LazyApiResponse.fromJsonList("{\"data\":{}}", Bill.class));
+        assertThrows(RuntimeException.class, () -> LazyApiResponse.fromJsonList("{\"data\":[1,", Bill.class));
+    }
+}
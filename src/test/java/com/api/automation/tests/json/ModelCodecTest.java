@@ -0,0 +1,149 @@
+package com.api.automation.tests.json;
+
+import com.api.automation.codec.ModelCodec;
+import com.api.automation.codec.ModelCodecs;
+import com.api.automation.models.billpay.*;
+import com.api.automation.models.billpay.enums.KycStatus;
+import com.api.automation.models.billpay.enums.PaymentMethodType;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Model Codec Tests
+ * Validates that generated streaming codecs produce and accept exactly what reflective Jackson does
+ */
+@Epic("Framework")
+@Feature("Model Codecs")
+public class ModelCodecTest {
+
+    private static final ObjectMapper reflective = new ObjectMapper().registerModule(new BlackbirdModule());
+    private static final ObjectMapper reflectiveSmile = new SmileMapper().registerModule(new BlackbirdModule());
+
+    private static List<Object> samples() {
+        return Arrays.asList(
+                StubApiServer.bill(42),
+                StubApiServer.payment(7),
+                StubApiServer.biller(3),
+                PaymentMethod.builder().id("pm-1").userId("user-1").type(PaymentMethodType.CREDIT_CARD)
+                        .last4("4242").cardBrand("visa").build(),
+                BillPayUser.builder().id("user-1").firstName("Ada").lastName("Lovelace").kycStatus(KycStatus.VERIFIED)
+                        .roles(Arrays.asList("user", null, "admin")).address(Address.builder().city("Pune").build()).build(),
+                ErrorResponse.builder().error(ErrorResponse.ErrorDetail.builder().code("VALIDATION").message("Invalid")
+                        .details(List.of(ErrorResponse.ValidationError.builder().field("amount").rejectedValue(Map.of("value", -1)).build()))
+                        .build()).build(),
+                HealthResponse.builder().success(true).meta(Map.of("region", "ap-south-1"))
+                        .data(HealthResponse.HealthData.builder().status("healthy").uptime(12L)
+                                .database(HealthResponse.DatabaseHealth.builder().status("up").responseTime(3L)
+                                        .connectionPool(new HealthResponse.ConnectionPool(2, 8, 10)).build()).build()).build(),
+                UploadedFile.builder().id("file-1").size(2048L).mimeType("image/png").metadata(List.of(1, "two")).build(),
+                PaginationMeta.builder().page(2).limit(20).total(45).totalPages(3).hasMore(true).build());
+    }
+
+    @Test
+    @DisplayName("Generated codecs are registered for the billpay models")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Registration")
+    @Description("Every @StreamingCodec model has a codec, and the framework mapper serializes through it")
+    void testRegistration() throws Exception {
+        assertTrue(ModelCodecs.all().size() >= 20, "Codecs should be generated for the billpay models: " + ModelCodecs.all().size());
+        assertNotNull(ModelCodecs.forType(Bill.class), "Bill should have a generated codec");
+        assertNull(ModelCodecs.forType(ApiResponse.class), "Generic envelopes stay reflective");
+        assertSame(ModelCodecs.forType(Bill.class).serializer(),
+                JsonUtils.getObjectMapper().getSerializerProviderInstance().findValueSerializer(Bill.class),
+                "The framework mapper should use the generated serializer");
+    }
+
+    @Test
+    @DisplayName("Generated codecs write what reflection writes")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Parity")
+    @Description("@JsonProperty names, NON_NULL inclusion, enum values, nested models, lists and getter-only properties match")
+    void testWriteParity() throws Exception {
+        for (Object sample : samples()) {
+            assertEquals(reflective.readTree(reflective.writeValueAsString(sample)),
+                    JsonUtils.getObjectMapper().readTree(JsonUtils.objectToJson(sample)),
+                    sample.getClass().getSimpleName() + " should serialize identically");
+        }
+        for (ModelCodec<?> codec : ModelCodecs.all()) {
+            Object empty = codec.getType().getDeclaredConstructor().newInstance();
+            assertEquals(reflective.valueToTree(empty), JsonUtils.getObjectMapper().valueToTree(empty),
+                    codec.getType().getSimpleName() + " defaults should serialize identically");
+        }
+        // Models without getter-only properties (whose reflective order is unspecified) match byte for byte
+        for (Object sample : samples().subList(0, 3)) {
+            assertEquals(reflective.writeValueAsString(sample), JsonUtils.objectToJson(sample),
+                    sample.getClass().getSimpleName() + " should keep Jackson's property order");
+        }
+    }
+
+    @Test
+    @DisplayName("Generated codecs read what reflection reads")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Parity")
+    @Description("Models read back equal to the reflective result, in JSON and binary formats")
+    void testReadParity() throws Exception {
+        for (Object sample : samples()) {
+            Class<?> type = sample.getClass();
+            JsonNode tree = reflective.valueToTree(sample);
+            removeGetterOnlyProperties(type, tree);
+            String json = tree.toString();
+
+            Object expected = reflective.readValue(json, type);
+            assertEquals(expected, JsonUtils.jsonToObject(json, type), type.getSimpleName() + " should deserialize identically");
+            byte[] smile = reflectiveSmile.writeValueAsBytes(tree);
+            assertEquals(reflectiveSmile.readValue(smile, type), JsonUtils.fromBytes(smile, type, BodyFormat.SMILE),
+                    type.getSimpleName() + " should read from Smile");
+        }
+
+        String lenient = "{\"id\":7,\"amount\":{\"value\":\"12.50\"},\"status\":\"COMPLETED\",\"billId\":null}";
+        assertEquals(reflective.readValue(lenient, Payment.class), JsonUtils.jsonToObject(lenient, Payment.class),
+                "Scalar coercions should follow Jackson");
+    }
+
+    @Test
+    @DisplayName("Generated codecs reject what reflection rejects")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Parity")
+    @Description("Unknown properties, unknown enum values and wrong shapes fail with Jackson's exceptions")
+    void testErrors() throws Exception {
+        assertSameFailure("{\"id\":\"bill-1\",\"color\":\"red\"}", Bill.class, UnrecognizedPropertyException.class);
+        assertSameFailure(reflective.writeValueAsString(samples().get(3)), PaymentMethod.class, UnrecognizedPropertyException.class);
+        assertSameFailure("{\"status\":\"lost\"}", Bill.class, ValueInstantiationException.class);
+        assertSameFailure("[1, 2]", Bill.class, MismatchedInputException.class);
+
+        HealthResponse health = JsonUtils.jsonToObject("{\"success\":true,\"extra\":{\"a\":[1]},\"data\":{\"status\":\"ok\",\"x\":1}}",
+                HealthResponse.class);
+        assertTrue(health.isHealthy(), "ignoreUnknown models should skip unknown properties");
+    }
+
+    private static void removeGetterOnlyProperties(Class<?> type, JsonNode tree) {
+        reflective.getSerializationConfig().introspect(reflective.constructType(type)).findProperties().stream()
+                .filter(property -> !property.hasSetter() && !property.hasField())
+                .forEach(property -> ((ObjectNode) tree).remove(property.getName()));
+    }
+
+    private static void assertSameFailure(String json, Class<?> type, Class<? extends Exception> expected) {
+        Exception reflectiveError = assertThrows(Exception.class, () -> reflective.readValue(json, type));
+        RuntimeException error = assertThrows(RuntimeException.class, () -> JsonUtils.jsonToObject(json, type));
+        assertTrue(expected.isInstance(error.getCause()), "Expected " + expected.getSimpleName() + " but got " + error.getCause());
+        assertEquals(reflectiveError.getClass(), error.getCause().getClass(), "Failure should match reflective Jackson for " + json);
+    }
+}
@@ -0,0 +1,155 @@
+package com.api.automation.tests.pagination;
+
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.client.Pager;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.Payment;
+import com.api.automation.tests.support.StubApiServer;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Parallel Page Fan-out Tests
+ * Validates concurrent fetching of the remaining pages once totalPages is known
+ */
+@Epic("Framework")
+@Feature("Pagination")
+public class PagerFanOutTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(250);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static Response fetch(StubApiServer stub, String path, int page, int limit) {
+        return new BaseApiClient()
+                .withQueryParam("page", page)
+                .withQueryParam("limit", limit)
+                .get(stub.getBaseUrl() + path);
+    }
+
+    @Test
+    @DisplayName("Fan-out reassembles pages in order")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Parallel Fan-out")
+    @Description("All pages are fetched concurrently and the items come back in page order")
+    void testOrderedFanOut() {
+        Pager.FanOutResult<Bill> result = Pager.of((page, limit) -> fetch(server, "/v1/bills", page, limit), Bill.class)
+                .pageSize(20)
+                .idExtractor(Bill::getId)
+                .fanOut(4)
+                .requireConsistent();
+
+        List<String> ids = result.getItems().stream().map(Bill::getId).collect(Collectors.toList());
+        assertEquals(250, ids.size(), "All bills should be returned");
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(String.format("bill-%05d", i + 1), ids.get(i), "Bills should be in page order");
+        }
+        assertEquals(13, result.getPages(), "250 bills in pages of 20");
+        assertEquals(250, result.getTotal());
+    }
+
+    @Test
+    @DisplayName("Unordered fan-out delivers items to a consumer")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Parallel Fan-out")
+    @Description("Items are handed to the consumer as pages arrive and are not retained")
+    void testUnorderedFanOut() {
+        List<Payment> delivered = new ArrayList<>();
+        Pager.FanOutResult<Payment> result = Pager.of((page, limit) -> fetch(server, "/v1/payments", page, limit), Payment.class)
+                .pageSize(25)
+                .idExtractor(Payment::getId)
+                .fanOut(5, delivered::add);
+
+        assertFalse(result.isDrifted(), "No drift expected: " + result.getDriftReasons());
+        assertEquals(250, delivered.size(), "Every payment should be delivered");
+        assertEquals(250, delivered.stream().map(Payment::getId).distinct().count(), "No payment should be repeated");
+        assertTrue(result.getItems().isEmpty(), "Consumer mode should not retain items");
+        assertEquals(250, result.getItemCount());
+    }
+
+    @Test
+    @DisplayName("Parallelism is bounded")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Parallel Fan-out")
+    @Description("No more than the configured number of page requests are in flight")
+    void testBoundedParallelism() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Pager.FanOutResult<Bill> result = Pager.of((page, limit) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                return fetch(server, "/v1/bills", page, limit);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }, Bill.class).pageSize(10).fanOut(3);
+
+        assertEquals(250, result.getItems().size(), "All bills should be returned");
+        assertTrue(maxInFlight.get() <= 3, "At most 3 requests should be in flight, saw " + maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Max items limits the pages fanned out")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Parallel Fan-out")
+    @Description("Only the pages holding the first max items are requested")
+    void testMaxItems() {
+        AtomicInteger calls = new AtomicInteger();
+        Pager.FanOutResult<Bill> result = Pager.of((page, limit) -> {
+            calls.incrementAndGet();
+            return fetch(server, "/v1/bills", page, limit);
+        }, Bill.class).pageSize(20).maxItems(45).fanOut(4);
+
+        assertEquals(45, result.getItems().size(), "Exactly max items should be returned");
+        assertEquals(3, calls.get(), "Only pages 1-3 should be requested");
+        assertFalse(result.isDrifted(), "A partial fetch is not drift: " + result.getDriftReasons());
+    }
+
+    @Test
+    @DisplayName("Inserts during the fan-out are detected")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Drift Detection")
+    @Description("Items inserted at the head after page 1 shift later pages, producing duplicates and a changed total")
+    void testDriftDetection() {
+        try (StubApiServer stub = StubApiServer.start(100)) {
+            Pager.FanOutResult<Bill> result = Pager.of((page, limit) -> {
+                Response response = fetch(stub, "/v1/bills", page, limit);
+                if (page == 1) {
+                    stub.insertAtFront("/v1/bills", 3);
+                }
+                return response;
+            }, Bill.class).pageSize(20).idExtractor(Bill::getId).fanOut(4);
+
+            assertTrue(result.isDrifted(), "Drift should be detected");
+            String reasons = String.join("; ", result.getDriftReasons());
+            assertTrue(reasons.contains("total changed from 100 to 103"), "Total change should be reported: " + reasons);
+            assertTrue(reasons.contains("duplicate id bill-00020"), "Shifted item should be reported: " + reasons);
+            assertThrows(IllegalStateException.class, result::requireConsistent);
+
+            Set<String> ids = new HashSet<>();
+            result.getItems().forEach(bill -> ids.add(bill.getId()));
+            assertTrue(ids.size() < result.getItems().size(), "Duplicates should be visible in the items");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.api.automation.tests.pagination;
+
+import com.api.automation.client.BaseApiClient;
+import com.api.automation.client.Pager;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.tests.support.StubApiServer;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pagination Stream Tests
+ * Validates lazy, prefetching iteration over paginated endpoints against the stub server
+ */
+@Epic("Framework")
+@Feature("Pagination")
+public class PagerTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(250);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static Pager.PageFetcher bills(AtomicInteger calls) {
+        String url = server.getBaseUrl() + "/v1/bills";
+        return (page, limit) -> {
+            calls.incrementAndGet();
+            return new BaseApiClient()
+                    .withQueryParam("page", page)
+                    .withQueryParam("limit", limit)
+                    .get(url);
+        };
+    }
+
+    @Test
+    @DisplayName("Stream every item across pages in order")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Lazy Pagination")
+    @Description("All 250 bills are streamed in order with one request per page")
+    void testStreamsAllPages() {
+        AtomicInteger calls = new AtomicInteger();
+        List<String> ids;
+        try (Stream<Bill> bills = Pager.of(bills(calls), Bill.class).pageSize(40).stream()) {
+            ids = bills.map(Bill::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(250, ids.size(), "All bills should be streamed");
+        assertEquals("bill-00001", ids.get(0), "First bill should come first");
+        assertEquals("bill-00250", ids.get(249), "Last bill should come last");
+        assertEquals(7, calls.get(), "One request per page of 40");
+    }
+
+    @Test
+    @DisplayName("Max items stops paging early")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Lazy Pagination")
+    @Description("No page after the one containing the last requested item is fetched")
+    void testMaxItems() {
+        AtomicInteger calls = new AtomicInteger();
+        Pager.PageIterator<Bill> iterator = Pager.of(bills(calls), Bill.class).pageSize(20).maxItems(45).iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+
+        assertEquals(45, count, "Exactly max items should be returned");
+        assertEquals(3, iterator.getPagesFetched(), "Pages 1-3 hold the first 45 items");
+        assertEquals(3, calls.get(), "Page 4 should never be requested");
+    }
+
+    @Test
+    @DisplayName("Next page is prefetched while the current one is consumed")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Prefetching")
+    @Description("After the first item is read, page 2 is requested in the background")
+    void testPrefetchesNextPage() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        try (Pager.PageIterator<Bill> iterator = Pager.of(bills(calls), Bill.class).pageSize(50).iterator()) {
+            assertEquals("bill-00001", iterator.next().getId());
+            long deadline = System.currentTimeMillis() + 5000;
+            while (calls.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(2, calls.get(), "Page 2 should be fetched without the consumer asking for it");
+        }
+
+        AtomicInteger lazyCalls = new AtomicInteger();
+        try (Pager.PageIterator<Bill> iterator = Pager.of(bills(lazyCalls), Bill.class).pageSize(50).prefetch(false).iterator()) {
+            iterator.next();
+            Thread.sleep(200);
+            assertEquals(1, lazyCalls.get(), "Without prefetch only the consumed page is fetched");
+        }
+    }
+
+    @Test
+    @DisplayName("Failed page surfaces as an exception")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Lazy Pagination")
+    @Description("A non-2xx page response stops iteration with the status in the message")
+    void testFailedPage() {
+        String url = server.getBaseUrl() + "/v1/unknown";
+        Pager<Bill> pager = Pager.of((page, limit) -> new BaseApiClient().get(url), Bill.class);
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> pager.stream().count());
+        assertTrue(error.getMessage().contains("404"), "Status should be reported: " + error.getMessage());
+    }
+}
@@ -0,0 +1,129 @@
+package com.api.automation.tests.reporting;
+
+import com.api.automation.reporting.AllureAttachmentFilter;
+import com.api.automation.reporting.CapturePolicy;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.AttachmentStore;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Attachment Store Tests
+ * Validates content-addressed, compressed body storage and its use by the Allure filter
+ */
+@Epic("Framework")
+@Feature("Reporting")
+public class AttachmentStoreTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(200);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static long fileCount(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Identical bodies are written once")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Attachment Store")
+    @Description("Concurrent stores of the same body share one compressed file that reads back to the original")
+    void testDeduplication() throws Exception {
+        Path directory = Files.createTempDirectory("attachments");
+        AttachmentStore store = new AttachmentStore(directory, 64, true);
+        byte[] body = RestAssured.get(server.getBaseUrl() + "/v1/bills?limit=200").asByteArray();
+
+        Set<String> hashes = ConcurrentHashMap.newKeySet();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < 10; i++) {
+                    hashes.add(store.store(body).getHash());
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(1, hashes.size(), "Equal content should get one hash");
+        assertEquals(1, fileCount(directory), "Equal content should be written once");
+        assertEquals(40, store.getStoredCount());
+        assertEquals(40L * body.length, store.getStoredBytes());
+        assertEquals(1, store.getWrittenCount());
+        assertTrue(store.getWrittenBytes() * 5 < body.length, "JSON pages should compress well: " + store.getWrittenBytes());
+        assertArrayEquals(body, store.read(hashes.iterator().next()), "Stored content should read back unchanged");
+
+        AttachmentStore.Ref other = store.store("different".repeat(20).getBytes(StandardCharsets.UTF_8));
+        assertFalse(hashes.contains(other.getHash()));
+        assertEquals(2, fileCount(directory));
+        assertEquals(directory.resolve(other.getHash() + ".gz"), other.getFile());
+        assertEquals("../" + directory.getFileName() + "/" + other.getHash() + ".gz", other.relativeTo(directory.resolveSibling("report")));
+    }
+
+    @Test
+    @DisplayName("Small bodies stay inline")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Attachment Store")
+    @Description("storeIfLarge() leaves bodies under the threshold, and everything when disabled, to be logged inline")
+    void testThreshold() throws Exception {
+        Path directory = Files.createTempDirectory("attachments");
+        AttachmentStore store = new AttachmentStore(directory, 64, true);
+        assertNull(store.storeIfLarge("x".repeat(63)));
+        assertNull(store.storeIfLarge("é".repeat(31)), "Threshold counts UTF-8 bytes");
+        assertNotNull(store.storeIfLarge("é".repeat(32)));
+        assertNotNull(store.storeIfLarge(new byte[64]));
+        assertNull(store.storeIfLarge((String) null));
+
+        AttachmentStore disabled = new AttachmentStore(directory, 64, false);
+        assertNull(disabled.storeIfLarge("x".repeat(1000)));
+        assertEquals(2, fileCount(directory));
+    }
+
+    @Test
+    @DisplayName("The Allure filter stores repeated responses once")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Allure Attachments")
+    @Description("Large response bodies seen by the Allure filter go to the store; responses are passed through unchanged")
+    void testAllureFilter() throws Exception {
+        Path directory = Files.createTempDirectory("attachments");
+        AttachmentStore store = new AttachmentStore(directory, 1024, true);
+        AllureAttachmentFilter filter = new AllureAttachmentFilter(store, CapturePolicy.captureAll());
+
+        Response first = RestAssured.given().filter(filter).get(server.getBaseUrl() + "/v1/bills?limit=100");
+        Response second = RestAssured.given().filter(filter).get(server.getBaseUrl() + "/v1/bills?limit=100");
+        RestAssured.given().filter(filter).get(server.getBaseUrl() + "/health");
+
+        assertEquals(first.asString(), second.asString());
+        assertEquals(2, store.getStoredCount(), "Only the large responses should be stored");
+        assertEquals(1, store.getWrittenCount(), "The repeated page should be written once");
+        assertArrayEquals(first.asByteArray(), store.read(store.store(first.asByteArray()).getHash()));
+    }
+}
@@ -0,0 +1,145 @@
+package com.api.automation.tests.reporting;
+
+import com.api.automation.reporting.CaptureLoggingFilter;
+import com.api.automation.reporting.CapturePolicy;
+import com.api.automation.reporting.CapturePolicy.Level;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.HarGenerator;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Capture Policy Tests
+ * Validates the capture rules and that the reporting filters share one decision per request
+ */
+@Epic("Framework")
+@Feature("Reporting")
+public class CapturePolicyTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(20);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Failures are always captured and successes are sampled")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Capture Policy")
+    @Description("With a sample rate of 3 every third success is captured in full, while every failure is")
+    void testSampling() {
+        CapturePolicy policy = CapturePolicy.builder().sampleRate(3).build();
+        int full = 0;
+        for (int i = 0; i < 9; i++) {
+            if (policy.decide("http://localhost/v1/bills", 200, 10) == Level.FULL) {
+                full++;
+            }
+            assertEquals(Level.FULL, policy.decide("http://localhost/v1/bills", 500, 10), "Failures should always be captured");
+        }
+        assertEquals(3, full, "One in three successes should be captured in full");
+
+        CapturePolicy none = CapturePolicy.builder().sampleRate(0).failureStatus(500).build();
+        assertEquals(Level.SUMMARY, none.decide("http://localhost/v1/bills", 200, 10));
+        assertEquals(Level.SUMMARY, none.decide("http://localhost/v1/bills", 404, 10), "Statuses under the failure status are successes");
+        assertEquals(Level.FULL, none.decide("http://localhost/v1/bills", 503, 10));
+        assertThrows(IllegalArgumentException.class, () -> CapturePolicy.builder().sampleRate(-1));
+    }
+
+    @Test
+    @DisplayName("Endpoint patterns and body size limits")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Capture Policy")
+    @Description("Excluded endpoints are skipped, included ones always captured, and oversized bodies summarized")
+    void testPatternsAndSize() {
+        CapturePolicy policy = CapturePolicy.builder()
+                .sampleRate(0)
+                .maxBodyBytes(1000)
+                .include("/v1/payments")
+                .exclude("/health$, /metrics")
+                .build();
+        assertEquals(Level.NONE, policy.decide("http://localhost/health", 200, 10));
+        assertEquals(Level.NONE, policy.decide("http://localhost/metrics/jvm", 200, 10));
+        assertEquals(Level.FULL, policy.decide("http://localhost/health", 500, 10), "Failures win over exclusion");
+        assertEquals(Level.FULL, policy.decide("http://localhost/v1/payments/42", 200, 5000), "Included endpoints ignore the size limit");
+        assertEquals(Level.SUMMARY, policy.decide("http://localhost/v1/bills", 200, 10));
+
+        CapturePolicy sized = CapturePolicy.builder().maxBodyBytes(1000).build();
+        assertEquals(Level.FULL, sized.decide("http://localhost/v1/bills", 200, 1000));
+        assertEquals(Level.SUMMARY, sized.decide("http://localhost/v1/bills", 200, 1001));
+        assertEquals(Level.FULL, sized.decide("http://localhost/v1/bills", 400, 1001));
+    }
+
+    @Test
+    @DisplayName("Logging and HAR capture the same sampled requests")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Capture Policy")
+    @Description("Filters sharing a policy ask it once per request, so a sampled request is full in every reporter")
+    void testSharedDecision() throws Exception {
+        CapturePolicy policy = CapturePolicy.builder().sampleRate(2).build();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CaptureLoggingFilter logging = new CaptureLoggingFilter(policy, new PrintStream(output, true, StandardCharsets.UTF_8));
+        HarGenerator har = new HarGenerator().withCapturePolicy(policy).enableForTest("capture-policy-shared");
+        Path file = har.getCurrentFile();
+
+        for (int i = 0; i < 4; i++) {
+            RestAssured.given().filter(logging).filter(har).queryParam("page", i).get(server.getBaseUrl() + "/v1/bills?limit=1");
+        }
+        RestAssured.given().filter(logging).filter(har).get(server.getBaseUrl() + "/missing");
+        har.disable();
+
+        String log = output.toString(StandardCharsets.UTF_8);
+        JsonNode entries = JsonUtils.getObjectMapper().readTree(file.toFile()).path("log").path("entries");
+        assertEquals(5, entries.size(), "Summarized requests still get an entry");
+        for (int i = 0; i < 4; i++) {
+            boolean full = entries.get(i).path("response").path("content").has("text");
+            assertEquals(i % 2 == 0, full, "Every second success should be captured in full: " + i);
+            assertEquals(full, log.contains("page=" + i + "\n") || log.contains("page=" + i + "\r"),
+                    "The log should print the full request exactly when the HAR has it: " + i);
+            assertEquals(!full, log.contains("page=" + i + " -> 200"), "Summarized requests are logged on one line: " + i);
+        }
+        assertTrue(entries.get(4).path("response").path("content").has("text"), "Failures are captured in full");
+        assertTrue(log.contains("404"), "Failures are logged");
+    }
+
+    @Test
+    @DisplayName("Byte array request bodies are logged as text")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Capture Policy")
+    @Description("Full captures print JSON and Smile request bodies as readable JSON rather than byte values")
+    void testRequestBodyRendering() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CaptureLoggingFilter logging = new CaptureLoggingFilter(CapturePolicy.captureAll(), new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        RestAssured.given().filter(logging).contentType(BodyFormat.JSON.getMimeType())
+                .body("{\"id\":\"pay-json\"}".getBytes(StandardCharsets.UTF_8)).post(server.getBaseUrl() + "/v1/payments");
+        RestAssured.given().filter(logging).contentType(BodyFormat.SMILE.getMimeType())
+                .body(JsonUtils.toBytes(Map.of("id", "pay-smile"), BodyFormat.SMILE)).post(server.getBaseUrl() + "/v1/payments");
+
+        String log = output.toString(StandardCharsets.UTF_8);
+        assertTrue(log.contains("\"id\" : \"pay-json\""), "JSON bytes should be logged as JSON: " + log);
+        assertTrue(log.contains("\"id\" : \"pay-smile\""), "Smile bytes should be logged as their JSON equivalent: " + log);
+        assertTrue(log.contains("Request method:\tPOST"), "The rest of the request is still printed: " + log);
+        assertFalse(log.contains("[123, "), "Bodies should not be printed as byte values: " + log);
+    }
+}
@@ -0,0 +1,106 @@
+package com.api.automation.tests.reporting;
+
+import com.api.automation.reporting.ExtentReportManager;
+import com.api.automation.utils.AttachmentStore;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Extent Report Manager Tests
+ * Validates the single-writer report pipeline and stored body links
+ */
+@Epic("Framework")
+@Feature("Reporting")
+public class ExtentReportManagerTest {
+
+    @Test
+    @DisplayName("Tests logged from parallel threads all reach the report")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Report Pipeline")
+    @Description("Each thread's events are applied to its own test by the writer, and flushReports() waits for them")
+    void testParallelThreads() throws Exception {
+        int threads = 4;
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch ready = new CountDownLatch(threads);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers.add(new Thread(() -> {
+                try {
+                    ExtentReportManager.createTest("extent-thread-" + id, "Pipeline test " + id);
+                    ready.countDown();
+                    ready.await();
+                    for (int i = 0; i < 20; i++) {
+                        ExtentReportManager.logInfo("extent-thread-" + id + " step " + i);
+                    }
+                    ExtentReportManager.addTag("pipeline");
+                    ExtentReportManager.logPass("extent-thread-" + id + " passed");
+                    ExtentReportManager.endTest();
+                    assertFalse(ExtentReportManager.hasTest(), "endTest() should clear the thread's test");
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(failures.isEmpty(), "Workers failed: " + failures);
+
+        ExtentReportManager.flushReports();
+        String report = Files.readString(Paths.get(ExtentReportManager.getReportPath()));
+        for (int t = 0; t < threads; t++) {
+            assertTrue(report.contains("extent-thread-" + t + " step 19"), "Last step of thread " + t + " should be in the report");
+            assertTrue(report.contains("extent-thread-" + t + " passed"));
+        }
+    }
+
+    @Test
+    @DisplayName("Large bodies are linked to the attachment store")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Report Pipeline")
+    @Description("Bodies the attachment store takes are logged as a link and a short preview; small bodies stay inline")
+    void testStoredBodies() throws Exception {
+        ExtentReportManager.createTest("extent-stored-body");
+        String body = "x".repeat(100_000) + "BODY-TAIL";
+        ExtentReportManager.logRequest("POST", "http://localhost/v1/payments", "Accept: */*", "{\"small\":\"REQUEST-BODY\"}");
+        ExtentReportManager.logResponse(200, "Content-Type: text/plain", body, 12);
+        ExtentReportManager.endTest();
+
+        ExtentReportManager.flushReports();
+        String report = Files.readString(Paths.get(ExtentReportManager.getReportPath()));
+        String hash = AttachmentStore.getInstance().store(body.getBytes(StandardCharsets.UTF_8)).getHash();
+        assertTrue(report.contains("REQUEST-BODY"), "Small bodies are kept inline");
+        assertTrue(report.contains("href=\"../../target/attachments/" + hash + ".gz\""), "Large bodies should link to the stored file");
+        assertFalse(report.contains("BODY-TAIL"), "Only a preview of a stored body reaches the report");
+        assertEquals(body, new String(AttachmentStore.getInstance().read(hash), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Logging without a test is ignored")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Report Pipeline")
+    @Description("Threads without a current test log only to the logger")
+    void testNoCurrentTest() {
+        assertFalse(ExtentReportManager.hasTest());
+        assertDoesNotThrow(() -> {
+            ExtentReportManager.logInfo("no test");
+            ExtentReportManager.logResponse(200, null, "body", 1);
+            ExtentReportManager.addTag("none");
+            ExtentReportManager.endTest();
+        });
+    }
+}
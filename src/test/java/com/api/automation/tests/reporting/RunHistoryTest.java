@@ -0,0 +1,161 @@
+package com.api.automation.tests.reporting;
+
+import com.api.automation.reporting.RunHistory;
+import com.api.automation.reporting.RunHistory.Outcome;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Run History Tests
+ * Validates the append-only run-history store and its queries
+ */
+@Epic("Framework")
+@Feature("Reporting")
+public class RunHistoryTest {
+
+    private static final Outcome[] FLAKY = {Outcome.PASSED, Outcome.FAILED, Outcome.PASSED};
+
+    /**
+     * Three runs of a stable, a flaky and a skipped test
+     */
+    private static Path threeRuns() throws Exception {
+        Path directory = Files.createTempDirectory("run-history");
+        for (int run = 0; run < 3; run++) {
+            RunHistory history = new RunHistory(directory, 1_000 * (run + 1));
+            history.record(RunHistory.Row.builder().test("BillTests.testList")
+                    .durationNanos((run + 1) * 10_000_000L)
+                    .endpoint("GET /v1/bills", 2, (run + 1) * 4_000_000L));
+            history.record(RunHistory.Row.builder().test("PaymentFlowTests.testPay").outcome(FLAKY[run])
+                    .durationNanos(50_000_000L).retries(run)
+                    .endpoint("POST /v1/payments", 1, 8_000_000L)
+                    .endpoint("GET /v1/bills", 1, 1_000_000L));
+            history.record(RunHistory.Row.builder().test("FileUploadTests.testUpload").outcome(Outcome.SKIPPED));
+            history.flush();
+        }
+        return directory;
+    }
+
+    @Test
+    @DisplayName("Results of several runs are queried together")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Run History")
+    @Description("Rows written by separate runs read back with their outcomes, retries and endpoint latencies, and filter by test, outcome and run")
+    void testQueries() throws Exception {
+        RunHistory history = new RunHistory(threeRuns(), 4_000);
+
+        List<RunHistory.Row> rows = history.query().test("PaymentFlowTests.testPay").list();
+        assertEquals(3, rows.size());
+        assertEquals(List.of(1_000L, 2_000L, 3_000L), rows.stream().map(RunHistory.Row::getRunId).toList());
+        assertEquals(Outcome.FAILED, rows.get(1).getOutcome());
+        assertEquals(2, rows.get(2).getRetries());
+        assertEquals(50_000, rows.get(0).getDurationMicros());
+        assertEquals(8_000, rows.get(0).getEndpoints().get("POST /v1/payments").getTotalMicros());
+
+        assertEquals(9, history.query().count());
+        assertEquals(1, history.query().outcome(Outcome.FAILED).count());
+        assertEquals(6, history.query().lastRuns(2).count());
+        assertEquals(List.of(2_000L, 3_000L), history.query().since(Instant.ofEpochMilli(2_000)).runs());
+        assertEquals(0, history.query().test("Unknown.test").count(), "Unknown tests match nothing");
+
+        history.record(RunHistory.Row.builder().test("BillTests.testList").outcome(Outcome.FAILED));
+        assertEquals(List.of(4_000L), history.query().lastRuns(1).runs(), "Buffered rows of the current run are included");
+    }
+
+    @Test
+    @DisplayName("Statistics support scheduling, flaky detection and trends")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Run History")
+    @Description("Per-test duration percentiles and flakiness, and per-run endpoint latency")
+    void testAggregates() throws Exception {
+        RunHistory history = new RunHistory(threeRuns(), 4_000);
+
+        Map<String, RunHistory.TestStats> stats = history.query().statsByTest();
+        RunHistory.TestStats stable = stats.get("BillTests.testList");
+        RunHistory.TestStats flaky = stats.get("PaymentFlowTests.testPay");
+        assertEquals(3, stable.getRuns());
+        assertEquals(0, stable.getFlakiness());
+        assertEquals(20_000, stable.getMedianDurationMicros());
+        assertEquals(30_000, stable.getP95DurationMicros());
+        assertEquals(2, flaky.getFlips());
+        assertEquals(1.0, flaky.getFlakiness(), "Alternating outcomes are maximally flaky");
+        assertEquals(1, flaky.getFailures());
+        assertEquals(3, flaky.getRetries());
+        assertEquals(0, stats.get("FileUploadTests.testUpload").getRuns());
+        assertEquals(3, stats.get("FileUploadTests.testUpload").getSkipped());
+
+        assertEquals(20_000L, history.query().expectedDurations().get("BillTests.testList"));
+
+        SortedMap<Long, RunHistory.Latency> trend = history.query().endpointTrend("GET /v1/bills");
+        assertEquals(List.of(1_000L, 2_000L, 3_000L), List.copyOf(trend.keySet()));
+        assertEquals(3, trend.get(1_000L).getCalls(), "Calls from all tests in a run are summed");
+        assertEquals(5_000, trend.get(1_000L).getTotalMicros());
+        assertEquals(13_000, trend.get(3_000L).getTotalMicros());
+        assertTrue(history.query().endpointTrend("GET /unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("A partial row left by a crash is dropped")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Run History")
+    @Description("Readers ignore an incomplete last row and the next writer cuts it off before appending")
+    void testPartialRow() throws Exception {
+        Path directory = threeRuns();
+        Files.write(directory.resolve("runs.bin"), new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+        Files.write(directory.resolve("names.txt"), "Partial".getBytes(), StandardOpenOption.APPEND);
+
+        RunHistory history = new RunHistory(directory, 4_000);
+        assertEquals(9, history.query().count());
+        history.record(RunHistory.Row.builder().test("BillTests.testNew").durationNanos(1_000_000L));
+        history.flush();
+        RunHistory reader = new RunHistory(directory, 5_000);
+        assertEquals(10, reader.query().count());
+        assertEquals(1_000, reader.query().test("BillTests.testNew").list().get(0).getDurationMicros());
+    }
+
+    @Test
+    @DisplayName("Hundreds of thousands of rows stay compact and quick to query")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Run History")
+    @Description("200,000 rows over 500 tests and 400 runs take about 21 bytes plus 12 per endpoint each and are scanned in well under a second")
+    void testScale() throws Exception {
+        Path directory = Files.createTempDirectory("run-history");
+        int runs = 400;
+        int tests = 500;
+        for (int run = 0; run < runs; run++) {
+            RunHistory history = new RunHistory(directory, run + 1);
+            for (int test = 0; test < tests; test++) {
+                history.record(RunHistory.Row.builder().test("GeneratedTests.test" + test)
+                        .outcome(test % 50 == 0 && run % 2 == 0 ? Outcome.FAILED : Outcome.PASSED)
+                        .durationNanos((test + 1) * 1_000_000L)
+                        .endpoint("GET /v1/bills", 1, 2_000_000L));
+            }
+            history.flush();
+        }
+        long size = Files.size(directory.resolve("runs.bin"));
+        assertEquals(200_000L * (4 + 21 + 12), size, "Rows should be fixed size");
+
+        RunHistory history = new RunHistory(directory, runs + 1);
+        long start = System.nanoTime();
+        Map<String, RunHistory.TestStats> stats = history.query().statsByTest();
+        int count = history.query().test("GeneratedTests.test7").count();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(tests, stats.size());
+        assertEquals(runs, count);
+        assertEquals(1.0, stats.get("GeneratedTests.test50").getFlakiness());
+        assertEquals(0, stats.get("GeneratedTests.test7").getFlakiness());
+        assertEquals(8_000, stats.get("GeneratedTests.test7").getMedianDurationMicros());
+        assertTrue(elapsedMs < 5_000, "Queries over 200,000 rows took " + elapsedMs + " ms");
+    }
+}
@@ -0,0 +1,119 @@
+package com.api.automation.tests.reporting;
+
+import com.api.automation.reporting.TestResourceMetrics;
+import com.api.automation.tests.support.StubApiServer;
+import com.api.automation.utils.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test Resource Metrics Tests
+ * Validates per-test wall, network, CPU and allocation accounting and its summary
+ */
+@Epic("Framework")
+@Feature("Reporting")
+public class TestResourceMetricsTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startServer() {
+        server = StubApiServer.start(50);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    private static void get(String path) {
+        RestAssured.given().filter(TestResourceMetrics.getNetworkTimer()).get(server.getBaseUrl() + path);
+    }
+
+    @Test
+    @DisplayName("Wall time is split into network wait and local work")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Resource Metrics")
+    @Description("Requests count as network time; local sleeps, CPU work and allocations are attributed to the test")
+    void testAccounting() throws Exception {
+        TestResourceMetrics.start("metrics-accounting");
+        assertTrue(TestResourceMetrics.isMetering());
+        get("/v1/bills?limit=10");
+        get("/health");
+        Thread.sleep(50);
+        byte[][] garbage = new byte[16][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[256 * 1024];
+        }
+        TestResourceMetrics.Sample sample = TestResourceMetrics.stop();
+
+        assertNotNull(sample);
+        assertFalse(TestResourceMetrics.isMetering(), "stop() should end metering");
+        assertEquals("metrics-accounting", sample.getTestName());
+        assertEquals(2, sample.getRequests());
+        assertTrue(sample.getNetworkNanos() > 0, "Requests should be timed: " + sample);
+        assertTrue(sample.getLocalNanos() >= 50_000_000L, "The local sleep should be local time: " + sample);
+        assertEquals(sample.getWallNanos(), sample.getNetworkNanos() + sample.getLocalNanos());
+        if (sample.getAllocatedBytes() >= 0) {
+            assertTrue(sample.getAllocatedBytes() >= 4L * 1024 * 1024, "The 4 MB allocated should be counted: " + sample);
+        }
+        assertTrue(sample.getCpuNanos() < 0 || sample.getCpuNanos() < sample.getWallNanos(),
+                "A sleeping test uses less CPU than wall time: " + sample);
+        assertTrue(sample.toString().contains("over 2 requests"), sample.toString());
+        assertEquals(256 * 1024, garbage[garbage.length - 1].length, "Keeps the allocations live");
+    }
+
+    @Test
+    @DisplayName("Unmetered threads are not recorded")
+    @Severity(SeverityLevel.MINOR)
+    @Story("Resource Metrics")
+    @Description("Requests outside a metered test pass through the timer, and stop() without start() records nothing")
+    void testUnmetered() {
+        assertNull(TestResourceMetrics.stop());
+        assertDoesNotThrow(() -> get("/health"));
+    }
+
+    @Test
+    @DisplayName("The summary lists tests with the most local time first")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Resource Metrics")
+    @Description("writeSummary() writes totals and per-test samples as JSON, ordered by local time")
+    void testSummary() throws Exception {
+        TestResourceMetrics.start("metrics-summary-slow");
+        Thread.sleep(40);
+        TestResourceMetrics.stop();
+        TestResourceMetrics.start("metrics-summary-fast");
+        TestResourceMetrics.stop();
+
+        Path file = Files.createTempDirectory("metrics").resolve("summary.json");
+        TestResourceMetrics.writeSummary(file);
+        JsonNode summary = JsonUtils.getObjectMapper().readTree(file.toFile());
+        JsonNode tests = summary.path("tests");
+        assertTrue(summary.path("totals").path("tests").asInt() >= 2);
+        assertEquals(tests.size(), summary.path("totals").path("tests").asInt());
+
+        int slow = -1;
+        int fast = -1;
+        for (int i = 0; i < tests.size(); i++) {
+            if (i > 0) {
+                assertTrue(tests.get(i - 1).path("localNanos").asLong() >= tests.get(i).path("localNanos").asLong(),
+                        "Tests should be ordered by local time");
+            }
+            String name = tests.get(i).path("testName").asText();
+            slow = name.equals("metrics-summary-slow") ? i : slow;
+            fast = name.equals("metrics-summary-fast") ? i : fast;
+        }
+        assertTrue(slow >= 0 && fast > slow, "The slower test should come first: " + tests);
+        assertTrue(tests.get(slow).has("allocatedBytes") && tests.get(slow).has("cpuNanos") && tests.get(slow).has("localShare"));
+    }
+}
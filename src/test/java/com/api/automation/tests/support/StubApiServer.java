@@ -0,0 +1,292 @@
+package com.api.automation.tests.support;
+
+import com.api.automation.models.billpay.Address;
+import com.api.automation.models.billpay.Bill;
+import com.api.automation.models.billpay.Biller;
+import com.api.automation.models.billpay.Money;
+import com.api.automation.models.billpay.Payment;
+import com.api.automation.models.billpay.enums.BillStatus;
+import com.api.automation.models.billpay.enums.BillerCategory;
+import com.api.automation.models.billpay.enums.PaymentStatus;
+import com.api.automation.utils.BodyFormat;
+import com.api.automation.utils.JsonUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * In-process stub of the Bill Payment API for offline tests and benchmarks
+ * Serves paginated /v1/bills, /v1/payments and /v1/billers collections with the
+ * {success, data, meta} envelope, echoes POST bodies with 201, and answers /health.
+ * Bodies are negotiated: an Accept of CBOR or Smile gets the same envelope in that format,
+ * and binary POST bodies are decoded per their Content-Type.
+ */
+public class StubApiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, Collection> collections = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private StubApiServer(int itemsPerCollection) throws IOException {
+        collections.put("/v1/bills", new Collection(itemsPerCollection, StubApiServer::bill));
+        collections.put("/v1/payments", new Collection(itemsPerCollection, StubApiServer::payment));
+        collections.put("/v1/billers", new Collection(itemsPerCollection, StubApiServer::biller));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8, r -> {
+            Thread thread = new Thread(r, "stub-api-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Start a stub server with 250 items per collection
+     */
+    public static StubApiServer start() {
+        return start(250);
+    }
+
+    public static StubApiServer start(int itemsPerCollection) {
+        try {
+            return new StubApiServer(itemsPerCollection);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start stub API server", e);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Change the size of a collection, e.g. to simulate inserts while a client is paging
+     */
+    public void setTotal(String path, int total) {
+        collections.get(path).total = total;
+    }
+
+    /**
+     * Insert new items at the head of a collection, shifting every existing item back by {@code count}
+     */
+    public void insertAtFront(String path, int count) {
+        Collection collection = collections.get(path);
+        synchronized (collection) {
+            collection.inserted += count;
+            collection.total += count;
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        byte[] requestBody;
+        try (InputStream in = exchange.getRequestBody()) {
+            requestBody = in.readAllBytes();
+        }
+        BodyFormat format = accepted(exchange.getRequestHeaders().getFirst("Accept"));
+
+        if ("/health".equals(path)) {
+            respond(exchange, 200, "{\"status\":\"healthy\",\"version\":\"stub\"}", format);
+            return;
+        }
+
+        Collection collection = collections.get(path);
+        if (collection == null) {
+            respond(exchange, 404, "{\"success\":false,\"error\":{\"code\":\"NOT_FOUND\",\"message\":\"No stub for " + path + "\"}}", format);
+            return;
+        }
+
+        if ("POST".equals(method)) {
+            BodyFormat requestFormat = BodyFormat.fromContentType(exchange.getRequestHeaders().getFirst("Content-Type"));
+            String body = requestBody.length == 0 ? "{}"
+                    : requestFormat.isBinary() ? JsonUtils.readTree(requestBody, requestFormat).toString()
+                    : new String(requestBody, StandardCharsets.UTF_8);
+            respond(exchange, 201, "{\"success\":true,\"data\":" + body + "}", format);
+            return;
+        }
+
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        int total = collection.total;
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        int limit = Integer.parseInt(query.getOrDefault("limit", String.valueOf(Math.max(total, 1))));
+        respond(exchange, 200, collection.page(page, limit, total), format);
+    }
+
+    // First media range of the Accept header that names a binary format, else JSON
+    private static BodyFormat accepted(String accept) {
+        if (accept == null) {
+            return BodyFormat.JSON;
+        }
+        for (String range : accept.split(",")) {
+            BodyFormat format = BodyFormat.fromContentType(range);
+            if (format.isBinary()) {
+                return format;
+            }
+        }
+        return BodyFormat.JSON;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body, BodyFormat format) throws IOException {
+        byte[] bytes = format.isBinary()
+                ? JsonUtils.toBytes(JsonUtils.getObjectMapper().readTree(body), format)
+                : body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", format.getMimeType());
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Paginated collection rendered from generated items
+     */
+    private static class Collection {
+        private final IntFunction<Object> itemFactory;
+        private final Map<Integer, String> itemJson = new ConcurrentHashMap<>();
+        private volatile int total;
+        private volatile int inserted;
+
+        Collection(int total, IntFunction<Object> itemFactory) {
+            this.total = total;
+            this.itemFactory = itemFactory;
+        }
+
+        // Items inserted at the head get ids from 100000 up, newest first
+        int idAt(int index, int inserted) {
+            return index < inserted ? 100_000 + inserted - index : index - inserted + 1;
+        }
+
+        String page(int page, int limit, int total) {
+            int inserted = this.inserted;
+            int totalPages = limit > 0 ? (total + limit - 1) / limit : 0;
+            int from = Math.max(0, (page - 1) * limit);
+            int to = Math.min(total, from + limit);
+
+            StringBuilder json = new StringBuilder(Math.max(64, (to - from) * 400));
+            json.append("{\"success\":true,\"data\":[");
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    json.append(',');
+                }
+                json.append(itemJson.computeIfAbsent(idAt(i, inserted), id -> JsonUtils.objectToJson(itemFactory.apply(id))));
+            }
+            json.append("],\"meta\":{\"page\":").append(page)
+                    .append(",\"limit\":").append(limit)
+                    .append(",\"total\":").append(total)
+                    .append(",\"totalPages\":").append(totalPages)
+                    .append(",\"hasMore\":").append(page < totalPages)
+                    .append("}}");
+            return json.toString();
+        }
+    }
+
+    // ============ Realistic model payloads ============
+
+    public static Bill bill(int id) {
+        BillStatus[] statuses = BillStatus.values();
+        return Bill.builder()
+                .id(String.format("bill-%05d", id))
+                .userId("user-" + (id % 17))
+                .billerId("biller-" + (id % 23))
+                .billerName("Biller " + (id % 23))
+                .consumerNumber(String.format("CN%08d", id * 7919L % 100_000_000))
+                .consumerName("Consumer " + id)
+                .billNumber(String.format("BN-%05d", id))
+                .billDate("2026-01-01")
+                .dueDate(String.format("2026-%02d-15", id % 12 + 1))
+                .amount(Money.of(100 + id % 900 + 0.45))
+                .amountPaid(Money.of(0))
+                .amountDue(Money.of(100 + id % 900 + 0.45))
+                .lateFee(Money.of(25))
+                .status(statuses[id % statuses.length])
+                .billPeriod("2026-01")
+                .description("Monthly bill " + id)
+                .createdAt("2026-01-01T10:15:30.000Z")
+                .updatedAt("2026-01-02T10:15:30.000Z")
+                .build();
+    }
+
+    public static Payment payment(int id) {
+        PaymentStatus[] statuses = PaymentStatus.values();
+        return Payment.builder()
+                .id(String.format("pay-%05d", id))
+                .billId(String.format("bill-%05d", id))
+                .userId("user-" + (id % 17))
+                .paymentMethodId("pm-" + (id % 5))
+                .amount(Money.of(100 + id % 900 + 0.45))
+                .convenienceFee(Money.of(1.5))
+                .totalAmount(Money.of(101.95 + id % 900))
+                .status(statuses[id % statuses.length])
+                .transactionId("TXN" + (1_000_000 + id))
+                .referenceNumber("REF" + id)
+                .paymentDate("2026-01-10T09:00:00.000Z")
+                .createdAt("2026-01-10T09:00:00.000Z")
+                .updatedAt("2026-01-10T09:00:05.000Z")
+                .build();
+    }
+
+    public static Biller biller(int id) {
+        BillerCategory[] categories = BillerCategory.values();
+        List<String> methods = new ArrayList<>(List.of("upi", "credit_card", "net_banking"));
+        return Biller.builder()
+                .id("biller-" + id)
+                .name("Biller " + id)
+                .category(categories[id % categories.length])
+                .description("Utility provider " + id)
+                .websiteUrl("https://biller" + id + ".example.com")
+                .supportEmail("support@biller" + id + ".example.com")
+                .supportPhone("+91-80-" + (4000000 + id))
+                .address(Address.builder().line1(id + " Main Road").city("Bengaluru").state("KA")
+                        .postalCode("5600" + String.format("%02d", id % 100)).country("IN").build())
+                .active(id % 7 != 0)
+                .billerCode("BLR" + id)
+                .acceptedPaymentMethods(methods)
+                .minimumPayment(new Money(BigDecimal.ONE))
+                .maximumPayment(Money.of(100000))
+                .processingTime("instant")
+                .createdAt("2025-06-01T00:00:00.000Z")
+                .updatedAt("2026-01-01T00:00:00.000Z")
+                .build();
+    }
+}